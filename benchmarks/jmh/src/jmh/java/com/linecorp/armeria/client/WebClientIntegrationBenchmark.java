@@ -16,7 +16,12 @@
 
 package com.linecorp.armeria.client;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -27,6 +32,7 @@ import com.google.common.base.Strings;
 
 import com.linecorp.armeria.client.retry.RetryRule;
 import com.linecorp.armeria.client.retry.RetryingClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.ResponseEntity;
@@ -35,13 +41,24 @@ import com.linecorp.armeria.server.Server;
 @State(Scope.Benchmark)
 public class WebClientIntegrationBenchmark {
 
+    private static final int MAX_CONCURRENT_STREAMS = 100;
+    private static final int NUM_FAN_OUT_REQUESTS = 256;
+
     private Server server;
+    private ClientFactory clientFactory;
     private WebClient client;
+    private WebClient h2cClient;
     private String body;
 
     @Param({ "false", "true" })
     private boolean useRetry;
 
+    /**
+     * {@code 0} disables the HTTP/2 stream balancing.
+     */
+    @Param({ "0", "32" })
+    private int http2MinStreamHeadroom;
+
     @Setup
     public void setUp() {
         final Server server =
@@ -52,21 +69,36 @@ public class WebClientIntegrationBenchmark {
                           return HttpResponse.of(req.aggregate().thenApply(agg -> {
                               return HttpResponse.of(agg.contentUtf8());
                           }));
-                      }).build();
+                      }).service("/slow", (ctx, req) -> {
+                          // Keep the streams open for a while to saturate the connections.
+                          return HttpResponse.delayed(HttpResponse.of("Hello! Armeria"), Duration.ofMillis(1));
+                      })
+                      .http2MaxStreamsPerConnection(MAX_CONCURRENT_STREAMS)
+                      .build();
         server.start().join();
         this.server = server;
+        clientFactory = ClientFactory.builder()
+                                     .http2MinStreamHeadroom(http2MinStreamHeadroom)
+                                     .build();
         if (useRetry) {
             client = WebClient.builder("http://127.0.0.1:" + server.activeLocalPort())
+                              .factory(clientFactory)
                               .decorator(RetryingClient.newDecorator(RetryRule.failsafe()))
                               .build();
         } else {
-            client = WebClient.of("http://127.0.0.1:" + server.activeLocalPort());
+            client = WebClient.builder("http://127.0.0.1:" + server.activeLocalPort())
+                              .factory(clientFactory)
+                              .build();
         }
+        h2cClient = WebClient.builder("h2c://127.0.0.1:" + server.activeLocalPort())
+                             .factory(clientFactory)
+                             .build();
         body = Strings.repeat("a", 1000);
     }
 
     @TearDown
     public void tearDown() {
+        clientFactory.close();
         server.stop().join();
     }
 
@@ -80,6 +112,21 @@ public class WebClientIntegrationBenchmark {
         return execute(HttpMethod.POST, "/post");
     }
 
+    /**
+     * Sends more concurrent requests than the {@code MAX_CONCURRENT_STREAMS} of a connection, so that
+     * the tail latency shows how evenly the streams are spread over the connections.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public Void fanOutRequests() {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[NUM_FAN_OUT_REQUESTS];
+        for (int i = 0; i < NUM_FAN_OUT_REQUESTS; i++) {
+            final CompletableFuture<AggregatedHttpResponse> future = h2cClient.get("/slow").aggregate();
+            futures[i] = future;
+        }
+        return CompletableFuture.allOf(futures).join();
+    }
+
     private ResponseEntity<String> execute(HttpMethod method, String path) {
         final WebClientRequestPreparation prepare = client.prepare()
                                                           .method(method).path(path);
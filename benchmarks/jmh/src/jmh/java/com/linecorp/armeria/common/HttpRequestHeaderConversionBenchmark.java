@@ -17,6 +17,7 @@
 package com.linecorp.armeria.common;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -96,4 +97,14 @@ public class HttpRequestHeaderConversionBenchmark {
     public void http2HeaderConversionBenchmark() {
         clientWithAdditionalHeadersHttp2.get("/header_conversion").aggregate().join();
     }
+
+    /**
+     * Same as {@link #http2HeaderConversionBenchmark()} except that {@link Flags#internHttp2Headers()} is
+     * enabled. Run with {@code -prof gc} to compare the allocation rate.
+     */
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dcom.linecorp.armeria.internHttp2Headers=true")
+    public void http2HeaderConversionWithInterningBenchmark() {
+        clientWithAdditionalHeadersHttp2.get("/header_conversion").aggregate().join();
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.linecorp.armeria.common.HttpData;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Microbenchmarks of the built-in {@link StreamEncoderFactory}s and {@link StreamDecoderFactory}s.
+ *
+ * <p>The compression ratio is printed when the benchmark is set up so that it can be compared with
+ * the throughput.
+ */
+@State(Scope.Benchmark)
+public class StreamEncoderBenchmark {
+
+    private static final ByteBufAllocator alloc = PooledByteBufAllocator.DEFAULT;
+
+    public enum Encoding {
+        BROTLI(StreamEncoderFactories.BROTLI, StreamDecoderFactory.brotli()),
+        GZIP(StreamEncoderFactories.GZIP, StreamDecoderFactory.gzip()),
+        ZSTD(StreamEncoderFactories.ZSTD, StreamDecoderFactory.zstd()),
+        ZSTD_1(StreamEncoderFactory.zstd(1), StreamDecoderFactory.zstd());
+
+        private final StreamEncoderFactory encoderFactory;
+        private final StreamDecoderFactory decoderFactory;
+
+        Encoding(StreamEncoderFactory encoderFactory, StreamDecoderFactory decoderFactory) {
+            this.encoderFactory = encoderFactory;
+            this.decoderFactory = decoderFactory;
+        }
+    }
+
+    @Param
+    private Encoding encoding;
+
+    @Param({ "1024", "65536", "1048576" })
+    private int payloadSize;
+
+    // The size of each HttpData emitted by a streaming response.
+    @Param({ "8192" })
+    private int chunkSize;
+
+    private byte[] payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        payload = newJsonPayload(payloadSize);
+        final ByteBuf buf = encode0();
+        encoded = new byte[buf.readableBytes()];
+        buf.readBytes(encoded);
+        buf.release();
+    }
+
+    private static byte[] newJsonPayload(int size) {
+        final StringBuilder buf = new StringBuilder(size + 128);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        buf.append('[');
+        while (buf.length() < size) {
+            buf.append("{\"id\":").append(random.nextInt(100000))
+               .append(",\"name\":\"user-").append(random.nextInt(1000))
+               .append("\",\"active\":").append(random.nextBoolean())
+               .append(",\"tags\":[\"armeria\",\"grpc\",\"thrift\"]},");
+        }
+        buf.setCharAt(buf.length() - 1, ']');
+        return buf.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        final ByteBuf buf = encode0();
+        final int encodedBytes = buf.readableBytes();
+        buf.release();
+        return encodedBytes;
+    }
+
+    private ByteBuf encode0() throws IOException {
+        final ByteBufOutputStream encodedStream = new ByteBufOutputStream(alloc.buffer(payload.length / 2));
+        try (OutputStream encodingStream = encoding.encoderFactory.newEncoder(encodedStream)) {
+            // Mimic HttpEncodedResponse which flushes the encoder for each chunk.
+            for (int i = 0; i < payload.length; i += chunkSize) {
+                encodingStream.write(payload, i, Math.min(chunkSize, payload.length - i));
+                encodingStream.flush();
+            }
+        }
+        return encodedStream.buffer();
+    }
+
+    @Benchmark
+    public int decode() {
+        final StreamDecoder decoder = encoding.decoderFactory.newDecoder(alloc);
+        int decodedBytes = 0;
+        for (int i = 0; i < encoded.length; i += chunkSize) {
+            final int length = Math.min(chunkSize, encoded.length - i);
+            final ByteBuf chunk = alloc.buffer(length).writeBytes(encoded, i, length);
+            try (HttpData decoded = decoder.decode(HttpData.wrap(chunk))) {
+                decodedBytes += decoded.length();
+            }
+        }
+        try (HttpData decoded = decoder.finish()) {
+            decodedBytes += decoded.length();
+        }
+        return decodedBytes;
+    }
+}
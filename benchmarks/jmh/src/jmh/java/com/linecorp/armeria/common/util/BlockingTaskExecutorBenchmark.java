@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.metric.NoopMeterRegistry;
+import com.linecorp.armeria.server.Server;
+
+/**
+ * Compares the pooled {@link BlockingTaskExecutor} with the one backed by virtual threads when
+ * many blocking tasks run at the same time.
+ *
+ * <p>Requires Java 21 or above to run with {@code executorType=VIRTUAL}:
+ * <pre>{@code
+ * ./gradlew :benchmarks:jmh:jmh -Pjmh.includes=BlockingTaskExecutorBenchmark -Pjmh.params=numTasks=10000
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingTaskExecutorBenchmark {
+
+    public enum ExecutorType {
+        POOLED,
+        VIRTUAL
+    }
+
+    @Param
+    private ExecutorType executorType;
+
+    @Param("10000")
+    private int numTasks;
+
+    @Param("10")
+    private long blockingMillis;
+
+    private BlockingTaskExecutor executor;
+    private Server server;
+    private WebClient client;
+
+    @Setup
+    public void setUp() {
+        if (executorType == ExecutorType.POOLED) {
+            executor = BlockingTaskExecutor.builder().build();
+        } else {
+            executor = BlockingTaskExecutor.virtualThreadBuilder()
+                                           .meterRegistry(NoopMeterRegistry.get())
+                                           .build();
+        }
+        server = Server.builder()
+                       .blockingTaskExecutor(executor, false)
+                       .service("/blocking", (ctx, req) -> HttpResponse.of(CompletableFuture.supplyAsync(
+                               () -> {
+                                   sleep(blockingMillis);
+                                   return HttpResponse.of(200);
+                               }, ctx.blockingTaskExecutor())))
+                       .requestTimeout(Duration.ZERO)
+                       .meterRegistry(NoopMeterRegistry.get())
+                       .build();
+        server.start().join();
+        client = WebClient.builder("h2c://127.0.0.1:" + server.activeLocalPort())
+                          .responseTimeout(Duration.ZERO)
+                          .build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        server.stop().join();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Submits {@link #numTasks} blocking tasks at once and waits until all of them are done.
+     */
+    @Benchmark
+    public void executor() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(numTasks);
+        for (int i = 0; i < numTasks; i++) {
+            executor.execute(() -> {
+                sleep(blockingMillis);
+                latch.countDown();
+            });
+        }
+        latch.await();
+    }
+
+    /**
+     * Sends {@link #numTasks} concurrent requests to a service which blocks in
+     * {@link BlockingTaskExecutor} and waits until all responses are received.
+     */
+    @Benchmark
+    public void server() {
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<AggregatedHttpResponse>[] futures = new CompletableFuture[numTasks];
+        for (int i = 0; i < numTasks; i++) {
+            futures[i] = client.get("/blocking").aggregate();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Microbenchmarks of the {@link EventCounter} implementations used by circuit breakers and
+ * outlier detectors, under the contention of 32 threads.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rate:
+ * <pre>{@code
+ * ./gradlew :benchmarks:jmh:jmh -Pjmh.includes=EventCounterBenchmark -Pjmh.profilers=gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@Threads(32)
+public class EventCounterBenchmark {
+
+    public enum CounterType {
+        QUEUE,
+        RING_BUFFER
+    }
+
+    @Param
+    private CounterType counterType;
+
+    @Param({ "10", "1000" })
+    private long updateIntervalMillis;
+
+    private EventCounter counter;
+
+    @Setup
+    public void setUp() {
+        final Duration slidingWindow = Duration.ofSeconds(10);
+        final Duration updateInterval = Duration.ofMillis(updateIntervalMillis);
+        if (counterType == CounterType.QUEUE) {
+            counter = new SlidingWindowCounter(Ticker.systemTicker(), slidingWindow, updateInterval);
+        } else {
+            counter = new RingBufferSlidingWindowCounter(Ticker.systemTicker(), slidingWindow, updateInterval);
+        }
+    }
+
+    @Benchmark
+    public EventCount onEvent() {
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            return counter.onFailure();
+        }
+        return counter.onSuccess();
+    }
+
+    @Benchmark
+    public EventCount count() {
+        return counter.count();
+    }
+}
@@ -45,16 +45,18 @@ import joptsimple.internal.Strings;
 /**
  * A {@link Benchmark} to check performance of armeria-grpc with large payloads in the megabytes, which is
  * a relatively common use case for a binary proxy (metadata + large binary blobs).
+ *
+ * <p>When {@code wrapBuffer} is enabled, the request messages are parsed from the received buffers
+ * without merging them and the {@code bytes} fields are aliased to the buffers. Run with {@code -prof gc}
+ * to compare the allocation rate and the GC time:
+ * <pre>{@code
+ * ./gradlew :benchmarks:jmh:jmh -Pjmh.includes=LargePayloadBenchmark -Pjmh.profilers=gc
+ * }</pre>
  */
 @State(Scope.Benchmark)
 public class LargePayloadBenchmark {
 
-    // 4MB payload
-    private static final BinaryPayload PAYLOAD =
-            BinaryPayload.newBuilder()
-                         .setTimeReceived(Timestamps.fromMillis(10000000L))
-                         .setPayload(ByteString.copyFromUtf8(Strings.repeat('a', 4_000_000)))
-                         .build();
+    private BinaryPayload payload;
 
     private Server server;
     private BindableService bindableService;
@@ -63,8 +65,15 @@ public class LargePayloadBenchmark {
     @Param({ "false", "true" })
     private boolean wrapBuffer;
 
+    @Param({ "1048576", "4194304", "16777216" })
+    private int payloadSize;
+
     @Setup
     public void setUp() {
+        payload = BinaryPayload.newBuilder()
+                               .setTimeReceived(Timestamps.fromMillis(10000000L))
+                               .setPayload(ByteString.copyFromUtf8(Strings.repeat('a', payloadSize)))
+                               .build();
 
         bindableService = new BinaryProxyImplBase() {
             @Override
@@ -95,6 +104,7 @@ public class LargePayloadBenchmark {
         };
 
         server = Server.builder()
+                       .maxRequestLength(0)
                        .serviceUnder("/",
                                      GrpcService.builder()
                                                 .addService(bindableService)
@@ -104,7 +114,9 @@ public class LargePayloadBenchmark {
         server.start().join();
 
         final String url = "http://127.0.0.1:" + server.activeLocalPort(SessionProtocol.HTTP) + '/';
-        binaryProxyClient = GrpcClients.newClient(url, BinaryProxyStub.class);
+        binaryProxyClient = GrpcClients.builder(url)
+                                       .maxResponseLength(0)
+                                       .build(BinaryProxyStub.class);
     }
 
     @TearDown
@@ -116,8 +128,8 @@ public class LargePayloadBenchmark {
     public boolean normal() throws Exception {
         final EchoObserver responseObserver = new EchoObserver();
         final StreamObserver<BinaryPayload> requestObserver = binaryProxyClient.echo(responseObserver);
-        requestObserver.onNext(PAYLOAD);
-        requestObserver.onNext(PAYLOAD);
+        requestObserver.onNext(payload);
+        requestObserver.onNext(payload);
         // TODO(anuraag): Figure out why 3 requests doesn't work.
         requestObserver.onCompleted();
         return responseObserver.finish(2);
@@ -160,6 +172,7 @@ public class LargePayloadBenchmark {
 
     public static void main(String[] args) throws Exception {
         final LargePayloadBenchmark benchmark = new LargePayloadBenchmark();
+        benchmark.payloadSize = 4 * 1024 * 1024;
         benchmark.setUp();
         try {
             benchmark.normal();
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Measures the throughput of permessage-deflate over many concurrent WebSocket connections, each of which
+ * has its own compression context. Messages are sent to the connections in a random order, so the
+ * compression contexts do not stay in the CPU cache as in a real server.
+ *
+ * <p>The memory retained by the compression contexts is allocated by zlib outside of the Java heap.
+ * {@link Counters#retainedBytes} reports the estimated amount so that it can be compared between
+ * {@code contextTakeover} modes.
+ */
+@State(Scope.Thread)
+public class PerMessageDeflateBenchmark {
+
+    // A JSON message which is similar to the one sent by a push feed.
+    private static final byte[] MESSAGE =
+            ("{\"type\":\"quote\",\"symbol\":\"LINE\",\"price\":1234.5,\"volume\":987654," +
+             "\"bid\":[1234.0,1233.5,1233.0],\"ask\":[1235.0,1235.5,1236.0]," +
+             "\"exchange\":\"TSE\",\"timestamp\":\"2026-01-01T00:00:00.000Z\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+
+    @Param({ "1000", "10000" })
+    private int numConnections;
+
+    @Param({ "true", "false" })
+    private boolean contextTakeover;
+
+    private PerMessageDeflateEncoder[] encoders;
+    private PerMessageDeflateDecoder[] decoders;
+    private ByteBuf message;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long compressedBytes;
+        public long uncompressedBytes;
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            compressedBytes = 0;
+            uncompressedBytes = 0;
+            retainedBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        encoders = new PerMessageDeflateEncoder[numConnections];
+        decoders = new PerMessageDeflateDecoder[numConnections];
+        for (int i = 0; i < numConnections; i++) {
+            encoders[i] = new PerMessageDeflateEncoder(6, !contextTakeover);
+            decoders[i] = new PerMessageDeflateDecoder(!contextTakeover);
+        }
+        message = Unpooled.wrappedBuffer(MESSAGE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (int i = 0; i < numConnections; i++) {
+            encoders[i].close();
+            decoders[i].close();
+        }
+    }
+
+    @Benchmark
+    public ByteBuf compressAndDecompress(Counters counters) throws Exception {
+        final int index = ThreadLocalRandom.current().nextInt(numConnections);
+        final ByteBuf compressed = encoders[index].encode(ByteBufAllocator.DEFAULT, message.duplicate(), true);
+        counters.compressedBytes += compressed.readableBytes();
+        counters.uncompressedBytes += MESSAGE.length;
+        counters.retainedBytes = PerMessageDeflate.retainedMemory(!contextTakeover, !contextTakeover) *
+                                 numConnections;
+        final ByteBuf decompressed = decoders[index].decode(compressed, true, Integer.MAX_VALUE);
+        assert decompressed != null;
+        decompressed.release();
+        return decompressed;
+    }
+}
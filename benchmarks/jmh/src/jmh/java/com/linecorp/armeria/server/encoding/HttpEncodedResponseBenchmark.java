@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.server.encoding;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.encoding.StreamEncoderFactories;
+import com.linecorp.armeria.common.encoding.StreamEncoderFactory;
+import com.linecorp.armeria.common.stream.SubscriptionOption;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Microbenchmarks of a compressed streaming response.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rate of the {@link ByteBuf}-based
+ * {@link com.linecorp.armeria.common.encoding.StreamEncoder}s with the {@link OutputStream}-based ones:
+ * <pre>{@code
+ * ./gradlew :benchmarks:jmh:jmh -Pjmh.includes=HttpEncodedResponseBenchmark -Pjmh.profilers=gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+public class HttpEncodedResponseBenchmark {
+
+    private static final ByteBufAllocator alloc = PooledByteBufAllocator.DEFAULT;
+    private static final ResponseHeaders headers =
+            ResponseHeaders.builder(HttpStatus.OK).contentType(MediaType.JSON_UTF_8).build();
+
+    public enum EncoderApi {
+        // StreamEncoderFactory.newEncoder(ByteBufOutputStream)
+        OUTPUT_STREAM,
+        // StreamEncoderFactory.newEncoder(ByteBufAllocator)
+        BYTE_BUF
+    }
+
+    @Param({ "GZIP", "BROTLI", "ZSTD" })
+    private StreamEncoderFactories encoding;
+
+    @Param
+    private EncoderApi api;
+
+    @Param({ "16" })
+    private int numChunks;
+
+    @Param({ "16384" })
+    private int chunkSize;
+
+    private StreamEncoderFactory encoderFactory;
+    private byte[] chunk;
+
+    @Setup
+    public void setUp() {
+        if (api == EncoderApi.BYTE_BUF) {
+            encoderFactory = encoding;
+        } else {
+            // Hide the ByteBuf-based StreamEncoder so that the OutputStream-based one is adapted.
+            encoderFactory = new StreamEncoderFactory() {
+                @Override
+                public String encodingHeaderValue() {
+                    return encoding.encodingHeaderValue();
+                }
+
+                @Override
+                public OutputStream newEncoder(ByteBufOutputStream os) {
+                    return encoding.newEncoder(os);
+                }
+            };
+        }
+
+        final StringBuilder buf = new StringBuilder(chunkSize);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (buf.length() < chunkSize) {
+            buf.append("{\"id\":").append(random.nextInt(100000)).append(",\"name\":\"armeria\"},");
+        }
+        buf.setLength(chunkSize);
+        chunk = buf.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long streamingResponse() {
+        final HttpObject[] objs = new HttpObject[numChunks + 1];
+        objs[0] = headers;
+        for (int i = 1; i <= numChunks; i++) {
+            // Mimic the pooled direct buffers produced by a streaming service.
+            objs[i] = HttpData.wrap(alloc.directBuffer(chunk.length).writeBytes(chunk));
+        }
+        final HttpResponse res = HttpResponse.of(objs);
+        final HttpEncodedResponse encoded =
+                new HttpEncodedResponse(res, encoderFactory, mediaType -> true, alloc, 1);
+        long encodedBytes = 0;
+        for (HttpObject obj : encoded.collect(SubscriptionOption.WITH_POOLED_OBJECTS).join()) {
+            if (obj instanceof HttpData) {
+                final HttpData data = (HttpData) obj;
+                encodedBytes += data.length();
+                data.close();
+            }
+        }
+        return encodedBytes;
+    }
+}
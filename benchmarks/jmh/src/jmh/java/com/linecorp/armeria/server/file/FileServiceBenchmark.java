@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.util.TransportType;
+import com.linecorp.armeria.server.Server;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * Compares the throughput and the CPU time per byte of serving a static file with {@link FileService}
+ * on each {@link TransportType}. A file is sent using {@code sendfile()} over {@link SessionProtocol#H1C}
+ * and read into the buffers over {@link SessionProtocol#H2C}.
+ *
+ * <p>Note that {@link TransportType#IO_URING} requires
+ * {@code -Dcom.linecorp.armeria.transportType=io_uring} to be specified, e.g.
+ * {@code ./gradlew :benchmarks:jmh:jmh -Pjmh.includes=FileServiceBenchmark
+ * -Pjmh.jvmargs=-Dcom.linecorp.armeria.transportType=io_uring}.
+ * The benchmark fails if the {@link TransportType} is not available.
+ *
+ * <p>Divide {@code cpuNanos} by {@code bytes} of the secondary results to get the CPU time per byte.
+ */
+@State(Scope.Benchmark)
+public class FileServiceBenchmark {
+
+    @Param({ "NIO", "EPOLL", "IO_URING" })
+    private TransportType transportType;
+
+    @Param({ "H1C", "H2C" })
+    private SessionProtocol protocol;
+
+    @Param({ "1048576", "67108864" })
+    private int fileSize;
+
+    private Path dir;
+    private EventLoopGroup workerGroup;
+    private Server server;
+    private WebClient client;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long bytes;
+        public long cpuNanos;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            cpuNanos = 0;
+        }
+    }
+
+    @Setup
+    public void startServer() throws Exception {
+        if (!transportType.isAvailable()) {
+            throw new IllegalStateException(transportType + " is not available",
+                                            transportType.unavailabilityCause());
+        }
+
+        dir = Files.createTempDirectory("armeria-file-benchmark");
+        final byte[] content = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        Files.write(dir.resolve("file.bin"), content);
+
+        workerGroup = transportType.newIoEventLoopGroup(
+                Runtime.getRuntime().availableProcessors(),
+                type -> new DefaultThreadFactory("file-benchmark-" + type.lowerCasedName(), true));
+        server = Server.builder()
+                       .workerGroup(workerGroup, false)
+                       .serviceUnder("/", FileService.builder(dir)
+                                                     .maxCacheEntries(0)
+                                                     .build())
+                       .build();
+        server.start().join();
+        client = WebClient.builder(protocol.uriText() + "://127.0.0.1:" + server.activeLocalPort())
+                          .maxResponseLength(0)
+                          .build();
+    }
+
+    @TearDown
+    public void stopServer() throws Exception {
+        server.stop().join();
+        workerGroup.shutdownGracefully().syncUninterruptibly();
+        Files.deleteIfExists(dir.resolve("file.bin"));
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public int serveFile(Counters counters) {
+        final long startCpuNanos = processCpuNanos();
+        final AggregatedHttpResponse res = client.get("/file.bin").aggregate().join();
+        counters.cpuNanos += processCpuNanos() - startCpuNanos;
+        counters.bytes += res.content().length();
+        return res.status().code();
+    }
+
+    private static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean)
+                ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.thrift;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.thrift.TApplicationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.client.thrift.ThriftClients;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.server.Server;
+import com.linecorp.armeria.server.thrift.THttpService;
+import com.linecorp.armeria.server.thrift.THttpServiceBuilder;
+import com.linecorp.armeria.thrift.services.HelloService;
+import com.linecorp.armeria.thrift.services.ItemService;
+
+/**
+ * A {@link Benchmark} to compare the decoding modes of {@link THttpService} with 10 MiB requests.
+ * <ul>
+ *   <li>{@code aggregated} - decodes a request after the whole request is received.</li>
+ *   <li>{@code streaming} - decodes the message header as soon as it is received.
+ *       See {@link THttpServiceBuilder#useStreamingDecoding(boolean)}.</li>
+ *   <li>{@code incremental} - decodes the arguments while the request is being received.
+ *       See {@link THttpServiceBuilder#incrementalDecodingThreshold(long)}.</li>
+ * </ul>
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rate and the GC time:
+ * <pre>{@code
+ * ./gradlew :benchmarks:jmh:jmh -Pjmh.includes=LargeRequestDecodingBenchmark -Pjmh.profilers=gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+public class LargeRequestDecodingBenchmark {
+
+    private static final int PAYLOAD_SIZE = 10 * 1024 * 1024;
+    private static final int ITEM_SIZE = 1024;
+
+    @Param({ "aggregated", "streaming", "incremental" })
+    private String decoding;
+
+    private Server server;
+    private List<String> items;
+    private String name;
+    private ItemService.Iface itemClient;
+    private HelloService.Iface unknownMethodClient;
+
+    @Setup
+    public void startServer() throws Exception {
+        final String item = Strings.repeat("a", ITEM_SIZE);
+        items = new ArrayList<>(PAYLOAD_SIZE / ITEM_SIZE);
+        for (int i = 0; i < PAYLOAD_SIZE / ITEM_SIZE; i++) {
+            items.add(item);
+        }
+        name = Strings.repeat("a", PAYLOAD_SIZE);
+
+        final THttpServiceBuilder serviceBuilder =
+                THttpService.builder()
+                            .addService((ItemService.AsyncIface) (list, cb) -> {
+                                long totalLength = 0;
+                                for (String s : list) {
+                                    totalLength += s.length();
+                                }
+                                cb.onComplete(totalLength);
+                            });
+        switch (decoding) {
+            case "streaming":
+                serviceBuilder.useStreamingDecoding(true);
+                break;
+            case "incremental":
+                serviceBuilder.incrementalDecodingThreshold(1024 * 1024);
+                break;
+        }
+
+        server = Server.builder()
+                       .maxRequestLength(0)
+                       .service("/items", serviceBuilder.build())
+                       .build();
+        server.start().join();
+
+        final String url = "http://127.0.0.1:" + server.activeLocalPort(SessionProtocol.HTTP) + "/items";
+        itemClient = ThriftClients.newClient(url, ItemService.Iface.class);
+        // HelloService is not served, so that the requests are rejected.
+        unknownMethodClient = ThriftClients.newClient(url, HelloService.Iface.class);
+    }
+
+    @TearDown
+    public void stopServer() throws Exception {
+        server.stop().join();
+    }
+
+    @Benchmark
+    public long largeRequest() throws Exception {
+        return itemClient.totalLength(items);
+    }
+
+    @Benchmark
+    public int unknownMethod() throws Exception {
+        try {
+            unknownMethodClient.hello(name);
+            throw new IllegalStateException("unknown method was accepted");
+        } catch (TApplicationException e) {
+            return e.getType();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.xds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.google.protobuf.Any;
+
+import com.linecorp.armeria.client.retry.Backoff;
+import com.linecorp.armeria.common.util.EventLoopGroups;
+import com.linecorp.armeria.common.util.SafeCloseable;
+
+import io.envoyproxy.envoy.config.core.v3.Address;
+import io.envoyproxy.envoy.config.core.v3.Node;
+import io.envoyproxy.envoy.config.core.v3.SocketAddress;
+import io.envoyproxy.envoy.config.endpoint.v3.ClusterLoadAssignment;
+import io.envoyproxy.envoy.config.endpoint.v3.Endpoint;
+import io.envoyproxy.envoy.config.endpoint.v3.LbEndpoint;
+import io.envoyproxy.envoy.config.endpoint.v3.LocalityLbEndpoints;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.DiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+import io.grpc.stub.StreamObserver;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Measures the time taken to apply an update of a single {@link ClusterLoadAssignment} when
+ * {@value #NUM_CLUSTERS} clusters with {@value #NUM_ENDPOINTS_PER_CLUSTER} endpoints each are watched.
+ * The state-of-the-world protocol has to receive and parse all assignments whereas the incremental protocol
+ * receives only the changed one.
+ */
+@State(Scope.Benchmark)
+public class XdsUpdateBenchmark {
+
+    private static final int NUM_CLUSTERS = 1000;
+    private static final int NUM_ENDPOINTS_PER_CLUSTER = 10;
+
+    public enum Protocol {
+        SOTW,
+        DELTA
+    }
+
+    @Param
+    private Protocol protocol;
+
+    private EventLoopGroup eventLoopGroup;
+    private EventExecutor eventLoop;
+    private SafeCloseable stream;
+    private SotwXdsStream.ActualStream sotwStream;
+    private DeltaXdsStream.ActualStream deltaStream;
+
+    // Two responses with a different version of the first cluster are applied alternately
+    // so that every response is a real update.
+    private final DiscoveryResponse[] sotwResponses = new DiscoveryResponse[2];
+    private final DeltaDiscoveryResponse[] deltaResponses = new DeltaDiscoveryResponse[2];
+    private int counter;
+
+    @Setup
+    public void setUp() throws Exception {
+        eventLoopGroup = EventLoopGroups.newEventLoopGroup(1);
+        eventLoop = eventLoopGroup.next();
+        final SubscriberStorage storage = new SubscriberStorage(eventLoop, Long.MAX_VALUE);
+        final DefaultResponseHandler handler = new DefaultResponseHandler(storage);
+        final ConfigSourceLifecycleObserver observer = new ConfigSourceLifecycleObserver() {};
+
+        final List<ClusterLoadAssignment> assignments = new ArrayList<>();
+        for (int i = 0; i < NUM_CLUSTERS; i++) {
+            assignments.add(loadAssignment("cluster-" + i, 0));
+        }
+        for (int i = 0; i < 2; i++) {
+            final ClusterLoadAssignment updated = loadAssignment("cluster-0", i + 1);
+            final DiscoveryResponse.Builder sotwResponse =
+                    DiscoveryResponse.newBuilder()
+                                     .setTypeUrl(XdsType.ENDPOINT.typeUrl())
+                                     .setVersionInfo(String.valueOf(i))
+                                     .setNonce(String.valueOf(i))
+                                     .addResources(Any.pack(updated));
+            for (int j = 1; j < NUM_CLUSTERS; j++) {
+                sotwResponse.addResources(Any.pack(assignments.get(j)));
+            }
+            sotwResponses[i] = sotwResponse.build();
+            deltaResponses[i] = DeltaDiscoveryResponse.newBuilder()
+                                                      .setTypeUrl(XdsType.ENDPOINT.typeUrl())
+                                                      .setNonce(String.valueOf(i))
+                                                      .addResources(Resource.newBuilder()
+                                                                            .setName("cluster-0")
+                                                                            .setVersion(String.valueOf(i))
+                                                                            .setResource(Any.pack(updated)))
+                                                      .build();
+        }
+
+        eventLoop.submit(() -> {
+            for (int i = 0; i < NUM_CLUSTERS; i++) {
+                storage.register(XdsType.ENDPOINT, "cluster-" + i,
+                                 (ResourceWatcher<EndpointXdsResource>) update -> {});
+            }
+            if (protocol == Protocol.SOTW) {
+                final SotwXdsStream sotw = new SotwXdsStream(
+                        responseObserver -> new NoopObserver<DiscoveryRequest>(), Node.getDefaultInstance(),
+                        Backoff.ofDefault(), eventLoop, handler, storage, observer);
+                sotw.start();
+                sotwStream = sotw.actualStream;
+                // Receive the initial state.
+                sotwStream.onNext(sotwResponse(assignments));
+                stream = sotw;
+            } else {
+                final DeltaXdsStream delta = new DeltaXdsStream(
+                        responseObserver -> new NoopObserver<DeltaDiscoveryRequest>(),
+                        Node.getDefaultInstance(), Backoff.ofDefault(), eventLoop, handler, storage, observer);
+                delta.start();
+                deltaStream = delta.actualStream;
+                deltaStream.onNext(DeltaDiscoveryResponse.newBuilder()
+                                                         .setTypeUrl(XdsType.ENDPOINT.typeUrl())
+                                                         .addAllResources(deltaResources(assignments))
+                                                         .build());
+                stream = delta;
+            }
+        }).get();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        eventLoop.submit(stream::close).get();
+        eventLoopGroup.shutdownGracefully();
+    }
+
+    @Benchmark
+    public void updateOneCluster() throws Exception {
+        final int index = counter++ & 1;
+        if (protocol == Protocol.SOTW) {
+            eventLoop.submit(() -> sotwStream.onNext(sotwResponses[index])).get();
+        } else {
+            eventLoop.submit(() -> deltaStream.onNext(deltaResponses[index])).get();
+        }
+    }
+
+    private static DiscoveryResponse sotwResponse(List<ClusterLoadAssignment> assignments) {
+        final DiscoveryResponse.Builder builder = DiscoveryResponse.newBuilder()
+                                                                   .setTypeUrl(XdsType.ENDPOINT.typeUrl())
+                                                                   .setVersionInfo("initial");
+        assignments.forEach(assignment -> builder.addResources(Any.pack(assignment)));
+        return builder.build();
+    }
+
+    private static List<Resource> deltaResources(List<ClusterLoadAssignment> assignments) {
+        final List<Resource> resources = new ArrayList<>();
+        for (ClusterLoadAssignment assignment : assignments) {
+            resources.add(Resource.newBuilder()
+                                  .setName(assignment.getClusterName())
+                                  .setVersion("initial")
+                                  .setResource(Any.pack(assignment))
+                                  .build());
+        }
+        return resources;
+    }
+
+    private static ClusterLoadAssignment loadAssignment(String clusterName, int generation) {
+        final LocalityLbEndpoints.Builder endpoints = LocalityLbEndpoints.newBuilder();
+        for (int i = 0; i < NUM_ENDPOINTS_PER_CLUSTER; i++) {
+            final SocketAddress address = SocketAddress.newBuilder()
+                                                       .setAddress("10.0." + generation + '.' + i)
+                                                       .setPortValue(8080)
+                                                       .build();
+            endpoints.addLbEndpoints(
+                    LbEndpoint.newBuilder()
+                              .setEndpoint(Endpoint.newBuilder()
+                                                   .setAddress(Address.newBuilder()
+                                                                      .setSocketAddress(address))));
+        }
+        return ClusterLoadAssignment.newBuilder()
+                                    .setClusterName(clusterName)
+                                    .addEndpoints(endpoints)
+                                    .build();
+    }
+
+    private static final class NoopObserver<T> implements StreamObserver<T> {
+        @Override
+        public void onNext(T value) {}
+
+        @Override
+        public void onError(Throwable t) {}
+
+        @Override
+        public void onCompleted() {}
+    }
+}
@@ -4,3 +4,8 @@ namespace java com.linecorp.armeria.thrift.services
 service HelloService {
     string hello(1:string name)
 }
+
+// Tests a method with a large container argument.
+service ItemService {
+    i64 totalLength(1:list<string> items)
+}
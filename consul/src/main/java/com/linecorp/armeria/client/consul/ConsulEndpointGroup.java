@@ -26,22 +26,27 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.linecorp.armeria.client.ClientRequestContext;
 import com.linecorp.armeria.client.ClientRequestContextCaptor;
 import com.linecorp.armeria.client.Clients;
 import com.linecorp.armeria.client.Endpoint;
 import com.linecorp.armeria.client.endpoint.DynamicEndpointGroup;
 import com.linecorp.armeria.client.endpoint.EndpointGroup;
 import com.linecorp.armeria.client.endpoint.EndpointSelectionStrategy;
+import com.linecorp.armeria.client.retry.Backoff;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.internal.consul.ConsulClient;
+import com.linecorp.armeria.internal.consul.IndexedEndpoints;
 
 import io.netty.channel.EventLoop;
 
 /**
  * A Consul-based {@link EndpointGroup} implementation that retrieves the list of {@link Endpoint}s
  * from Consul using <a href="https://www.consul.io/api">Consul's HTTP API</a> and updates the
- * {@link Endpoint}s periodically.
+ * {@link Endpoint}s periodically. If {@link ConsulEndpointGroupBuilder#useBlockingQueries(boolean)} is
+ * enabled, the {@link Endpoint}s are updated as soon as they change in Consul using
+ * <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking">blocking queries</a>.
  */
 @UnstableApi
 public final class ConsulEndpointGroup extends DynamicEndpointGroup {
@@ -79,14 +84,24 @@ public final class ConsulEndpointGroup extends DynamicEndpointGroup {
     private final String datacenter;
     @Nullable
     private final String filter;
+    private final boolean useBlockingQueries;
+    private final long blockingQueryWaitMillis;
+    private final Backoff backoff;
 
     @Nullable
     private volatile ScheduledFuture<?> scheduledFuture;
+    @Nullable
+    private volatile ClientRequestContext blockingQueryCtx;
+
+    // Accessed only by the chain of the blocking queries which are sent one after another.
+    private long index;
+    private int numFailedAttempts;
 
     ConsulEndpointGroup(EndpointSelectionStrategy selectionStrategy, boolean allowEmptyEndpoints,
                         long selectionTimeoutMillis, ConsulClient consulClient,
                         String serviceName, long registryFetchIntervalMillis, boolean useHealthyEndpoints,
-                        @Nullable String datacenter, @Nullable String filter) {
+                        @Nullable String datacenter, @Nullable String filter,
+                        boolean useBlockingQueries, long blockingQueryWaitMillis, Backoff backoff) {
         super(selectionStrategy, allowEmptyEndpoints, selectionTimeoutMillis);
         this.consulClient = requireNonNull(consulClient, "consulClient");
         this.serviceName = requireNonNull(serviceName, "serviceName");
@@ -94,8 +109,15 @@ public final class ConsulEndpointGroup extends DynamicEndpointGroup {
         this.useHealthyEndpoints = useHealthyEndpoints;
         this.datacenter = datacenter;
         this.filter = filter;
-
-        update();
+        this.useBlockingQueries = useBlockingQueries;
+        this.blockingQueryWaitMillis = blockingQueryWaitMillis;
+        this.backoff = requireNonNull(backoff, "backoff");
+
+        if (useBlockingQueries) {
+            watch();
+        } else {
+            update();
+        }
     }
 
     private void update() {
@@ -131,12 +153,75 @@ public final class ConsulEndpointGroup extends DynamicEndpointGroup {
         });
     }
 
+    private void watch() {
+        if (isClosing()) {
+            return;
+        }
+
+        final CompletableFuture<IndexedEndpoints> response;
+        final ClientRequestContext ctx;
+        try (ClientRequestContextCaptor captor = Clients.newContextCaptor()) {
+            if (useHealthyEndpoints) {
+                response = consulClient.watchHealthyEndpoints(serviceName, datacenter, filter,
+                                                              index, blockingQueryWaitMillis);
+            } else {
+                response = consulClient.watchEndpoints(serviceName, datacenter, filter,
+                                                       index, blockingQueryWaitMillis);
+            }
+            ctx = captor.get();
+        }
+        blockingQueryCtx = ctx;
+        if (isClosing()) {
+            // Closed while sending the query.
+            ctx.cancel();
+            return;
+        }
+
+        final EventLoop eventLoop = ctx.eventLoop().withoutContext();
+        response.handle((result, cause) -> {
+            if (isClosing()) {
+                return null;
+            }
+            if (cause != null) {
+                final long delayMillis = backoff.nextDelayMillis(++numFailedAttempts);
+                logger.warn("Unexpected exception while watching the registry from: {}" +
+                            " (serviceName: {}, retrying in {} ms)",
+                            consulClient.uri(), serviceName, delayMillis, cause);
+                scheduledFuture = eventLoop.schedule(this::watch, delayMillis, TimeUnit.MILLISECONDS);
+                return null;
+            }
+
+            numFailedAttempts = 0;
+            final List<Endpoint> endpoints = result.endpoints();
+            if (endpoints != null) {
+                setEndpoints(endpoints);
+            }
+
+            final long newIndex = result.index();
+            if (newIndex < index) {
+                // The index went backwards, e.g. the Consul state has been restored from a snapshot.
+                // Start over with a non-blocking query.
+                index = 0;
+            } else {
+                // An index less than 1 is a bug of Consul and would make the blocking queries return
+                // immediately forever.
+                index = Math.max(newIndex, 1);
+            }
+            eventLoop.execute(this::watch);
+            return null;
+        });
+    }
+
     @Override
     protected void doCloseAsync(CompletableFuture<?> future) {
         final ScheduledFuture<?> scheduledFuture = this.scheduledFuture;
         if (scheduledFuture != null) {
             scheduledFuture.cancel(true);
         }
+        final ClientRequestContext blockingQueryCtx = this.blockingQueryCtx;
+        if (blockingQueryCtx != null) {
+            blockingQueryCtx.cancel();
+        }
         future.complete(null);
     }
 
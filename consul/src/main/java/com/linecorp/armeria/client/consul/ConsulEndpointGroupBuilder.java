@@ -21,8 +21,10 @@ import static java.util.Objects.requireNonNull;
 import java.net.URI;
 import java.time.Duration;
 
+import com.linecorp.armeria.client.Endpoint;
 import com.linecorp.armeria.client.endpoint.AbstractDynamicEndpointGroupBuilder;
 import com.linecorp.armeria.client.endpoint.EndpointSelectionStrategy;
+import com.linecorp.armeria.client.retry.Backoff;
 import com.linecorp.armeria.common.Flags;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
@@ -46,6 +48,9 @@ public final class ConsulEndpointGroupBuilder
         extends AbstractDynamicEndpointGroupBuilder<ConsulEndpointGroupBuilder> implements ConsulConfigSetters {
 
     private static final long DEFAULT_HEALTH_CHECK_INTERVAL_MILLIS = 10_000;
+    private static final long DEFAULT_BLOCKING_QUERY_WAIT_MILLIS = 60_000;
+    // Consul caps the wait time of a blocking query at 10 minutes.
+    private static final long MAX_BLOCKING_QUERY_WAIT_MILLIS = 600_000;
 
     private EndpointSelectionStrategy selectionStrategy = EndpointSelectionStrategy.weightedRoundRobin();
 
@@ -57,6 +62,9 @@ public final class ConsulEndpointGroupBuilder
     private String datacenter;
     @Nullable
     private String filter;
+    private boolean useBlockingQueries;
+    private long blockingQueryWaitMillis = DEFAULT_BLOCKING_QUERY_WAIT_MILLIS;
+    private Backoff backoff = Backoff.exponential(1000, 32000).withJitter(0.2);
 
     ConsulEndpointGroupBuilder(URI consulUri, String serviceName) {
         super(Flags.defaultResponseTimeoutMillis());
@@ -125,6 +133,56 @@ public final class ConsulEndpointGroupBuilder
         return this;
     }
 
+    /**
+     * Sets whether to watch the changes of the {@link Endpoint}s using Consul
+     * <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking">blocking queries</a>
+     * instead of fetching the registry every {@link #registryFetchInterval(Duration)}.
+     * A blocking query is held by Consul until the {@link Endpoint}s change or
+     * {@link #blockingQueryWait(Duration)} elapses, so that the changes are applied almost immediately
+     * without polling Consul frequently. This option is disabled by default.
+     */
+    public ConsulEndpointGroupBuilder useBlockingQueries(boolean useBlockingQueries) {
+        this.useBlockingQueries = useBlockingQueries;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time to wait for the {@link Endpoint}s to change in a blocking query.
+     * If not set, {@value #DEFAULT_BLOCKING_QUERY_WAIT_MILLIS} milliseconds is used by default.
+     * This option is only used when {@link #useBlockingQueries(boolean)} is enabled.
+     */
+    public ConsulEndpointGroupBuilder blockingQueryWait(Duration blockingQueryWait) {
+        requireNonNull(blockingQueryWait, "blockingQueryWait");
+        checkArgument(!blockingQueryWait.isZero() && !blockingQueryWait.isNegative(),
+                      "blockingQueryWait: %s (expected: > 0)", blockingQueryWait);
+        return blockingQueryWaitMillis(blockingQueryWait.toMillis());
+    }
+
+    /**
+     * Sets the maximum time in milliseconds to wait for the {@link Endpoint}s to change in a blocking
+     * query. If not set, {@value #DEFAULT_BLOCKING_QUERY_WAIT_MILLIS} is used by default.
+     * This option is only used when {@link #useBlockingQueries(boolean)} is enabled.
+     */
+    public ConsulEndpointGroupBuilder blockingQueryWaitMillis(long blockingQueryWaitMillis) {
+        checkArgument(blockingQueryWaitMillis > 0 &&
+                      blockingQueryWaitMillis <= MAX_BLOCKING_QUERY_WAIT_MILLIS,
+                      "blockingQueryWaitMillis: %s (expected: 0 < blockingQueryWaitMillis <= %s)",
+                      blockingQueryWaitMillis, MAX_BLOCKING_QUERY_WAIT_MILLIS);
+        this.blockingQueryWaitMillis = blockingQueryWaitMillis;
+        return this;
+    }
+
+    /**
+     * Sets the {@link Backoff} that determines how long to wait before sending the next blocking query
+     * after a failure. If not set, an exponential {@link Backoff} from 1 second up to 32 seconds with
+     * 20% jitter is used by default. This option is only used when {@link #useBlockingQueries(boolean)}
+     * is enabled.
+     */
+    public ConsulEndpointGroupBuilder backoff(Backoff backoff) {
+        this.backoff = requireNonNull(backoff, "backoff");
+        return this;
+    }
+
     @Override
     public ConsulEndpointGroupBuilder consulApiVersion(String consulApiVersion) {
         consulClientBuilder.consulApiVersion(consulApiVersion);
@@ -143,6 +201,7 @@ public final class ConsulEndpointGroupBuilder
     public ConsulEndpointGroup build() {
         return new ConsulEndpointGroup(selectionStrategy, shouldAllowEmptyEndpoints(), selectionTimeoutMillis(),
                                        consulClientBuilder.build(), serviceName, registryFetchIntervalMillis,
-                                       useHealthyEndpoints, datacenter, filter);
+                                       useHealthyEndpoints, datacenter, filter,
+                                       useBlockingQueries, blockingQueryWaitMillis, backoff);
     }
 }
@@ -18,6 +18,7 @@ package com.linecorp.armeria.internal.consul;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -26,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
@@ -50,9 +52,11 @@ final class CatalogClient {
     }
 
     private final WebClient client;
+    private final ObjectMapper mapper;
 
     private CatalogClient(ConsulClient client) {
         this.client = client.consulWebClient();
+        mapper = client.getObjectMapper();
     }
 
     /**
@@ -68,6 +72,25 @@ final class CatalogClient {
                                          .collect(toImmutableList()));
     }
 
+    /**
+     * Waits for the endpoint list of the specified service name to change after the specified {@code index}
+     * using a blocking query.
+     */
+    CompletableFuture<IndexedEndpoints> watchEndpoints(String serviceName, @Nullable String datacenter,
+                                                       @Nullable String filter, long index, long waitMillis) {
+        requireNonNull(serviceName, "serviceName");
+        final StringBuilder path = new StringBuilder("/catalog/service/");
+        PercentEncoder.encodeComponent(path, serviceName);
+        return ConsulClientUtil.blockingQuery(
+                client, mapper, path.toString(),
+                QueryParams.builder().add(ConsulClientUtil.queryParams(datacenter, filter)),
+                index, waitMillis, Node[].class,
+                nodes -> Arrays.stream(nodes)
+                               .map(CatalogClient::toEndpoint)
+                               .filter(Objects::nonNull)
+                               .collect(toImmutableList()));
+    }
+
     /**
      * Returns node list by service name.
      */
@@ -153,6 +153,47 @@ public final class ConsulClient {
         return healthClient.healthyEndpoints(serviceName, datacenter, filter);
     }
 
+    /**
+     * Waits for the list of registered endpoints for the specified service name to change after
+     * the specified {@code index} using a
+     * <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking">blocking query</a>.
+     *
+     * @param serviceName the name of the service whose endpoints are to be retrieved
+     * @param datacenter the datacenter to query; if {@code null}, the default datacenter is used
+     * @param filter a filter expression to apply; if {@code null}, no filtering is performed
+     * @param index the {@link IndexedEndpoints#index()} of the previous result, or {@code 0} to retrieve
+     *              the current endpoints immediately
+     * @param waitMillis the maximum time in milliseconds to wait for a change
+     *
+     * @return a {@link CompletableFuture} which provides the {@link IndexedEndpoints}
+     */
+    public CompletableFuture<IndexedEndpoints> watchEndpoints(String serviceName, @Nullable String datacenter,
+                                                              @Nullable String filter, long index,
+                                                              long waitMillis) {
+        return catalogClient.watchEndpoints(serviceName, datacenter, filter, index, waitMillis);
+    }
+
+    /**
+     * Waits for the list of healthy endpoints for the specified service name to change after
+     * the specified {@code index} using a
+     * <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking">blocking query</a>.
+     *
+     * @param serviceName the name of the service whose healthy endpoints are to be retrieved
+     * @param datacenter the datacenter to query; if {@code null}, the default datacenter is used
+     * @param filter a filter expression to apply; if {@code null}, no filtering is performed
+     * @param index the {@link IndexedEndpoints#index()} of the previous result, or {@code 0} to retrieve
+     *              the current endpoints immediately
+     * @param waitMillis the maximum time in milliseconds to wait for a change
+     *
+     * @return a {@link CompletableFuture} which provides the {@link IndexedEndpoints}
+     */
+    public CompletableFuture<IndexedEndpoints> watchHealthyEndpoints(String serviceName,
+                                                                     @Nullable String datacenter,
+                                                                     @Nullable String filter, long index,
+                                                                     long waitMillis) {
+        return healthClient.watchHealthyEndpoints(serviceName, datacenter, filter, index, waitMillis);
+    }
+
     /**
      * Returns a {@code WebClient} for accessing to Consul server.
      */
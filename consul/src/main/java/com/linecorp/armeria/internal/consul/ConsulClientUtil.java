@@ -15,6 +15,20 @@
  */
 package com.linecorp.armeria.internal.consul;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.InvalidHttpResponseException;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.QueryParams;
 import com.linecorp.armeria.common.QueryParamsBuilder;
 import com.linecorp.armeria.common.annotation.Nullable;
@@ -26,6 +40,10 @@ final class ConsulClientUtil {
 
     private static final String DATACENTER_PARAM = "dc";
     private static final String FILTER_PARAM = "filter";
+    private static final String INDEX_PARAM = "index";
+    private static final String WAIT_PARAM = "wait";
+
+    private static final CharSequence X_CONSUL_INDEX = HttpHeaderNames.of("x-consul-index");
 
     /**
      * Encodes common Consul API parameters as {@code QueryParams}.
@@ -41,5 +59,60 @@ final class ConsulClientUtil {
         return paramsBuilder.build();
     }
 
+    /**
+     * Sends a <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking">blocking query</a>
+     * which waits up to {@code waitMillis} until the {@code X-Consul-Index} of the result becomes different
+     * from the specified {@code index}. The response content is not decoded if the {@code X-Consul-Index}
+     * has not changed.
+     *
+     * @param index the {@code X-Consul-Index} of the previous response, or {@code 0} to send a non-blocking
+     *              query
+     */
+    static <T> CompletableFuture<IndexedEndpoints> blockingQuery(
+            WebClient client, ObjectMapper mapper, String path, QueryParamsBuilder paramsBuilder,
+            long index, long waitMillis, Class<T> contentType, Function<T, List<Endpoint>> converter) {
+        if (index > 0) {
+            paramsBuilder.add(INDEX_PARAM, Long.toString(index));
+        }
+        paramsBuilder.add(WAIT_PARAM, waitMillis + "ms");
+
+        // Consul adds a random jitter of up to wait / 16 to the wait time.
+        final long responseTimeoutMillis = waitMillis + waitMillis / 16 + Flags.defaultResponseTimeoutMillis();
+        return client.prepare()
+                     .get(path + '?' + paramsBuilder.build().toQueryString())
+                     .responseTimeoutMillis(responseTimeoutMillis)
+                     .execute()
+                     .aggregate()
+                     .thenApply(response -> {
+                         if (!response.status().isSuccess()) {
+                             throw new InvalidHttpResponseException(response);
+                         }
+                         final long newIndex = consulIndex(response);
+                         if (newIndex == index) {
+                             // Timed out without any changes.
+                             return new IndexedEndpoints(newIndex, null);
+                         }
+                         try {
+                             final T content = mapper.readValue(response.content().array(), contentType);
+                             return new IndexedEndpoints(newIndex, converter.apply(content));
+                         } catch (IOException e) {
+                             throw new CompletionException(e);
+                         }
+                     });
+    }
+
+    private static long consulIndex(AggregatedHttpResponse response) {
+        final String index = response.headers().get(X_CONSUL_INDEX);
+        if (index == null) {
+            throw new InvalidHttpResponseException(response, "Missing " + X_CONSUL_INDEX + " header", null);
+        }
+        try {
+            return Long.parseLong(index);
+        } catch (NumberFormatException e) {
+            throw new InvalidHttpResponseException(
+                    response, "Invalid " + X_CONSUL_INDEX + " header: " + index, e);
+        }
+    }
+
     private ConsulClientUtil() {}
 }
@@ -108,6 +108,27 @@ final class HealthClient {
                 });
     }
 
+    /**
+     * Waits for the healthy endpoint list of the specified service name to change after the specified
+     * {@code index} using a blocking query.
+     */
+    CompletableFuture<IndexedEndpoints> watchHealthyEndpoints(String serviceName, @Nullable String datacenter,
+                                                              @Nullable String filter, long index,
+                                                              long waitMillis) {
+        requireNonNull(serviceName, "serviceName");
+        final StringBuilder path = new StringBuilder("/health/service/");
+        PercentEncoder.encodeComponent(path, serviceName);
+        final QueryParamsBuilder paramsBuilder = QueryParams.builder();
+        paramsBuilder.add(PASSING_PARAM, "true");
+        paramsBuilder.add(ConsulClientUtil.queryParams(datacenter, filter));
+        return ConsulClientUtil.blockingQuery(
+                client, mapper, path.toString(), paramsBuilder, index, waitMillis, HealthService[].class,
+                services -> Arrays.stream(services)
+                                  .map(HealthClient::toEndpoint)
+                                  .filter(Objects::nonNull)
+                                  .collect(toImmutableList()));
+    }
+
     @Nullable
     private static Endpoint toEndpoint(HealthService healthService) {
         if (healthService.service == null) {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.consul;
+
+import java.util.List;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+/**
+ * The result of a Consul <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking">blocking
+ * query</a>, which consists of the {@code X-Consul-Index} of the response and the {@link Endpoint}s.
+ */
+public final class IndexedEndpoints {
+
+    private final long index;
+    @Nullable
+    private final List<Endpoint> endpoints;
+
+    IndexedEndpoints(long index, @Nullable List<Endpoint> endpoints) {
+        this.index = index;
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Returns the {@code X-Consul-Index} of the response, which should be specified as the {@code index}
+     * of the next blocking query.
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * Returns the {@link Endpoint}s, or {@code null} if the index has not changed since the previous query,
+     * which means the {@link Endpoint}s have not changed either.
+     */
+    @Nullable
+    public List<Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("index", index)
+                          .add("endpoints", endpoints)
+                          .toString();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.consul;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.retry.Backoff;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.QueryParams;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.internal.consul.ConsulClient;
+import com.linecorp.armeria.internal.consul.IndexedEndpoints;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class ConsulEndpointGroupBlockingQueryTest {
+
+    private static final String SERVICE_NAME = "my-service";
+
+    private static final FakeRegistry registry = new FakeRegistry();
+
+    @RegisterExtension
+    static final ServerExtension consul = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.requestTimeoutMillis(0);
+            sb.service("/v1/catalog/service/" + SERVICE_NAME,
+                       (ctx, req) -> registry.query(ctx, QueryParams.fromQueryString(ctx.query())));
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        registry.reset();
+    }
+
+    @Test
+    void updatesAsSoonAsEndpointsChange() {
+        registry.update(10, 8080, 8081);
+        try (ConsulEndpointGroup group = ConsulEndpointGroup.builder(consul.httpUri(), SERVICE_NAME)
+                                                            .useBlockingQueries(true)
+                                                            .blockingQueryWaitMillis(30_000)
+                                                            .build()) {
+            assertThat(group.whenReady().join()).containsExactlyInAnyOrder(
+                    Endpoint.of("127.0.0.1", 8080), Endpoint.of("127.0.0.1", 8081));
+            // The next query is held by the registry until the endpoints change.
+            await().until(() -> registry.numWatchers() == 1);
+
+            registry.update(11, 8082);
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(
+                    () -> assertThat(group.endpoints()).containsExactly(Endpoint.of("127.0.0.1", 8082)));
+
+            final QueryParams first = registry.queries.poll();
+            assertThat(first.contains("index")).isFalse();
+            assertThat(first.get("wait")).isEqualTo("30000ms");
+            final QueryParams second = registry.queries.poll();
+            assertThat(second.get("index")).isEqualTo("10");
+            assertThat(second.get("wait")).isEqualTo("30000ms");
+        }
+    }
+
+    @Test
+    void doNotDecodeUnchangedEndpoints() {
+        registry.update(10, 8080);
+        final ConsulClient client = ConsulClient.builder(consul.httpUri()).build();
+        final IndexedEndpoints initial = client.watchEndpoints(SERVICE_NAME, null, null, 0, 100).join();
+        assertThat(initial.index()).isEqualTo(10);
+        assertThat(initial.endpoints()).containsExactly(Endpoint.of("127.0.0.1", 8080));
+
+        final IndexedEndpoints unchanged = client.watchEndpoints(SERVICE_NAME, null, null, 10, 100).join();
+        assertThat(unchanged.index()).isEqualTo(10);
+        assertThat(unchanged.endpoints()).isNull();
+    }
+
+    @Test
+    void backoffOnFailure() {
+        registry.update(10, 8080);
+        // More than the attempts of the RetryingClient of ConsulClient.
+        registry.numFailures.set(5);
+        try (ConsulEndpointGroup group = ConsulEndpointGroup.builder(consul.httpUri(), SERVICE_NAME)
+                                                            .useBlockingQueries(true)
+                                                            .backoff(Backoff.fixed(10))
+                                                            .build()) {
+            assertThat(group.whenReady().join()).containsExactly(Endpoint.of("127.0.0.1", 8080));
+            assertThat(registry.numFailures.get()).isNegative();
+        }
+    }
+
+    @Test
+    void resetIndexIfGoesBackwards() throws Exception {
+        registry.update(10, 8080);
+        try (ConsulEndpointGroup group = ConsulEndpointGroup.builder(consul.httpUri(), SERVICE_NAME)
+                                                            .useBlockingQueries(true)
+                                                            .build()) {
+            group.whenReady().join();
+            await().until(() -> registry.numWatchers() == 1);
+
+            registry.update(5, 8081);
+            await().untilAsserted(
+                    () -> assertThat(group.endpoints()).containsExactly(Endpoint.of("127.0.0.1", 8081)));
+            await().until(() -> registry.numWatchers() == 1);
+
+            assertThat(registry.queries.take().get("index")).isNull();
+            assertThat(registry.queries.take().get("index")).isEqualTo("10");
+            // Started over with a non-blocking query.
+            assertThat(registry.queries.take().get("index")).isNull();
+            assertThat(registry.queries.take().get("index")).isEqualTo("5");
+        }
+    }
+
+    /**
+     * A stand-in of the Consul catalog API which supports blocking queries.
+     */
+    private static final class FakeRegistry {
+
+        final BlockingQueue<QueryParams> queries = new LinkedBlockingQueue<>();
+        final AtomicInteger numFailures = new AtomicInteger();
+
+        private final List<CompletableFuture<Void>> watchers = new ArrayList<>();
+        private long index;
+        private String nodes = "[]";
+
+        synchronized void reset() {
+            queries.clear();
+            numFailures.set(0);
+            watchers.clear();
+            index = 1;
+            nodes = "[]";
+        }
+
+        void update(long index, int... ports) {
+            final StringBuilder buf = new StringBuilder("[");
+            for (int port : ports) {
+                if (buf.length() > 1) {
+                    buf.append(',');
+                }
+                buf.append("{\"Address\":\"127.0.0.1\",\"ServicePort\":").append(port).append('}');
+            }
+            final List<CompletableFuture<Void>> watchers;
+            synchronized (this) {
+                this.index = index;
+                nodes = buf.append(']').toString();
+                watchers = new ArrayList<>(this.watchers);
+                this.watchers.clear();
+            }
+            watchers.forEach(watcher -> watcher.complete(null));
+        }
+
+        synchronized int numWatchers() {
+            return watchers.size();
+        }
+
+        HttpResponse query(ServiceRequestContext ctx, QueryParams params) {
+            queries.add(params);
+            if (numFailures.getAndDecrement() > 0) {
+                return HttpResponse.of(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+
+            final String index = params.get("index");
+            final String wait = params.get("wait", "300000ms");
+            final long waitMillis = Long.parseLong(wait.substring(0, wait.length() - 2));
+            final CompletableFuture<Void> changed = new CompletableFuture<>();
+            synchronized (this) {
+                if (index == null || Long.parseLong(index) != this.index) {
+                    return response();
+                }
+                watchers.add(changed);
+            }
+            ctx.eventLoop().schedule(() -> changed.complete(null), waitMillis, TimeUnit.MILLISECONDS);
+            return HttpResponse.of(changed.thenApply(unused -> response()));
+        }
+
+        private synchronized HttpResponse response() {
+            return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                                                  .contentType(MediaType.JSON)
+                                                  .add("x-consul-index", Long.toString(index))
+                                                  .build(),
+                                   HttpData.ofUtf8(nodes));
+        }
+    }
+}
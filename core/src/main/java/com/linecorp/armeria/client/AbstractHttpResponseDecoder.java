@@ -100,6 +100,11 @@ abstract class AbstractHttpResponseDecoder implements HttpResponseDecoder {
         return unfinishedResponses != 0;
     }
 
+    @Override
+    public int numUnfinishedResponses() {
+        return unfinishedResponses;
+    }
+
     @Override
     public boolean reserveUnfinishedResponse(int maxUnfinishedResponses) {
         if (unfinishedResponses >= maxUnfinishedResponses) {
@@ -689,6 +689,29 @@ public final class ClientFactoryBuilder implements TlsSetters {
         return this;
     }
 
+    /**
+     * Enables the stream balancing of HTTP/2 connections with the specified minimum number of the streams
+     * that should be available across the connections to the same endpoint. When enabled, a request is sent
+     * over the connection with the fewest streams in flight rather than the most recently used one,
+     * and a new connection is opened in advance when the number of the available streams, bounded by
+     * the {@code SETTINGS_MAX_CONCURRENT_STREAMS} of each connection, falls below
+     * {@code http2MinStreamHeadroom}. This prevents a connection from being saturated while its siblings
+     * are idle under high concurrency.
+     *
+     * <p>The number of the HTTP/2 connections, streams in flight and available streams are exported as
+     * the {@code armeria.client.connection.pool.http2.*} gauges to {@link #meterRegistry(MeterRegistry)}.
+     *
+     * @param http2MinStreamHeadroom the minimum number of the available streams.
+     *                               {@code 0} disables the stream balancing, which is the default.
+     */
+    @UnstableApi
+    public ClientFactoryBuilder http2MinStreamHeadroom(int http2MinStreamHeadroom) {
+        checkArgument(http2MinStreamHeadroom >= 0, "http2MinStreamHeadroom: %s (expected: >= 0)",
+                      http2MinStreamHeadroom);
+        option(ClientFactoryOptions.HTTP2_MIN_STREAM_HEADROOM, http2MinStreamHeadroom);
+        return this;
+    }
+
     /**
      * Sets the maximum length of an HTTP/1 response initial line.
      */
@@ -185,6 +185,16 @@ public final class ClientFactoryOptions
     public static final ClientFactoryOption<Long> HTTP2_MAX_HEADER_LIST_SIZE =
             ClientFactoryOption.define("HTTP2_MAX_HEADER_LIST_SIZE", Flags.defaultHttp2MaxHeaderListSize());
 
+    /**
+     * The minimum number of the HTTP/2 streams that should be available across the connections to
+     * the same endpoint. If greater than {@code 0}, a request acquires the least-loaded HTTP/2 connection
+     * and a new connection is opened in advance when the number of the available streams falls below
+     * this value. {@code 0} disables the stream balancing, which is the default.
+     */
+    @UnstableApi
+    public static final ClientFactoryOption<Integer> HTTP2_MIN_STREAM_HEADROOM =
+            ClientFactoryOption.define("HTTP2_MIN_STREAM_HEADROOM", 0);
+
     /**
      * The maximum length of an HTTP/1 response initial line.
      */
@@ -543,6 +553,15 @@ public final class ClientFactoryOptions
         return get(HTTP2_MAX_HEADER_LIST_SIZE);
     }
 
+    /**
+     * Returns the minimum number of the HTTP/2 streams that should be available across the connections to
+     * the same endpoint. {@code 0} means the stream balancing is disabled.
+     */
+    @UnstableApi
+    public int http2MinStreamHeadroom() {
+        return get(HTTP2_MIN_STREAM_HEADROOM);
+    }
+
     /**
      * Returns the maximum length of an HTTP/1 response initial line.
      */
@@ -112,7 +112,7 @@ final class ClientHttp1ObjectEncoder extends Http1ObjectEncoder implements Clien
     }
 
     @Override
-    protected ChannelFuture write(HttpObject obj, ChannelPromise promise) {
+    protected ChannelFuture write(Object obj, ChannelPromise promise) {
         return channel().write(obj, promise);
     }
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.client;
+
+import java.util.Arrays;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.internal.client.HttpSession;
+import com.linecorp.armeria.internal.client.PooledChannel;
+
+import io.netty.channel.Channel;
+
+/**
+ * The HTTP/2 connections to the same {@link HttpChannelPool.PoolKey} in an {@link HttpChannelPool},
+ * which are selected by the number of the streams in flight. Except for the getters used for the gauges,
+ * this class must be accessed only by the event loop of the {@link HttpChannelPool}, so that no lock is
+ * required.
+ */
+final class Http2ChannelList {
+
+    private static final PooledChannel[] EMPTY_CHANNELS = new PooledChannel[0];
+
+    // Published with a volatile write so that the gauges can read the channels from other threads.
+    // The gauges may observe a slightly stale state, which is fine.
+    private volatile PooledChannel[] channels = EMPTY_CHANNELS;
+    private volatile int size;
+
+    // The total number of the available streams, updated on every acquisition.
+    private long headroom;
+
+    void add(PooledChannel pooledChannel) {
+        PooledChannel[] channels = this.channels;
+        final int size = this.size;
+        if (size == channels.length) {
+            channels = Arrays.copyOf(channels, Math.max(4, size << 1));
+        }
+        channels[size] = pooledChannel;
+        this.channels = channels;
+        this.size = size + 1;
+    }
+
+    /**
+     * Removes the {@link PooledChannel} of the specified {@link Channel}.
+     */
+    void remove(Channel channel) {
+        final PooledChannel[] channels = this.channels;
+        for (int i = 0; i < size; i++) {
+            if (channels[i].get() == channel) {
+                removeAt(i);
+                return;
+            }
+        }
+    }
+
+    private void removeAt(int index) {
+        final PooledChannel[] channels = this.channels;
+        final int last = size - 1;
+        channels[index] = channels[last];
+        channels[last] = null;
+        size = last;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Reserves a stream of the connection with the fewest streams in flight while removing
+     * the unhealthy connections.
+     *
+     * @return {@code null} if all connections are full or unhealthy.
+     */
+    @Nullable
+    PooledChannel acquire() {
+        final PooledChannel[] channels = this.channels;
+        PooledChannel selected = null;
+        int selectedLoad = Integer.MAX_VALUE;
+        long headroom = 0;
+        for (int i = 0; i < size;) {
+            final PooledChannel pooledChannel = channels[i];
+            if (!HttpChannelPool.isHealthy(pooledChannel)) {
+                removeAt(i);
+                continue;
+            }
+
+            final HttpSession session = HttpSession.get(pooledChannel.get());
+            final int load = session.numUnfinishedResponses();
+            final int available = session.maxUnfinishedResponses() - load;
+            if (available > 0) {
+                headroom += available;
+                if (load < selectedLoad) {
+                    selected = pooledChannel;
+                    selectedLoad = load;
+                }
+            }
+            i++;
+        }
+
+        if (selected == null || !HttpSession.get(selected.get()).incrementNumUnfinishedResponses()) {
+            this.headroom = 0;
+            return null;
+        }
+        this.headroom = headroom - 1;
+        return selected;
+    }
+
+    /**
+     * Returns the total number of the available streams at the last acquisition.
+     */
+    long headroom() {
+        return headroom;
+    }
+
+    /**
+     * Returns the number of the connections. This method can be called from any thread.
+     */
+    int numConnections() {
+        return size;
+    }
+
+    /**
+     * Returns the number of the streams in flight. This method can be called from any thread.
+     */
+    int numActiveStreams() {
+        final PooledChannel[] channels = this.channels;
+        int numActiveStreams = 0;
+        for (PooledChannel pooledChannel : channels) {
+            if (pooledChannel != null) {
+                numActiveStreams += HttpSession.get(pooledChannel.get()).numUnfinishedResponses();
+            }
+        }
+        return numActiveStreams;
+    }
+
+    /**
+     * Returns the number of the streams that can be opened without a new connection.
+     * This method can be called from any thread.
+     */
+    long numAvailableStreams() {
+        final PooledChannel[] channels = this.channels;
+        long numAvailableStreams = 0;
+        for (PooledChannel pooledChannel : channels) {
+            if (pooledChannel != null) {
+                final HttpSession session = HttpSession.get(pooledChannel.get());
+                numAvailableStreams += Math.max(0, session.maxUnfinishedResponses() -
+                                                   session.numUnfinishedResponses());
+            }
+        }
+        return numAvailableStreams;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("numConnections", size)
+                          .add("headroom", headroom)
+                          .toString();
+    }
+}
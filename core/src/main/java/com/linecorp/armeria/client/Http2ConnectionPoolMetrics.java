@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.client;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+
+import com.linecorp.armeria.client.HttpChannelPool.PoolKey;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.internal.common.util.ReentrantShortLock;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * Exports the gauges of the HTTP/2 connections balanced by {@link Http2ChannelList}s.
+ * The {@link Http2ChannelList}s of the same endpoint from all event loops are aggregated into
+ * the same gauges, which are removed when the last connection to the endpoint is closed.
+ */
+final class Http2ConnectionPoolMetrics {
+
+    private static final MeterIdPrefix ID_PREFIX = new MeterIdPrefix("armeria.client.connection.pool.http2");
+
+    private static final String PROTOCOL = "protocol";
+    private static final String REMOTE_ENDPOINT = "remote.endpoint";
+
+    private final MeterRegistry meterRegistry;
+    @GuardedBy("lock")
+    private final Map<List<Tag>, Meters> metersMap = new HashMap<>();
+    private final ReentrantShortLock lock = new ReentrantShortLock();
+
+    Http2ConnectionPoolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void add(SessionProtocol protocol, PoolKey key, Http2ChannelList channels) {
+        final List<Tag> tags = tags(protocol, key);
+        lock.lock();
+        try {
+            metersMap.computeIfAbsent(tags, Meters::new).channelLists.add(channels);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(SessionProtocol protocol, PoolKey key, Http2ChannelList channels) {
+        final List<Tag> tags = tags(protocol, key);
+        lock.lock();
+        try {
+            final Meters meters = metersMap.get(tags);
+            if (meters == null) {
+                return;
+            }
+            meters.channelLists.remove(channels);
+            if (meters.channelLists.isEmpty()) {
+                metersMap.remove(tags);
+                meters.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static List<Tag> tags(SessionProtocol protocol, PoolKey key) {
+        return ID_PREFIX.tags(PROTOCOL, protocol.name(),
+                              REMOTE_ENDPOINT, key.endpoint.authority());
+    }
+
+    private final class Meters {
+
+        final Set<Http2ChannelList> channelLists = ConcurrentHashMap.newKeySet();
+
+        private final Gauge connections;
+        private final Gauge activeStreams;
+        private final Gauge availableStreams;
+
+        Meters(List<Tag> tags) {
+            connections = Gauge.builder(ID_PREFIX.name("connections"), this, Meters::numConnections)
+                               .tags(tags)
+                               .register(meterRegistry);
+            activeStreams = Gauge.builder(ID_PREFIX.name("active.streams"), this, Meters::numActiveStreams)
+                                 .tags(tags)
+                                 .register(meterRegistry);
+            availableStreams = Gauge.builder(ID_PREFIX.name("available.streams"), this,
+                                             Meters::numAvailableStreams)
+                                    .tags(tags)
+                                    .register(meterRegistry);
+        }
+
+        double numConnections() {
+            long sum = 0;
+            for (Http2ChannelList channels : channelLists) {
+                sum += channels.numConnections();
+            }
+            return sum;
+        }
+
+        double numActiveStreams() {
+            long sum = 0;
+            for (Http2ChannelList channels : channelLists) {
+                sum += channels.numActiveStreams();
+            }
+            return sum;
+        }
+
+        double numAvailableStreams() {
+            long sum = 0;
+            for (Http2ChannelList channels : channelLists) {
+                sum += channels.numAvailableStreams();
+            }
+            return sum;
+        }
+
+        void remove() {
+            meterRegistry.remove(connections);
+            meterRegistry.remove(activeStreams);
+            meterRegistry.remove(availableStreams);
+        }
+    }
+}
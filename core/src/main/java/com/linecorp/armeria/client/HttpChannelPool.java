@@ -52,6 +52,7 @@ import com.linecorp.armeria.common.NonBlocking;
 import com.linecorp.armeria.common.SerializationFormat;
 import com.linecorp.armeria.common.SessionProtocol;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.logging.ClientConnectionTimings;
 import com.linecorp.armeria.common.logging.ClientConnectionTimingsBuilder;
 import com.linecorp.armeria.common.util.AsyncCloseable;
 import com.linecorp.armeria.common.util.AsyncCloseableSupport;
@@ -97,6 +98,13 @@ final class HttpChannelPool implements AsyncCloseable {
     private final Map<PoolKey, ChannelAcquisitionFuture>[] pendingAcquisitions;
     private final Map<Channel, Boolean> allChannels;
 
+    // Fields for balancing HTTP/2 streams, which are null if disabled:
+    @Nullable
+    private final Map<PoolKey, Http2ChannelList>[] http2Pool;
+    @Nullable
+    private final Http2ConnectionPoolMetrics http2PoolMetrics;
+    private final int http2MinStreamHeadroom;
+
     // Fields for creating a new connection:
     private final Bootstraps bootstraps;
     private final int connectTimeoutMillis;
@@ -110,6 +118,15 @@ final class HttpChannelPool implements AsyncCloseable {
                                           SessionProtocol.H2, SessionProtocol.H2C));
         pendingAcquisitions = newEnumMap(httpAndHttpsValues());
         allChannels = new IdentityHashMap<>();
+        http2MinStreamHeadroom = clientFactory.http2MinStreamHeadroom();
+        if (http2MinStreamHeadroom > 0) {
+            http2Pool = newEnumMap(ImmutableSet.of(SessionProtocol.H2, SessionProtocol.H2C));
+            http2PoolMetrics = clientFactory.http2ConnectionPoolMetrics();
+            assert http2PoolMetrics != null;
+        } else {
+            http2Pool = null;
+            http2PoolMetrics = null;
+        }
         final Integer connectTimeoutMillisBoxed =
                 (Integer) clientFactory.options()
                                        .channelOptions()
@@ -251,6 +268,10 @@ final class HttpChannelPool implements AsyncCloseable {
         if (serializationFormat.requiresNewConnection(protocol)) {
             return null;
         }
+        if (http2Pool != null && protocol.isMultiplex()) {
+            return acquireNowBalanced(key, protocol, serializationFormat);
+        }
+
         final Deque<PooledChannel> queue = getPool(protocol, key);
         if (queue == null) {
             return null;
@@ -283,7 +304,31 @@ final class HttpChannelPool implements AsyncCloseable {
         return null;
     }
 
-    private static boolean isHealthy(PooledChannel pooledChannel) {
+    /**
+     * Acquires the HTTP/2 connection with the fewest streams in flight, and opens a new connection in
+     * advance if the number of the available streams falls below {@link #http2MinStreamHeadroom}.
+     */
+    @Nullable
+    private PooledChannel acquireNowBalanced(PoolKey key, SessionProtocol protocol,
+                                             SerializationFormat serializationFormat) {
+        assert http2Pool != null;
+        final Http2ChannelList channels = http2Pool[protocol.ordinal()].get(key);
+        if (channels == null) {
+            return null;
+        }
+
+        final PooledChannel pooledChannel = channels.acquire();
+        if (pooledChannel != null && channels.headroom() < http2MinStreamHeadroom &&
+            !closeable.isClosing() && !pendingAcquisitions[protocol.ordinal()].containsKey(key)) {
+            // Nobody waits for the new connection. The requests acquired meanwhile will piggyback on it
+            // when all the existing connections are full.
+            connect(protocol, serializationFormat, key, new ChannelAcquisitionFuture(true),
+                    ClientConnectionTimings.builder());
+        }
+        return pooledChannel;
+    }
+
+    static boolean isHealthy(PooledChannel pooledChannel) {
         final Channel ch = pooledChannel.get();
         return ch.isActive() && HttpSession.get(ch).isAcquirable();
     }
@@ -505,7 +550,14 @@ final class HttpChannelPool implements AsyncCloseable {
                 ConnectionEventListener.get(channel).connectionOpened();
 
                 final HttpSession session = HttpSession.get(channel);
-                if (session.incrementNumUnfinishedResponses()) {
+                if (promise.inAdvance) {
+                    // A connection opened in advance. Add it to the pool without reserving a stream.
+                    final PooledChannel pooledChannel =
+                            protocol.isMultiplex() ? new Http2PooledChannel(channel, protocol)
+                                                   : new Http1PooledChannel(channel, protocol, key);
+                    addToPool(protocol, key, pooledChannel);
+                    promise.complete(pooledChannel);
+                } else if (session.incrementNumUnfinishedResponses()) {
                     if (protocol.isMultiplex()) {
                         final Http2PooledChannel pooledChannel = new Http2PooledChannel(channel, protocol);
                         addToPool(protocol, key, pooledChannel);
@@ -523,6 +575,12 @@ final class HttpChannelPool implements AsyncCloseable {
                 channel.closeFuture().addListener(f -> {
                     allChannels.remove(channel);
 
+                    if (http2Pool != null && protocol.isMultiplex()) {
+                        removeFromHttp2Pool(protocol, key, channel);
+                        ConnectionEventListener.get(channel).connectionClosed();
+                        return;
+                    }
+
                     // Clean up old unhealthy channels by iterating from the beginning of the queue.
                     final Deque<PooledChannel> queue = getPool(protocol, key);
                     if (queue != null) {
@@ -554,9 +612,36 @@ final class HttpChannelPool implements AsyncCloseable {
      */
     private void addToPool(SessionProtocol actualProtocol, PoolKey key, PooledChannel pooledChannel) {
         assert eventLoop.inEventLoop() : Thread.currentThread().getName();
+        if (http2Pool != null && actualProtocol.isMultiplex()) {
+            final Map<PoolKey, Http2ChannelList> lists = http2Pool[actualProtocol.ordinal()];
+            Http2ChannelList channels = lists.get(key);
+            if (channels == null) {
+                channels = new Http2ChannelList();
+                lists.put(key, channels);
+                assert http2PoolMetrics != null;
+                http2PoolMetrics.add(actualProtocol, key, channels);
+            }
+            channels.add(pooledChannel);
+            return;
+        }
         getOrCreatePool(actualProtocol, key).addLast(pooledChannel);
     }
 
+    private void removeFromHttp2Pool(SessionProtocol actualProtocol, PoolKey key, Channel channel) {
+        assert http2Pool != null;
+        final Map<PoolKey, Http2ChannelList> lists = http2Pool[actualProtocol.ordinal()];
+        final Http2ChannelList channels = lists.get(key);
+        if (channels == null) {
+            return;
+        }
+        channels.remove(channel);
+        if (channels.isEmpty()) {
+            lists.remove(key);
+            assert http2PoolMetrics != null;
+            http2PoolMetrics.remove(actualProtocol, key, channels);
+        }
+    }
+
     @Override
     public CompletableFuture<?> closeAsync() {
         return closeable.closeAsync();
@@ -761,6 +846,11 @@ final class HttpChannelPool implements AsyncCloseable {
      */
     private final class ChannelAcquisitionFuture extends CompletableFuture<PooledChannel> {
 
+        /**
+         * Whether the connection is opened in advance without any request waiting for it.
+         */
+        final boolean inAdvance;
+
         /**
          * A {@code Consumer<PooledChannel>} if only 1 handler.
          * A {@code List<Consumer<PooledChannel>>} if there are 2+ handlers.
@@ -768,6 +858,14 @@ final class HttpChannelPool implements AsyncCloseable {
         @Nullable
         private Object pendingPiggybackHandlers;
 
+        ChannelAcquisitionFuture() {
+            this(false);
+        }
+
+        ChannelAcquisitionFuture(boolean inAdvance) {
+            this.inAdvance = inAdvance;
+        }
+
         void piggyback(SessionProtocol desiredProtocol, SerializationFormat serializationFormat, PoolKey key,
                        ChannelAcquisitionFuture childPromise,
                        ClientConnectionTimingsBuilder timingsBuilder) {
@@ -94,6 +94,9 @@ final class HttpClientFactory implements ClientFactory {
     private final float http2StreamWindowUpdateRatio;
     private final int http2MaxFrameSize;
     private final long http2MaxHeaderListSize;
+    private final int http2MinStreamHeadroom;
+    @Nullable
+    private final Http2ConnectionPoolMetrics http2ConnectionPoolMetrics;
     private final int http1MaxInitialLineLength;
     private final int http1MaxHeaderSize;
     private final int http1MaxChunkSize;
@@ -179,6 +182,7 @@ final class HttpClientFactory implements ClientFactory {
         http2StreamWindowUpdateRatio = options.http2StreamWindowUpdateRatio();
         http2MaxFrameSize = options.http2MaxFrameSize();
         http2MaxHeaderListSize = options.http2MaxHeaderListSize();
+        http2MinStreamHeadroom = options.http2MinStreamHeadroom();
         pingIntervalMillis = options.pingIntervalMillis();
         http1MaxInitialLineLength = options.http1MaxInitialLineLength();
         http1MaxHeaderSize = options.http1MaxHeaderSize();
@@ -191,6 +195,11 @@ final class HttpClientFactory implements ClientFactory {
         connectionPoolListener = options.connectionPoolListener();
         http2GracefulShutdownTimeoutMillis = options.http2GracefulShutdownTimeoutMillis();
         meterRegistry = options.meterRegistry();
+        if (http2MinStreamHeadroom > 0) {
+            http2ConnectionPoolMetrics = new Http2ConnectionPoolMetrics(meterRegistry);
+        } else {
+            http2ConnectionPoolMetrics = null;
+        }
         proxyConfigSelector = options.proxyConfigSelector();
         http1HeaderNaming = options.http1HeaderNaming();
         maxConnectionAgeMillis = options.maxConnectionAgeMillis();
@@ -246,6 +255,15 @@ final class HttpClientFactory implements ClientFactory {
         return http2MaxHeaderListSize;
     }
 
+    int http2MinStreamHeadroom() {
+        return http2MinStreamHeadroom;
+    }
+
+    @Nullable
+    Http2ConnectionPoolMetrics http2ConnectionPoolMetrics() {
+        return http2ConnectionPoolMetrics;
+    }
+
     int http1MaxInitialLineLength() {
         return http1MaxInitialLineLength;
     }
@@ -42,6 +42,8 @@ interface HttpResponseDecoder {
 
     boolean hasUnfinishedResponses();
 
+    int numUnfinishedResponses();
+
     boolean reserveUnfinishedResponse(int maxUnfinishedResponses);
 
     void decrementUnfinishedResponses();
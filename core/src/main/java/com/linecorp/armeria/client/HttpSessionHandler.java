@@ -214,6 +214,19 @@ final class HttpSessionHandler extends ChannelDuplexHandler implements HttpSessi
         return responseDecoder.reserveUnfinishedResponse(maxUnfinishedResponses);
     }
 
+    @Override
+    public int numUnfinishedResponses() {
+        if (responseDecoder == null) {
+            return 0;
+        }
+        return responseDecoder.numUnfinishedResponses();
+    }
+
+    @Override
+    public int maxUnfinishedResponses() {
+        return maxUnfinishedResponses;
+    }
+
     @Override
     public boolean canSendRequest() {
         assert responseDecoder != null;
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.cache;
+
+import static com.linecorp.armeria.internal.common.ArmeriaHttpUtil.parseDirectiveValueAsSeconds;
+import static com.linecorp.armeria.internal.common.ArmeriaHttpUtil.parseDirectives;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ascii;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.ClientCacheControl;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.RequestHeadersBuilder;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.ResponseHeadersBuilder;
+import com.linecorp.armeria.common.ServerCacheControl;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.AsciiString;
+import io.netty.util.IllegalReferenceCountException;
+
+/**
+ * A response stored in the cache of {@link CachingClient}, with its freshness and validators derived from
+ * the response headers as specified in
+ * <a href="https://datatracker.ietf.org/doc/html/rfc9111">RFC 9111</a>.
+ *
+ * <p>The content is held by a reference-counted {@link ByteBuf} which is released when the response is
+ * removed from the cache. A response served from the cache holds its own reference, so that the content is
+ * not released while it is being sent.
+ */
+final class CachedResponse {
+
+    private static final Splitter COMMA_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    /**
+     * The status codes which are heuristically cacheable, i.e. can be stored without explicit freshness.
+     * We store a response with any of them only when it has explicit freshness or a validator, though.
+     */
+    private static final ImmutableSet<HttpStatus> CACHEABLE_STATUSES = ImmutableSet.of(
+            HttpStatus.OK, HttpStatus.NON_AUTHORITATIVE_INFORMATION, HttpStatus.NO_CONTENT,
+            HttpStatus.MULTIPLE_CHOICES, HttpStatus.MOVED_PERMANENTLY, HttpStatus.PERMANENT_REDIRECT,
+            HttpStatus.NOT_FOUND, HttpStatus.GONE);
+
+    /**
+     * The headers which must not be updated by a {@code 304 Not Modified} response.
+     */
+    private static final ImmutableSet<AsciiString> NON_UPDATABLE_HEADERS = ImmutableSet.of(
+            HttpHeaderNames.CONTENT_LENGTH, HttpHeaderNames.CONTENT_ENCODING, HttpHeaderNames.CONTENT_TYPE,
+            HttpHeaderNames.CONTENT_RANGE, HttpHeaderNames.TRANSFER_ENCODING);
+
+    /**
+     * Returns a new {@link CachedResponse} if the specified response can be stored, or {@code null}
+     * otherwise.
+     *
+     * @param requestTimeNanos the time when the request was sent
+     * @param responseTimeNanos the time when the response was received
+     */
+    @Nullable
+    static CachedResponse of(RequestHeaders requestHeaders, AggregatedHttpResponse res,
+                             long requestTimeNanos, long responseTimeNanos,
+                             int maxContentLength, boolean offHeap) {
+        final ResponseHeaders headers = res.headers();
+        if (!CACHEABLE_STATUSES.contains(headers.status())) {
+            return null;
+        }
+        final HttpData content = res.content();
+        if (content.length() > maxContentLength) {
+            return null;
+        }
+
+        final Map<AsciiString, String> varyValues = varyValues(requestHeaders, headers);
+        if (varyValues == null) {
+            return null;
+        }
+
+        final ByteBuf buf;
+        if (offHeap) {
+            buf = Unpooled.directBuffer(content.length()).writeBytes(content.array());
+        } else {
+            buf = Unpooled.wrappedBuffer(content.array());
+        }
+        final CachedResponse cached = of(headers, buf, res.trailers(), varyValues,
+                                         requestTimeNanos, responseTimeNanos);
+        if (cached == null) {
+            buf.release();
+        }
+        return cached;
+    }
+
+    @Nullable
+    private static CachedResponse of(ResponseHeaders headers, ByteBuf content, HttpHeaders trailers,
+                                     Map<AsciiString, String> varyValues,
+                                     long requestTimeNanos, long responseTimeNanos) {
+        final List<String> cacheControlValues = headers.getAll(HttpHeaderNames.CACHE_CONTROL);
+        final ServerCacheControl cacheControl = ServerCacheControl.parse(cacheControlValues);
+        if (cacheControl.noStore()) {
+            return null;
+        }
+
+        final long freshnessLifetimeNanos = freshnessLifetimeNanos(headers, cacheControl);
+        final String etag = headers.get(HttpHeaderNames.ETAG);
+        final String lastModified = headers.get(HttpHeaderNames.LAST_MODIFIED);
+        if (freshnessLifetimeNanos <= 0 && etag == null && lastModified == null) {
+            // The response will be stale immediately and cannot be revalidated.
+            return null;
+        }
+
+        long staleWhileRevalidateSeconds = -1;
+        for (String value : cacheControlValues) {
+            final long[] holder = { -1 };
+            parseDirectives(value, (name, directiveValue) -> {
+                if ("stale-while-revalidate".equals(name)) {
+                    holder[0] = parseDirectiveValueAsSeconds(directiveValue);
+                }
+            });
+            staleWhileRevalidateSeconds = Math.max(staleWhileRevalidateSeconds, holder[0]);
+        }
+
+        // https://datatracker.ietf.org/doc/html/rfc9111#section-4.2.3
+        final long ageSeconds = Math.max(0, headers.getLong(HttpHeaderNames.AGE, 0L));
+        final long initialAgeNanos = TimeUnit.SECONDS.toNanos(ageSeconds) +
+                                     Math.max(0, responseTimeNanos - requestTimeNanos);
+
+        return new CachedResponse(headers, content, trailers, varyValues, responseTimeNanos, initialAgeNanos,
+                                  freshnessLifetimeNanos, staleWhileRevalidateSeconds,
+                                  cacheControl.noCache(), cacheControl.mustRevalidate(), etag, lastModified);
+    }
+
+    /**
+     * Returns the freshness lifetime as specified in
+     * <a href="https://datatracker.ietf.org/doc/html/rfc9111#section-4.2.1">RFC 9111, section 4.2.1</a>.
+     * No heuristic freshness is used, so a response without explicit freshness is always revalidated.
+     */
+    private static long freshnessLifetimeNanos(ResponseHeaders headers, ServerCacheControl cacheControl) {
+        if (cacheControl.maxAgeSeconds() >= 0) {
+            return TimeUnit.SECONDS.toNanos(cacheControl.maxAgeSeconds());
+        }
+        final Long expires = headers.getTimeMillis(HttpHeaderNames.EXPIRES);
+        if (expires == null) {
+            return 0;
+        }
+        final long date = headers.getTimeMillis(HttpHeaderNames.DATE, System.currentTimeMillis());
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expires - date));
+    }
+
+    /**
+     * Returns the values of the request headers nominated by the {@code "vary"} response header,
+     * or {@code null} if the response varies on {@code "*"}.
+     */
+    @Nullable
+    private static Map<AsciiString, String> varyValues(RequestHeaders requestHeaders,
+                                                        ResponseHeaders headers) {
+        final List<String> vary = headers.getAll(HttpHeaderNames.VARY);
+        if (vary.isEmpty()) {
+            return ImmutableMap.of();
+        }
+        final ImmutableMap.Builder<AsciiString, String> builder = ImmutableMap.builder();
+        for (String value : vary) {
+            for (String name : COMMA_SPLITTER.split(value)) {
+                if ("*".equals(name)) {
+                    return null;
+                }
+                final AsciiString headerName = HttpHeaderNames.of(Ascii.toLowerCase(name));
+                builder.put(headerName, String.join(",", requestHeaders.getAll(headerName)));
+            }
+        }
+        return builder.buildKeepingLast();
+    }
+
+    private final ResponseHeaders headers;
+    private final ByteBuf content;
+    private final HttpHeaders trailers;
+    private final Map<AsciiString, String> varyValues;
+    private final long responseTimeNanos;
+    private final long initialAgeNanos;
+    private final long freshnessLifetimeNanos;
+    private final long staleWhileRevalidateNanos;
+    private final boolean noCache;
+    private final boolean mustRevalidate;
+    @Nullable
+    private final String etag;
+    @Nullable
+    private final String lastModified;
+    private final long weight;
+
+    private CachedResponse(ResponseHeaders headers, ByteBuf content, HttpHeaders trailers,
+                           Map<AsciiString, String> varyValues, long responseTimeNanos, long initialAgeNanos,
+                           long freshnessLifetimeNanos, long staleWhileRevalidateSeconds,
+                           boolean noCache, boolean mustRevalidate,
+                           @Nullable String etag, @Nullable String lastModified) {
+        this.headers = headers;
+        this.content = content;
+        this.trailers = trailers;
+        this.varyValues = varyValues;
+        this.responseTimeNanos = responseTimeNanos;
+        this.initialAgeNanos = initialAgeNanos;
+        this.freshnessLifetimeNanos = freshnessLifetimeNanos;
+        staleWhileRevalidateNanos = staleWhileRevalidateSeconds >= 0 ?
+                                    TimeUnit.SECONDS.toNanos(staleWhileRevalidateSeconds) : -1;
+        this.noCache = noCache;
+        this.mustRevalidate = mustRevalidate;
+        this.etag = etag;
+        this.lastModified = lastModified;
+
+        long weight = content.readableBytes();
+        for (Entry<AsciiString, String> e : headers) {
+            weight += e.getKey().length() + e.getValue().length();
+        }
+        this.weight = weight;
+    }
+
+    /**
+     * Returns the approximate number of bytes this response occupies.
+     */
+    long weight() {
+        return weight;
+    }
+
+    /**
+     * Returns whether the specified request headers select this response as specified in
+     * <a href="https://datatracker.ietf.org/doc/html/rfc9111#section-4.1">RFC 9111, section 4.1</a>.
+     */
+    boolean matches(RequestHeaders requestHeaders) {
+        for (Entry<AsciiString, String> e : varyValues.entrySet()) {
+            if (!e.getValue().equals(String.join(",", requestHeaders.getAll(e.getKey())))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long ageNanos(long nowNanos) {
+        return initialAgeNanos + Math.max(0, nowNanos - responseTimeNanos);
+    }
+
+    /**
+     * Returns whether this response can be served without revalidation for a request with the specified
+     * {@link ClientCacheControl}.
+     */
+    boolean isFresh(long nowNanos, ClientCacheControl requestCacheControl) {
+        if (noCache || requestCacheControl.noCache()) {
+            return false;
+        }
+        long ageNanos = ageNanos(nowNanos);
+        long freshnessLifetimeNanos = this.freshnessLifetimeNanos;
+        if (requestCacheControl.maxAgeSeconds() >= 0) {
+            freshnessLifetimeNanos = Math.min(freshnessLifetimeNanos,
+                                              TimeUnit.SECONDS.toNanos(requestCacheControl.maxAgeSeconds()));
+        }
+        if (requestCacheControl.minFreshSeconds() >= 0) {
+            ageNanos += TimeUnit.SECONDS.toNanos(requestCacheControl.minFreshSeconds());
+        }
+        if (ageNanos < freshnessLifetimeNanos) {
+            return true;
+        }
+        if (mustRevalidate || !requestCacheControl.hasMaxStale()) {
+            return false;
+        }
+        final long maxStaleSeconds = requestCacheControl.maxStaleSeconds();
+        return maxStaleSeconds < 0 ||
+               ageNanos - freshnessLifetimeNanos <= TimeUnit.SECONDS.toNanos(maxStaleSeconds);
+    }
+
+    /**
+     * Returns whether this stale response can be served while it is revalidated in the background,
+     * as specified in <a href="https://datatracker.ietf.org/doc/html/rfc5861#section-3">RFC 5861</a>.
+     */
+    boolean canServeWhileRevalidating(long nowNanos, ClientCacheControl requestCacheControl) {
+        if (noCache || mustRevalidate || requestCacheControl.noCache()) {
+            return false;
+        }
+        final long staleWhileRevalidateNanos =
+                Math.max(this.staleWhileRevalidateNanos,
+                         requestCacheControl.staleWhileRevalidateSeconds() >= 0 ?
+                         TimeUnit.SECONDS.toNanos(requestCacheControl.staleWhileRevalidateSeconds()) : -1);
+        if (staleWhileRevalidateNanos < 0) {
+            return false;
+        }
+        return ageNanos(nowNanos) - freshnessLifetimeNanos <= staleWhileRevalidateNanos;
+    }
+
+    /**
+     * Returns whether this response has a validator which can be used for a conditional request.
+     */
+    boolean hasValidator() {
+        return etag != null || lastModified != null;
+    }
+
+    /**
+     * Adds the validators of this response to the specified {@link RequestHeaders}.
+     */
+    RequestHeaders toConditionalRequestHeaders(RequestHeaders requestHeaders) {
+        final RequestHeadersBuilder builder = requestHeaders.toBuilder();
+        if (etag != null) {
+            builder.set(HttpHeaderNames.IF_NONE_MATCH, etag);
+        }
+        if (lastModified != null) {
+            builder.set(HttpHeaderNames.IF_MODIFIED_SINCE, lastModified);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a new {@link CachedResponse} whose headers are updated with the specified
+     * {@code 304 Not Modified} response, or {@code null} if the updated response cannot be stored or this
+     * response has been removed from the cache.
+     */
+    @Nullable
+    CachedResponse revalidate(ResponseHeaders notModifiedHeaders,
+                              long requestTimeNanos, long responseTimeNanos) {
+        final ResponseHeadersBuilder builder = headers.toBuilder();
+        notModifiedHeaders.forEach((name, value) -> {
+            if (!name.isEmpty() && name.byteAt(0) != ':' && !NON_UPDATABLE_HEADERS.contains(name)) {
+                builder.remove(name);
+            }
+        });
+        notModifiedHeaders.forEach((name, value) -> {
+            if (!name.isEmpty() && name.byteAt(0) != ':' && !NON_UPDATABLE_HEADERS.contains(name)) {
+                builder.add(name, value);
+            }
+        });
+
+        final ByteBuf retained = tryRetain();
+        if (retained == null) {
+            return null;
+        }
+        final CachedResponse revalidated = of(builder.build(), retained, trailers, varyValues,
+                                              requestTimeNanos, responseTimeNanos);
+        if (revalidated == null) {
+            retained.release();
+        }
+        return revalidated;
+    }
+
+    /**
+     * Returns a new {@link AggregatedHttpResponse} of this response with the {@code "age"} header, or
+     * {@code null} if this response has been removed from the cache. The content of the returned response
+     * holds a reference of the cached content, so it must be released.
+     */
+    @Nullable
+    AggregatedHttpResponse toAggregatedResponse(long nowNanos) {
+        final ByteBuf duplicate;
+        try {
+            duplicate = content.retainedDuplicate();
+        } catch (IllegalReferenceCountException e) {
+            return null;
+        }
+        final ResponseHeaders headers = this.headers.toBuilder()
+                                                    .setLong(HttpHeaderNames.AGE,
+                                                             TimeUnit.NANOSECONDS.toSeconds(ageNanos(nowNanos)))
+                                                    .build();
+        return AggregatedHttpResponse.of(headers, HttpData.wrap(duplicate), trailers);
+    }
+
+    @Nullable
+    private ByteBuf tryRetain() {
+        try {
+            return content.retain();
+        } catch (IllegalReferenceCountException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Releases the content. Invoked when this response is removed from the cache.
+     */
+    void release() {
+        content.release();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("headers", headers)
+                          .add("contentLength", content.readableBytes())
+                          .add("freshnessLifetimeNanos", freshnessLifetimeNanos)
+                          .add("etag", etag)
+                          .add("lastModified", lastModified)
+                          .toString();
+    }
+}
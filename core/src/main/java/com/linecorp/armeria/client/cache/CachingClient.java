@@ -0,0 +1,387 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.primitives.Ints;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.client.SimpleDecoratingHttpClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.ClientCacheControl;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLogBuilder;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.common.util.Ticker;
+import com.linecorp.armeria.internal.client.ClientUtil;
+import com.linecorp.armeria.internal.common.metric.CaffeineMetricSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * An {@link HttpClient} decorator that caches the responses of {@code GET} requests in memory, honoring
+ * the {@code "cache-control"}, {@code "expires"}, {@code "etag"} and {@code "last-modified"} headers as
+ * specified in <a href="https://datatracker.ietf.org/doc/html/rfc9111">RFC 9111</a>.
+ * <pre>{@code
+ * WebClient client =
+ *     WebClient.builder("https://api.example.com")
+ *              .decorator(CachingClient.builder()
+ *                                      .maxWeightBytes(128 * 1024 * 1024)
+ *                                      .newDecorator())
+ *              .build();
+ * }</pre>
+ *
+ * <ul>
+ *   <li>A fresh cached response is served without sending a request.</li>
+ *   <li>A stale cached response with a validator is revalidated with a conditional request, i.e.
+ *       {@code "if-none-match"} or {@code "if-modified-since"}, and is served again if the server responds
+ *       with {@code 304 Not Modified}.</li>
+ *   <li>A stale cached response within its {@code stale-while-revalidate} window is served immediately
+ *       while it is revalidated in the background.</li>
+ *   <li>The concurrent requests that miss the cache for the same URI are coalesced into a single request
+ *       and share its response.</li>
+ * </ul>
+ *
+ * <p>The requests with an {@code "authorization"} header or a conditional header set by the caller are
+ * not served from the cache. The responses are aggregated before they are stored, so this decorator is not
+ * suitable for streaming responses.
+ *
+ * @see CachingClientBuilder
+ */
+@UnstableApi
+public final class CachingClient extends SimpleDecoratingHttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingClient.class);
+
+    /**
+     * Returns a new {@link CachingClientBuilder}.
+     */
+    public static CachingClientBuilder builder() {
+        return new CachingClientBuilder();
+    }
+
+    /**
+     * Creates a new {@link HttpClient} decorator with the default cache configuration.
+     */
+    public static Function<? super HttpClient, CachingClient> newDecorator() {
+        return builder().newDecorator();
+    }
+
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, CompletableFuture<FetchResult>> inflightFetches = new ConcurrentHashMap<>();
+    private final int maxContentLength;
+    private final boolean offHeap;
+    private final CachingClientMetrics metrics;
+    private final Ticker ticker;
+
+    CachingClient(HttpClient delegate, long maxWeightBytes, long maxNumEntries, int maxContentLength,
+                  boolean offHeap, MeterRegistry meterRegistry, MeterIdPrefix meterIdPrefix, Ticker ticker) {
+        super(delegate);
+        // Every entry weighs at least (maxWeightBytes / maxNumEntries), so that the number of entries
+        // is bounded as well as the total weight.
+        final long minEntryWeight = Math.max(1, maxWeightBytes / maxNumEntries);
+        cache = Caffeine.newBuilder()
+                        .maximumWeight(maxWeightBytes)
+                        .<String, CachedResponse>weigher(
+                                (key, value) -> Ints.saturatedCast(Math.max(minEntryWeight, value.weight())))
+                        .removalListener((key, value, cause) -> {
+                            if (value != null) {
+                                value.release();
+                            }
+                        })
+                        .recordStats()
+                        .build();
+        CaffeineMetricSupport.setup(meterRegistry, meterIdPrefix.append("store"), cache);
+        this.maxContentLength = maxContentLength;
+        this.offHeap = offHeap;
+        metrics = new CachingClientMetrics(meterRegistry, meterIdPrefix);
+        this.ticker = ticker;
+    }
+
+    @Override
+    public HttpResponse execute(ClientRequestContext ctx, HttpRequest req) throws Exception {
+        final RequestHeaders headers = req.headers();
+        if (!isCacheable(headers)) {
+            metrics.onBypass();
+            return unwrap().execute(ctx, req);
+        }
+        final ClientCacheControl cacheControl =
+                ClientCacheControl.parse(headers.getAll(HttpHeaderNames.CACHE_CONTROL));
+        if (cacheControl.noStore()) {
+            metrics.onBypass();
+            return unwrap().execute(ctx, req);
+        }
+        final String key;
+        try {
+            key = ctx.uri().toString();
+        } catch (IllegalStateException e) {
+            metrics.onBypass();
+            return unwrap().execute(ctx, req);
+        }
+
+        final long nowNanos = ticker.read();
+        final CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.matches(headers)) {
+            if (cached.isFresh(nowNanos, cacheControl)) {
+                final AggregatedHttpResponse res = cached.toAggregatedResponse(nowNanos);
+                if (res != null) {
+                    metrics.onHit();
+                    return serve(ctx, req, res);
+                }
+            } else if (cached.canServeWhileRevalidating(nowNanos, cacheControl)) {
+                final AggregatedHttpResponse res = cached.toAggregatedResponse(nowNanos);
+                if (res != null) {
+                    metrics.onStaleHit();
+                    revalidateInBackground(ctx, req, key, cached);
+                    return serve(ctx, req, res);
+                }
+            } else if (!cacheControl.onlyIfCached()) {
+                return fetch(ctx, req, key, cached.hasValidator() ? cached : null);
+            }
+        }
+
+        if (cacheControl.onlyIfCached()) {
+            // https://datatracker.ietf.org/doc/html/rfc9111#section-5.2.1.7
+            metrics.onMiss();
+            return serve(ctx, req, AggregatedHttpResponse.of(HttpStatus.GATEWAY_TIMEOUT));
+        }
+        return fetch(ctx, req, key, null);
+    }
+
+    private static boolean isCacheable(RequestHeaders headers) {
+        return headers.method() == HttpMethod.GET &&
+               !headers.contains(HttpHeaderNames.AUTHORIZATION) &&
+               !headers.contains(HttpHeaderNames.RANGE) &&
+               !headers.contains(HttpHeaderNames.IF_NONE_MATCH) &&
+               !headers.contains(HttpHeaderNames.IF_MODIFIED_SINCE) &&
+               !headers.contains(HttpHeaderNames.IF_MATCH) &&
+               !headers.contains(HttpHeaderNames.IF_UNMODIFIED_SINCE);
+    }
+
+    /**
+     * Sends the request to the upstream, or waits for the response of the concurrent request for the same
+     * key if exists.
+     *
+     * @param stale the stale cached response to revalidate, or {@code null} to send an unconditional request
+     */
+    private HttpResponse fetch(ClientRequestContext ctx, HttpRequest req, String key,
+                               @Nullable CachedResponse stale) throws Exception {
+        final CompletableFuture<FetchResult> future = new CompletableFuture<>();
+        final CompletableFuture<FetchResult> inflight = inflightFetches.putIfAbsent(key, future);
+        if (inflight != null) {
+            metrics.onCoalesced();
+            return HttpResponse.of(inflight.handleAsync((result, unused) -> serveCoalesced(ctx, req, result),
+                                                        ctx.eventLoop()));
+        }
+
+        // Pin the content of the stale response so that it can be served on 304 Not Modified
+        // even if it is evicted in the meantime.
+        final AggregatedHttpResponse pinned = stale != null ? stale.toAggregatedResponse(ticker.read()) : null;
+        final CachedResponse revalidating = pinned != null ? stale : null;
+        final HttpRequest upstreamReq;
+        if (revalidating != null) {
+            metrics.onRevalidation();
+            upstreamReq = req.withHeaders(revalidating.toConditionalRequestHeaders(req.headers()));
+            ctx.updateRequest(upstreamReq);
+        } else {
+            metrics.onMiss();
+            upstreamReq = req;
+        }
+
+        final long requestTimeNanos = ticker.read();
+        final HttpResponse res;
+        try {
+            res = unwrap().execute(ctx, upstreamReq);
+        } catch (Throwable cause) {
+            completeFetch(key, future, null);
+            release(pinned);
+            return Exceptions.throwUnsafely(cause);
+        }
+
+        return HttpResponse.of(res.aggregate().handle((aggregated, cause) -> {
+            if (cause != null) {
+                if (pinned != null) {
+                    metrics.onRevalidationFailure();
+                    release(pinned);
+                }
+                completeFetch(key, future, null);
+                return HttpResponse.ofFailure(cause);
+            }
+
+            final FetchResult result = onResponse(req.headers(), key, revalidating,
+                                                  aggregated, requestTimeNanos);
+            completeFetch(key, future, result);
+            if (pinned == null) {
+                return aggregated.toHttpResponse();
+            }
+            if (!result.notModified) {
+                release(pinned);
+                return aggregated.toHttpResponse();
+            }
+
+            final AggregatedHttpResponse revalidated =
+                    result.entry != null ? result.entry.toAggregatedResponse(ticker.read()) : null;
+            if (revalidated != null) {
+                release(pinned);
+                return revalidated.toHttpResponse();
+            }
+            return pinned.toHttpResponse();
+        }));
+    }
+
+    private HttpResponse serveCoalesced(ClientRequestContext ctx, HttpRequest req,
+                                        @Nullable FetchResult result) {
+        if (result != null && result.entry != null && result.entry.matches(req.headers())) {
+            final AggregatedHttpResponse res = result.entry.toAggregatedResponse(ticker.read());
+            if (res != null) {
+                return serve(ctx, req, res);
+            }
+        }
+        // The response of the concurrent request was not stored, so send the request on our own.
+        return ClientUtil.executeWithFallback(unwrap(), ctx, (context, cause) -> HttpResponse.ofFailure(cause),
+                                              req, true);
+    }
+
+    /**
+     * Revalidates the specified stale response using a new {@link ClientRequestContext} derived from
+     * the specified one, unless the same key is being fetched already.
+     */
+    private void revalidateInBackground(ClientRequestContext ctx, HttpRequest req, String key,
+                                        CachedResponse stale) {
+        final CompletableFuture<FetchResult> future = new CompletableFuture<>();
+        if (inflightFetches.putIfAbsent(key, future) != null) {
+            return;
+        }
+
+        metrics.onRevalidation();
+        final HttpRequest revalidationReq = HttpRequest.of(stale.toConditionalRequestHeaders(req.headers()));
+        final ClientRequestContext derivedCtx =
+                ctx.newDerivedContext(ctx.options().requestIdGenerator().get(), revalidationReq, null,
+                                      ctx.endpoint());
+        final long requestTimeNanos = ticker.read();
+        final HttpResponse res = ClientUtil.executeWithFallback(
+                unwrap(), derivedCtx, (context, cause) -> HttpResponse.ofFailure(cause), revalidationReq, true);
+        res.aggregate().handle((aggregated, cause) -> {
+            if (cause != null) {
+                logger.debug("Failed to revalidate a cached response in the background: {}", key, cause);
+                metrics.onRevalidationFailure();
+                completeFetch(key, future, null);
+            } else {
+                completeFetch(key, future,
+                              onResponse(req.headers(), key, stale, aggregated, requestTimeNanos));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Updates the cache with the specified response.
+     *
+     * @param stale the stale cached response which was revalidated, or {@code null} if the request was
+     *              unconditional
+     */
+    private FetchResult onResponse(RequestHeaders requestHeaders, String key, @Nullable CachedResponse stale,
+                                   AggregatedHttpResponse res, long requestTimeNanos) {
+        final long responseTimeNanos = ticker.read();
+        if (stale != null) {
+            if (res.status() == HttpStatus.NOT_MODIFIED) {
+                metrics.onNotModified();
+                final CachedResponse revalidated =
+                        stale.revalidate(res.headers(), requestTimeNanos, responseTimeNanos);
+                if (revalidated != null) {
+                    cache.put(key, revalidated);
+                } else {
+                    cache.invalidate(key);
+                }
+                return new FetchResult(revalidated, true);
+            }
+            metrics.onModified();
+        }
+
+        final CachedResponse cached = CachedResponse.of(requestHeaders, res, requestTimeNanos,
+                                                        responseTimeNanos, maxContentLength, offHeap);
+        if (cached != null) {
+            cache.put(key, cached);
+        } else if (stale != null) {
+            // The stale response has been replaced by a response which cannot be stored.
+            cache.invalidate(key);
+        }
+        return new FetchResult(cached, false);
+    }
+
+    private void completeFetch(String key, CompletableFuture<FetchResult> future,
+                               @Nullable FetchResult result) {
+        inflightFetches.remove(key, future);
+        future.complete(result);
+    }
+
+    /**
+     * Serves the specified response without sending the specified request to the upstream. The request is
+     * aborted so that its content is released, and the {@link RequestLogBuilder} of the specified
+     * {@link ClientRequestContext} is completed with the response.
+     */
+    private static HttpResponse serve(ClientRequestContext ctx, HttpRequest req, AggregatedHttpResponse res) {
+        req.abort();
+        final RequestLogBuilder logBuilder = ctx.logBuilder();
+        logBuilder.endRequest();
+        logBuilder.responseHeaders(res.headers());
+        if (!res.trailers().isEmpty()) {
+            logBuilder.responseTrailers(res.trailers());
+        }
+        logBuilder.endResponse();
+        return res.toHttpResponse();
+    }
+
+    private static void release(@Nullable AggregatedHttpResponse res) {
+        if (res != null) {
+            res.content().close();
+        }
+    }
+
+    private static final class FetchResult {
+
+        /**
+         * The response stored in the cache, or {@code null} if the response could not be stored.
+         */
+        @Nullable
+        private final CachedResponse entry;
+        private final boolean notModified;
+
+        FetchResult(@Nullable CachedResponse entry, boolean notModified) {
+            this.entry = entry;
+            this.notModified = notModified;
+        }
+    }
+}
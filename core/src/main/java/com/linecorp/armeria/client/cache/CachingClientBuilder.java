@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Builds a new {@link CachingClient} or its decorator function.
+ *
+ * <p>Each {@link CachingClient} has its own store, so the clients built from the same builder do not share
+ * the cached responses.
+ *
+ * <h2>Exported metrics</h2>
+ *
+ * <table>
+ * <caption>Metrics</caption>
+ * <tr><th>metric name</th><th>description</th></tr>
+ * <tr><td>{@code <prefix>.requests{result=hit}} (counter)</td>
+ *     <td>the number of the requests served with a fresh cached response</td></tr>
+ * <tr><td>{@code <prefix>.requests{result=stale}} (counter)</td>
+ *     <td>the number of the requests served with a stale cached response while it is revalidated
+ *         in the background</td></tr>
+ * <tr><td>{@code <prefix>.requests{result=miss}} (counter)</td>
+ *     <td>the number of the requests sent to the server because no cached response was found</td></tr>
+ * <tr><td>{@code <prefix>.requests{result=revalidation}} (counter)</td>
+ *     <td>the number of the conditional requests sent to the server to revalidate a stale
+ *         cached response</td></tr>
+ * <tr><td>{@code <prefix>.requests{result=coalesced}} (counter)</td>
+ *     <td>the number of the requests which waited for a concurrent request for the same URI</td></tr>
+ * <tr><td>{@code <prefix>.requests{result=bypass}} (counter)</td>
+ *     <td>the number of the requests which are not cacheable</td></tr>
+ * <tr><td>{@code <prefix>.revalidations{result=unmodified|modified|failure}} (counter)</td>
+ *     <td>the number of the revalidations by their results</td></tr>
+ * <tr><td>{@code <prefix>.store.requests}, {@code <prefix>.store.evictions},
+ *         {@code <prefix>.store.estimated.size} and so on</td>
+ *     <td>the statistics of the underlying cache</td></tr>
+ * </table>
+ */
+@UnstableApi
+public final class CachingClientBuilder {
+
+    static final long DEFAULT_MAX_WEIGHT_BYTES = 64 * 1024 * 1024;
+    static final long DEFAULT_MAX_NUM_ENTRIES = 10000;
+    static final int DEFAULT_MAX_CONTENT_LENGTH = 1024 * 1024;
+    static final String DEFAULT_METER_ID_PREFIX = "armeria.client.cache";
+
+    private long maxWeightBytes = DEFAULT_MAX_WEIGHT_BYTES;
+    private long maxNumEntries = DEFAULT_MAX_NUM_ENTRIES;
+    private int maxContentLength = DEFAULT_MAX_CONTENT_LENGTH;
+    private boolean offHeap;
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    private MeterIdPrefix meterIdPrefix = new MeterIdPrefix(DEFAULT_METER_ID_PREFIX);
+    private Ticker ticker = Ticker.systemTicker();
+
+    CachingClientBuilder() {}
+
+    /**
+     * Sets the maximum total number of bytes of the cached responses.
+     * If unspecified, {@value #DEFAULT_MAX_WEIGHT_BYTES} bytes is used.
+     */
+    public CachingClientBuilder maxWeightBytes(long maxWeightBytes) {
+        checkArgument(maxWeightBytes > 0, "maxWeightBytes: %s (expected: > 0)", maxWeightBytes);
+        this.maxWeightBytes = maxWeightBytes;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the cached responses.
+     * If unspecified, {@value #DEFAULT_MAX_NUM_ENTRIES} is used.
+     */
+    public CachingClientBuilder maxNumEntries(long maxNumEntries) {
+        checkArgument(maxNumEntries > 0, "maxNumEntries: %s (expected: > 0)", maxNumEntries);
+        this.maxNumEntries = maxNumEntries;
+        return this;
+    }
+
+    /**
+     * Sets the maximum length of the content of a response to be cached. The responses whose content is
+     * longer than this are not cached. If unspecified, {@value #DEFAULT_MAX_CONTENT_LENGTH} bytes is used.
+     */
+    public CachingClientBuilder maxContentLength(int maxContentLength) {
+        checkArgument(maxContentLength >= 0, "maxContentLength: %s (expected: >= 0)", maxContentLength);
+        this.maxContentLength = maxContentLength;
+        return this;
+    }
+
+    /**
+     * Sets whether to store the content of the cached responses in direct buffers, so that
+     * a large cache does not put pressure on the garbage collector. This option is disabled by default.
+     */
+    public CachingClientBuilder offHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} which collects the metrics of the cache.
+     * If unspecified, {@link Flags#meterRegistry()} is used.
+     */
+    public CachingClientBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the metrics of the cache.
+     * If unspecified, {@value #DEFAULT_METER_ID_PREFIX} is used.
+     */
+    public CachingClientBuilder meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    @VisibleForTesting
+    CachingClientBuilder ticker(Ticker ticker) {
+        this.ticker = requireNonNull(ticker, "ticker");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link CachingClient} based on the properties of this builder.
+     */
+    public CachingClient build(HttpClient delegate) {
+        requireNonNull(delegate, "delegate");
+        return new CachingClient(delegate, maxWeightBytes, maxNumEntries, maxContentLength, offHeap,
+                                 meterRegistry, meterIdPrefix, ticker);
+    }
+
+    /**
+     * Returns a newly-created decorator that decorates an {@link HttpClient} with a new
+     * {@link CachingClient} based on the properties of this builder.
+     */
+    public Function<? super HttpClient, CachingClient> newDecorator() {
+        return this::build;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("maxWeightBytes", maxWeightBytes)
+                          .add("maxNumEntries", maxNumEntries)
+                          .add("maxContentLength", maxContentLength)
+                          .add("offHeap", offHeap)
+                          .add("meterIdPrefix", meterIdPrefix)
+                          .toString();
+    }
+}
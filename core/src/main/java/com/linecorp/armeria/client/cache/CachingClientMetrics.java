@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.cache;
+
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The metrics of a {@link CachingClient}.
+ *
+ * @see CachingClientBuilder
+ */
+final class CachingClientMetrics {
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter revalidations;
+    private final Counter coalesced;
+    private final Counter bypassed;
+
+    private final Counter notModified;
+    private final Counter modified;
+    private final Counter revalidationFailures;
+
+    CachingClientMetrics(MeterRegistry registry, MeterIdPrefix idPrefix) {
+        final String requests = idPrefix.name("requests");
+        hits = registry.counter(requests, idPrefix.tags("result", "hit"));
+        staleHits = registry.counter(requests, idPrefix.tags("result", "stale"));
+        misses = registry.counter(requests, idPrefix.tags("result", "miss"));
+        revalidations = registry.counter(requests, idPrefix.tags("result", "revalidation"));
+        coalesced = registry.counter(requests, idPrefix.tags("result", "coalesced"));
+        bypassed = registry.counter(requests, idPrefix.tags("result", "bypass"));
+
+        final String revalidationResults = idPrefix.name("revalidations");
+        notModified = registry.counter(revalidationResults, idPrefix.tags("result", "unmodified"));
+        modified = registry.counter(revalidationResults, idPrefix.tags("result", "modified"));
+        revalidationFailures = registry.counter(revalidationResults, idPrefix.tags("result", "failure"));
+    }
+
+    void onHit() {
+        hits.increment();
+    }
+
+    void onStaleHit() {
+        staleHits.increment();
+    }
+
+    void onMiss() {
+        misses.increment();
+    }
+
+    void onRevalidation() {
+        revalidations.increment();
+    }
+
+    void onCoalesced() {
+        coalesced.increment();
+    }
+
+    void onBypass() {
+        bypassed.increment();
+    }
+
+    void onNotModified() {
+        notModified.increment();
+    }
+
+    void onModified() {
+        modified.increment();
+    }
+
+    void onRevalidationFailure() {
+        revalidationFailures.increment();
+    }
+}
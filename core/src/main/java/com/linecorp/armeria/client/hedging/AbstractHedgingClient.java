@@ -0,0 +1,393 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.hedging;
+
+import static com.linecorp.armeria.internal.client.ClientUtil.executeWithFallback;
+import static com.linecorp.armeria.internal.client.ClientUtil.initContextAndExecuteWithFallback;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.linecorp.armeria.client.Client;
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.SimpleDecoratingClient;
+import com.linecorp.armeria.client.endpoint.EndpointGroup;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.Request;
+import com.linecorp.armeria.common.Response;
+import com.linecorp.armeria.common.RpcRequest;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLogBuilder;
+import com.linecorp.armeria.internal.client.ClientPendingThrowableUtil;
+import com.linecorp.armeria.internal.client.ClientRequestContextExtension;
+import com.linecorp.armeria.internal.client.ClientUtil;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * A {@link Client} decorator that sends a hedged attempt of a request to another {@link Endpoint}
+ * when the request is not responded within the hedging delay. The first successful response is returned
+ * and the other attempts are cancelled.
+ *
+ * @param <I> the {@link Request} type
+ * @param <O> the {@link Response} type
+ */
+@UnstableApi
+public abstract class AbstractHedgingClient<I extends Request, O extends Response>
+        extends SimpleDecoratingClient<I, O> {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractHedgingClient.class);
+
+    /**
+     * The header which indicates the number of the attempts sent before a hedged attempt.
+     * The server might use this value to reject hedged attempts when it is overloaded, etc.
+     */
+    public static final AsciiString ARMERIA_HEDGING_ATTEMPT = HttpHeaderNames.of("armeria-hedging-attempt");
+
+    /**
+     * The maximum number of times to ask the {@link EndpointGroup} for an {@link Endpoint} which has not been
+     * tried by the other attempts, before picking one from {@link EndpointGroup#endpoints()}.
+     */
+    private static final int MAX_ENDPOINT_SELECTION_ATTEMPTS = 3;
+
+    private final int maxTotalAttempts;
+    private final long initialHedgingDelayNanos;
+    private final long minHedgingDelayNanos;
+    private final LatencyHistogram latencyHistogram;
+    private final HedgingBudget budget;
+    private final Predicate<? super ClientRequestContext> hedgingPredicate;
+
+    AbstractHedgingClient(Client<I, O> delegate, int maxTotalAttempts,
+                          long initialHedgingDelayNanos, long minHedgingDelayNanos,
+                          LatencyHistogram latencyHistogram, HedgingBudget budget,
+                          Predicate<? super ClientRequestContext> hedgingPredicate) {
+        super(delegate);
+        this.maxTotalAttempts = maxTotalAttempts;
+        this.initialHedgingDelayNanos = initialHedgingDelayNanos;
+        this.minHedgingDelayNanos = minHedgingDelayNanos;
+        this.latencyHistogram = requireNonNull(latencyHistogram, "latencyHistogram");
+        this.budget = requireNonNull(budget, "budget");
+        this.hedgingPredicate = requireNonNull(hedgingPredicate, "hedgingPredicate");
+    }
+
+    @Override
+    public final O execute(ClientRequestContext ctx, I req) throws Exception {
+        if (maxTotalAttempts <= 1 || !hedgingPredicate.test(ctx)) {
+            return unwrap().execute(ctx, req);
+        }
+        budget.onRequest();
+        return doExecute(ctx, req);
+    }
+
+    /**
+     * Invoked by {@link #execute(ClientRequestContext, Request)} to send the request which may be hedged.
+     */
+    protected abstract O doExecute(ClientRequestContext ctx, I req) throws Exception;
+
+    /**
+     * Returns the delay before sending a hedged attempt, which is the latency at the configured percentile
+     * of the recent successful attempts, or the initial hedging delay if not enough latencies have been
+     * recorded yet.
+     */
+    final long hedgingDelayNanos() {
+        final long percentileNanos = latencyHistogram.percentileNanos();
+        if (percentileNanos < 0) {
+            return initialHedgingDelayNanos;
+        }
+        return Math.max(minHedgingDelayNanos, percentileNanos);
+    }
+
+    /**
+     * Executes an attempt with the specified derived {@link ClientRequestContext}. If the {@link Endpoint} of
+     * a hedged attempt has not been selected yet, the {@link ClientRequestContext} is initialized first.
+     */
+    final O executeAttempt(ClientRequestContext derivedCtx, I req, boolean initialAttempt,
+                           Function<CompletableFuture<O>, O> futureConverter,
+                           BiFunction<ClientRequestContext, Throwable, O> errorResponseFactory,
+                           boolean tryCompleteLog) {
+        final ClientRequestContextExtension ctxExtension = derivedCtx.as(ClientRequestContextExtension.class);
+        if (!initialAttempt && ctxExtension != null && !ctxExtension.initializationTriggered()) {
+            // clear the pending throwable to retry endpoint selection
+            ClientPendingThrowableUtil.removePendingThrowable(derivedCtx);
+            return initContextAndExecuteWithFallback(unwrap(), ctxExtension, futureConverter,
+                                                     errorResponseFactory, req, tryCompleteLog);
+        }
+        return executeWithFallback(unwrap(), derivedCtx, errorResponseFactory, req, tryCompleteLog);
+    }
+
+    /**
+     * The state of a request which is sent one or more times. All methods except {@link #start()} are
+     * invoked by the {@link EventLoop} of the request, so that the state does not need to be synchronized.
+     */
+    abstract class Execution {
+
+        final ClientRequestContext ctx;
+        final EventLoop eventLoop;
+
+        private final List<Attempt> inFlightAttempts = new ArrayList<>(maxTotalAttempts);
+        private final Set<Endpoint> usedEndpoints = new HashSet<>();
+        private int numAttempts;
+        @Nullable
+        private ScheduledFuture<?> hedgingTimer;
+        private boolean completed;
+
+        Execution(ClientRequestContext ctx) {
+            this.ctx = ctx;
+            eventLoop = ctx.eventLoop().withoutContext();
+        }
+
+        /**
+         * Sends the initial attempt.
+         */
+        final void start() {
+            if (eventLoop.inEventLoop()) {
+                startAttempt();
+            } else {
+                eventLoop.execute(this::startAttempt);
+            }
+        }
+
+        /**
+         * Sends a new attempt. The returned {@link Attempt} must invoke
+         * {@link #onAttemptComplete(Attempt, boolean)} when it is known whether the attempt is successful.
+         *
+         * @param attemptNo the number of the attempts sent before, i.e. {@code 0} for the initial attempt
+         */
+        abstract Attempt newAttempt(int attemptNo) throws Exception;
+
+        /**
+         * Invoked when the request is aborted before any attempt succeeds.
+         */
+        abstract void onAbort(Throwable cause);
+
+        /**
+         * Creates a new derived {@link ClientRequestContext} for an attempt. A hedged attempt is sent to
+         * an {@link Endpoint} which has not been tried by the previous attempts if possible.
+         */
+        final ClientRequestContext newAttemptContext(@Nullable HttpRequest req, @Nullable RpcRequest rpcReq,
+                                                     int attemptNo) {
+            final ClientRequestContext derivedCtx;
+            if (attemptNo == 0) {
+                derivedCtx = ClientUtil.newDerivedContext(ctx, req, rpcReq, true);
+            } else {
+                derivedCtx = ClientUtil.newDerivedContext(ctx, req, rpcReq, selectEndpoint());
+            }
+            final Endpoint endpoint = derivedCtx.endpoint();
+            if (endpoint != null) {
+                usedEndpoints.add(endpoint);
+            }
+            return derivedCtx;
+        }
+
+        @Nullable
+        private Endpoint selectEndpoint() {
+            final EndpointGroup endpointGroup = ctx.endpointGroup();
+            if (endpointGroup == null) {
+                return ctx.endpoint();
+            }
+
+            Endpoint selected = null;
+            for (int i = 0; i < MAX_ENDPOINT_SELECTION_ATTEMPTS; i++) {
+                final Endpoint endpoint = endpointGroup.selectNow(ctx);
+                if (endpoint == null) {
+                    // The EndpointGroup is not ready. The derived context will select an Endpoint
+                    // when it is initialized.
+                    return null;
+                }
+                if (!usedEndpoints.contains(endpoint)) {
+                    return endpoint;
+                }
+                if (selected == null) {
+                    selected = endpoint;
+                }
+            }
+            // The EndpointSelectionStrategy kept returning the Endpoints tried already.
+            for (Endpoint endpoint : endpointGroup.endpoints()) {
+                if (!usedEndpoints.contains(endpoint)) {
+                    return endpoint;
+                }
+            }
+            return selected;
+        }
+
+        /**
+         * Invoked by an {@link Attempt} when it is known whether the attempt is successful.
+         * This method may be invoked by any thread.
+         */
+        final void onAttemptComplete(Attempt attempt, boolean success) {
+            // Always execute later so that newAttempt() returns before its completion is handled.
+            eventLoop.execute(() -> handleAttemptComplete(attempt, success));
+        }
+
+        /**
+         * Aborts the request and cancels all attempts in flight. This method may be invoked by any thread.
+         */
+        final void abort(Throwable cause) {
+            if (eventLoop.inEventLoop()) {
+                abort0(cause);
+            } else {
+                eventLoop.execute(() -> abort0(cause));
+            }
+        }
+
+        private void startAttempt() {
+            if (completed) {
+                return;
+            }
+            final int attemptNo = numAttempts++;
+            final Attempt attempt;
+            try {
+                attempt = newAttempt(attemptNo);
+            } catch (Throwable cause) {
+                if (inFlightAttempts.isEmpty()) {
+                    abort0(cause);
+                } else {
+                    logger.warn("{} Failed to send a hedged attempt. Waiting for the other attempts.",
+                                ctx, cause);
+                }
+                return;
+            }
+            inFlightAttempts.add(attempt);
+            scheduleHedgedAttempt();
+        }
+
+        private void scheduleHedgedAttempt() {
+            if (numAttempts >= maxTotalAttempts) {
+                return;
+            }
+            hedgingTimer = eventLoop.schedule(this::sendHedgedAttempt, hedgingDelayNanos(),
+                                              TimeUnit.NANOSECONDS);
+        }
+
+        private void sendHedgedAttempt() {
+            hedgingTimer = null;
+            if (completed || !budget.tryAcquire()) {
+                // Keep waiting for the attempts in flight if the hedging budget has been exhausted.
+                return;
+            }
+            startAttempt();
+        }
+
+        private void handleAttemptComplete(Attempt attempt, boolean success) {
+            if (!inFlightAttempts.remove(attempt)) {
+                // The attempt has been cancelled already.
+                return;
+            }
+
+            if (success) {
+                latencyHistogram.record(System.nanoTime() - attempt.startNanos);
+                complete(attempt);
+                return;
+            }
+
+            if (!inFlightAttempts.isEmpty()) {
+                // One of the other attempts may still succeed.
+                attempt.discard();
+                return;
+            }
+
+            if (numAttempts < maxTotalAttempts && budget.tryAcquire()) {
+                // Send the next hedged attempt immediately rather than waiting for the hedging delay.
+                cancelHedgingTimer();
+                attempt.discard();
+                startAttempt();
+                return;
+            }
+
+            // All attempts failed. Return the response of the last attempt.
+            complete(attempt);
+        }
+
+        private void complete(Attempt winner) {
+            completed = true;
+            cancelHedgingTimer();
+            cancelInFlightAttempts();
+            ctx.logBuilder().endResponseWithChild(winner.ctx.log());
+            winner.complete();
+        }
+
+        private void abort0(Throwable cause) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            cancelHedgingTimer();
+            cancelInFlightAttempts();
+            final RequestLogBuilder logBuilder = ctx.logBuilder();
+            if (ctx.log().children().isEmpty()) {
+                logBuilder.endRequest(cause);
+            }
+            logBuilder.endResponse(cause);
+            onAbort(cause);
+        }
+
+        private void cancelHedgingTimer() {
+            if (hedgingTimer != null) {
+                hedgingTimer.cancel(false);
+                hedgingTimer = null;
+            }
+        }
+
+        private void cancelInFlightAttempts() {
+            for (Attempt attempt : inFlightAttempts) {
+                attempt.ctx.cancel();
+                attempt.discard();
+            }
+            inFlightAttempts.clear();
+        }
+    }
+
+    /**
+     * An attempt of a request.
+     */
+    abstract static class Attempt {
+
+        final ClientRequestContext ctx;
+        final long startNanos;
+
+        Attempt(ClientRequestContext ctx, long startNanos) {
+            this.ctx = ctx;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Completes the request with the response of this attempt.
+         */
+        abstract void complete();
+
+        /**
+         * Discards the response of this attempt.
+         */
+        abstract void discard();
+    }
+}
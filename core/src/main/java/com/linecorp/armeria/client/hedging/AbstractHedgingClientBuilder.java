@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.hedging;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.MoreObjects.ToStringHelper;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.Ticker;
+
+/**
+ * A skeletal builder implementation for {@link HedgingClient} and {@link HedgingRpcClient}.
+ *
+ * <h2>Hedging delay</h2>
+ *
+ * <p>A hedged attempt is sent when none of the attempts in flight succeeds within the hedging delay,
+ * which is the latency at the {@link #hedgingDelayPercentile(double)} of the successful attempts recorded
+ * within the {@link #latencyWindow(Duration)}. For example, with the default percentile of
+ * {@value #DEFAULT_HEDGING_DELAY_PERCENTILE}, roughly 5% of the requests are hedged when all
+ * {@link Endpoint}s are healthy, and a request stuck behind a slow {@link Endpoint} is hedged after the p95
+ * latency rather than after the response timeout. The {@link #initialHedgingDelay(Duration)} is used until
+ * {@link #minLatencySamples(int)} latencies have been recorded.
+ *
+ * <h2>Hedging budget</h2>
+ *
+ * <p>Sending more attempts when the backends are slow for everyone only makes things worse. The number of
+ * hedged attempts is limited by a token bucket which is refilled by {@code budgetRatio} tokens for each
+ * request and drained by one token for each hedged attempt. See {@link #budget(double, int)}.
+ */
+@UnstableApi
+public abstract class AbstractHedgingClientBuilder<SELF extends AbstractHedgingClientBuilder<SELF>> {
+
+    static final int DEFAULT_MAX_TOTAL_ATTEMPTS = 2;
+    static final double DEFAULT_HEDGING_DELAY_PERCENTILE = 0.95;
+    static final long DEFAULT_INITIAL_HEDGING_DELAY_MILLIS = 100;
+    static final long DEFAULT_LATENCY_WINDOW_SECONDS = 30;
+    static final int DEFAULT_MIN_LATENCY_SAMPLES = 100;
+    static final double DEFAULT_BUDGET_RATIO = 0.1;
+    static final int DEFAULT_MAX_BUDGET_TOKENS = 10;
+
+    private int maxTotalAttempts = DEFAULT_MAX_TOTAL_ATTEMPTS;
+    private double hedgingDelayPercentile = DEFAULT_HEDGING_DELAY_PERCENTILE;
+    private Duration initialHedgingDelay = Duration.ofMillis(DEFAULT_INITIAL_HEDGING_DELAY_MILLIS);
+    private Duration minHedgingDelay = Duration.ZERO;
+    private Duration latencyWindow = Duration.ofSeconds(DEFAULT_LATENCY_WINDOW_SECONDS);
+    private int minLatencySamples = DEFAULT_MIN_LATENCY_SAMPLES;
+    private double budgetRatio = DEFAULT_BUDGET_RATIO;
+    private int maxBudgetTokens = DEFAULT_MAX_BUDGET_TOKENS;
+    private Predicate<? super ClientRequestContext> hedgingPredicate;
+
+    AbstractHedgingClientBuilder(Predicate<? super ClientRequestContext> hedgingPredicate) {
+        this.hedgingPredicate = hedgingPredicate;
+    }
+
+    @SuppressWarnings("unchecked")
+    final SELF self() {
+        return (SELF) this;
+    }
+
+    /**
+     * Sets the maximum number of attempts of a request, including the initial attempt.
+     * If unspecified, {@value #DEFAULT_MAX_TOTAL_ATTEMPTS} is used, i.e. at most one hedged attempt is sent.
+     * {@code 1} disables hedging.
+     */
+    public SELF maxTotalAttempts(int maxTotalAttempts) {
+        checkArgument(maxTotalAttempts > 0, "maxTotalAttempts: %s (expected: > 0)", maxTotalAttempts);
+        this.maxTotalAttempts = maxTotalAttempts;
+        return self();
+    }
+
+    /**
+     * Sets the percentile of the recent latencies used as the hedging delay.
+     * If unspecified, {@value #DEFAULT_HEDGING_DELAY_PERCENTILE} is used.
+     */
+    public SELF hedgingDelayPercentile(double hedgingDelayPercentile) {
+        checkArgument(hedgingDelayPercentile > 0 && hedgingDelayPercentile <= 1,
+                      "hedgingDelayPercentile: %s (expected: 0 < hedgingDelayPercentile <= 1)",
+                      hedgingDelayPercentile);
+        this.hedgingDelayPercentile = hedgingDelayPercentile;
+        return self();
+    }
+
+    /**
+     * Sets the hedging delay used until {@link #minLatencySamples(int)} latencies have been recorded.
+     * If unspecified, {@value #DEFAULT_INITIAL_HEDGING_DELAY_MILLIS} milliseconds is used.
+     */
+    public SELF initialHedgingDelay(Duration initialHedgingDelay) {
+        requireNonNull(initialHedgingDelay, "initialHedgingDelay");
+        checkArgument(!initialHedgingDelay.isNegative(),
+                      "initialHedgingDelay: %s (expected: >= 0)", initialHedgingDelay);
+        this.initialHedgingDelay = initialHedgingDelay;
+        return self();
+    }
+
+    /**
+     * Sets the hedging delay in milliseconds used until {@link #minLatencySamples(int)} latencies have been
+     * recorded. If unspecified, {@value #DEFAULT_INITIAL_HEDGING_DELAY_MILLIS} milliseconds is used.
+     */
+    public SELF initialHedgingDelayMillis(long initialHedgingDelayMillis) {
+        checkArgument(initialHedgingDelayMillis >= 0,
+                      "initialHedgingDelayMillis: %s (expected: >= 0)", initialHedgingDelayMillis);
+        return initialHedgingDelay(Duration.ofMillis(initialHedgingDelayMillis));
+    }
+
+    /**
+     * Sets the lower bound of the hedging delay, which prevents from hedging every request when the recent
+     * latencies are very low. If unspecified, the hedging delay has no lower bound.
+     */
+    public SELF minHedgingDelay(Duration minHedgingDelay) {
+        requireNonNull(minHedgingDelay, "minHedgingDelay");
+        checkArgument(!minHedgingDelay.isNegative(), "minHedgingDelay: %s (expected: >= 0)", minHedgingDelay);
+        this.minHedgingDelay = minHedgingDelay;
+        return self();
+    }
+
+    /**
+     * Sets the lower bound of the hedging delay in milliseconds, which prevents from hedging every request
+     * when the recent latencies are very low. If unspecified, the hedging delay has no lower bound.
+     */
+    public SELF minHedgingDelayMillis(long minHedgingDelayMillis) {
+        checkArgument(minHedgingDelayMillis >= 0,
+                      "minHedgingDelayMillis: %s (expected: >= 0)", minHedgingDelayMillis);
+        return minHedgingDelay(Duration.ofMillis(minHedgingDelayMillis));
+    }
+
+    /**
+     * Sets the time window of the latencies the hedging delay is derived from.
+     * If unspecified, {@value #DEFAULT_LATENCY_WINDOW_SECONDS} seconds is used.
+     */
+    public SELF latencyWindow(Duration latencyWindow) {
+        requireNonNull(latencyWindow, "latencyWindow");
+        checkArgument(!latencyWindow.isNegative() && !latencyWindow.isZero(),
+                      "latencyWindow: %s (expected: > 0)", latencyWindow);
+        this.latencyWindow = latencyWindow;
+        return self();
+    }
+
+    /**
+     * Sets the minimum number of the latencies within the {@link #latencyWindow(Duration)} required to
+     * derive the hedging delay from them. If unspecified, {@value #DEFAULT_MIN_LATENCY_SAMPLES} is used.
+     */
+    public SELF minLatencySamples(int minLatencySamples) {
+        checkArgument(minLatencySamples > 0, "minLatencySamples: %s (expected: > 0)", minLatencySamples);
+        this.minLatencySamples = minLatencySamples;
+        return self();
+    }
+
+    /**
+     * Sets the hedging budget. Each request earns {@code budgetRatio} tokens up to {@code maxTokens} and
+     * each hedged attempt spends one token, so that the hedged attempts are limited to {@code budgetRatio}
+     * of the requests plus a burst of {@code maxTokens}. If unspecified, {@value #DEFAULT_BUDGET_RATIO} and
+     * {@value #DEFAULT_MAX_BUDGET_TOKENS} are used.
+     */
+    public SELF budget(double budgetRatio, int maxTokens) {
+        checkArgument(budgetRatio >= 0, "budgetRatio: %s (expected: >= 0)", budgetRatio);
+        checkArgument(maxTokens >= 0, "maxTokens: %s (expected: >= 0)", maxTokens);
+        this.budgetRatio = budgetRatio;
+        maxBudgetTokens = maxTokens;
+        return self();
+    }
+
+    /**
+     * Sets the {@link Predicate} which determines whether a request can be hedged. A request which is not
+     * safe to be processed more than once must not be hedged.
+     */
+    public SELF hedgingPredicate(Predicate<? super ClientRequestContext> hedgingPredicate) {
+        this.hedgingPredicate = requireNonNull(hedgingPredicate, "hedgingPredicate");
+        return self();
+    }
+
+    final int maxTotalAttempts() {
+        return maxTotalAttempts;
+    }
+
+    final long initialHedgingDelayNanos() {
+        return initialHedgingDelay.toNanos();
+    }
+
+    final long minHedgingDelayNanos() {
+        return minHedgingDelay.toNanos();
+    }
+
+    final Predicate<? super ClientRequestContext> hedgingPredicate() {
+        return hedgingPredicate;
+    }
+
+    final LatencyHistogram newLatencyHistogram() {
+        return new LatencyHistogram(Ticker.systemTicker(), latencyWindow.toNanos(),
+                                    minLatencySamples, hedgingDelayPercentile);
+    }
+
+    final HedgingBudget newBudget() {
+        return new HedgingBudget(budgetRatio, maxBudgetTokens);
+    }
+
+    final ToStringHelper toStringHelper() {
+        return MoreObjects.toStringHelper(this)
+                          .add("maxTotalAttempts", maxTotalAttempts)
+                          .add("hedgingDelayPercentile", hedgingDelayPercentile)
+                          .add("initialHedgingDelay", initialHedgingDelay)
+                          .add("minHedgingDelay", minHedgingDelay)
+                          .add("latencyWindow", latencyWindow)
+                          .add("minLatencySamples", minLatencySamples)
+                          .add("budgetRatio", budgetRatio)
+                          .add("maxBudgetTokens", maxBudgetTokens)
+                          .add("hedgingPredicate", hedgingPredicate);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A token bucket which limits the number of hedged attempts to a fraction of the requests, so that
+ * hedging does not overload the backends when they are slow for everyone.
+ *
+ * <p>The bucket starts full. Each request deposits {@code budgetRatio} tokens up to {@code maxTokens} and
+ * each hedged attempt withdraws one token. A hedged attempt is not sent when less than one token is left.
+ * Similarly to {@link com.linecorp.armeria.client.retry.RetryLimiter#tokenBased(int, int)}, the tokens are
+ * scaled by {@value #SCALE} to track the fractional deposits without floating point arithmetic.
+ */
+final class HedgingBudget {
+
+    static final int SCALE = 1000;
+
+    private final long maxTokens;
+    private final long tokensPerRequest;
+    private final AtomicLong tokens;
+
+    HedgingBudget(double budgetRatio, int maxTokens) {
+        this.maxTokens = (long) maxTokens * SCALE;
+        tokensPerRequest = Math.round(budgetRatio * SCALE);
+        tokens = new AtomicLong(this.maxTokens);
+    }
+
+    /**
+     * Deposits the tokens earned by a request.
+     */
+    void onRequest() {
+        for (;;) {
+            final long current = tokens.get();
+            if (current >= maxTokens) {
+                return;
+            }
+            final long next = Math.min(maxTokens, current + tokensPerRequest);
+            if (tokens.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Withdraws a token for a hedged attempt.
+     *
+     * @return {@code true} if a token was withdrawn, or {@code false} if the budget has been exhausted.
+     */
+    boolean tryAcquire() {
+        for (;;) {
+            final long current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("maxTokens", maxTokens / SCALE)
+                          .add("budgetRatio", (double) tokensPerRequest / SCALE)
+                          .add("tokens", (double) tokens.get() / SCALE)
+                          .toString();
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.hedging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.common.AggregationOptions;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestDuplicator;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.RequestHeadersBuilder;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.SplitHttpResponse;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLogBuilder;
+import com.linecorp.armeria.common.logging.RequestLogProperty;
+import com.linecorp.armeria.common.stream.AbortedStreamException;
+import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.internal.client.AggregatedHttpRequestDuplicator;
+
+/**
+ * An {@link HttpClient} decorator that sends a hedged attempt of an HTTP request to another
+ * {@link Endpoint} when the request is not responded within the hedging delay, so that a single slow
+ * {@link Endpoint} does not dictate the tail latency.
+ * <pre>{@code
+ * WebClient client =
+ *     WebClient.builder(endpointGroup)
+ *              .decorator(HedgingClient.builder()
+ *                                      .hedgingDelayPercentile(0.95)
+ *                                      .newDecorator())
+ *              .build();
+ * }</pre>
+ *
+ * <p>An attempt is regarded as successful when it receives non-{@code 5xx} response headers.
+ * The response of the first successful attempt is returned and the other attempts are cancelled.
+ * If an attempt fails while no other attempt is in flight, the next hedged attempt is sent immediately.
+ *
+ * <p>Every attempt is recorded as a child log of the {@link com.linecorp.armeria.common.logging.RequestLog}
+ * and the hedged attempts have the {@link #ARMERIA_HEDGING_ATTEMPT} header. The response of the request
+ * log is the one of the winning attempt.
+ *
+ * @see AbstractHedgingClientBuilder
+ */
+@UnstableApi
+public final class HedgingClient extends AbstractHedgingClient<HttpRequest, HttpResponse>
+        implements HttpClient {
+
+    /**
+     * Returns a new {@link HedgingClientBuilder}.
+     */
+    public static HedgingClientBuilder builder() {
+        return new HedgingClientBuilder();
+    }
+
+    /**
+     * Creates a new {@link HttpClient} decorator with the default hedging configuration.
+     */
+    public static Function<? super HttpClient, HedgingClient> newDecorator() {
+        return builder().newDecorator();
+    }
+
+    HedgingClient(HttpClient delegate, int maxTotalAttempts,
+                  long initialHedgingDelayNanos, long minHedgingDelayNanos,
+                  LatencyHistogram latencyHistogram, HedgingBudget budget,
+                  Predicate<? super ClientRequestContext> hedgingPredicate) {
+        super(delegate, maxTotalAttempts, initialHedgingDelayNanos, minHedgingDelayNanos,
+              latencyHistogram, budget, hedgingPredicate);
+    }
+
+    @Override
+    protected HttpResponse doExecute(ClientRequestContext ctx, HttpRequest req) throws Exception {
+        final CompletableFuture<HttpResponse> responseFuture = new CompletableFuture<>();
+        final HttpResponse res = HttpResponse.of(responseFuture, ctx.eventLoop());
+        if (ctx.exchangeType().isRequestStreaming()) {
+            final HttpRequestDuplicator reqDuplicator = req.toDuplicator(ctx.eventLoop().withoutContext(), 0);
+            new HttpExecution(ctx, reqDuplicator, req, res, responseFuture).start();
+        } else {
+            req.aggregate(AggregationOptions.usePooledObjects(ctx.alloc(), ctx.eventLoop()))
+               .handle((agg, cause) -> {
+                   if (cause != null) {
+                       responseFuture.completeExceptionally(cause);
+                       ctx.logBuilder().endRequest(cause);
+                       ctx.logBuilder().endResponse(cause);
+                   } else {
+                       final HttpRequestDuplicator reqDuplicator = new AggregatedHttpRequestDuplicator(agg);
+                       new HttpExecution(ctx, reqDuplicator, req, res, responseFuture).start();
+                   }
+                   return null;
+               });
+        }
+        return res;
+    }
+
+    private final class HttpExecution extends Execution {
+
+        private final HttpRequestDuplicator reqDuplicator;
+        private final HttpRequest originalReq;
+        private final CompletableFuture<HttpResponse> responseFuture;
+
+        HttpExecution(ClientRequestContext ctx, HttpRequestDuplicator reqDuplicator, HttpRequest originalReq,
+                      HttpResponse returnedRes, CompletableFuture<HttpResponse> responseFuture) {
+            super(ctx);
+            this.reqDuplicator = reqDuplicator;
+            this.originalReq = originalReq;
+            this.responseFuture = responseFuture;
+
+            // Stop hedging when the request or the response is aborted by the client.
+            originalReq.whenComplete().handle((unused, cause) -> {
+                if (cause != null) {
+                    abort(cause);
+                }
+                return null;
+            });
+            returnedRes.whenComplete().handle((unused, cause) -> {
+                // A no-op if the response has been completed with the winning attempt.
+                abort(cause != null ? cause : AbortedStreamException.get());
+                return null;
+            });
+        }
+
+        @Override
+        Attempt newAttempt(int attemptNo) {
+            final HttpRequest duplicateReq;
+            if (attemptNo == 0) {
+                duplicateReq = reqDuplicator.duplicate();
+            } else {
+                final RequestHeadersBuilder newHeaders = originalReq.headers().toBuilder();
+                newHeaders.setInt(ARMERIA_HEDGING_ATTEMPT, attemptNo);
+                duplicateReq = reqDuplicator.duplicate(newHeaders.build());
+            }
+
+            final ClientRequestContext derivedCtx =
+                    newAttemptContext(duplicateReq, ctx.rpcRequest(), attemptNo);
+            final HttpRequest ctxReq = derivedCtx.request();
+            assert ctxReq != null;
+            final long startNanos = System.nanoTime();
+            // tryCompleteLog is false because we handle it in completeLogIfBytesNotTransferred.
+            final HttpResponse response =
+                    executeAttempt(derivedCtx, ctxReq, attemptNo == 0, HttpResponse::of,
+                                   (context, cause) -> HttpResponse.ofFailure(cause), false);
+            final HttpAttempt attempt = new HttpAttempt(derivedCtx, startNanos, response);
+            attempt.subscribe();
+            return attempt;
+        }
+
+        @Override
+        void onAbort(Throwable cause) {
+            responseFuture.completeExceptionally(cause);
+            reqDuplicator.abort(cause);
+        }
+
+        private final class HttpAttempt extends Attempt {
+
+            private final HttpResponse response;
+            private final SplitHttpResponse splitResponse;
+            @Nullable
+            private Throwable responseCause;
+
+            HttpAttempt(ClientRequestContext ctx, long startNanos, HttpResponse response) {
+                super(ctx, startNanos);
+                this.response = response;
+                splitResponse = response.split();
+            }
+
+            void subscribe() {
+                splitResponse.headers().handle((headers, cause) -> {
+                    if (cause != null) {
+                        responseCause = Exceptions.peel(cause);
+                    }
+                    completeLogIfBytesNotTransferred(headers);
+                    onAttemptComplete(this, responseCause == null && isSuccess(headers));
+                    return null;
+                });
+            }
+
+            private void completeLogIfBytesNotTransferred(@Nullable ResponseHeaders headers) {
+                if (ctx.log().isAvailable(RequestLogProperty.REQUEST_FIRST_BYTES_TRANSFERRED_TIME)) {
+                    return;
+                }
+                final RequestLogBuilder logBuilder = ctx.logBuilder();
+                if (responseCause != null) {
+                    logBuilder.endRequest(responseCause);
+                    logBuilder.endResponse(responseCause);
+                    return;
+                }
+                logBuilder.endRequest();
+                if (headers != null) {
+                    logBuilder.responseHeaders(headers);
+                }
+                response.whenComplete().handle((unused, cause) -> {
+                    if (cause != null) {
+                        logBuilder.endResponse(cause);
+                    } else {
+                        logBuilder.endResponse();
+                    }
+                    return null;
+                });
+            }
+
+            @Override
+            void complete() {
+                if (responseCause != null) {
+                    responseFuture.complete(HttpResponse.ofFailure(responseCause));
+                } else {
+                    responseFuture.complete(splitResponse.unsplit());
+                }
+                reqDuplicator.close();
+            }
+
+            @Override
+            void discard() {
+                // Set response content with null to make sure that the log is complete.
+                final RequestLogBuilder logBuilder = ctx.logBuilder();
+                logBuilder.responseContent(null, null);
+                logBuilder.responseContentPreview(null);
+                response.abort();
+            }
+        }
+    }
+
+    private static boolean isSuccess(@Nullable ResponseHeaders headers) {
+        return headers != null && !headers.status().isServerError();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.hedging;
+
+import java.util.function.Function;
+
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * Builds a new {@link HedgingClient} or its decorator function.
+ * Only the requests with {@linkplain HttpMethod#idempotentMethods() idempotent methods} are hedged unless
+ * {@link #hedgingPredicate(java.util.function.Predicate)} is specified.
+ */
+@UnstableApi
+public final class HedgingClientBuilder extends AbstractHedgingClientBuilder<HedgingClientBuilder> {
+
+    HedgingClientBuilder() {
+        super(ctx -> HttpMethod.idempotentMethods().contains(ctx.method()));
+    }
+
+    /**
+     * Returns a newly-created {@link HedgingClient} based on the properties of this builder.
+     */
+    public HedgingClient build(HttpClient delegate) {
+        return new HedgingClient(delegate, maxTotalAttempts(), initialHedgingDelayNanos(),
+                                 minHedgingDelayNanos(), newLatencyHistogram(), newBudget(),
+                                 hedgingPredicate());
+    }
+
+    /**
+     * Returns a newly-created decorator that decorates an {@link HttpClient} with a new {@link HedgingClient}
+     * based on the properties of this builder. Note that the {@link HttpClient}s decorated by the returned
+     * decorator do not share the latency histogram and the hedging budget.
+     */
+    public Function<? super HttpClient, HedgingClient> newDecorator() {
+        return this::build;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper().toString();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.hedging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.RpcClient;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.RpcRequest;
+import com.linecorp.armeria.common.RpcResponse;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.internal.common.util.StringUtil;
+
+/**
+ * An {@link RpcClient} decorator that sends a hedged attempt of an RPC request to another
+ * {@link Endpoint} when the request is not responded within the hedging delay, so that a single slow
+ * {@link Endpoint} does not dictate the tail latency.
+ *
+ * <p>An attempt is regarded as successful when its {@link RpcResponse} is completed without an exception.
+ * The response of the first successful attempt is returned and the other attempts are cancelled.
+ * If an attempt fails while no other attempt is in flight, the next hedged attempt is sent immediately.
+ *
+ * <p>Every attempt is recorded as a child log of the {@link com.linecorp.armeria.common.logging.RequestLog}
+ * and the hedged attempts have the {@link #ARMERIA_HEDGING_ATTEMPT} header. The response of the request
+ * log is the one of the winning attempt.
+ *
+ * @see AbstractHedgingClientBuilder
+ */
+@UnstableApi
+public final class HedgingRpcClient extends AbstractHedgingClient<RpcRequest, RpcResponse>
+        implements RpcClient {
+
+    /**
+     * Returns a new {@link HedgingRpcClientBuilder}.
+     */
+    public static HedgingRpcClientBuilder builder() {
+        return new HedgingRpcClientBuilder();
+    }
+
+    /**
+     * Creates a new {@link RpcClient} decorator with the default hedging configuration.
+     */
+    public static Function<? super RpcClient, HedgingRpcClient> newDecorator() {
+        return builder().newDecorator();
+    }
+
+    HedgingRpcClient(RpcClient delegate, int maxTotalAttempts,
+                     long initialHedgingDelayNanos, long minHedgingDelayNanos,
+                     LatencyHistogram latencyHistogram, HedgingBudget budget,
+                     Predicate<? super ClientRequestContext> hedgingPredicate) {
+        super(delegate, maxTotalAttempts, initialHedgingDelayNanos, minHedgingDelayNanos,
+              latencyHistogram, budget, hedgingPredicate);
+    }
+
+    @Override
+    protected RpcResponse doExecute(ClientRequestContext ctx, RpcRequest req) throws Exception {
+        final CompletableFuture<RpcResponse> future = new CompletableFuture<>();
+        final RpcResponse res = RpcResponse.from(future);
+        new RpcExecution(ctx, req, res, future).start();
+        return res;
+    }
+
+    private final class RpcExecution extends Execution {
+
+        private final RpcRequest req;
+        private final CompletableFuture<RpcResponse> future;
+
+        RpcExecution(ClientRequestContext ctx, RpcRequest req, RpcResponse returnedRes,
+                     CompletableFuture<RpcResponse> future) {
+            super(ctx);
+            this.req = req;
+            this.future = future;
+
+            // Stop hedging when the response is cancelled by the client.
+            returnedRes.handle((unused, cause) -> {
+                if (cause != null) {
+                    abort(cause);
+                }
+                return null;
+            });
+        }
+
+        @Override
+        Attempt newAttempt(int attemptNo) {
+            final ClientRequestContext derivedCtx = newAttemptContext(null, req, attemptNo);
+            if (attemptNo > 0) {
+                derivedCtx.mutateAdditionalRequestHeaders(
+                        mutator -> mutator.add(ARMERIA_HEDGING_ATTEMPT, StringUtil.toString(attemptNo)));
+            }
+            final long startNanos = System.nanoTime();
+            final RpcResponse response =
+                    executeAttempt(derivedCtx, req, attemptNo == 0, RpcResponse::from,
+                                   (context, cause) -> RpcResponse.ofFailure(cause), true);
+            final RpcAttempt attempt = new RpcAttempt(derivedCtx, startNanos, response);
+            response.handle((unused, cause) -> {
+                onAttemptComplete(attempt, cause == null);
+                return null;
+            });
+            return attempt;
+        }
+
+        @Override
+        void onAbort(Throwable cause) {
+            future.completeExceptionally(cause);
+        }
+
+        private final class RpcAttempt extends Attempt {
+
+            private final RpcResponse response;
+
+            RpcAttempt(ClientRequestContext ctx, long startNanos, RpcResponse response) {
+                super(ctx, startNanos);
+                this.response = response;
+            }
+
+            @Override
+            void complete() {
+                final HttpRequest actualHttpReq = ctx.request();
+                if (actualHttpReq != null) {
+                    RpcExecution.this.ctx.updateRequest(actualHttpReq);
+                }
+                future.complete(response);
+            }
+
+            @Override
+            void discard() {
+                response.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.hedging;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.util.Ticker;
+
+/**
+ * A lock-free histogram of the recent response latencies, which is used to derive the hedging delay
+ * from a percentile of the latencies.
+ *
+ * <p>The latencies are recorded in microseconds into log-linear buckets, i.e. each power-of-two range is
+ * divided into {@value #SUB_BUCKET_COUNT} buckets, so a percentile is accurate to 12.5%.
+ * The histogram keeps the latencies of the current and the previous half windows, and the previous one is
+ * discarded whenever a new half window starts, so that a percentile reflects the latencies recorded within
+ * the last half to one {@code window}.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // The latencies less than this value are recorded into their own buckets.
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    private static final int LINEAR_LIMIT_EXPONENT = Integer.numberOfTrailingZeros(LINEAR_LIMIT);
+    // 2^40 microseconds is about 12 days, which is long enough for a response latency.
+    private static final int MAX_EXPONENT = 40;
+    static final int NUM_BUCKETS = LINEAR_LIMIT + (MAX_EXPONENT - LINEAR_LIMIT_EXPONENT + 1) * SUB_BUCKET_COUNT;
+
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Ticker ticker;
+    private final long halfWindowNanos;
+    private final int minSamples;
+    private final double percentile;
+    private final AtomicReference<Windows> windows;
+
+    private volatile long cachedAtNanos;
+    private volatile long cachedPercentileNanos = -1;
+
+    LatencyHistogram(Ticker ticker, long windowNanos, int minSamples, double percentile) {
+        this.ticker = requireNonNull(ticker, "ticker");
+        halfWindowNanos = Math.max(1, windowNanos / 2);
+        this.minSamples = minSamples;
+        this.percentile = percentile;
+        cachedAtNanos = ticker.read() - REFRESH_INTERVAL_NANOS;
+        windows = new AtomicReference<>(new Windows(new Window(), new Window(), ticker.read()));
+    }
+
+    /**
+     * Records the specified latency.
+     */
+    void record(long latencyNanos) {
+        final long latencyMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, latencyNanos));
+        currentWindows(ticker.read()).current.record(bucketIndex(latencyMicros));
+    }
+
+    /**
+     * Returns the latency at the {@code percentile} in nanoseconds, or {@code -1} if less than
+     * {@code minSamples} latencies have been recorded within the window.
+     * The returned value is cached for a short while to avoid scanning the buckets on every request.
+     */
+    long percentileNanos() {
+        final long now = ticker.read();
+        if (now - cachedAtNanos < REFRESH_INTERVAL_NANOS) {
+            return cachedPercentileNanos;
+        }
+        final long percentileNanos = computePercentileNanos(now);
+        cachedPercentileNanos = percentileNanos;
+        cachedAtNanos = now;
+        return percentileNanos;
+    }
+
+    private long computePercentileNanos(long now) {
+        final Windows windows = currentWindows(now);
+        final Window previous = windows.previous;
+        final Window current = windows.current;
+        final long numSamples = previous.numSamples.get() + current.numSamples.get();
+        if (numSamples < minSamples || numSamples == 0) {
+            return -1;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(numSamples * percentile));
+        long count = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            count += previous.counts.get(i) + current.counts.get(i);
+            if (count >= rank) {
+                return TimeUnit.MICROSECONDS.toNanos(bucketUpperBound(i));
+            }
+        }
+        // The samples were recorded while scanning the buckets.
+        return TimeUnit.MICROSECONDS.toNanos(bucketUpperBound(NUM_BUCKETS - 1));
+    }
+
+    private Windows currentWindows(long now) {
+        for (;;) {
+            final Windows windows = this.windows.get();
+            final long elapsedNanos = now - windows.startNanos;
+            if (elapsedNanos < halfWindowNanos) {
+                return windows;
+            }
+
+            final Windows newWindows;
+            if (elapsedNanos < halfWindowNanos << 1) {
+                newWindows = new Windows(windows.current, new Window(), windows.startNanos + halfWindowNanos);
+            } else {
+                // No latencies were recorded for more than a window.
+                newWindows = new Windows(new Window(), new Window(), now);
+            }
+            if (this.windows.compareAndSet(windows, newWindows)) {
+                return newWindows;
+            }
+        }
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return NUM_BUCKETS - 1;
+        }
+        final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_LIMIT_EXPONENT) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest latency in microseconds which is recorded into the bucket at the specified index.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        final int exponent = LINEAR_LIMIT_EXPONENT + (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT;
+        final int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        final Windows windows = this.windows.get();
+        return MoreObjects.toStringHelper(this)
+                          .add("window", TimeUnit.NANOSECONDS.toMillis(halfWindowNanos << 1) + "ms")
+                          .add("minSamples", minSamples)
+                          .add("percentile", percentile)
+                          .add("numSamples", windows.previous.numSamples.get() +
+                                             windows.current.numSamples.get())
+                          .toString();
+    }
+
+    private static final class Windows {
+        final Window previous;
+        final Window current;
+        final long startNanos;
+
+        Windows(Window previous, Window current, long startNanos) {
+            this.previous = previous;
+            this.current = current;
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class Window {
+        final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+        final AtomicLong numSamples = new AtomicLong();
+
+        void record(int bucketIndex) {
+            counts.incrementAndGet(bucketIndex);
+            numSamples.incrementAndGet();
+        }
+    }
+}
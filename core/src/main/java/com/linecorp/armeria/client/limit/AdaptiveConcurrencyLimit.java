@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.limit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.ResponseTimeoutException;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.SafeCloseable;
+import com.linecorp.armeria.internal.common.util.ReentrantShortLock;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A {@link ConcurrencyLimit} which adjusts its limit from the round-trip time of the requests.
+ * See {@link AdaptiveConcurrencyLimitBuilder} for the algorithm.
+ *
+ * <p>Permits are acquired from a {@link DefaultConcurrencyLimit} which reads the volatile {@link #limit},
+ * so the acquisition path is lock-free. Only the completion of a request, which records a sample into
+ * the current window, takes a short lock.
+ */
+final class AdaptiveConcurrencyLimit implements ConcurrencyLimit {
+
+    // The number of sample windows the long-term round-trip time is averaged over.
+    private static final int LONG_RTT_WINDOWS = 20;
+    private static final double LONG_RTT_ALPHA = 2.0 / (LONG_RTT_WINDOWS + 1);
+
+    private final Predicate<? super ClientRequestContext> predicate;
+    private final DefaultConcurrencyLimit delegate;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final long sampleWindowNanos;
+    private final int minSamplesPerWindow;
+
+    private volatile int limit;
+
+    private final ReentrantLock lock = new ReentrantShortLock();
+    // The states below are guarded by the lock.
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowStartNanos;
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    AdaptiveConcurrencyLimit(Predicate<? super ClientRequestContext> predicate, int initialLimit,
+                             int minLimit, int maxLimit, double rttTolerance, double smoothing,
+                             double backoffRatio, long sampleWindowMillis, int minSamplesPerWindow,
+                             int maxPendingAcquisitions, long timeoutMillis,
+                             MeterRegistry meterRegistry, MeterIdPrefix meterIdPrefix) {
+        this.predicate = predicate;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        sampleWindowNanos = TimeUnit.MILLISECONDS.toNanos(sampleWindowMillis);
+        this.minSamplesPerWindow = minSamplesPerWindow;
+        limit = initialLimit;
+        estimatedLimit = initialLimit;
+        windowStartNanos = System.nanoTime();
+        // The predicate is evaluated by this class to record the samples only for the limited requests.
+        delegate = new DefaultConcurrencyLimit(ctx -> true, () -> limit,
+                                               maxPendingAcquisitions, timeoutMillis);
+
+        Gauge.builder(meterIdPrefix.name("limit"), this, AdaptiveConcurrencyLimit::limit)
+             .tags(meterIdPrefix.tags())
+             .register(meterRegistry);
+        Gauge.builder(meterIdPrefix.name("in.flight"), delegate, DefaultConcurrencyLimit::acquiredPermits)
+             .tags(meterIdPrefix.tags())
+             .register(meterRegistry);
+    }
+
+    @VisibleForTesting
+    int limit() {
+        return limit;
+    }
+
+    @VisibleForTesting
+    int acquiredPermits() {
+        return delegate.acquiredPermits();
+    }
+
+    @Override
+    public CompletableFuture<SafeCloseable> acquire(ClientRequestContext ctx) {
+        if (!predicate.test(ctx)) {
+            return ConcurrencyLimitBuilder.noLimitFuture;
+        }
+
+        final CompletableFuture<SafeCloseable> future = delegate.acquire(ctx);
+        if (future.isDone()) {
+            if (!future.isCompletedExceptionally()) {
+                onAcquired(ctx);
+            }
+            return future;
+        }
+        return future.thenApply(permit -> {
+            onAcquired(ctx);
+            return permit;
+        });
+    }
+
+    private void onAcquired(ClientRequestContext ctx) {
+        // Measure from the acquisition so that the time spent in the pending queue is not counted.
+        final long acquiredNanos = System.nanoTime();
+        final int inFlight = delegate.acquiredPermits();
+        ctx.log().whenComplete().thenAccept(log -> onComplete(log, acquiredNanos, inFlight));
+    }
+
+    private void onComplete(RequestLog log, long acquiredNanos, int inFlight) {
+        final Throwable responseCause = log.responseCause();
+        final boolean dropped = responseCause instanceof ResponseTimeoutException;
+        if (responseCause != null && !dropped) {
+            // A request which failed for other reasons, e.g. a connection failure, tells nothing about
+            // the capacity of the server.
+            return;
+        }
+
+        final long rttNanos = log.responseEndTimeNanos() - acquiredNanos;
+        lock.lock();
+        try {
+            windowRttSumNanos += rttNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+            windowDropped |= dropped;
+
+            final long now = System.nanoTime();
+            if (windowSamples < minSamplesPerWindow || now - windowStartNanos < sampleWindowNanos) {
+                return;
+            }
+            updateLimit((double) windowRttSumNanos / windowSamples, windowMaxInFlight, windowDropped);
+            windowStartNanos = now;
+            windowRttSumNanos = 0;
+            windowSamples = 0;
+            windowMaxInFlight = 0;
+            windowDropped = false;
+        } finally {
+            lock.unlock();
+        }
+        // Permits may be available now if the limit increased.
+        delegate.drain();
+    }
+
+    private void updateLimit(double shortRttNanos, int maxInFlight, boolean dropped) {
+        final double newLimit;
+        if (dropped) {
+            newLimit = estimatedLimit * backoffRatio;
+        } else {
+            if (longRttNanos == 0) {
+                longRttNanos = shortRttNanos;
+            } else {
+                longRttNanos += (shortRttNanos - longRttNanos) * LONG_RTT_ALPHA;
+            }
+            // The long-term round-trip time is too high to recover from a latency spike in time.
+            // Decay it faster while the recent round-trip time is much lower.
+            if (longRttNanos / shortRttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+
+            final double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRttNanos));
+            final double queueSize = Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * (1 - smoothing) + (estimatedLimit * gradient + queueSize) * smoothing;
+            if (newLimit > estimatedLimit && maxInFlight < estimatedLimit / 2) {
+                // The client does not use the limit, so the round-trip time does not tell whether
+                // the server has more capacity.
+                return;
+            }
+        }
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("limit", limit)
+                          .add("minLimit", minLimit)
+                          .add("maxLimit", maxLimit)
+                          .add("rttTolerance", rttTolerance)
+                          .add("smoothing", smoothing)
+                          .add("backoffRatio", backoffRatio)
+                          .add("delegate", delegate)
+                          .toString();
+    }
+}
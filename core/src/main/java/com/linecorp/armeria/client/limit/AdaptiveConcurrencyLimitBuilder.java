@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.limit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.linecorp.armeria.client.limit.ConcurrencyLimitBuilder.DEFAULT_MAX_PENDING_ACQUIRES;
+import static com.linecorp.armeria.client.limit.ConcurrencyLimitBuilder.DEFAULT_TIMEOUT_MILLIS;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.ResponseTimeoutException;
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Builds a {@link ConcurrencyLimit} which adjusts its limit continuously from the round-trip time of
+ * the requests recorded in {@link RequestLog}.
+ *
+ * <p>The requests completed in a sample window are aggregated into the average round-trip time, which is
+ * compared with the long-term average round-trip time. The limit decreases when the recent round-trip time
+ * is greater than the long-term one by more than the {@linkplain #rttTolerance(double) tolerance}, which
+ * means that the requests are queued up in the server. Otherwise, the limit increases by the square root
+ * of the current limit. The limit decreases by {@linkplain #backoffRatio(double) the backoff ratio} if
+ * a request failed with a {@link ResponseTimeoutException} in the sample window.
+ *
+ * <p>The limit does not increase if the number of in-flight requests is less than the half of the limit
+ * because the round-trip time does not tell anything about the unused capacity.
+ */
+@UnstableApi
+public final class AdaptiveConcurrencyLimitBuilder {
+
+    static final int DEFAULT_INITIAL_LIMIT = 20;
+    static final int DEFAULT_MIN_LIMIT = 1;
+    static final int DEFAULT_MAX_LIMIT = 1000;
+    static final double DEFAULT_RTT_TOLERANCE = 1.5;
+    static final double DEFAULT_SMOOTHING = 0.2;
+    static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    static final long DEFAULT_SAMPLE_WINDOW_MILLIS = 1000;
+    static final int DEFAULT_MIN_SAMPLES_PER_WINDOW = 10;
+    static final MeterIdPrefix DEFAULT_METER_ID_PREFIX = new MeterIdPrefix("armeria.client.concurrency");
+
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double rttTolerance = DEFAULT_RTT_TOLERANCE;
+    private double smoothing = DEFAULT_SMOOTHING;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private long sampleWindowMillis = DEFAULT_SAMPLE_WINDOW_MILLIS;
+    private int minSamplesPerWindow = DEFAULT_MIN_SAMPLES_PER_WINDOW;
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private int maxPendingAcquisitions = DEFAULT_MAX_PENDING_ACQUIRES;
+    private Predicate<? super ClientRequestContext> predicate = requestContext -> true;
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    private MeterIdPrefix meterIdPrefix = DEFAULT_METER_ID_PREFIX;
+
+    AdaptiveConcurrencyLimitBuilder() {}
+
+    /**
+     * Sets the limit which is used until the first sample window is completed.
+     * If unspecified, {@value #DEFAULT_INITIAL_LIMIT} is used.
+     */
+    public AdaptiveConcurrencyLimitBuilder initialLimit(int initialLimit) {
+        checkArgument(initialLimit > 0, "initialLimit: %s (expected: > 0)", initialLimit);
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    /**
+     * Sets the minimum and maximum of the limit. If unspecified, {@value #DEFAULT_MIN_LIMIT} and
+     * {@value #DEFAULT_MAX_LIMIT} are used respectively.
+     */
+    public AdaptiveConcurrencyLimitBuilder limitRange(int minLimit, int maxLimit) {
+        checkArgument(minLimit > 0 && minLimit <= maxLimit,
+                      "minLimit: %s, maxLimit: %s (expected: 0 < minLimit <= maxLimit)", minLimit, maxLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Sets the ratio of the recent round-trip time to the long-term round-trip time which is tolerated
+     * without decreasing the limit. A greater value makes the limit less sensitive to the latency increase.
+     * If unspecified, {@value #DEFAULT_RTT_TOLERANCE} is used.
+     */
+    public AdaptiveConcurrencyLimitBuilder rttTolerance(double rttTolerance) {
+        checkArgument(rttTolerance >= 1.0, "rttTolerance: %s (expected: >= 1.0)", rttTolerance);
+        this.rttTolerance = rttTolerance;
+        return this;
+    }
+
+    /**
+     * Sets the weight of a new limit when it is merged into the current limit. A smaller value makes
+     * the limit change slowly. If unspecified, {@value #DEFAULT_SMOOTHING} is used.
+     */
+    public AdaptiveConcurrencyLimitBuilder smoothing(double smoothing) {
+        checkArgument(smoothing > 0 && smoothing <= 1.0, "smoothing: %s (expected: 0 < smoothing <= 1.0)",
+                      smoothing);
+        this.smoothing = smoothing;
+        return this;
+    }
+
+    /**
+     * Sets the ratio that the limit is multiplied by when a request timed out in a sample window.
+     * If unspecified, {@value #DEFAULT_BACKOFF_RATIO} is used.
+     */
+    public AdaptiveConcurrencyLimitBuilder backoffRatio(double backoffRatio) {
+        checkArgument(backoffRatio > 0 && backoffRatio < 1.0,
+                      "backoffRatio: %s (expected: 0 < backoffRatio < 1.0)", backoffRatio);
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * Sets the minimum duration and the minimum number of samples of a sample window. The limit is updated
+     * when both of them are satisfied. If unspecified, {@value #DEFAULT_SAMPLE_WINDOW_MILLIS} milliseconds
+     * and {@value #DEFAULT_MIN_SAMPLES_PER_WINDOW} samples are used.
+     */
+    public AdaptiveConcurrencyLimitBuilder sampleWindow(Duration sampleWindow, int minSamplesPerWindow) {
+        requireNonNull(sampleWindow, "sampleWindow");
+        checkArgument(!sampleWindow.isNegative(), "sampleWindow: %s (expected: >= 0)", sampleWindow);
+        checkArgument(minSamplesPerWindow > 0, "minSamplesPerWindow: %s (expected: > 0)",
+                      minSamplesPerWindow);
+        sampleWindowMillis = sampleWindow.toMillis();
+        this.minSamplesPerWindow = minSamplesPerWindow;
+        return this;
+    }
+
+    /**
+     * Sets the amount of time until this decorator fails the request if the request was not
+     * delegated to the {@code delegate} before then.
+     */
+    public AdaptiveConcurrencyLimitBuilder timeoutMillis(long timeoutMillis) {
+        checkArgument(timeoutMillis >= 0, "timeout: %s (expected: >= 0)", timeoutMillis);
+        this.timeoutMillis = timeoutMillis;
+        return this;
+    }
+
+    /**
+     * Sets the amount of time until this decorator fails the request if the request was not
+     * delegated to the {@code delegate} before then.
+     */
+    public AdaptiveConcurrencyLimitBuilder timeout(Duration timeout) {
+        requireNonNull(timeout, "timeout");
+        timeoutMillis(timeout.toMillis());
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pending acquisition. The {@link CompletableFuture} returned by
+     * {@link ConcurrencyLimit#acquire(ClientRequestContext)} will be exceptionally complete with an
+     * {@link TooManyPendingAcquisitionsException} if the pending exceeds this value.
+     */
+    public AdaptiveConcurrencyLimitBuilder maxPendingAcquisitions(int maxPendingAcquisitions) {
+        checkArgument(maxPendingAcquisitions >= 0,
+                      "maxPendingAcquisitions: %s (expected: >= 0)", maxPendingAcquisitions);
+        this.maxPendingAcquisitions = maxPendingAcquisitions;
+        return this;
+    }
+
+    /**
+     * Sets the {@link Predicate} for which to apply the concurrency limit.
+     */
+    public AdaptiveConcurrencyLimitBuilder predicate(Predicate<? super ClientRequestContext> predicate) {
+        this.predicate = requireNonNull(predicate, "predicate");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} where the current limit and the number of in-flight requests are
+     * exported. If unspecified, {@link Flags#meterRegistry()} is used.
+     */
+    public AdaptiveConcurrencyLimitBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the following gauges.
+     * If unspecified, {@code "armeria.client.concurrency"} is used.
+     * <table>
+     * <caption>Gauges</caption>
+     * <tr>
+     *   <th>gauge name</th>
+     *   <th>description</th>
+     * </tr>
+     * <tr>
+     *   <td>{@code <name>.limit}</td>
+     *   <td>The current concurrency limit.</td>
+     * </tr>
+     * <tr>
+     *   <td>{@code <name>.in.flight}</td>
+     *   <td>The number of requests which acquired a permit.</td>
+     * </tr>
+     * </table>
+     */
+    public AdaptiveConcurrencyLimitBuilder meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created adaptive {@link ConcurrencyLimit} based on the properties of this builder.
+     */
+    public ConcurrencyLimit build() {
+        checkArgument(initialLimit >= minLimit && initialLimit <= maxLimit,
+                      "initialLimit: %s (expected: %s <= initialLimit <= %s)",
+                      initialLimit, minLimit, maxLimit);
+        return new AdaptiveConcurrencyLimit(predicate, initialLimit, minLimit, maxLimit, rttTolerance,
+                                            smoothing, backoffRatio, sampleWindowMillis, minSamplesPerWindow,
+                                            maxPendingAcquisitions, timeoutMillis,
+                                            meterRegistry, meterIdPrefix);
+    }
+}
@@ -116,6 +116,36 @@ public interface ConcurrencyLimit {
         return new ConcurrencyLimitBuilder(maxConcurrency);
     }
 
+    /**
+     * Returns a newly-created {@link ConcurrencyLimit} which adjusts its limit continuously from
+     * the round-trip time of the requests, with the default settings of
+     * {@link AdaptiveConcurrencyLimitBuilder}.
+     */
+    @UnstableApi
+    static ConcurrencyLimit ofAdaptive() {
+        return adaptiveBuilder().build();
+    }
+
+    /**
+     * Returns a new {@link AdaptiveConcurrencyLimitBuilder} which builds a {@link ConcurrencyLimit} that
+     * adjusts its limit continuously from the round-trip time of the requests. For example:
+     * <pre>{@code
+     * ConcurrencyLimit limit =
+     *     ConcurrencyLimit.adaptiveBuilder()
+     *                     .initialLimit(50)
+     *                     .limitRange(10, 500)
+     *                     .meterIdPrefix(new MeterIdPrefix("my.backend.concurrency"))
+     *                     .build();
+     * WebClient.builder(...)
+     *          .decorator(ConcurrencyLimitingClient.newDecorator(limit))
+     *          ...
+     * }</pre>
+     */
+    @UnstableApi
+    static AdaptiveConcurrencyLimitBuilder adaptiveBuilder() {
+        return new AdaptiveConcurrencyLimitBuilder();
+    }
+
     /**
      * Acquires a {@link SafeCloseable} that allows you to execute a job under the limit.
      * The {@link SafeCloseable} must be closed after the job is done:
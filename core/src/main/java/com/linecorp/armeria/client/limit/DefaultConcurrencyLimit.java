@@ -63,7 +63,6 @@ final class DefaultConcurrencyLimit implements ConcurrencyLimit {
         this.timeoutMillis = timeoutMillis;
     }
 
-    @VisibleForTesting
     int acquiredPermits() {
         return acquiredPermits.get();
     }
@@ -54,8 +54,10 @@ import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.logging.RequestLogProperty;
 import com.linecorp.armeria.common.stream.ByteStreamMessage;
 import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
 import com.linecorp.armeria.common.websocket.WebSocket;
 import com.linecorp.armeria.internal.common.DefaultSplitHttpResponse;
+import com.linecorp.armeria.internal.common.websocket.PerMessageDeflate;
 import com.linecorp.armeria.internal.common.websocket.WebSocketFrameEncoder;
 import com.linecorp.armeria.internal.common.websocket.WebSocketWrapper;
 
@@ -75,10 +77,15 @@ final class DefaultWebSocketClient implements WebSocketClient {
     private final boolean aggregateContinuation;
     @Nullable
     private final Duration streamTimeout;
+    @Nullable
+    private final PerMessageDeflateConfig perMessageDeflateConfig;
+    @Nullable
+    private final String perMessageDeflateOffer;
 
     DefaultWebSocketClient(WebClient webClient, @Nullable Duration streamTimeout, int maxFramePayloadLength,
                            boolean allowMaskMismatch, List<String> subprotocols,
-                           boolean aggregateContinuation) {
+                           boolean aggregateContinuation,
+                           @Nullable PerMessageDeflateConfig perMessageDeflateConfig) {
         this.webClient = webClient;
         this.streamTimeout = streamTimeout;
         this.maxFramePayloadLength = maxFramePayloadLength;
@@ -90,6 +97,12 @@ final class DefaultWebSocketClient implements WebSocketClient {
             joinedSubprotocols = "";
         }
         this.aggregateContinuation = aggregateContinuation;
+        this.perMessageDeflateConfig = perMessageDeflateConfig;
+        if (perMessageDeflateConfig != null) {
+            perMessageDeflateOffer = PerMessageDeflate.offer(perMessageDeflateConfig);
+        } else {
+            perMessageDeflateOffer = null;
+        }
     }
 
     @Override
@@ -127,14 +140,36 @@ final class DefaultWebSocketClient implements WebSocketClient {
                 return null;
             }
 
+            PerMessageDeflate perMessageDeflate = null;
+            final String extensions = responseHeaders.get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS);
+            // Handle the response only if the offer was not overridden by the user.
+            if (extensions != null && perMessageDeflateOffer != null &&
+                perMessageDeflateOffer.equals(requestHeaders.get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS))) {
+                assert perMessageDeflateConfig != null;
+                try {
+                    perMessageDeflate = PerMessageDeflate.accept(perMessageDeflateConfig, extensions);
+                } catch (IllegalArgumentException e) {
+                    fail(outboundFuture, split.body(), result, new WebSocketClientHandshakeException(
+                            "invalid " + HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS + " header: " +
+                            extensions + " (" + e.getMessage() + ')', responseHeaders));
+                    return null;
+                }
+            }
+
             final WebSocketClientFrameDecoder decoder =
                     new WebSocketClientFrameDecoder(ctx, maxFramePayloadLength, allowMaskMismatch,
-                                                    aggregateContinuation);
+                                                    aggregateContinuation,
+                                                    perMessageDeflate != null ? perMessageDeflate.newDecoder()
+                                                                              : null);
             final WebSocketWrapper baseInbound =
                     new WebSocketWrapper(split.body().decode(decoder, ctx.alloc()));
             final WebSocket inbound = streamTimeout != null ? baseInbound.timeout(streamTimeout) : baseInbound;
 
-            result.complete(new WebSocketSession(ctx, responseHeaders, inbound, outboundFuture, encoder));
+            // A new encoder is created for each session because it holds the compression context.
+            final WebSocketFrameEncoder sessionEncoder =
+                    perMessageDeflate != null ? perMessageDeflate.newEncoder(true) : encoder;
+            result.complete(new WebSocketSession(ctx, responseHeaders, inbound, outboundFuture,
+                                                 sessionEncoder));
             return null;
         });
         return result;
@@ -163,6 +198,9 @@ final class DefaultWebSocketClient implements WebSocketClient {
         if (!builder.contains(HttpHeaderNames.SEC_WEBSOCKET_PROTOCOL) && !subprotocols.isEmpty()) {
             builder.set(HttpHeaderNames.SEC_WEBSOCKET_PROTOCOL, joinedSubprotocols);
         }
+        if (!builder.contains(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS) && perMessageDeflateOffer != null) {
+            builder.set(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS, perMessageDeflateOffer);
+        }
 
         return builder.build();
     }
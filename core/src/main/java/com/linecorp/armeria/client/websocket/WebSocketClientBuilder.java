@@ -66,6 +66,7 @@ import com.linecorp.armeria.common.auth.OAuth1aToken;
 import com.linecorp.armeria.common.auth.OAuth2Token;
 import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.common.stream.StreamTimeoutMode;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
 import com.linecorp.armeria.common.websocket.WebSocketFrameType;
 import com.linecorp.armeria.common.websocket.WebSocketIdleTimeoutException;
 
@@ -90,6 +91,8 @@ public final class WebSocketClientBuilder extends AbstractWebClientBuilder {
     private boolean aggregateContinuation;
     @Nullable
     private Duration streamTimeout;
+    @Nullable
+    private PerMessageDeflateConfig perMessageDeflateConfig;
 
     WebSocketClientBuilder(URI uri) {
         super(validateUri(requireNonNull(uri, "uri")), null, null, null);
@@ -236,13 +239,33 @@ public final class WebSocketClientBuilder extends AbstractWebClientBuilder {
         return this;
     }
 
+    /**
+     * Sets whether to offer the <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a>
+     * extension to the server with {@link PerMessageDeflateConfig#ofDefault()}.
+     * It's disabled by default.
+     */
+    public WebSocketClientBuilder perMessageDeflate(boolean enabled) {
+        perMessageDeflateConfig = enabled ? PerMessageDeflateConfig.ofDefault() : null;
+        return this;
+    }
+
+    /**
+     * Sets the {@link PerMessageDeflateConfig} to offer the
+     * <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a> extension to the server.
+     * The payloads of the messages are compressed only when the server accepts the offer.
+     */
+    public WebSocketClientBuilder perMessageDeflate(PerMessageDeflateConfig perMessageDeflateConfig) {
+        this.perMessageDeflateConfig = requireNonNull(perMessageDeflateConfig, "perMessageDeflateConfig");
+        return this;
+    }
+
     /**
      * Returns a newly-created {@link WebSocketClient} based on the properties of this builder.
      */
     public WebSocketClient build() {
         final WebClient webClient = buildWebClient();
         return new DefaultWebSocketClient(webClient, streamTimeout, maxFramePayloadLength, allowMaskMismatch,
-                                          subprotocols, aggregateContinuation);
+                                          subprotocols, aggregateContinuation, perMessageDeflateConfig);
     }
 
     // Override the return type of the chaining methods in the superclass.
@@ -16,7 +16,9 @@
 package com.linecorp.armeria.client.websocket;
 
 import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.internal.client.websocket.WebSocketClientUtil;
+import com.linecorp.armeria.internal.common.websocket.PerMessageDeflateDecoder;
 import com.linecorp.armeria.internal.common.websocket.WebSocketFrameDecoder;
 
 final class WebSocketClientFrameDecoder extends WebSocketFrameDecoder {
@@ -24,8 +26,9 @@ final class WebSocketClientFrameDecoder extends WebSocketFrameDecoder {
     private final ClientRequestContext ctx;
 
     WebSocketClientFrameDecoder(ClientRequestContext ctx, int maxFramePayloadLength,
-                                boolean allowMaskMismatch, boolean aggregateContinuation) {
-        super(maxFramePayloadLength, allowMaskMismatch, aggregateContinuation);
+                                boolean allowMaskMismatch, boolean aggregateContinuation,
+                                @Nullable PerMessageDeflateDecoder deflateDecoder) {
+        super(maxFramePayloadLength, allowMaskMismatch, aggregateContinuation, deflateDecoder);
         this.ctx = ctx;
     }
 
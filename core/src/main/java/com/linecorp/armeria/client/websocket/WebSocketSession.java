@@ -146,6 +146,11 @@ public final class WebSocketSession {
             data.abort();
             throw new IllegalStateException("outbound() or setOutbound() has been already called.");
         }
+        // Release the compression context, if any, in the event loop which encodes the frames.
+        data.whenComplete().handleAsync((unused1, unused2) -> {
+            encoder.close();
+            return null;
+        }, ctx.eventLoop());
 
         inbound.whenComplete().exceptionally(cause -> {
             final Throwable wrapped;
@@ -537,4 +537,9 @@ final class DefaultFlagsProvider implements FlagsProvider {
     public Boolean annotatedServiceContentLogging() {
         return true;
     }
+
+    @Override
+    public Boolean internHttp2Headers() {
+        return false;
+    }
 }
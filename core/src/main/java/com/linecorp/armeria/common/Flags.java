@@ -461,6 +461,9 @@ public final class Flags {
     private static final boolean ANNOTATED_SERVICE_CONTENT_LOGGING =
             getValue(FlagsProvider::annotatedServiceContentLogging, "annotatedServiceContentLogging");
 
+    private static final boolean INTERN_HTTP2_HEADERS =
+            getValue(FlagsProvider::internHttp2Headers, "internHttp2Headers");
+
     /**
      * Returns the specification of the {@link Sampler} that determines whether to retain the stack
      * trace of the exceptions that are thrown frequently by Armeria. A sampled exception will have the stack
@@ -1728,6 +1731,21 @@ public final class Flags {
         return ANNOTATED_SERVICE_CONTENT_LOGGING;
     }
 
+    /**
+     * Returns whether to map the HTTP/2 header names and values decoded by HPACK to the shared instances
+     * in a bounded intern table, so that the header fields repeated across streams, such as
+     * {@code :authority}, {@code content-type} and {@code user-agent}, do not allocate a new {@link String}
+     * for every stream. Unlike {@link #headerValueCacheSpec()}, all header fields except {@code :path} and
+     * the credentials are interned.
+     *
+     * <p>This flag is disabled by default. Specify the
+     * {@code -Dcom.linecorp.armeria.internHttp2Headers=true} JVM option to enable it.
+     */
+    @UnstableApi
+    public static boolean internHttp2Headers() {
+        return INTERN_HTTP2_HEADERS;
+    }
+
     @Nullable
     private static String nullableCaffeineSpec(Function<FlagsProvider, String> method, String flagName) {
         return caffeineSpec(method, flagName, true);
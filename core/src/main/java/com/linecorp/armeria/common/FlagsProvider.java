@@ -1290,4 +1290,20 @@ public interface FlagsProvider {
     default Boolean annotatedServiceContentLogging() {
         return null;
     }
+
+    /**
+     * Returns whether to map the HTTP/2 header names and values decoded by HPACK to the shared instances
+     * in a bounded intern table, so that the header fields repeated across streams, such as
+     * {@code :authority}, {@code content-type} and {@code user-agent}, do not allocate a new {@link String}
+     * for every stream. Unlike {@link #headerValueCacheSpec()}, all header fields except {@code :path} and
+     * the credentials are interned.
+     *
+     * <p>This flag is disabled by default. Specify the
+     * {@code -Dcom.linecorp.armeria.internHttp2Headers=true} JVM option to enable it.
+     */
+    @Nullable
+    @UnstableApi
+    default Boolean internHttp2Headers() {
+        return null;
+    }
 }
@@ -642,6 +642,12 @@ final class SystemPropertyFlagsProvider implements FlagsProvider {
         return getBoolean("annotatedServiceContentLogging");
     }
 
+    @Nullable
+    @Override
+    public Boolean internHttp2Headers() {
+        return getBoolean("internHttp2Headers");
+    }
+
     @Nullable
     private static Long getLong(String name) {
         return getAndParse(name, Long::parseLong);
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.common.encoding;
+
+import com.linecorp.armeria.common.HttpData;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Skeletal {@link StreamEncoder} implementation. Netty's {@link ByteBuf}-based compression encoders are
+ * used to allow for incremental encoding using an {@link EmbeddedChannel}, as Netty's
+ * {@code HttpContentCompressor} does.
+ */
+class AbstractStreamEncoder implements StreamEncoder {
+
+    private final EmbeddedChannel encoder;
+
+    protected AbstractStreamEncoder(ChannelHandler handler, ByteBufAllocator alloc) {
+        encoder = new EmbeddedChannel(false, handler);
+        encoder.config().setAllocator(alloc);
+    }
+
+    @Override
+    public HttpData encode(HttpData data) {
+        if (data.isEmpty()) {
+            data.close();
+            return HttpData.empty();
+        }
+        // The ownership of the ByteBuf is transferred to the encoder, which releases it once encoded.
+        encoder.writeOutbound(data.byteBuf());
+        return fetchEncoderOutput();
+    }
+
+    @Override
+    public HttpData finish() {
+        if (encoder.finish()) {
+            return fetchEncoderOutput();
+        } else {
+            return HttpData.empty();
+        }
+    }
+
+    @Override
+    public void close() {
+        encoder.finishAndReleaseAll();
+    }
+
+    // Mostly copied from netty's HttpContentEncoder.
+    private HttpData fetchEncoderOutput() {
+        ByteBuf encoded = null;
+        for (;;) {
+            final ByteBuf buf = encoder.readOutbound();
+            if (buf == null) {
+                break;
+            }
+            if (!buf.isReadable()) {
+                buf.release();
+                continue;
+            }
+            if (encoded == null) {
+                encoded = buf;
+            } else {
+                try {
+                    encoded.writeBytes(buf);
+                } finally {
+                    buf.release();
+                }
+            }
+        }
+
+        if (encoded == null) {
+            return HttpData.empty();
+        }
+
+        return HttpData.wrap(encoded);
+    }
+}
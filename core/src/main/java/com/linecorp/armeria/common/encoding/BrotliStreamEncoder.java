@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.common.encoding;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.compression.BrotliEncoder;
+
+/**
+ * A {@link StreamEncoder} that compresses data with the brotli format ('br').
+ * {@link BrotliEncoder} compresses the {@code nioBuffer()} of the input directly with brotli4j.
+ */
+final class BrotliStreamEncoder extends AbstractStreamEncoder {
+
+    BrotliStreamEncoder(Encoder.Parameters parameters, ByteBufAllocator alloc) {
+        super(new BrotliEncoder(parameters), alloc);
+    }
+}
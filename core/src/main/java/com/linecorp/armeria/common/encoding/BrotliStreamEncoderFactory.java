@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.encoding;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.aayushatharva.brotli4j.encoder.BrotliOutputStream;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.google.common.base.MoreObjects;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.handler.codec.compression.Brotli;
+
+/**
+ * A {@link StreamEncoderFactory} that applies the brotli encoding with a custom quality.
+ */
+final class BrotliStreamEncoderFactory implements StreamEncoderFactory {
+
+    // The range of the qualities supported by brotli.
+    static final int MIN_QUALITY = 0;
+    static final int MAX_QUALITY = 11;
+
+    private final int quality;
+    private final Encoder.Parameters parameters;
+
+    BrotliStreamEncoderFactory(int quality) {
+        checkArgument(quality >= MIN_QUALITY && quality <= MAX_QUALITY,
+                      "quality: %s (expected: %s <= quality <= %s)", quality, MIN_QUALITY, MAX_QUALITY);
+        if (!Brotli.isAvailable()) {
+            throw new IllegalStateException(
+                    "Brotli is not available. Add 'com.aayushatharva.brotli4j:brotli4j' to the class path.",
+                    Brotli.cause());
+        }
+        this.quality = quality;
+        parameters = new Encoder.Parameters().setQuality(quality);
+    }
+
+    @Override
+    public String encodingHeaderValue() {
+        return StreamEncoderFactories.BROTLI.encodingHeaderValue();
+    }
+
+    @Override
+    public OutputStream newEncoder(ByteBufOutputStream os) {
+        try {
+            return new BrotliOutputStream(os, parameters);
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "Error writing brotli header. This should not happen with byte arrays.", e);
+        }
+    }
+
+    @Override
+    public StreamEncoder newEncoder(ByteBufAllocator alloc) {
+        return new BrotliStreamEncoder(parameters, alloc);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("quality", quality)
+                          .toString();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.common.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.linecorp.armeria.common.HttpData;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+
+/**
+ * A {@link StreamEncoder} that adapts the {@link OutputStream} created by
+ * {@link StreamEncoderFactory#newEncoder(ByteBufOutputStream)}. This is used for the
+ * {@link StreamEncoderFactory}s that do not provide a {@link ByteBuf}-based {@link StreamEncoder}.
+ */
+final class OutputStreamStreamEncoder implements StreamEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutputStreamStreamEncoder.class);
+
+    private final ByteBufOutputStream encodedStream;
+    private final OutputStream encodingStream;
+    private boolean closed;
+
+    OutputStreamStreamEncoder(StreamEncoderFactory encoderFactory, ByteBufAllocator alloc) {
+        encodedStream = new ByteBufOutputStream(alloc.buffer());
+        try {
+            encodingStream = encoderFactory.newEncoder(encodedStream);
+        } catch (Throwable t) {
+            encodedStream.buffer().release();
+            throw t;
+        }
+    }
+
+    @Override
+    public HttpData encode(HttpData data) {
+        try {
+            final ByteBuf buf = data.byteBuf();
+            // Writes the backing array directly if the buffer is a heap buffer.
+            buf.getBytes(buf.readerIndex(), encodingStream, buf.readableBytes());
+            encodingStream.flush();
+            final ByteBuf encodedBuf = encodedStream.buffer();
+            final HttpData httpData = HttpData.wrap(encodedBuf.retainedSlice());
+            encodedBuf.readerIndex(encodedBuf.writerIndex());
+            return httpData;
+        } catch (IOException e) {
+            // An unreleased ByteBuf in 'encodedStream' will be released by 'close()'.
+            throw new IllegalStateException(
+                    "Error encoding HttpData, this should not happen with byte arrays.", e);
+        } finally {
+            data.close();
+        }
+    }
+
+    @Override
+    public HttpData finish() {
+        if (closed) {
+            return HttpData.empty();
+        }
+        closed = true;
+        closeEncodingStream();
+        final ByteBuf buf = encodedStream.buffer();
+        if (buf.isReadable()) {
+            return HttpData.wrap(buf);
+        }
+        buf.release();
+        return HttpData.empty();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        closeEncodingStream();
+        encodedStream.buffer().release();
+    }
+
+    private void closeEncodingStream() {
+        try {
+            encodingStream.close();
+        } catch (IOException e) {
+            logger.warn("Unexpected exception is raised while closing the encoding stream.", e);
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.linecorp.armeria.common.encoding;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 
 import com.linecorp.armeria.common.ContentTooLargeException;
@@ -69,6 +71,30 @@ public interface StreamDecoderFactory extends com.linecorp.armeria.client.encodi
         return StreamDecoderFactories.SNAPPY;
     }
 
+    /**
+     * Returns the {@link StreamDecoderFactory} for
+     * <a href="https://datatracker.ietf.org/doc/html/rfc8878">"zstd"</a> content encoding.
+     * Note that {@code com.github.luben:zstd-jni} must be in the class path.
+     */
+    @UnstableApi
+    static StreamDecoderFactory zstd() {
+        return StreamDecoderFactories.ZSTD;
+    }
+
+    /**
+     * Returns a new {@link StreamDecoderFactory} for
+     * <a href="https://datatracker.ietf.org/doc/html/rfc8878">"zstd"</a> content encoding which decompresses
+     * the content compressed with the specified pre-trained dictionary.
+     * Note that {@code com.github.luben:zstd-jni} must be in the class path.
+     *
+     * @see StreamEncoderFactory#zstd(int, byte[])
+     */
+    @UnstableApi
+    static StreamDecoderFactory zstd(byte[] dictionary) {
+        requireNonNull(dictionary, "dictionary");
+        return new ZstdStreamDecoderFactory(dictionary);
+    }
+
     /**
      * Returns the value of the Content-Encoding header which this factory applies to.
      */
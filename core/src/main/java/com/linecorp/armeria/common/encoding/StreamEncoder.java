@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.common.encoding;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.SafeCloseable;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * An encoder which compresses the {@link HttpData}s of a stream incrementally.
+ * Unlike the {@link java.io.OutputStream} returned by
+ * {@link StreamEncoderFactory#newEncoder(io.netty.buffer.ByteBufOutputStream)}, a {@link StreamEncoder}
+ * reads from and writes to {@link ByteBuf}s directly without copying them into an intermediate byte array
+ * when the underlying codec allows it.
+ *
+ * <p>A {@link StreamEncoder} is not thread-safe and is valid for the lifetime of a single stream.
+ */
+@UnstableApi
+public interface StreamEncoder extends SafeCloseable {
+
+    /**
+     * Encodes the specified {@link HttpData} and returns the encoded {@link HttpData}, which may be empty if
+     * the codec buffered the input. The specified {@link HttpData} is always closed by this method, and
+     * the caller is responsible for closing the returned {@link HttpData}.
+     */
+    HttpData encode(HttpData data);
+
+    /**
+     * Finishes the encoding and returns any encoded data that may be left over, such as a trailer.
+     * All resources held by this encoder are released after this method returns.
+     */
+    HttpData finish();
+
+    /**
+     * Releases all resources held by this encoder without finishing the encoding. This method is useful
+     * when the stream is aborted. Calling this method after {@link #finish()} has no effect.
+     */
+    @Override
+    void close();
+}
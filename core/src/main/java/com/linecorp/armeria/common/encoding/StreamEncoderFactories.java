@@ -27,9 +27,13 @@ import com.aayushatharva.brotli4j.encoder.Encoder;
 import com.google.common.collect.ImmutableList;
 
 import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.internal.common.encoding.ZstdAvailability;
 
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.Zstd;
 
 /**
  * A {@link StreamEncoderFactory} implementation which provides built-in stream encoders.
@@ -54,6 +58,11 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
                         "Error writing brotli header. This should not happen with byte arrays.", e);
             }
         }
+
+        @Override
+        public StreamEncoder newEncoder(ByteBufAllocator alloc) {
+            return new BrotliStreamEncoder(BROTLI_PARAMETERS, alloc);
+        }
     },
     GZIP {
         @Override
@@ -70,6 +79,11 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
                         "Error writing gzip header. This should not happen with byte arrays.", e);
             }
         }
+
+        @Override
+        public StreamEncoder newEncoder(ByteBufAllocator alloc) {
+            return new ZlibStreamEncoder(ZlibWrapper.GZIP, alloc);
+        }
     },
     DEFLATE {
         @Override
@@ -81,6 +95,11 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
         public OutputStream newEncoder(ByteBufOutputStream os) {
             return new DeflaterOutputStream(os, true);
         }
+
+        @Override
+        public StreamEncoder newEncoder(ByteBufAllocator alloc) {
+            return new ZlibStreamEncoder(ZlibWrapper.ZLIB, alloc);
+        }
     },
     SNAPPY {
         @Override
@@ -92,6 +111,22 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
         public OutputStream newEncoder(ByteBufOutputStream os) {
             return new SnappyFramedOutputStream(os.buffer());
         }
+    },
+    ZSTD {
+        @Override
+        public String encodingHeaderValue() {
+            return StreamDecoderFactory.zstd().encodingHeaderValue();
+        }
+
+        @Override
+        public OutputStream newEncoder(ByteBufOutputStream os) {
+            return ZstdStreamEncoderFactory.newEncoder(os, ZstdAvailability.DEFAULT_LEVEL, null);
+        }
+
+        @Override
+        public StreamEncoder newEncoder(ByteBufAllocator alloc) {
+            return new ZstdStreamEncoder(ZstdAvailability.DEFAULT_LEVEL, null, alloc);
+        }
     };
 
     private static final Encoder.Parameters BROTLI_PARAMETERS = new Encoder.Parameters().setQuality(4);
@@ -99,11 +134,15 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
     static final List<StreamEncoderFactory> ALL;
 
     static {
+        final ImmutableList.Builder<StreamEncoderFactory> builder = ImmutableList.builder();
         // Invoke `ìsAvailable` also to load Brotli native binary.
         if (Brotli.isAvailable()) {
-            ALL = ImmutableList.copyOf(values());
-        } else {
-            ALL = ImmutableList.of(GZIP, DEFLATE, SNAPPY);
+            builder.add(BROTLI);
+        }
+        builder.add(GZIP, DEFLATE, SNAPPY);
+        if (Zstd.isAvailable()) {
+            builder.add(ZSTD);
         }
+        ALL = builder.build();
     }
 }
@@ -16,12 +16,16 @@
 
 package com.linecorp.armeria.common.encoding;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.OutputStream;
 import java.util.List;
 
 import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.annotation.UnstableApi;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufOutputStream;
 
 /**
@@ -39,6 +43,52 @@ public interface StreamEncoderFactory {
         return StreamEncoderFactories.ALL;
     }
 
+    /**
+     * Returns a new {@link StreamEncoderFactory} that applies the
+     * <a href="https://datatracker.ietf.org/doc/html/rfc7932">brotli</a> ({@code "br"}) encoding with
+     * the specified quality. A higher quality compresses better but much slower, so a quality above the
+     * default is usually used for the content which is compressed only once and served many times.
+     * Note that {@code com.aayushatharva.brotli4j:brotli4j} must be in the class path.
+     *
+     * @param quality the quality from {@code 0} to {@code 11}. {@link StreamEncoderFactories#BROTLI} uses
+     *                {@code 4}.
+     */
+    @UnstableApi
+    static StreamEncoderFactory brotli(int quality) {
+        return new BrotliStreamEncoderFactory(quality);
+    }
+
+    /**
+     * Returns a new {@link StreamEncoderFactory} that applies the
+     * <a href="https://datatracker.ietf.org/doc/html/rfc8878">Zstandard</a> ({@code "zstd"}) encoding
+     * with the specified compression level. Note that {@code com.github.luben:zstd-jni} must be
+     * in the class path.
+     *
+     * @param level the compression level. A negative level trades the compression ratio for speed.
+     *              {@link StreamEncoderFactories#ZSTD} uses {@code 3} by default.
+     */
+    @UnstableApi
+    static StreamEncoderFactory zstd(int level) {
+        return new ZstdStreamEncoderFactory(level, null);
+    }
+
+    /**
+     * Returns a new {@link StreamEncoderFactory} that applies the
+     * <a href="https://datatracker.ietf.org/doc/html/rfc8878">Zstandard</a> ({@code "zstd"}) encoding
+     * with the specified compression level and pre-trained dictionary. A dictionary improves
+     * the compression ratio of small payloads significantly, but the decoder must use the same dictionary
+     * via {@link StreamDecoderFactory#zstd(byte[])}. Note that {@code com.github.luben:zstd-jni} must be
+     * in the class path.
+     *
+     * @param level the compression level. A negative level trades the compression ratio for speed.
+     * @param dictionary the dictionary trained with {@code zstd --train} or {@code ZstdDictTrainer}
+     */
+    @UnstableApi
+    static StreamEncoderFactory zstd(int level, byte[] dictionary) {
+        requireNonNull(dictionary, "dictionary");
+        return new ZstdStreamEncoderFactory(level, dictionary);
+    }
+
     /**
      * Returns the value of the {@link HttpHeaderNames#ACCEPT_ENCODING} header which this factory applies to.
      */
@@ -49,4 +99,18 @@ public interface StreamEncoderFactory {
      * and writes to the specified {@link ByteBufOutputStream}.
      */
     OutputStream newEncoder(ByteBufOutputStream os);
+
+    /**
+     * Constructs a new {@link StreamEncoder} which applies the factory-specific encoding to
+     * the {@link ByteBuf}s allocated by the specified {@link ByteBufAllocator}.
+     * The built-in {@link StreamEncoderFactory}s return a {@link StreamEncoder} that compresses
+     * a {@link ByteBuf} into a {@link ByteBuf} without copying it into an intermediate byte array.
+     * By default, this method adapts the {@link OutputStream} created by
+     * {@link #newEncoder(ByteBufOutputStream)}.
+     */
+    @UnstableApi
+    default StreamEncoder newEncoder(ByteBufAllocator alloc) {
+        requireNonNull(alloc, "alloc");
+        return new OutputStreamStreamEncoder(this, alloc);
+    }
 }
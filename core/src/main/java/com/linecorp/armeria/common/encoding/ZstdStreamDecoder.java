@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.encoding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdInputStream;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.compression.DecompressionException;
+
+/**
+ * A {@link StreamDecoder} that decompresses data encoded with the Zstandard format ('zstd').
+ */
+final class ZstdStreamDecoder extends AbstractStreamDecoder {
+
+    ZstdStreamDecoder(@Nullable ZstdDictDecompress dictionary, ByteBufAllocator alloc, int maxLength) {
+        // Zstandard frames may expand to an arbitrary size. Similar to BrotliDecoder, the max length is
+        // checked at the `StreamDecoder` level after decoding.
+        super(new ZstdFrameDecoder(dictionary), alloc, maxLength);
+    }
+
+    /**
+     * Decodes a stream of Zstandard frames. Unlike Netty's {@code ZstdDecoder}, this decoder can decompress
+     * the frames compressed with a pre-trained dictionary.
+     */
+    private static final class ZstdFrameDecoder extends ByteToMessageDecoder {
+
+        private final MutableByteBufInputStream inputStream = new MutableByteBufInputStream();
+        @Nullable
+        private final ZstdDictDecompress dictionary;
+        @Nullable
+        private ZstdInputStream zstdInputStream;
+        private boolean corrupted;
+
+        ZstdFrameDecoder(@Nullable ZstdDictDecompress dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+            if (corrupted) {
+                in.skipBytes(in.readableBytes());
+                return;
+            }
+
+            final int compressedLength = in.readableBytes();
+            inputStream.current = in;
+            ByteBuf outBuffer = null;
+            try {
+                final ZstdInputStream zstdInputStream = zstdInputStream();
+                int written;
+                do {
+                    if (outBuffer == null) {
+                        // The compression ratio of Zstandard is usually higher than 2.
+                        outBuffer = ctx.alloc().buffer(compressedLength * 2);
+                    }
+                    do {
+                        written = outBuffer.writeBytes(zstdInputStream, outBuffer.writableBytes());
+                    } while (written != -1 && outBuffer.isWritable());
+                    if (outBuffer.isReadable()) {
+                        out.add(outBuffer);
+                        outBuffer = null;
+                    }
+                } while (written != -1);
+            } catch (IOException e) {
+                corrupted = true;
+                throw new DecompressionException(e);
+            } finally {
+                if (outBuffer != null) {
+                    outBuffer.release();
+                }
+                inputStream.current = null;
+            }
+        }
+
+        private ZstdInputStream zstdInputStream() throws IOException {
+            if (zstdInputStream != null) {
+                return zstdInputStream;
+            }
+            final ZstdInputStream zstdInputStream =
+                    new ZstdInputStream(inputStream, RecyclingBufferPool.INSTANCE);
+            // Do not fail on a truncated frame because the remaining bytes may arrive with the next chunk.
+            zstdInputStream.setContinuous(true);
+            if (dictionary != null) {
+                zstdInputStream.setDict(dictionary);
+            }
+            return this.zstdInputStream = zstdInputStream;
+        }
+
+        @Override
+        protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+            try {
+                if (zstdInputStream != null) {
+                    zstdInputStream.close();
+                }
+            } finally {
+                super.handlerRemoved0(ctx);
+            }
+        }
+    }
+
+    /**
+     * An {@link InputStream} that reads from the {@link ByteBuf} being decoded currently.
+     */
+    private static final class MutableByteBufInputStream extends InputStream {
+
+        @Nullable
+        ByteBuf current;
+
+        @Override
+        public int read() {
+            if (current == null || !current.isReadable()) {
+                return -1;
+            }
+            return current.readByte() & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (current == null) {
+                return -1;
+            }
+            final int available = current.readableBytes();
+            if (available == 0) {
+                return -1;
+            }
+            final int length = Math.min(available, len);
+            current.readBytes(b, off, length);
+            return length;
+        }
+
+        @Override
+        public int available() {
+            return current != null ? current.readableBytes() : 0;
+        }
+    }
+}
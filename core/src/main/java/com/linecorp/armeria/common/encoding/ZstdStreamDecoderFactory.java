@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.encoding;
+
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.internal.common.encoding.ZstdAvailability;
+
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * A {@link StreamDecoderFactory} that decompresses the Zstandard frames compressed with
+ * a pre-trained dictionary.
+ */
+final class ZstdStreamDecoderFactory implements StreamDecoderFactory {
+
+    // A digested dictionary is immutable and thread-safe, so it is shared by all decoders.
+    private final ZstdDictDecompress dictionary;
+
+    ZstdStreamDecoderFactory(byte[] dictionary) {
+        ZstdAvailability.ensureAvailable();
+        this.dictionary = new ZstdDictDecompress(dictionary);
+    }
+
+    @Override
+    public String encodingHeaderValue() {
+        return StreamDecoderFactories.ZSTD.encodingHeaderValue();
+    }
+
+    @Override
+    public StreamDecoder newDecoder(ByteBufAllocator alloc, int maxLength) {
+        return new ZstdStreamDecoder(dictionary, alloc, maxLength);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("encodingHeaderValue", encodingHeaderValue())
+                          .add("dictionary", true)
+                          .toString();
+    }
+}
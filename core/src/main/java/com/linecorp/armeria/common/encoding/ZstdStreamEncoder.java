@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.common.encoding;
+
+import java.nio.ByteBuffer;
+
+import com.github.luben.zstd.EndDirective;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * A {@link StreamEncoder} that compresses data with the Zstandard format ('zstd').
+ * A direct input buffer is compressed from its {@code nioBuffer()} view into a direct output buffer
+ * without any intermediate copies. A heap input buffer is copied into a direct buffer first because
+ * zstd-jni's streaming API only accepts direct {@link ByteBuffer}s.
+ */
+final class ZstdStreamEncoder implements StreamEncoder {
+
+    private static final ByteBuffer EMPTY_DIRECT_BUFFER = ByteBuffer.allocateDirect(0);
+
+    private final ZstdCompressCtx compressCtx;
+    private final ByteBufAllocator alloc;
+    private boolean closed;
+
+    ZstdStreamEncoder(int level, @Nullable ZstdDictCompress dictionary, ByteBufAllocator alloc) {
+        compressCtx = new ZstdCompressCtx();
+        compressCtx.setLevel(level);
+        if (dictionary != null) {
+            compressCtx.loadDict(dictionary);
+        }
+        this.alloc = alloc;
+    }
+
+    @Override
+    public HttpData encode(HttpData data) {
+        if (closed) {
+            data.close();
+            throw new IllegalStateException("encoder closed already");
+        }
+        if (data.isEmpty()) {
+            data.close();
+            return HttpData.empty();
+        }
+
+        final ByteBuf in = data.byteBuf();
+        final int length = in.readableBytes();
+        ByteBuf directIn = null;
+        try {
+            final ByteBuffer src;
+            if (in.isDirect() && in.nioBufferCount() == 1) {
+                src = in.nioBuffer();
+            } else {
+                directIn = alloc.directBuffer(length).writeBytes(in, in.readerIndex(), length);
+                src = directIn.nioBuffer();
+            }
+            return compress(src, length, EndDirective.FLUSH);
+        } finally {
+            if (directIn != null) {
+                directIn.release();
+            }
+            data.close();
+        }
+    }
+
+    @Override
+    public HttpData finish() {
+        if (closed) {
+            return HttpData.empty();
+        }
+        try {
+            // Write the epilogue of the frame.
+            return compress(EMPTY_DIRECT_BUFFER.duplicate(), 0, EndDirective.END);
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        compressCtx.close();
+    }
+
+    private HttpData compress(ByteBuffer src, int length, EndDirective endDirective) {
+        // Zstandard rarely expands the input, so the compress bound is usually large enough
+        // to flush the whole input at once.
+        ByteBuf out = alloc.directBuffer(length + (length >>> 8) + 64);
+        try {
+            for (;;) {
+                final ByteBuffer dst = out.nioBuffer(out.writerIndex(), out.writableBytes());
+                final boolean done = compressCtx.compressDirectByteBufferStream(dst, src, endDirective);
+                out.writerIndex(out.writerIndex() + dst.position());
+                if (done) {
+                    break;
+                }
+                out.ensureWritable(Math.max(64, out.capacity() >>> 1));
+            }
+            if (!out.isReadable()) {
+                return HttpData.empty();
+            }
+            final HttpData encoded = HttpData.wrap(out);
+            out = null;
+            return encoded;
+        } finally {
+            if (out != null) {
+                out.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdOutputStreamNoFinalizer;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.internal.common.encoding.ZstdAvailability;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+
+/**
+ * A {@link StreamEncoderFactory} that applies the Zstandard encoding with a custom compression level and
+ * an optional pre-trained dictionary.
+ */
+final class ZstdStreamEncoderFactory implements StreamEncoderFactory {
+
+    static OutputStream newEncoder(ByteBufOutputStream os, int level, @Nullable ZstdDictCompress dictionary) {
+        try {
+            // Use the recycling buffer pool to avoid allocating a new 128KiB buffer for every response.
+            final ZstdOutputStreamNoFinalizer encoder =
+                    new ZstdOutputStreamNoFinalizer(os, RecyclingBufferPool.INSTANCE);
+            encoder.setLevel(level);
+            if (dictionary != null) {
+                encoder.setDict(dictionary);
+            }
+            return encoder;
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "Error initializing zstd encoder. This should not happen with byte arrays.", e);
+        }
+    }
+
+    private final int level;
+    @Nullable
+    private final ZstdDictCompress dictionary;
+
+    ZstdStreamEncoderFactory(int level, @Nullable byte[] dictionary) {
+        ZstdAvailability.validateLevel(level);
+        ZstdAvailability.ensureAvailable();
+        this.level = level;
+        // A digested dictionary is immutable and thread-safe, so it is shared by all encoders.
+        this.dictionary = dictionary != null ? new ZstdDictCompress(dictionary, level) : null;
+    }
+
+    @Override
+    public String encodingHeaderValue() {
+        return StreamEncoderFactories.ZSTD.encodingHeaderValue();
+    }
+
+    @Override
+    public OutputStream newEncoder(ByteBufOutputStream os) {
+        return newEncoder(os, level, dictionary);
+    }
+
+    @Override
+    public StreamEncoder newEncoder(ByteBufAllocator alloc) {
+        return new ZstdStreamEncoder(level, dictionary, alloc);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("level", level)
+                          .add("dictionary", dictionary != null)
+                          .toString();
+    }
+}
@@ -21,6 +21,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.concurrent.ScheduledExecutorService;
 
 import com.linecorp.armeria.common.CommonPools;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 
 /**
  * Provides an executor interface which is used for potentially long-running tasks which may block I/O threads.
@@ -56,6 +57,26 @@ public interface BlockingTaskExecutor extends ScheduledExecutorService {
         return new BlockingTaskExecutorBuilder();
     }
 
+    /**
+     * Returns a new {@link BlockingTaskExecutor} which runs each task on its own virtual thread.
+     * This is a shortcut for {@code BlockingTaskExecutor.virtualThreadBuilder().build()}.
+     *
+     * @throws UnsupportedOperationException if the current JVM does not support virtual threads
+     */
+    @UnstableApi
+    static BlockingTaskExecutor ofVirtualThreads() {
+        return virtualThreadBuilder().build();
+    }
+
+    /**
+     * Returns a new builder for a {@link BlockingTaskExecutor} which runs each task on its own
+     * virtual thread.
+     */
+    @UnstableApi
+    static VirtualThreadBlockingTaskExecutorBuilder virtualThreadBuilder() {
+        return new VirtualThreadBlockingTaskExecutorBuilder();
+    }
+
     /**
      * Unwraps this {@link BlockingTaskExecutor} and returns the
      * {@link ScheduledExecutorService} being decorated.
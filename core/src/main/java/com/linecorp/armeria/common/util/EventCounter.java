@@ -31,11 +31,16 @@ public interface EventCounter {
 
     /**
      * Returns a new {@link EventCounter} that counts events within a sliding window.
+     * The window is divided into buckets of {@code updateInterval}, which are preallocated as a ring
+     * so that counting an event does not allocate, unless the window consists of too many buckets.
      */
     static EventCounter ofSlidingWindow(Ticker ticker, Duration slidingWindow, Duration updateInterval) {
         requireNonNull(ticker, "ticker");
         requireNonNull(slidingWindow, "slidingWindow");
         requireNonNull(updateInterval, "updateInterval");
+        if (RingBufferSlidingWindowCounter.isSupported(slidingWindow, updateInterval)) {
+            return new RingBufferSlidingWindowCounter(ticker, slidingWindow, updateInterval);
+        }
         return new SlidingWindowCounter(ticker, slidingWindow, updateInterval);
     }
 
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.math.LongMath;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+/**
+ * An {@link EventCounter} that accumulates the count of events within a time window using a fixed-size ring
+ * of buckets. Unlike {@link SlidingWindowCounter}, all buckets are allocated upfront and reused,
+ * so counting an event does not allocate and summing up the window visits a fixed number of buckets.
+ *
+ * <p>The time is divided into slots of {@code updateInterval} since the counter was created. Each slot is
+ * mapped to a bucket of the ring, and a bucket is reset when it is reused for a newer slot.
+ * The {@link EventCount} of the window is updated whenever an event crosses into a new slot.
+ */
+final class RingBufferSlidingWindowCounter implements EventCounter {
+
+    /**
+     * The maximum number of buckets in a ring. {@link EventCounter#ofSlidingWindow(Duration, Duration)}
+     * falls back to {@link SlidingWindowCounter} if more buckets are required, so that a fine-grained
+     * {@code updateInterval} does not allocate too much memory upfront.
+     */
+    static final int MAX_NUM_BUCKETS = 1024;
+
+    /**
+     * Returns whether the sliding window can be represented with a ring of at most
+     * {@value #MAX_NUM_BUCKETS} buckets.
+     */
+    static boolean isSupported(Duration slidingWindow, Duration updateInterval) {
+        final long updateIntervalNanos = updateInterval.toNanos();
+        final long slidingWindowNanos = slidingWindow.toNanos();
+        if (updateIntervalNanos <= 0 || slidingWindowNanos < 0) {
+            return false;
+        }
+        return numWindowBuckets(slidingWindowNanos, updateIntervalNanos) < MAX_NUM_BUCKETS;
+    }
+
+    private static long numWindowBuckets(long slidingWindowNanos, long updateIntervalNanos) {
+        return Math.max(1, LongMath.divide(slidingWindowNanos, updateIntervalNanos, RoundingMode.CEILING));
+    }
+
+    private final Ticker ticker;
+
+    private final long originNanos;
+
+    private final long updateIntervalNanos;
+
+    /**
+     * The number of the slots which make up the time window, excluding the current slot.
+     */
+    private final int numWindowBuckets;
+
+    /**
+     * The ring of {@link Bucket}s which holds the current slot and the previous {@link #numWindowBuckets}
+     * slots.
+     */
+    private final Bucket[] buckets;
+
+    /**
+     * The latest slot that an event was counted in.
+     */
+    private final AtomicLong latestSlot = new AtomicLong();
+
+    /**
+     * The latest accumulated {@link EventCount}.
+     */
+    private volatile EventCount snapshot = EventCount.ZERO;
+
+    RingBufferSlidingWindowCounter(Ticker ticker, Duration slidingWindow, Duration updateInterval) {
+        this.ticker = requireNonNull(ticker, "ticker");
+        updateIntervalNanos = requireNonNull(updateInterval, "updateInterval").toNanos();
+        numWindowBuckets = (int) numWindowBuckets(requireNonNull(slidingWindow, "slidingWindow").toNanos(),
+                                                  updateIntervalNanos);
+        buckets = new Bucket[numWindowBuckets + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        originNanos = ticker.read();
+    }
+
+    @Override
+    public EventCount count() {
+        return snapshot;
+    }
+
+    @Nullable
+    @Override
+    public EventCount onSuccess() {
+        return onEvent(true);
+    }
+
+    @Nullable
+    @Override
+    public EventCount onFailure() {
+        return onEvent(false);
+    }
+
+    @Nullable
+    private EventCount onEvent(boolean success) {
+        final long slot = Math.floorDiv(ticker.read() - originNanos, updateIntervalNanos);
+
+        long latestSlot = this.latestSlot.get();
+        if (slot < latestSlot - numWindowBuckets) {
+            // The event is too late to be in the window. (maybe race or GC pause?)
+            return null;
+        }
+
+        final Bucket bucket = buckets[(int) Math.floorMod(slot, (long) buckets.length)];
+        if (!bucket.acquire(slot)) {
+            // The bucket has been reused for a newer slot already.
+            return null;
+        }
+        if (success) {
+            bucket.success.increment();
+        } else {
+            bucket.failure.increment();
+        }
+
+        for (;;) {
+            if (slot <= latestSlot) {
+                return null;
+            }
+            if (this.latestSlot.compareAndSet(latestSlot, slot)) {
+                // The event crossed into a new slot. Update the count of the window.
+                final EventCount eventCount = sum(slot);
+                snapshot = eventCount;
+                return eventCount;
+            }
+            latestSlot = this.latestSlot.get();
+        }
+    }
+
+    /**
+     * Sums up the buckets of the slots within the time window, excluding the specified current slot.
+     */
+    private EventCount sum(long currentSlot) {
+        final long oldestSlot = currentSlot - numWindowBuckets;
+        long success = 0;
+        long failure = 0;
+        for (Bucket bucket : buckets) {
+            final long slot = bucket.slot;
+            if (slot >= oldestSlot && slot < currentSlot) {
+                success += bucket.success.sum();
+                failure += bucket.failure.sum();
+            }
+        }
+        return EventCount.of(success, failure);
+    }
+
+    /**
+     * Holds the count of events within a slot.
+     */
+    private static final class Bucket {
+
+        private static final long UNUSED = Long.MIN_VALUE;
+        private static final long RESETTING = Long.MIN_VALUE + 1;
+
+        private static final AtomicLongFieldUpdater<Bucket> slotUpdater =
+                AtomicLongFieldUpdater.newUpdater(Bucket.class, "slot");
+
+        private final LongAdder success = new LongAdder();
+
+        private final LongAdder failure = new LongAdder();
+
+        /**
+         * The slot which this bucket holds the count of, {@link #UNUSED} if this bucket has never been used,
+         * or {@link #RESETTING} if this bucket is being reset for a new slot.
+         */
+        private volatile long slot = UNUSED;
+
+        /**
+         * Makes this bucket hold the count of the specified {@code slot}, resetting the count of the
+         * previous slot if necessary.
+         *
+         * @return {@code false} if this bucket holds the count of a newer slot.
+         */
+        private boolean acquire(long slot) {
+            for (;;) {
+                final long currentSlot = this.slot;
+                if (currentSlot == slot) {
+                    return true;
+                }
+                if (currentSlot == RESETTING) {
+                    // Another thread is resetting this bucket, which takes only a moment.
+                    continue;
+                }
+                if (currentSlot > slot) {
+                    return false;
+                }
+                if (slotUpdater.compareAndSet(this, currentSlot, RESETTING)) {
+                    success.reset();
+                    failure.reset();
+                    this.slot = slot;
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Bucket{" +
+                   "slot=" + slot +
+                   ", success=" + success +
+                   ", failure=" + failure +
+                   '}';
+        }
+    }
+}
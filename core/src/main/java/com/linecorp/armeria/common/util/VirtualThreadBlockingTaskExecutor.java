@@ -0,0 +1,443 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.primitives.Longs;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.internal.common.metric.MicrometerUtil;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * A {@link BlockingTaskExecutor} which runs each task on its own virtual thread.
+ * The delayed and periodic tasks are triggered by a single platform thread and then run on
+ * a virtual thread as well.
+ */
+final class VirtualThreadBlockingTaskExecutor extends AbstractExecutorService
+        implements BlockingTaskExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadBlockingTaskExecutor.class);
+
+    private final ThreadFactory threadFactory;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Function<? super Runnable, ? extends Runnable> taskFunction;
+    private final Duration pinnedThreshold;
+    private final boolean detectPinning;
+
+    private final String threadNamePrefix;
+    private final Set<Thread> activeThreads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger numActiveThreads = new AtomicInteger();
+    private final LongAdder numStartedThreads = new LongAdder();
+    private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
+    private final Timer pendingTimer;
+    private final Timer taskTimer;
+    private final Timer pinnedTimer;
+
+    private volatile boolean shutdown;
+    private volatile boolean warnedPinning;
+
+    VirtualThreadBlockingTaskExecutor(String threadNamePrefix,
+                                      Function<? super Runnable, ? extends Runnable> taskFunction,
+                                      boolean detectPinning, Duration pinnedThreshold,
+                                      MeterRegistry meterRegistry, MeterIdPrefix meterIdPrefix) {
+        this.threadNamePrefix = threadNamePrefix + '-';
+        threadFactory = VirtualThreads.newThreadFactory(threadNamePrefix);
+        scheduler = new ScheduledThreadPoolExecutor(
+                1, ThreadFactories.newThreadFactory(threadNamePrefix + "-scheduler", true));
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.taskFunction = taskFunction;
+        this.detectPinning = detectPinning;
+        this.pinnedThreshold = pinnedThreshold;
+
+        MicrometerUtil.register(meterRegistry, meterIdPrefix, Gauges.class, Gauges::new).add(this);
+        pendingTimer = MoreMeters.newTimer(meterRegistry, meterIdPrefix.name("virtual.threads.pending"),
+                                           meterIdPrefix.tags());
+        taskTimer = MoreMeters.newTimer(meterRegistry, meterIdPrefix.name("task.duration"),
+                                        meterIdPrefix.tags());
+        pinnedTimer = MoreMeters.newTimer(meterRegistry, meterIdPrefix.name("virtual.threads.pinned"),
+                                          meterIdPrefix.tags());
+
+        if (detectPinning) {
+            VirtualThreads.addPinningListener(this, pinnedThreshold);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        requireNonNull(command, "command");
+        if (!tryStart(command)) {
+            throw new RejectedExecutionException(this + " has been shut down.");
+        }
+    }
+
+    private boolean tryStart(Runnable command) {
+        // Increase the counter first so that the termination is not signaled while starting a thread.
+        numActiveThreads.incrementAndGet();
+        if (shutdown) {
+            onThreadFinished();
+            return false;
+        }
+
+        final long submittedNanos = System.nanoTime();
+        final Runnable task = taskFunction.apply(command);
+        final Thread thread;
+        try {
+            thread = threadFactory.newThread(() -> run(task, submittedNanos));
+            thread.start();
+        } catch (Throwable cause) {
+            onThreadFinished();
+            throw cause;
+        }
+        numStartedThreads.increment();
+        return true;
+    }
+
+    private void run(Runnable task, long submittedNanos) {
+        final Thread thread = Thread.currentThread();
+        final long startNanos = System.nanoTime();
+        pendingTimer.record(startNanos - submittedNanos, TimeUnit.NANOSECONDS);
+        activeThreads.add(thread);
+        try {
+            task.run();
+        } catch (Throwable cause) {
+            logger.warn("Unexpected exception from a blocking task:", cause);
+        } finally {
+            activeThreads.remove(thread);
+            taskTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            onThreadFinished();
+        }
+    }
+
+    private void onThreadFinished() {
+        if (numActiveThreads.decrementAndGet() == 0 && shutdown) {
+            terminationFuture.complete(null);
+        }
+    }
+
+    /**
+     * Invoked when a virtual thread parked while pinned to its carrier thread. Note that JFR events are
+     * delivered asynchronously, so the virtual thread is identified by its name rather than by
+     * the currently running threads.
+     *
+     * @return {@code true} if the virtual thread belongs to this executor.
+     */
+    boolean onPinned(String threadName, Duration duration, Object event) {
+        if (!isOwnThreadName(threadName)) {
+            return false;
+        }
+        if (duration.compareTo(pinnedThreshold) < 0) {
+            return true;
+        }
+        pinnedTimer.record(duration);
+        if (!warnedPinning) {
+            warnedPinning = true;
+            logger.warn("A virtual thread '{}' was pinned to its carrier thread for {}. Consider replacing " +
+                        "synchronized blocks or native calls that block with java.util.concurrent locks " +
+                        "(further occurrences will be logged at DEBUG level): {}",
+                        threadName, duration, event);
+        } else {
+            logger.debug("A virtual thread '{}' was pinned to its carrier thread for {}: {}",
+                         threadName, duration, event);
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the specified name is {@code <threadNamePrefix>-<counter>}, so that the threads of
+     * an executor whose prefix starts with the prefix of this executor, e.g. {@code "blocking-io"} for
+     * {@code "blocking"}, are not attributed to this executor.
+     */
+    boolean isOwnThreadName(String threadName) {
+        final int length = threadName.length();
+        final int prefixLength = threadNamePrefix.length();
+        if (length == prefixLength || !threadName.startsWith(threadNamePrefix)) {
+            return false;
+        }
+        for (int i = prefixLength; i < length; i++) {
+            final char ch = threadName.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int numActiveThreads() {
+        return numActiveThreads.get();
+    }
+
+    long numStartedThreads() {
+        return numStartedThreads.sum();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        requireNonNull(command, "command");
+        return schedule(Executors.callable(command), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        requireNonNull(callable, "callable");
+        requireNonNull(unit, "unit");
+        final ScheduledTask<V> task = new ScheduledTask<>(callable, unit.toNanos(delay));
+        task.schedule();
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+                                                  TimeUnit unit) {
+        return schedulePeriodically(command, initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                                                     TimeUnit unit) {
+        return schedulePeriodically(command, initialDelay, -delay, unit);
+    }
+
+    private ScheduledFuture<?> schedulePeriodically(Runnable command, long initialDelay, long period,
+                                                    TimeUnit unit) {
+        requireNonNull(command, "command");
+        requireNonNull(unit, "unit");
+        if (period == 0) {
+            throw new IllegalArgumentException("period: 0 (expected: != 0)");
+        }
+        final ScheduledTask<Void> task = new ScheduledTask<>(Executors.callable(command, null),
+                                                             unit.toNanos(initialDelay),
+                                                             unit.toNanos(period));
+        task.schedule();
+        return task;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        scheduler.shutdown();
+        if (numActiveThreads.get() == 0) {
+            terminationFuture.complete(null);
+        }
+        if (detectPinning) {
+            VirtualThreads.removePinningListener(this);
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        final List<Runnable> pendingTasks = scheduler.shutdownNow();
+        activeThreads.forEach(Thread::interrupt);
+        return pendingTasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminationFuture.isDone() && scheduler.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        try {
+            terminationFuture.get(timeout, unit);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            throw new Error(e); // Never reaches here.
+        }
+        return scheduler.awaitTermination(Math.max(0, deadlineNanos - System.nanoTime()),
+                                          TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{activeThreads=" + numActiveThreads.get() +
+               ", shutdown=" + shutdown + '}';
+    }
+
+    /**
+     * A {@link ScheduledFuture} whose delay is tracked by the platform scheduler thread and
+     * whose task runs on a virtual thread.
+     */
+    private final class ScheduledTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        /**
+         * A positive value for a fixed-rate task, a negative value for a fixed-delay task and
+         * {@code 0} for a one-shot task.
+         */
+        private final long periodNanos;
+        private volatile long triggerTimeNanos;
+        @Nullable
+        private volatile ScheduledFuture<?> timer;
+
+        ScheduledTask(Callable<V> callable, long delayNanos) {
+            this(callable, delayNanos, 0);
+        }
+
+        ScheduledTask(Callable<V> callable, long delayNanos, long periodNanos) {
+            super(callable);
+            this.periodNanos = periodNanos;
+            triggerTimeNanos = System.nanoTime() + delayNanos;
+        }
+
+        void schedule() {
+            final long delayNanos = triggerTimeNanos - System.nanoTime();
+            try {
+                timer = scheduler.schedule(this::onTrigger, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                cancel(false);
+                throw e;
+            }
+        }
+
+        private void onTrigger() {
+            if (isDone()) {
+                return;
+            }
+            if (!tryStart(this)) {
+                cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (periodNanos == 0) {
+                super.run();
+                return;
+            }
+            if (!runAndReset()) {
+                return;
+            }
+            if (periodNanos > 0) {
+                triggerTimeNanos += periodNanos;
+            } else {
+                triggerTimeNanos = System.nanoTime() - periodNanos;
+            }
+            if (shutdown) {
+                cancel(false);
+                return;
+            }
+            try {
+                schedule();
+            } catch (RejectedExecutionException ignored) {
+                // Shut down concurrently.
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            final ScheduledFuture<?> timerFuture = timer;
+            if (cancelled && timerFuture != null) {
+                timerFuture.cancel(false);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(triggerTimeNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            if (o == this) {
+                return 0;
+            }
+            return Longs.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * The gauges shared by the {@link VirtualThreadBlockingTaskExecutor}s with the same {@link MeterIdPrefix}.
+     */
+    static final class Gauges {
+
+        private final Set<VirtualThreadBlockingTaskExecutor> executors = ConcurrentHashMap.newKeySet(2);
+        // The number of the threads started by the executors which were purged.
+        private final LongAdder numPurgedStartedThreads = new LongAdder();
+
+        Gauges(MeterRegistry parent, MeterIdPrefix idPrefix) {
+            parent.gauge(idPrefix.name("virtual.threads"), idPrefix.tags(), this, Gauges::numActiveThreads);
+            FunctionCounter.builder(idPrefix.name("virtual.threads.started"), this, Gauges::numStartedThreads)
+                           .tags(idPrefix.tags())
+                           .register(parent);
+        }
+
+        void add(VirtualThreadBlockingTaskExecutor executor) {
+            executors.add(executor);
+        }
+
+        double numActiveThreads() {
+            int result = 0;
+            for (VirtualThreadBlockingTaskExecutor executor : executors) {
+                result += executor.numActiveThreads();
+                // Purge the executors that were terminated.
+                if (executor.isTerminated() && executors.remove(executor)) {
+                    numPurgedStartedThreads.add(executor.numStartedThreads());
+                }
+            }
+            return result;
+        }
+
+        double numStartedThreads() {
+            long result = numPurgedStartedThreads.sum();
+            for (VirtualThreadBlockingTaskExecutor executor : executors) {
+                result += executor.numStartedThreads();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.server.Server;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Builds a {@link BlockingTaskExecutor} which runs each task on its own virtual thread, so that
+ * the blocking tasks are never queued behind a bounded thread pool. The executor can be used for
+ * all services of a {@link Server} or only for the specific services:
+ * <pre>{@code
+ * BlockingTaskExecutor executor = BlockingTaskExecutor.virtualThreadBuilder()
+ *                                                     .threadNamePrefix("jdbc")
+ *                                                     .build();
+ * // Server-wide
+ * Server.builder()
+ *       .blockingTaskExecutor(executor, true)
+ *       ...
+ * // Per service
+ * Server.builder()
+ *       .annotatedService()
+ *       .blockingTaskExecutor(executor, true)
+ *       .useBlockingTaskExecutor(true)
+ *       .build(new UserService())
+ *       ...
+ * }</pre>
+ *
+ * <p>Note that virtual threads require Java 21 or above. {@link #build()} will fail with
+ * an {@link UnsupportedOperationException} on older JVMs.
+ *
+ * <h2>Pinned virtual threads</h2>
+ *
+ * <p>A virtual thread is pinned to its carrier thread when it blocks inside a {@code synchronized} block or
+ * a native call, which defeats the purpose of using virtual threads. If {@link #detectPinning(boolean)}
+ * is enabled, which is the default, the {@code jdk.VirtualThreadPinned} events are consumed from
+ * a JFR recording stream and the first occurrence is logged at {@code WARN} level with its stack trace.
+ * Note that the recording stream is shared by all executors and uses the {@link #pinnedThreshold(Duration)}
+ * of the first executor with pinning detection enabled as its threshold.
+ *
+ * <h2>Exported metrics</h2>
+ *
+ * <table>
+ * <caption>Metrics</caption>
+ * <tr><th>metric name</th><th>description</th></tr>
+ * <tr><td>{@code <prefix>.virtual.threads} (gauge)</td>
+ *     <td>the number of the virtual threads running a task</td></tr>
+ * <tr><td>{@code <prefix>.virtual.threads.started} (counter)</td>
+ *     <td>the total number of the virtual threads started</td></tr>
+ * <tr><td>{@code <prefix>.virtual.threads.pending} (timer)</td>
+ *     <td>the time taken for a virtual thread to be mounted on a carrier thread after submission</td></tr>
+ * <tr><td>{@code <prefix>.virtual.threads.pinned} (timer)</td>
+ *     <td>the time the virtual threads parked while pinned to their carrier threads</td></tr>
+ * <tr><td>{@code <prefix>.task.duration} (timer)</td>
+ *     <td>the wall-clock time taken to run a task, which includes the time the virtual thread was
+ *         parked by the blocking calls</td></tr>
+ * </table>
+ */
+@UnstableApi
+public final class VirtualThreadBlockingTaskExecutorBuilder {
+
+    static final String DEFAULT_THREAD_NAME_PREFIX = "armeria-blocking-tasks-virtual";
+    static final long DEFAULT_PINNED_THRESHOLD_MILLIS = 20;
+    static final String DEFAULT_METER_ID_PREFIX = "armeria.blocking.executor";
+
+    private String threadNamePrefix = DEFAULT_THREAD_NAME_PREFIX;
+    private Function<? super Runnable, ? extends Runnable> taskFunction = Function.identity();
+    private boolean detectPinning = true;
+    private Duration pinnedThreshold = Duration.ofMillis(DEFAULT_PINNED_THRESHOLD_MILLIS);
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    private MeterIdPrefix meterIdPrefix = new MeterIdPrefix(DEFAULT_METER_ID_PREFIX);
+
+    VirtualThreadBlockingTaskExecutorBuilder() {}
+
+    /**
+     * Sets the prefix of the virtual thread names.
+     * If unspecified, {@value #DEFAULT_THREAD_NAME_PREFIX} is used.
+     */
+    public VirtualThreadBlockingTaskExecutorBuilder threadNamePrefix(String threadNamePrefix) {
+        requireNonNull(threadNamePrefix, "threadNamePrefix");
+        checkArgument(!threadNamePrefix.isEmpty(), "threadNamePrefix is empty.");
+        this.threadNamePrefix = threadNamePrefix;
+        return this;
+    }
+
+    /**
+     * Sets the task function which decorates the {@link Runnable} run by each virtual thread.
+     * Use this method to set additional work before or after the {@link Runnable} is run.
+     *
+     * @see BlockingTaskExecutorBuilder#taskFunction(Function)
+     */
+    public VirtualThreadBlockingTaskExecutorBuilder taskFunction(
+            Function<? super Runnable, ? extends Runnable> taskFunction) {
+        this.taskFunction = requireNonNull(taskFunction, "taskFunction");
+        return this;
+    }
+
+    /**
+     * Sets whether to detect the virtual threads pinned to their carrier threads using JFR.
+     * This option is enabled by default.
+     */
+    public VirtualThreadBlockingTaskExecutorBuilder detectPinning(boolean detectPinning) {
+        this.detectPinning = detectPinning;
+        return this;
+    }
+
+    /**
+     * Sets the minimum time a virtual thread has to park while pinned to its carrier thread
+     * to be reported. If unspecified, {@value #DEFAULT_PINNED_THRESHOLD_MILLIS} milliseconds is used.
+     */
+    public VirtualThreadBlockingTaskExecutorBuilder pinnedThreshold(Duration pinnedThreshold) {
+        requireNonNull(pinnedThreshold, "pinnedThreshold");
+        checkArgument(!pinnedThreshold.isNegative(),
+                      "pinnedThreshold: %s (expected: >= 0)", pinnedThreshold);
+        this.pinnedThreshold = pinnedThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the minimum time in milliseconds a virtual thread has to park while pinned to its carrier thread
+     * to be reported. If unspecified, {@value #DEFAULT_PINNED_THRESHOLD_MILLIS} milliseconds is used.
+     */
+    public VirtualThreadBlockingTaskExecutorBuilder pinnedThresholdMillis(long pinnedThresholdMillis) {
+        checkArgument(pinnedThresholdMillis >= 0,
+                      "pinnedThresholdMillis: %s (expected: >= 0)", pinnedThresholdMillis);
+        return pinnedThreshold(Duration.ofMillis(pinnedThresholdMillis));
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} which collects the metrics of the executor.
+     * If unspecified, {@link Flags#meterRegistry()} is used.
+     */
+    public VirtualThreadBlockingTaskExecutorBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the metrics of the executor.
+     * If unspecified, {@value #DEFAULT_METER_ID_PREFIX} is used.
+     * The executors built with the same {@link MeterIdPrefix} share the same meters.
+     */
+    public VirtualThreadBlockingTaskExecutorBuilder meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link BlockingTaskExecutor} which runs each task on its own virtual thread.
+     *
+     * @throws UnsupportedOperationException if the current JVM does not support virtual threads
+     */
+    public BlockingTaskExecutor build() {
+        return new VirtualThreadBlockingTaskExecutor(threadNamePrefix, taskFunction, detectPinning,
+                                                     pinnedThreshold, meterRegistry, meterIdPrefix);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.util;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.internal.common.util.ReentrantShortLock;
+
+/**
+ * Provides the access to the virtual thread API and the JFR events about pinned virtual threads
+ * via reflection, because Armeria is built against Java 8.
+ */
+final class VirtualThreads {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    @Nullable
+    private static final Method ofVirtual;
+    @Nullable
+    private static final Method name;
+    @Nullable
+    private static final Method factory;
+    @Nullable
+    private static final Throwable unavailabilityCause;
+
+    private static final Set<VirtualThreadBlockingTaskExecutor> pinningListeners =
+            ConcurrentHashMap.newKeySet();
+    private static final ReentrantShortLock pinningLock = new ReentrantShortLock();
+    // A jdk.jfr.consumer.RecordingStream, which is closed when the last listener is removed.
+    @Nullable
+    private static AutoCloseable pinningMonitor;
+    private static boolean pinningMonitorFailed;
+
+    static {
+        Method ofVirtualMethod = null;
+        Method nameMethod = null;
+        Method factoryMethod = null;
+        Throwable cause = null;
+        try {
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            nameMethod = builderClass.getMethod("name", String.class, long.class);
+            factoryMethod = builderClass.getMethod("factory");
+            // Make sure that virtual threads are not disabled, e.g. by a preview flag on Java 19 and 20.
+            ofVirtualMethod.invoke(null);
+        } catch (Throwable t) {
+            ofVirtualMethod = null;
+            nameMethod = null;
+            factoryMethod = null;
+            cause = Exceptions.peel(t);
+        }
+        ofVirtual = ofVirtualMethod;
+        name = nameMethod;
+        factory = factoryMethod;
+        unavailabilityCause = cause;
+    }
+
+    /**
+     * Returns whether the current JVM supports virtual threads.
+     */
+    static boolean isAvailable() {
+        return unavailabilityCause == null;
+    }
+
+    /**
+     * Returns a new {@link ThreadFactory} which creates a virtual thread whose name starts with
+     * the specified {@code threadNamePrefix}.
+     *
+     * @throws UnsupportedOperationException if the current JVM does not support virtual threads
+     */
+    static ThreadFactory newThreadFactory(String threadNamePrefix) {
+        if (unavailabilityCause != null) {
+            throw new UnsupportedOperationException(
+                    "virtual threads are not available in this JVM (expected: Java 21 or above, current: " +
+                    SystemInfo.javaVersion() + ')', unavailabilityCause);
+        }
+        assert ofVirtual != null;
+        assert name != null;
+        assert factory != null;
+        try {
+            Object builder = ofVirtual.invoke(null);
+            builder = name.invoke(builder, threadNamePrefix + '-', 0L);
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (Exception e) {
+            throw new IllegalStateException("failed to create a virtual thread factory", Exceptions.peel(e));
+        }
+    }
+
+    /**
+     * Starts to notify the specified {@link VirtualThreadBlockingTaskExecutor} when one of its virtual
+     * threads parks longer than the {@code threshold} while pinned to its carrier thread.
+     * A single JFR recording stream is shared by all {@link VirtualThreadBlockingTaskExecutor}s.
+     */
+    static void addPinningListener(VirtualThreadBlockingTaskExecutor executor, Duration threshold) {
+        pinningLock.lock();
+        try {
+            pinningListeners.add(executor);
+            if (pinningMonitor == null && !pinningMonitorFailed) {
+                pinningMonitor = startPinningMonitor(threshold);
+                pinningMonitorFailed = pinningMonitor == null;
+            }
+        } finally {
+            pinningLock.unlock();
+        }
+    }
+
+    /**
+     * Stops notifying the specified {@link VirtualThreadBlockingTaskExecutor}. The JFR recording stream is
+     * closed when no {@link VirtualThreadBlockingTaskExecutor} is listening.
+     */
+    static void removePinningListener(VirtualThreadBlockingTaskExecutor executor) {
+        final AutoCloseable monitor;
+        pinningLock.lock();
+        try {
+            if (!pinningListeners.remove(executor) || !pinningListeners.isEmpty()) {
+                return;
+            }
+            monitor = pinningMonitor;
+            pinningMonitor = null;
+        } finally {
+            pinningLock.unlock();
+        }
+        if (monitor != null) {
+            try {
+                monitor.close();
+            } catch (Throwable t) {
+                logger.warn("Failed to close the JFR recording stream for {} events.", PINNED_EVENT_NAME, t);
+            }
+        }
+    }
+
+    @Nullable
+    private static AutoCloseable startPinningMonitor(Duration threshold) {
+        try {
+            final Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            final Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            final Class<?> eventClass = Class.forName("jdk.jfr.consumer.RecordedEvent");
+            final Class<?> threadClass = Class.forName("jdk.jfr.consumer.RecordedThread");
+            final Method getThread = eventClass.getMethod("getThread");
+            final Method getDuration = eventClass.getMethod("getDuration");
+            final Method getJavaName = threadClass.getMethod("getJavaName");
+
+            final Object stream = streamClass.getConstructor().newInstance();
+            final Object settings = streamClass.getMethod("enable", String.class)
+                                               .invoke(stream, PINNED_EVENT_NAME);
+            settingsClass.getMethod("withThreshold", Duration.class).invoke(settings, threshold);
+            settingsClass.getMethod("withStackTrace").invoke(settings);
+
+            final Consumer<Object> action = event -> {
+                try {
+                    final Object thread = getThread.invoke(event);
+                    if (thread == null) {
+                        return;
+                    }
+                    final String threadName = (String) getJavaName.invoke(thread);
+                    if (threadName == null) {
+                        return;
+                    }
+                    final Duration duration = (Duration) getDuration.invoke(event);
+                    for (VirtualThreadBlockingTaskExecutor executor : pinningListeners) {
+                        if (executor.onPinned(threadName, duration, event)) {
+                            break;
+                        }
+                    }
+                } catch (Throwable t) {
+                    logger.debug("Failed to handle a {} event: {}", PINNED_EVENT_NAME, event, t);
+                }
+            };
+            streamClass.getMethod("onEvent", String.class, Consumer.class)
+                       .invoke(stream, PINNED_EVENT_NAME, action);
+            streamClass.getMethod("startAsync").invoke(stream);
+            return (AutoCloseable) stream;
+        } catch (Throwable t) {
+            logger.warn("Failed to start a JFR recording stream for {} events. " +
+                        "Pinned virtual threads will not be detected.",
+                        PINNED_EVENT_NAME, Exceptions.peel(t));
+            return null;
+        }
+    }
+
+    private VirtualThreads() {}
+}
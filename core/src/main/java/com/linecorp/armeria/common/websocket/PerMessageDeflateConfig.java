@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.websocket;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * The configuration of the <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a>
+ * extension which compresses the payload of WebSocket messages.
+ *
+ * @see PerMessageDeflateConfigBuilder
+ */
+@UnstableApi
+public final class PerMessageDeflateConfig {
+
+    private static final PerMessageDeflateConfig DEFAULT = builder().build();
+
+    /**
+     * Returns the default {@link PerMessageDeflateConfig}.
+     */
+    public static PerMessageDeflateConfig ofDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a new {@link PerMessageDeflateConfigBuilder}.
+     */
+    public static PerMessageDeflateConfigBuilder builder() {
+        return new PerMessageDeflateConfigBuilder();
+    }
+
+    private final int compressionLevel;
+    private final boolean serverNoContextTakeover;
+    private final boolean clientNoContextTakeover;
+    private final int serverMaxWindowBits;
+    private final int clientMaxWindowBits;
+    private final long maxMemoryPerConnection;
+
+    PerMessageDeflateConfig(int compressionLevel, boolean serverNoContextTakeover,
+                            boolean clientNoContextTakeover, int serverMaxWindowBits,
+                            int clientMaxWindowBits, long maxMemoryPerConnection) {
+        this.compressionLevel = compressionLevel;
+        this.serverNoContextTakeover = serverNoContextTakeover;
+        this.clientNoContextTakeover = clientNoContextTakeover;
+        this.serverMaxWindowBits = serverMaxWindowBits;
+        this.clientMaxWindowBits = clientMaxWindowBits;
+        this.maxMemoryPerConnection = maxMemoryPerConnection;
+    }
+
+    /**
+     * Returns the compression level between {@code 0} and {@code 9}.
+     */
+    public int compressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Returns whether the server resets its compression context after each message.
+     */
+    public boolean serverNoContextTakeover() {
+        return serverNoContextTakeover;
+    }
+
+    /**
+     * Returns whether the client resets its compression context after each message.
+     */
+    public boolean clientNoContextTakeover() {
+        return clientNoContextTakeover;
+    }
+
+    /**
+     * Returns the base-2 logarithm of the LZ77 sliding window size that a client asks the server to
+     * limit its compression to.
+     */
+    public int serverMaxWindowBits() {
+        return serverMaxWindowBits;
+    }
+
+    /**
+     * Returns the base-2 logarithm of the LZ77 sliding window size that a server asks the client to
+     * limit its compression to.
+     */
+    public int clientMaxWindowBits() {
+        return clientMaxWindowBits;
+    }
+
+    /**
+     * Returns the maximum number of bytes that the compression contexts of a connection are allowed to
+     * retain between messages.
+     */
+    public long maxMemoryPerConnection() {
+        return maxMemoryPerConnection;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PerMessageDeflateConfig)) {
+            return false;
+        }
+        final PerMessageDeflateConfig that = (PerMessageDeflateConfig) o;
+        return compressionLevel == that.compressionLevel &&
+               serverNoContextTakeover == that.serverNoContextTakeover &&
+               clientNoContextTakeover == that.clientNoContextTakeover &&
+               serverMaxWindowBits == that.serverMaxWindowBits &&
+               clientMaxWindowBits == that.clientMaxWindowBits &&
+               maxMemoryPerConnection == that.maxMemoryPerConnection;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = compressionLevel;
+        hash = hash * 31 + Boolean.hashCode(serverNoContextTakeover);
+        hash = hash * 31 + Boolean.hashCode(clientNoContextTakeover);
+        hash = hash * 31 + serverMaxWindowBits;
+        hash = hash * 31 + clientMaxWindowBits;
+        return hash * 31 + Long.hashCode(maxMemoryPerConnection);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("compressionLevel", compressionLevel)
+                          .add("serverNoContextTakeover", serverNoContextTakeover)
+                          .add("clientNoContextTakeover", clientNoContextTakeover)
+                          .add("serverMaxWindowBits", serverMaxWindowBits)
+                          .add("clientMaxWindowBits", clientMaxWindowBits)
+                          .add("maxMemoryPerConnection", maxMemoryPerConnection)
+                          .toString();
+    }
+}
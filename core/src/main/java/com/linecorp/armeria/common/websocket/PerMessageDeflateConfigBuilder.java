@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.websocket;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * Builds a {@link PerMessageDeflateConfig}.
+ *
+ * <p>Note that the compressor always uses the LZ77 sliding window of 32 KiB (15 bits) because
+ * {@link java.util.zip.Deflater} does not allow to change it. Therefore, a server declines an offer which
+ * asks to limit {@code server_max_window_bits}, and a client never offers {@code client_max_window_bits}.
+ * The window bits of the peer's compressor can be limited with {@link #serverMaxWindowBits(int)} and
+ * {@link #clientMaxWindowBits(int)} to reduce the memory usage of the peer.
+ */
+@UnstableApi
+public final class PerMessageDeflateConfigBuilder {
+
+    static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    static final int MIN_WINDOW_BITS = 8;
+    static final int MAX_WINDOW_BITS = 15;
+
+    private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    private boolean serverNoContextTakeover;
+    private boolean clientNoContextTakeover;
+    private int serverMaxWindowBits = MAX_WINDOW_BITS;
+    private int clientMaxWindowBits = MAX_WINDOW_BITS;
+    private long maxMemoryPerConnection = Long.MAX_VALUE;
+
+    PerMessageDeflateConfigBuilder() {}
+
+    /**
+     * Sets the compression level between {@code 0} and {@code 9}.
+     * {@value DEFAULT_COMPRESSION_LEVEL} is used by default.
+     */
+    public PerMessageDeflateConfigBuilder compressionLevel(int compressionLevel) {
+        checkArgument(compressionLevel >= 0 && compressionLevel <= 9,
+                      "compressionLevel: %s (expected: 0-9)", compressionLevel);
+        this.compressionLevel = compressionLevel;
+        return this;
+    }
+
+    /**
+     * Sets whether the server resets its compression context after each message.
+     * A server applies this option by including {@code server_no_context_takeover} in its response and
+     * a client applies it by including it in its offer. It's disabled by default.
+     */
+    public PerMessageDeflateConfigBuilder serverNoContextTakeover(boolean serverNoContextTakeover) {
+        this.serverNoContextTakeover = serverNoContextTakeover;
+        return this;
+    }
+
+    /**
+     * Sets whether the client resets its compression context after each message.
+     * A server applies this option by including {@code client_no_context_takeover} in its response and
+     * a client applies it by including it in its offer. It's disabled by default.
+     */
+    public PerMessageDeflateConfigBuilder clientNoContextTakeover(boolean clientNoContextTakeover) {
+        this.clientNoContextTakeover = clientNoContextTakeover;
+        return this;
+    }
+
+    /**
+     * Sets the base-2 logarithm of the LZ77 sliding window size that a client asks the server to limit its
+     * compression to. This option is used only by a client. {@value MAX_WINDOW_BITS} is used by default.
+     */
+    public PerMessageDeflateConfigBuilder serverMaxWindowBits(int serverMaxWindowBits) {
+        checkWindowBits(serverMaxWindowBits, "serverMaxWindowBits");
+        this.serverMaxWindowBits = serverMaxWindowBits;
+        return this;
+    }
+
+    /**
+     * Sets the base-2 logarithm of the LZ77 sliding window size that a server asks the client to limit its
+     * compression to. This option is used only by a server and only if the client's offer includes
+     * {@code client_max_window_bits}. {@value MAX_WINDOW_BITS} is used by default.
+     */
+    public PerMessageDeflateConfigBuilder clientMaxWindowBits(int clientMaxWindowBits) {
+        checkWindowBits(clientMaxWindowBits, "clientMaxWindowBits");
+        this.clientMaxWindowBits = clientMaxWindowBits;
+        return this;
+    }
+
+    private static void checkWindowBits(int windowBits, String name) {
+        checkArgument(windowBits >= MIN_WINDOW_BITS && windowBits <= MAX_WINDOW_BITS,
+                      "%s: %s (expected: %s-%s)", name, windowBits, MIN_WINDOW_BITS, MAX_WINDOW_BITS);
+    }
+
+    /**
+     * Sets the maximum number of bytes that the compression contexts of a connection are allowed to retain
+     * between messages. A compressor retains about 256 KiB and a decompressor retains about 40 KiB when
+     * the context takeover is used. If the estimated memory usage of a connection exceeds this value,
+     * the context takeover of the compressor and then the decompressor is disabled so that the contexts are
+     * released after each message, which trades the compression ratio and CPU for memory.
+     * The memory is not limited by default.
+     */
+    public PerMessageDeflateConfigBuilder maxMemoryPerConnection(long maxMemoryPerConnection) {
+        checkArgument(maxMemoryPerConnection >= 0,
+                      "maxMemoryPerConnection: %s (expected: >= 0)", maxMemoryPerConnection);
+        this.maxMemoryPerConnection = maxMemoryPerConnection;
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link PerMessageDeflateConfig} with the properties set so far.
+     */
+    public PerMessageDeflateConfig build() {
+        return new PerMessageDeflateConfig(compressionLevel, serverNoContextTakeover, clientNoContextTakeover,
+                                           serverMaxWindowBits, clientMaxWindowBits, maxMemoryPerConnection);
+    }
+}
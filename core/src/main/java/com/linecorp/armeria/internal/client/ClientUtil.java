@@ -233,14 +233,25 @@ public final class ClientUtil {
                                                          @Nullable HttpRequest req,
                                                          @Nullable RpcRequest rpcReq,
                                                          boolean initialAttempt) {
-        final RequestId id = ctx.options().requestIdGenerator().get();
         final EndpointGroup endpointGroup = ctx.endpointGroup();
-        final ClientRequestContext derived;
+        final Endpoint endpoint;
         if (endpointGroup != null && !initialAttempt) {
-            derived = ctx.newDerivedContext(id, req, rpcReq, endpointGroup.selectNow(ctx));
+            endpoint = endpointGroup.selectNow(ctx);
         } else {
-            derived = ctx.newDerivedContext(id, req, rpcReq, ctx.endpoint());
+            endpoint = ctx.endpoint();
         }
+        return newDerivedContext(ctx, req, rpcReq, endpoint);
+    }
+
+    /**
+     * Creates a new derived {@link ClientRequestContext}, replacing the requests and the {@link Endpoint}.
+     */
+    public static ClientRequestContext newDerivedContext(ClientRequestContext ctx,
+                                                         @Nullable HttpRequest req,
+                                                         @Nullable RpcRequest rpcReq,
+                                                         @Nullable Endpoint endpoint) {
+        final RequestId id = ctx.options().requestIdGenerator().get();
+        final ClientRequestContext derived = ctx.newDerivedContext(id, req, rpcReq, endpoint);
 
         final RequestLogAccess parentLog = ctx.log();
         final RequestLog partial = parentLog.partial();
@@ -69,6 +69,16 @@ public interface HttpSession {
             return false;
         }
 
+        @Override
+        public int numUnfinishedResponses() {
+            return 0;
+        }
+
+        @Override
+        public int maxUnfinishedResponses() {
+            return 0;
+        }
+
         @Override
         public void invoke(PooledChannel pooledChannel, ClientRequestContext ctx,
                            HttpRequest req, DecodedHttpResponse res) {
@@ -156,6 +166,18 @@ public interface HttpSession {
 
     boolean incrementNumUnfinishedResponses();
 
+    /**
+     * Returns the number of the requests which were sent or reserved but whose responses are not
+     * complete yet. For an HTTP/2 session, this is the number of the streams in flight.
+     */
+    int numUnfinishedResponses();
+
+    /**
+     * Returns the maximum number of the unfinished responses allowed by the remote peer, i.e.
+     * {@code SETTINGS_MAX_CONCURRENT_STREAMS} for an HTTP/2 session.
+     */
+    int maxUnfinishedResponses();
+
     void invoke(PooledChannel pooledChannel, ClientRequestContext ctx,
                 HttpRequest req, DecodedHttpResponse res);
 
@@ -42,13 +42,24 @@ class ArmeriaHttp2Headers implements Http2Headers {
     }
 
     private final HttpHeadersBuilder delegate;
+    @Nullable
+    private final Http2HeaderInterner interner;
 
     ArmeriaHttp2Headers() {
         this(HttpHeaders.builder());
     }
 
+    ArmeriaHttp2Headers(@Nullable Http2HeaderInterner interner) {
+        this(HttpHeaders.builder(), interner);
+    }
+
     ArmeriaHttp2Headers(HttpHeadersBuilder delegate) {
+        this(delegate, null);
+    }
+
+    private ArmeriaHttp2Headers(HttpHeadersBuilder delegate, @Nullable Http2HeaderInterner interner) {
         this.delegate = delegate;
+        this.interner = interner;
     }
 
     HttpHeadersBuilder delegate() {
@@ -428,6 +439,11 @@ class ArmeriaHttp2Headers implements Http2Headers {
 
     @Override
     public Http2Headers add(CharSequence name, CharSequence value) {
+        if (interner != null) {
+            final AsciiString headerName = interner.name(name);
+            delegate.add(headerName, interner.value(headerName, value));
+            return this;
+        }
         final AsciiString headerName = HttpHeaderNames.of(name);
         delegate.add(headerName, ArmeriaHttpUtil.convertHeaderValue(headerName, value));
         return this;
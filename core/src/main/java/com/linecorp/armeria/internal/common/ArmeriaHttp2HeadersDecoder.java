@@ -27,6 +27,6 @@ public final class ArmeriaHttp2HeadersDecoder extends DefaultHttp2HeadersDecoder
 
     @Override
     protected Http2Headers newHeaders() {
-        return new ArmeriaHttp2Headers().sizeHint(numberOfHeadersGuess());
+        return new ArmeriaHttp2Headers(Http2HeaderInterner.get()).sizeHint(numberOfHeadersGuess());
     }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.ByteBufAccessMode;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.util.Exceptions;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+
+/**
+ * An {@link HttpData} which refers to a region of a file instead of holding its content. An HTTP/1 encoder
+ * on a cleartext connection writes it as a {@link FileRegion}, so that the content is sent by the kernel
+ * using {@code sendfile()} without being copied into the user space.
+ *
+ * <p>The content is read from the file only when it is accessed, e.g. by a decorator or an encoder which
+ * does not support {@link FileRegion}. Such an access performs a blocking file I/O in the calling thread,
+ * which is usually an event loop, so this should be emitted only when nothing is going to transform or
+ * inspect the content on its way to the connection.
+ */
+public final class FileRegionHttpData implements HttpData {
+
+    /**
+     * The maximum length of a region. A file larger than this is split into multiple regions, so that
+     * the length of each region fits into an {@code int} and a fallback read does not allocate too much.
+     */
+    public static final int MAX_REGION_LENGTH = 16 * 1024 * 1024;
+
+    /**
+     * Returns a new {@link FileRegionHttpData} which refers to the specified region of the file.
+     */
+    public static FileRegionHttpData of(Path path, long position, int length, boolean endOfStream) {
+        requireNonNull(path, "path");
+        checkArgument(position >= 0, "position: %s (expected: >= 0)", position);
+        checkArgument(length > 0 && length <= MAX_REGION_LENGTH,
+                      "length: %s (expected: 0 < length <= %s)", length, MAX_REGION_LENGTH);
+        return new FileRegionHttpData(path, position, length, endOfStream, null);
+    }
+
+    private final Path path;
+    private final long position;
+    private final int length;
+    private final boolean endOfStream;
+
+    @Nullable
+    private volatile HttpData content;
+
+    private FileRegionHttpData(Path path, long position, int length, boolean endOfStream,
+                               @Nullable HttpData content) {
+        this.path = path;
+        this.position = position;
+        this.length = length;
+        this.endOfStream = endOfStream;
+        this.content = content;
+    }
+
+    /**
+     * Returns the {@link Path} of the file.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Returns the position of the region in the file.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Returns a new {@link FileRegion} which transfers this region of the file. The file is opened when
+     * the {@link FileRegion} is transferred for the first time and closed when it is released.
+     */
+    public FileRegion newFileRegion() {
+        return new DefaultFileRegion(path.toFile(), position, length);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public boolean isEndOfStream() {
+        return endOfStream;
+    }
+
+    @Override
+    public HttpData withEndOfStream(boolean endOfStream) {
+        if (this.endOfStream == endOfStream) {
+            return this;
+        }
+        return new FileRegionHttpData(path, position, length, endOfStream, content);
+    }
+
+    @Override
+    public byte[] array() {
+        return content().array();
+    }
+
+    @Override
+    public String toString(Charset charset) {
+        return content().toString(charset);
+    }
+
+    @Override
+    public InputStream toInputStream() {
+        return content().toInputStream();
+    }
+
+    @Override
+    public boolean isPooled() {
+        return false;
+    }
+
+    @Override
+    public ByteBuf byteBuf(ByteBufAccessMode mode) {
+        return content().byteBuf(mode);
+    }
+
+    @Override
+    public ByteBuf byteBuf(int offset, int length, ByteBufAccessMode mode) {
+        return content().byteBuf(offset, length, mode);
+    }
+
+    @Override
+    public void close() {}
+
+    private HttpData content() {
+        HttpData content = this.content;
+        if (content == null) {
+            this.content = content = HttpData.wrap(readContent()).withEndOfStream(endOfStream);
+        }
+        return content;
+    }
+
+    private byte[] readContent() {
+        final byte[] array = new byte[length];
+        final ByteBuffer buf = ByteBuffer.wrap(array);
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buf.hasRemaining()) {
+                if (ch.read(buf, position + buf.position()) < 0) {
+                    // The file has been truncated.
+                    throw new EOFException("unexpected end of file: " + path);
+                }
+            }
+        } catch (IOException e) {
+            return Exceptions.throwUnsafely(e);
+        }
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("path", path)
+                          .add("position", position)
+                          .add("length", length)
+                          .add("endOfStream", endOfStream)
+                          .toString();
+    }
+}
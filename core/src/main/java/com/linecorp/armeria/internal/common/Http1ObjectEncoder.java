@@ -35,6 +35,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -177,6 +178,9 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
         }
 
         try {
+            if (data instanceof FileRegionHttpData && !protocol.isTls()) {
+                return doWriteFileRegion(id, (FileRegionHttpData) data, endStream);
+            }
             if (!protocol.isTls() || length <= MAX_TLS_DATA_LENGTH) {
                 // Cleartext connection or data.length() <= MAX_TLS_DATA_LENGTH
                 return doWriteUnsplitData(id, data, endStream);
@@ -211,6 +215,16 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
         }
     }
 
+    private ChannelFuture doWriteFileRegion(int id, FileRegionHttpData data, boolean endStream) {
+        // Write the region as it is so that the kernel sends the content using sendfile().
+        ChannelFuture future = write(id, data.newFileRegion(), false);
+        if (endStream) {
+            future = write(id, LastHttpContent.EMPTY_LAST_CONTENT, true);
+        }
+        ch.flush();
+        return future;
+    }
+
     private ChannelFuture doWriteSplitData(int id, HttpData data, boolean endStream) {
         try {
             int offset = 0;
@@ -238,11 +252,11 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
         }
     }
 
-    protected final ChannelFuture write(int id, HttpObject obj, boolean endStream) {
+    protected final ChannelFuture write(int id, Object obj, boolean endStream) {
         return write(id, obj, endStream, ch.newPromise());
     }
 
-    final ChannelFuture write(int id, HttpObject obj, boolean endStream, ChannelPromise promise) {
+    final ChannelFuture write(int id, Object obj, boolean endStream, ChannelPromise promise) {
         if (id < currentId) {
             // Attempted to write something on a finished request/response; discard.
             // e.g. the request already timed out.
@@ -284,7 +298,7 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
 
             return future;
         } else {
-            final Entry<HttpObject, ChannelPromise> entry = new SimpleImmutableEntry<>(obj, promise);
+            final Entry<Object, ChannelPromise> entry = new SimpleImmutableEntry<>(obj, promise);
             final PendingWrites pendingWrites;
             if (currentPendingWrites == null) {
                 pendingWrites = new PendingWrites();
@@ -304,7 +318,11 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
         }
     }
 
-    protected abstract ChannelFuture write(HttpObject obj, ChannelPromise promise);
+    /**
+     * Writes the specified message, which is either an {@link HttpObject} or a {@link FileRegion},
+     * to the {@link Channel}.
+     */
+    protected abstract ChannelFuture write(Object obj, ChannelPromise promise);
 
     protected int currentId() {
         return currentId;
@@ -312,7 +330,7 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
 
     private void flushPendingWrites(PendingWrites pendingWrites) {
         for (;;) {
-            final Entry<HttpObject, ChannelPromise> e = pendingWrites.poll();
+            final Entry<Object, ChannelPromise> e = pendingWrites.poll();
             if (e == null) {
                 break;
             }
@@ -357,7 +375,7 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
             for (int i = minClosedId; i <= maxIdWithPendingWrites; i++) {
                 final PendingWrites pendingWrites = pendingWritesMap.remove(i);
                 for (;;) {
-                    final Entry<HttpObject, ChannelPromise> e = pendingWrites.poll();
+                    final Entry<Object, ChannelPromise> e = pendingWrites.poll();
                     if (e == null) {
                         break;
                     }
@@ -402,9 +420,9 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
             return;
         }
 
-        for (Queue<Entry<HttpObject, ChannelPromise>> queue : pendingWritesMap.values()) {
+        for (Queue<Entry<Object, ChannelPromise>> queue : pendingWritesMap.values()) {
             for (;;) {
-                final Entry<HttpObject, ChannelPromise> e = queue.poll();
+                final Entry<Object, ChannelPromise> e = queue.poll();
                 if (e == null) {
                     break;
                 }
@@ -421,7 +439,7 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
         return closed || !channel().isActive();
     }
 
-    private static final class PendingWrites extends ArrayDeque<Entry<HttpObject, ChannelPromise>> {
+    private static final class PendingWrites extends ArrayDeque<Entry<Object, ChannelPromise>> {
 
         private static final long serialVersionUID = 4241891747461017445L;
 
@@ -432,7 +450,7 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
         }
 
         @Override
-        public boolean add(Entry<HttpObject, ChannelPromise> httpObjectChannelPromiseEntry) {
+        public boolean add(Entry<Object, ChannelPromise> httpObjectChannelPromiseEntry) {
             return isEndOfStream() ? false : super.add(httpObjectChannelPromiseEntry);
         }
 
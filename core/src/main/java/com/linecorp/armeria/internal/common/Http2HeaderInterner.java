@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.util.AsciiString;
+
+/**
+ * Maps the header names and values decoded by HPACK to the shared instances, so that the header fields
+ * repeated across the streams do not allocate a new {@link String} for every stream.
+ *
+ * <p>The tables are direct-mapped and bounded. A slot holds an immutable entry and is overwritten by
+ * the latest header field whose hash falls into the slot, so a race between two threads results in
+ * only a cache miss. The header fields which are likely to be unique per request, such as {@code :path},
+ * or which contain credentials are never interned.
+ *
+ * @see Flags#internHttp2Headers()
+ */
+final class Http2HeaderInterner {
+
+    @Nullable
+    private static final Http2HeaderInterner INSTANCE =
+            Flags.internHttp2Headers() ? new Http2HeaderInterner() : null;
+
+    @VisibleForTesting
+    static final int MAX_VALUE_LENGTH = 256;
+
+    private static final int NAME_TABLE_SIZE = 256;
+    private static final int VALUE_TABLE_SIZE = 4096;
+
+    private static final ImmutableSet<AsciiString> EXCLUDED_NAMES =
+            ImmutableSet.of(HttpHeaderNames.PATH, HttpHeaderNames.AUTHORIZATION,
+                            HttpHeaderNames.PROXY_AUTHORIZATION, HttpHeaderNames.COOKIE,
+                            HttpHeaderNames.SET_COOKIE);
+
+    /**
+     * Returns the shared {@link Http2HeaderInterner}, or {@code null} if
+     * {@link Flags#internHttp2Headers()} is disabled.
+     */
+    @Nullable
+    static Http2HeaderInterner get() {
+        return INSTANCE;
+    }
+
+    private final NameEntry[] names = new NameEntry[NAME_TABLE_SIZE];
+    private final ValueEntry[] values = new ValueEntry[VALUE_TABLE_SIZE];
+
+    @VisibleForTesting
+    Http2HeaderInterner() {}
+
+    /**
+     * Returns the shared header name which equals to what {@link HttpHeaderNames#of(CharSequence)} returns
+     * for the specified {@code name}.
+     */
+    AsciiString name(CharSequence name) {
+        if (!(name instanceof AsciiString)) {
+            return HttpHeaderNames.of(name);
+        }
+
+        final AsciiString rawName = (AsciiString) name;
+        final int index = rawName.hashCode() & (NAME_TABLE_SIZE - 1);
+        final NameEntry entry = names[index];
+        if (entry != null && (entry.rawName == rawName || entry.rawName.contentEquals(rawName))) {
+            return entry.name;
+        }
+
+        final AsciiString headerName = HttpHeaderNames.of(rawName);
+        names[index] = new NameEntry(rawName, headerName);
+        return headerName;
+    }
+
+    /**
+     * Returns the shared {@link String} which equals to the specified header {@code value}.
+     * The specified {@code name} must be the one returned by {@link #name(CharSequence)}.
+     */
+    String value(AsciiString name, CharSequence value) {
+        if (!(value instanceof AsciiString) || value.length() > MAX_VALUE_LENGTH ||
+            EXCLUDED_NAMES.contains(name)) {
+            return ArmeriaHttpUtil.convertHeaderValue(name, value);
+        }
+
+        final AsciiString rawValue = (AsciiString) value;
+        final int index = rawValue.hashCode() & (VALUE_TABLE_SIZE - 1);
+        final ValueEntry entry = values[index];
+        if (entry != null && (entry.rawValue == rawValue || entry.rawValue.contentEquals(rawValue))) {
+            return entry.value;
+        }
+
+        final String converted = rawValue.toString();
+        values[index] = new ValueEntry(rawValue, converted);
+        return converted;
+    }
+
+    private static final class NameEntry {
+        final AsciiString rawName;
+        final AsciiString name;
+
+        NameEntry(AsciiString rawName, AsciiString name) {
+            this.rawName = rawName;
+            this.name = name;
+        }
+    }
+
+    private static final class ValueEntry {
+        final AsciiString rawValue;
+        final String value;
+
+        ValueEntry(AsciiString rawValue, String value) {
+            this.rawValue = rawValue;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.encoding;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.netty.handler.codec.compression.Zstd;
+
+public final class ZstdAvailability {
+
+    // The range of the compression levels supported by zstd-jni.
+    // See: https://facebook.github.io/zstd/zstd_manual.html#Chapter5
+    public static final int MIN_LEVEL = -(1 << 17);
+    public static final int MAX_LEVEL = 22;
+
+    // The compression level used by the Zstandard CLI by default.
+    public static final int DEFAULT_LEVEL = 3;
+
+    public static void ensureAvailable() {
+        if (!Zstd.isAvailable()) {
+            throw new IllegalStateException(
+                    "Zstandard is not available. Add 'com.github.luben:zstd-jni' to the class path.",
+                    Zstd.cause());
+        }
+    }
+
+    public static void validateLevel(int level) {
+        checkArgument(level >= MIN_LEVEL && level <= MAX_LEVEL,
+                      "level: %s (expected: %s <= level <= %s)", level, MIN_LEVEL, MAX_LEVEL);
+    }
+
+    private ZstdAvailability() {}
+}
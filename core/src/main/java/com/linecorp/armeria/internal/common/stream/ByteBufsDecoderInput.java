@@ -26,6 +26,7 @@ import com.linecorp.armeria.common.stream.StreamDecoderInput;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 
 public final class ByteBufsDecoderInput implements StreamDecoderInput {
@@ -225,6 +226,56 @@ public final class ByteBufsDecoderInput implements StreamDecoderInput {
         this.readableBytes -= length;
     }
 
+    /**
+     * Reads the specified {@code length} of bytes as a {@link ByteBuf} composed of the retained slices of
+     * the {@link ByteBuf}s in this input. Unlike {@link #readBytes(int)}, the bytes spanning multiple
+     * {@link ByteBuf}s are not copied into a new {@link ByteBuf}, so the returned {@link ByteBuf} may consist
+     * of many components. Use this method only when the returned {@link ByteBuf} is read through
+     * {@link ByteBuf#nioBuffers()}.
+     *
+     * @throws IllegalStateException if the specified {@code length} is greater than {@link #readableBytes()}
+     */
+    public ByteBuf readRetainedSlices(int length) {
+        if (length == 0) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+        checkArgument(length > 0, "length %s (expected: length > 0)", length);
+        final ByteBuf firstBuf = queue.peek();
+        if (firstBuf == null) {
+            throw newEndOfInputException();
+        }
+        if (firstBuf.readableBytes() >= length) {
+            return readBytes(length);
+        }
+        if (readableBytes < length) {
+            throw newEndOfInputException();
+        }
+
+        final CompositeByteBuf value = alloc.compositeBuffer(Integer.MAX_VALUE);
+        int remaining = length;
+        for (final Iterator<ByteBuf> it = queue.iterator(); it.hasNext();) {
+            final ByteBuf buf = it.next();
+            final int readableBytes = buf.readableBytes();
+            assert readableBytes > 0 : buf;
+
+            if (readableBytes <= remaining) {
+                // Transfer the ownership of the whole buffer.
+                it.remove();
+                value.addComponent(true, buf);
+                remaining -= readableBytes;
+            } else {
+                value.addComponent(true, buf.readRetainedSlice(remaining));
+                remaining = 0;
+            }
+            if (remaining == 0) {
+                break;
+            }
+        }
+
+        this.readableBytes -= length;
+        return value;
+    }
+
     private ByteBuf readBytesSlow(int length) {
         final ByteBuf value = alloc.buffer(length);
         int remaining = length;
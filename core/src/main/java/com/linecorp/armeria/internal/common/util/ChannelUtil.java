@@ -45,7 +45,9 @@ import com.linecorp.armeria.common.util.UnmodifiableFuture;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.FileRegion;
 import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.unix.DomainSocketChannel;
 import io.netty.handler.ssl.SslHandler;
 
@@ -179,6 +181,25 @@ public final class ChannelUtil {
         channel.config().setWriteBufferWaterMark(DISABLED_WRITE_BUFFER_WATERMARK);
     }
 
+    /**
+     * Returns whether the specified {@link Channel} can write a {@link FileRegion} without copying its content
+     * into the user space, i.e. the {@link Channel} is a TCP socket of a known {@link TransportType} and
+     * its traffic is not encrypted.
+     */
+    public static boolean supportsFileRegion(Channel channel) {
+        if (!(channel instanceof SocketChannel) || channel.pipeline().get(SslHandler.class) != null) {
+            return false;
+        }
+
+        final Class<?> channelType = channel.getClass();
+        for (TransportType transportType : TransportType.values()) {
+            if (transportType.isAvailable() && transportType.socketChannelType() == channelType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Finds the {@link SSLSession} of the current TLS connection.
      *
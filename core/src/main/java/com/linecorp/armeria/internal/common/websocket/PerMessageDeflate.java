@@ -0,0 +1,352 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.websocket;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ascii;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
+
+/**
+ * The negotiated parameters of the
+ * <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a> extension.
+ */
+public final class PerMessageDeflate {
+
+    static final String EXTENSION_NAME = "permessage-deflate";
+
+    // The RSV1 bit in the first byte of a frame after being shifted by 4 bits.
+    static final int RSV1 = 0x4;
+
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    private static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    private static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+
+    private static final int MAX_WINDOW_BITS = 15;
+
+    // The memory used by zlib is estimated with the formula in zconf.h where windowBits is 15 and
+    // memLevel is 8 which are used by java.util.zip:
+    // - deflate: (1 << (windowBits + 2)) + (1 << (memLevel + 9))
+    // - inflate: (1 << windowBits) + about 7 KiB
+    @VisibleForTesting
+    static final long DEFLATER_MEMORY = (1 << 17) + (1 << 17);
+    @VisibleForTesting
+    static final long INFLATER_MEMORY = (1 << 15) + 7 * 1024;
+
+    private static final Splitter extensionSplitter = Splitter.on(',').trimResults().omitEmptyStrings();
+    private static final Splitter parameterSplitter = Splitter.on(';').trimResults().omitEmptyStrings();
+
+    /**
+     * Negotiates the permessage-deflate extension with the offers in the specified {@link RequestHeaders}.
+     * Returns {@code null} if the client did not offer the extension or none of the offers is acceptable.
+     */
+    @Nullable
+    public static PerMessageDeflate negotiate(PerMessageDeflateConfig config, RequestHeaders headers) {
+        for (String value : headers.getAll(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS)) {
+            for (String extension : extensionSplitter.split(value)) {
+                final Map<String, String> params = parseParameters(extension);
+                if (params == null) {
+                    continue;
+                }
+                final PerMessageDeflate accepted = accept(config, params);
+                if (accepted != null) {
+                    return accepted;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static PerMessageDeflate accept(PerMessageDeflateConfig config, Map<String, String> params) {
+        boolean serverNoContextTakeover = config.serverNoContextTakeover();
+        boolean clientNoContextTakeover = config.clientNoContextTakeover();
+        int clientMaxWindowBits = -1;
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            final String value = entry.getValue();
+            switch (entry.getKey()) {
+                case SERVER_NO_CONTEXT_TAKEOVER:
+                    if (!value.isEmpty()) {
+                        return null;
+                    }
+                    serverNoContextTakeover = true;
+                    break;
+                case CLIENT_NO_CONTEXT_TAKEOVER:
+                    if (!value.isEmpty()) {
+                        return null;
+                    }
+                    clientNoContextTakeover = true;
+                    break;
+                case SERVER_MAX_WINDOW_BITS:
+                    // Decline the offer because Deflater always uses the 15-bit window.
+                    if (parseWindowBits(value) != MAX_WINDOW_BITS) {
+                        return null;
+                    }
+                    break;
+                case CLIENT_MAX_WINDOW_BITS:
+                    if (value.isEmpty()) {
+                        clientMaxWindowBits = MAX_WINDOW_BITS;
+                    } else {
+                        clientMaxWindowBits = parseWindowBits(value);
+                        if (clientMaxWindowBits < 0) {
+                            return null;
+                        }
+                    }
+                    break;
+                default:
+                    return null;
+            }
+        }
+
+        if (!serverNoContextTakeover &&
+            retainedMemory(false, clientNoContextTakeover) > config.maxMemoryPerConnection()) {
+            serverNoContextTakeover = true;
+        }
+        if (!clientNoContextTakeover &&
+            retainedMemory(serverNoContextTakeover, false) > config.maxMemoryPerConnection()) {
+            clientNoContextTakeover = true;
+        }
+
+        final StringBuilder response = new StringBuilder(EXTENSION_NAME);
+        if (serverNoContextTakeover) {
+            response.append("; ").append(SERVER_NO_CONTEXT_TAKEOVER);
+        }
+        if (clientNoContextTakeover) {
+            response.append("; ").append(CLIENT_NO_CONTEXT_TAKEOVER);
+        }
+        // The client_max_window_bits can be sent only if the client offered it.
+        if (clientMaxWindowBits > 0 && config.clientMaxWindowBits() < clientMaxWindowBits) {
+            response.append("; ").append(CLIENT_MAX_WINDOW_BITS).append('=')
+                    .append(config.clientMaxWindowBits());
+        }
+        return new PerMessageDeflate(config.compressionLevel(), serverNoContextTakeover,
+                                     clientNoContextTakeover, response.toString());
+    }
+
+    /**
+     * Returns the value of the {@link HttpHeaderNames#SEC_WEBSOCKET_EXTENSIONS} header that a client sends
+     * to offer the permessage-deflate extension.
+     */
+    public static String offer(PerMessageDeflateConfig config) {
+        final boolean clientNoContextTakeover = clientNoContextTakeover(config);
+        final boolean serverNoContextTakeover = serverNoContextTakeover(config, clientNoContextTakeover);
+        final StringBuilder offer = new StringBuilder(EXTENSION_NAME);
+        if (serverNoContextTakeover) {
+            offer.append("; ").append(SERVER_NO_CONTEXT_TAKEOVER);
+        }
+        if (clientNoContextTakeover) {
+            offer.append("; ").append(CLIENT_NO_CONTEXT_TAKEOVER);
+        }
+        if (config.serverMaxWindowBits() < MAX_WINDOW_BITS) {
+            offer.append("; ").append(SERVER_MAX_WINDOW_BITS).append('=').append(config.serverMaxWindowBits());
+        }
+        return offer.toString();
+    }
+
+    private static boolean clientNoContextTakeover(PerMessageDeflateConfig config) {
+        return config.clientNoContextTakeover() ||
+               retainedMemory(false, config.serverNoContextTakeover()) > config.maxMemoryPerConnection();
+    }
+
+    private static boolean serverNoContextTakeover(PerMessageDeflateConfig config,
+                                                   boolean clientNoContextTakeover) {
+        return config.serverNoContextTakeover() ||
+               retainedMemory(clientNoContextTakeover, false) > config.maxMemoryPerConnection();
+    }
+
+    /**
+     * Validates the {@link HttpHeaderNames#SEC_WEBSOCKET_EXTENSIONS} header that a server sent in response
+     * to the {@link #offer(PerMessageDeflateConfig)}.
+     *
+     * @throws IllegalArgumentException if the response is not valid for the offer
+     */
+    public static PerMessageDeflate accept(PerMessageDeflateConfig config, String response) {
+        final List<String> extensions = extensionSplitter.splitToList(response);
+        if (extensions.size() != 1) {
+            throw new IllegalArgumentException("unexpected extensions: " + response);
+        }
+        final Map<String, String> params = parseParameters(extensions.get(0));
+        if (params == null) {
+            throw new IllegalArgumentException("unexpected extension: " + response);
+        }
+
+        boolean clientNoContextTakeover = clientNoContextTakeover(config);
+        final boolean offeredServerNoContextTakeover =
+                serverNoContextTakeover(config, clientNoContextTakeover);
+        boolean serverNoContextTakeover = false;
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            final String name = entry.getKey();
+            final String value = entry.getValue();
+            switch (name) {
+                case SERVER_NO_CONTEXT_TAKEOVER:
+                    serverNoContextTakeover = true;
+                    break;
+                case CLIENT_NO_CONTEXT_TAKEOVER:
+                    clientNoContextTakeover = true;
+                    break;
+                case SERVER_MAX_WINDOW_BITS:
+                    // Inflater accepts any window size.
+                    final int windowBits = parseWindowBits(value);
+                    if (windowBits < 0 || windowBits > config.serverMaxWindowBits()) {
+                        throw new IllegalArgumentException("invalid " + name + ": " + value);
+                    }
+                    break;
+                default:
+                    // client_max_window_bits is never offered.
+                    throw new IllegalArgumentException("unexpected extension parameter: " + name);
+            }
+        }
+        if (offeredServerNoContextTakeover && !serverNoContextTakeover) {
+            throw new IllegalArgumentException(SERVER_NO_CONTEXT_TAKEOVER + " is not accepted: " + response);
+        }
+        return new PerMessageDeflate(config.compressionLevel(), clientNoContextTakeover,
+                                     serverNoContextTakeover, response);
+    }
+
+    /**
+     * Parses the parameters of the specified extension. Returns {@code null} if the extension is not
+     * permessage-deflate or the same parameter appears more than once.
+     */
+    @Nullable
+    private static Map<String, String> parseParameters(String extension) {
+        final Map<String, String> params = new HashMap<>();
+        boolean first = true;
+        for (String param : parameterSplitter.split(extension)) {
+            if (first) {
+                if (!EXTENSION_NAME.equals(Ascii.toLowerCase(param))) {
+                    return null;
+                }
+                first = false;
+                continue;
+            }
+            final int equalsIndex = param.indexOf('=');
+            final String name;
+            String value;
+            if (equalsIndex < 0) {
+                name = param;
+                value = "";
+            } else {
+                name = param.substring(0, equalsIndex).trim();
+                value = param.substring(equalsIndex + 1).trim();
+                if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+                    value = value.substring(1, value.length() - 1);
+                }
+            }
+            if (params.put(Ascii.toLowerCase(name), value) != null) {
+                return null;
+            }
+        }
+        return first ? null : params;
+    }
+
+    private static int parseWindowBits(String value) {
+        if (value.isEmpty() || value.length() > 2) {
+            return -1;
+        }
+        int windowBits = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            windowBits = windowBits * 10 + (ch - '0');
+        }
+        return windowBits >= 8 && windowBits <= MAX_WINDOW_BITS ? windowBits : -1;
+    }
+
+    @VisibleForTesting
+    static long retainedMemory(boolean localNoContextTakeover, boolean remoteNoContextTakeover) {
+        long memory = 0;
+        if (!localNoContextTakeover) {
+            memory += DEFLATER_MEMORY;
+        }
+        if (!remoteNoContextTakeover) {
+            memory += INFLATER_MEMORY;
+        }
+        return memory;
+    }
+
+    private final int compressionLevel;
+    private final boolean localNoContextTakeover;
+    private final boolean remoteNoContextTakeover;
+    private final String headerValue;
+
+    private PerMessageDeflate(int compressionLevel, boolean localNoContextTakeover,
+                              boolean remoteNoContextTakeover, String headerValue) {
+        this.compressionLevel = compressionLevel;
+        this.localNoContextTakeover = localNoContextTakeover;
+        this.remoteNoContextTakeover = remoteNoContextTakeover;
+        this.headerValue = headerValue;
+    }
+
+    /**
+     * Returns whether this endpoint resets its compression context after each message.
+     */
+    public boolean localNoContextTakeover() {
+        return localNoContextTakeover;
+    }
+
+    /**
+     * Returns whether the peer resets its compression context after each message.
+     */
+    public boolean remoteNoContextTakeover() {
+        return remoteNoContextTakeover;
+    }
+
+    /**
+     * Returns the value of the {@link HttpHeaderNames#SEC_WEBSOCKET_EXTENSIONS} header which accepted
+     * the extension.
+     */
+    public String headerValue() {
+        return headerValue;
+    }
+
+    /**
+     * Returns a new {@link WebSocketFrameEncoder} which compresses the messages.
+     */
+    public WebSocketFrameEncoder newEncoder(boolean maskPayload) {
+        return WebSocketFrameEncoder.of(maskPayload,
+                                        new PerMessageDeflateEncoder(compressionLevel, localNoContextTakeover));
+    }
+
+    /**
+     * Returns a new {@link PerMessageDeflateDecoder} which decompresses the messages.
+     */
+    public PerMessageDeflateDecoder newDecoder() {
+        return new PerMessageDeflateDecoder(remoteNoContextTakeover);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("compressionLevel", compressionLevel)
+                          .add("localNoContextTakeover", localNoContextTakeover)
+                          .add("remoteNoContextTakeover", remoteNoContextTakeover)
+                          .add("headerValue", headerValue)
+                          .toString();
+    }
+}
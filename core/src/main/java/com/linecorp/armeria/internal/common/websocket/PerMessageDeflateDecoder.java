@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.websocket;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Decompresses the payload of WebSocket messages as described in
+ * <a href="https://datatracker.ietf.org/doc/html/rfc7692#section-7.2.2">Decompression</a>.
+ * This class is not thread-safe.
+ */
+public final class PerMessageDeflateDecoder {
+
+    private static final byte[] TAIL = { 0x00, 0x00, (byte) 0xff, (byte) 0xff };
+
+    private final boolean noContextTakeover;
+
+    // Created lazily so that no memory is retained between messages when the context is not taken over.
+    @Nullable
+    private Inflater inflater;
+
+    PerMessageDeflateDecoder(boolean noContextTakeover) {
+        this.noContextTakeover = noContextTakeover;
+    }
+
+    /**
+     * Decompresses the specified payload of a data frame. The specified {@link ByteBuf} is released.
+     *
+     * @return the decompressed payload, or {@code null} if the length of the decompressed payload exceeds
+     *         {@code maxLength}.
+     * @throws DataFormatException if the payload is not valid DEFLATE data.
+     */
+    @Nullable
+    ByteBuf decode(ByteBuf payload, boolean finalFragment, int maxLength) throws DataFormatException {
+        final Inflater inflater = inflater();
+        ByteBuf out = null;
+        boolean success = false;
+        try {
+            out = payload.alloc().heapBuffer(Math.min(maxLength, Math.max(64, payload.readableBytes() << 1)));
+            final int length = payload.readableBytes();
+            final boolean withinLimit;
+            if (payload.hasArray()) {
+                withinLimit = inflate(inflater, payload.array(), payload.arrayOffset() + payload.readerIndex(),
+                                      length, out, maxLength);
+            } else {
+                final byte[] input = ByteBufUtil.getBytes(payload);
+                withinLimit = inflate(inflater, input, 0, length, out, maxLength);
+            }
+            if (!withinLimit ||
+                (finalFragment && !inflate(inflater, TAIL, 0, TAIL.length, out, maxLength))) {
+                return null;
+            }
+            if (finalFragment) {
+                if (noContextTakeover) {
+                    end();
+                } else if (inflater.finished()) {
+                    // The peer ended the DEFLATE stream with the final block.
+                    inflater.reset();
+                }
+            }
+            success = true;
+            return out;
+        } finally {
+            payload.release();
+            if (!success) {
+                if (out != null) {
+                    out.release();
+                }
+                end();
+            }
+        }
+    }
+
+    private static boolean inflate(Inflater inflater, byte[] input, int offset, int length,
+                                   ByteBuf out, int maxLength) throws DataFormatException {
+        if (inflater.finished()) {
+            // Ignore the data after the final block.
+            return true;
+        }
+        inflater.setInput(input, offset, length);
+        for (;;) {
+            out.ensureWritable(Math.min(8192, Math.max(1, maxLength + 1 - out.readableBytes())));
+            final int numBytes = inflater.inflate(out.array(), out.arrayOffset() + out.writerIndex(),
+                                                  out.writableBytes());
+            out.writerIndex(out.writerIndex() + numBytes);
+            if (out.readableBytes() > maxLength) {
+                return false;
+            }
+            if (numBytes == 0) {
+                if (inflater.needsInput() || inflater.finished()) {
+                    return true;
+                }
+                if (inflater.needsDictionary()) {
+                    throw new DataFormatException("preset dictionary is not allowed");
+                }
+            }
+        }
+    }
+
+    private Inflater inflater() {
+        Inflater inflater = this.inflater;
+        if (inflater == null) {
+            inflater = this.inflater = new Inflater(true);
+        }
+        return inflater;
+    }
+
+    private void end() {
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
+    }
+
+    /**
+     * Releases the decompression context.
+     */
+    void close() {
+        end();
+    }
+}
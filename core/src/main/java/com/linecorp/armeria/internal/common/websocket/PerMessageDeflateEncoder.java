@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.websocket;
+
+import java.util.zip.Deflater;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Compresses the payload of WebSocket messages as described in
+ * <a href="https://datatracker.ietf.org/doc/html/rfc7692#section-7.2.1">Compression</a>.
+ * This class is not thread-safe.
+ */
+final class PerMessageDeflateEncoder {
+
+    private final int compressionLevel;
+    private final boolean noContextTakeover;
+
+    // Created lazily so that no memory is retained between messages when the context is not taken over.
+    @Nullable
+    private Deflater deflater;
+    private boolean closed;
+
+    PerMessageDeflateEncoder(int compressionLevel, boolean noContextTakeover) {
+        this.compressionLevel = compressionLevel;
+        this.noContextTakeover = noContextTakeover;
+    }
+
+    /**
+     * Compresses the specified payload of a data frame. The trailing {@code 0x00 0x00 0xff 0xff} is
+     * removed if the payload is the last fragment of a message.
+     */
+    ByteBuf encode(ByteBufAllocator alloc, ByteBuf payload, boolean finalFragment) {
+        final Deflater deflater = deflater();
+        final int length = payload.readableBytes();
+        if (payload.hasArray()) {
+            deflater.setInput(payload.array(), payload.arrayOffset() + payload.readerIndex(), length);
+        } else {
+            deflater.setInput(ByteBufUtil.getBytes(payload));
+        }
+
+        ByteBuf out = alloc.heapBuffer(Math.max(64, length >>> 1));
+        boolean success = false;
+        try {
+            for (;;) {
+                out.ensureWritable(Math.max(64, length >>> 3));
+                final int writable = out.writableBytes();
+                final int numBytes = deflater.deflate(out.array(), out.arrayOffset() + out.writerIndex(),
+                                                      writable, Deflater.SYNC_FLUSH);
+                out.writerIndex(out.writerIndex() + numBytes);
+                // Deflater has more output only if it filled up the buffer.
+                if (numBytes < writable) {
+                    break;
+                }
+            }
+            if (finalFragment) {
+                out = removeTail(out);
+                if (noContextTakeover) {
+                    end();
+                }
+            }
+            success = true;
+            return out;
+        } finally {
+            if (!success) {
+                out.release();
+                end();
+            }
+        }
+    }
+
+    private static ByteBuf removeTail(ByteBuf out) {
+        final int writerIndex = out.writerIndex();
+        if (out.readableBytes() >= 4 &&
+            out.getByte(writerIndex - 4) == 0 && out.getByte(writerIndex - 3) == 0 &&
+            out.getByte(writerIndex - 2) == (byte) 0xff && out.getByte(writerIndex - 1) == (byte) 0xff) {
+            out.writerIndex(writerIndex - 4);
+        }
+        return out;
+    }
+
+    private Deflater deflater() {
+        if (closed) {
+            throw new IllegalStateException("encoder closed already");
+        }
+        Deflater deflater = this.deflater;
+        if (deflater == null) {
+            deflater = this.deflater = new Deflater(compressionLevel, true);
+        }
+        return deflater;
+    }
+
+    private void end() {
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+    }
+
+    /**
+     * Releases the compression context.
+     */
+    void close() {
+        closed = true;
+        end();
+    }
+}
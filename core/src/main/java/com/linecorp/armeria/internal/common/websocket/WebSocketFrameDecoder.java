@@ -33,6 +33,7 @@ package com.linecorp.armeria.internal.common.websocket;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.DataFormatException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,6 +71,8 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
     private final int maxFramePayloadLength;
     private final boolean allowMaskMismatch;
     private final boolean aggregateContinuation;
+    @Nullable
+    private final PerMessageDeflateDecoder deflateDecoder;
     private final List<WebSocketFrame> aggregatingFrames = new ArrayList<>();
     private long aggregatingFramesLength;
     @Nullable
@@ -77,6 +80,7 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
 
     private int fragmentedFramesCount;
     private boolean finalFragment;
+    private boolean compressedMessage;
     private boolean frameMasked;
     private int frameRsv;
     private int frameOpcode;
@@ -88,9 +92,16 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
 
     protected WebSocketFrameDecoder(int maxFramePayloadLength, boolean allowMaskMismatch,
                                     boolean aggregateContinuation) {
+        this(maxFramePayloadLength, allowMaskMismatch, aggregateContinuation, null);
+    }
+
+    protected WebSocketFrameDecoder(int maxFramePayloadLength, boolean allowMaskMismatch,
+                                    boolean aggregateContinuation,
+                                    @Nullable PerMessageDeflateDecoder deflateDecoder) {
         this.maxFramePayloadLength = maxFramePayloadLength;
         this.allowMaskMismatch = allowMaskMismatch;
         this.aggregateContinuation = aggregateContinuation;
+        this.deflateDecoder = deflateDecoder;
     }
 
     public void setOutboundWebSocket(WebSocket outboundFrames) {
@@ -114,7 +125,6 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                     //noinspection LocalVariableUsedAndDeclaredInDifferentSwitchBranches
                     byte b = in.readByte();
                     finalFragment = (b & 0x80) != 0;
-                    // TODO(minwoox): support rsv
                     frameRsv = (b & 0x70) >> 4;
                     frameOpcode = b & 0x0F;
 
@@ -132,8 +142,16 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                     frameMasked = (b & 0x80) != 0;
                     framePayloadLen1 = b & 0x7F;
 
-                    if (frameRsv != 0) { // TODO(minwoox): support extension
-                        throw protocolViolation("RSV != 0 and no extension negotiated, RSV:" + frameRsv);
+                    if (frameRsv != 0) {
+                        if (deflateDecoder == null) {
+                            throw protocolViolation("RSV != 0 and no extension negotiated, RSV:" + frameRsv);
+                        }
+                        // permessage-deflate sets RSV1 only in the first frame of a data message.
+                        if (frameRsv != PerMessageDeflate.RSV1 ||
+                            (frameOpcode != WebSocketFrameType.TEXT.opcode() &&
+                             frameOpcode != WebSocketFrameType.BINARY.opcode())) {
+                            throw protocolViolation("unexpected RSV: " + frameRsv + ", opcode: " + frameOpcode);
+                        }
                     }
 
                     if (!allowMaskMismatch && expectMaskedFrames() != frameMasked) {
@@ -177,6 +195,7 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                                 throw protocolViolation("received continuation data frame " +
                                                         "outside fragmented message");
                             }
+                            compressedMessage = frameRsv != 0;
                         } else if (frameOpcode != WebSocketFrameType.CONTINUATION.opcode()) {
                             throw protocolViolation(
                                     "received non-continuation data frame while inside fragmented message");
@@ -285,6 +304,11 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                                                 "Cannot decode a web socket frame with opcode: " + frameOpcode);
                     }
 
+                    if (compressedMessage) {
+                        assert deflateDecoder != null;
+                        payloadBuffer = decompress(deflateDecoder, payloadBuffer);
+                    }
+
                     final WebSocketFrame decodedFrame;
                     if (frameOpcode == WebSocketFrameType.TEXT.opcode()) {
                         decodedFrame = WebSocketFrame.ofPooledText(payloadBuffer, finalFragment);
@@ -316,7 +340,7 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                     } else {
                         fragmentedFramesCount++;
                         if (aggregateContinuation) {
-                            aggregatingFramesLength += framePayloadLength;
+                            aggregatingFramesLength += decodedFrame.length();
                             aggregatingFrames.add(decodedFrame);
                             if (aggregatingFramesLength > maxFramePayloadLength) {
                                 // decodedFrame is release in processOnError.
@@ -362,6 +386,22 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
         }
     }
 
+    private ByteBuf decompress(PerMessageDeflateDecoder deflateDecoder, ByteBuf payload) {
+        final ByteBuf decompressed;
+        try {
+            decompressed = deflateDecoder.decode(payload, finalFragment, maxFramePayloadLength);
+        } catch (DataFormatException e) {
+            throw protocolViolation(WebSocketCloseStatus.INVALID_PAYLOAD_DATA,
+                                    "Failed to decompress a frame: " + e.getMessage());
+        }
+        if (decompressed == null) {
+            throw protocolViolation(WebSocketCloseStatus.MESSAGE_TOO_BIG,
+                                    "Max frame length of " + maxFramePayloadLength +
+                                    " has been exceeded after decompression.");
+        }
+        return decompressed;
+    }
+
     private WebSocketProtocolViolationException protocolViolation(String message) {
         return protocolViolation(WebSocketCloseStatus.PROTOCOL_ERROR, message);
     }
@@ -425,6 +465,9 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
     protected void onProcessOnError(Throwable cause) {}
 
     private void cleanup() {
+        if (deflateDecoder != null) {
+            deflateDecoder.close();
+        }
         if (!aggregatingFrames.isEmpty()) {
             for (WebSocketFrame frame : aggregatingFrames) {
                 frame.close();
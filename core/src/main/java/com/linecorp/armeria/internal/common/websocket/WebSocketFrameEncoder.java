@@ -75,6 +75,7 @@ import org.slf4j.LoggerFactory;
 
 import com.linecorp.armeria.common.ByteBufAccessMode;
 import com.linecorp.armeria.common.RequestContext;
+import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.websocket.WebSocketFrame;
 import com.linecorp.armeria.common.websocket.WebSocketFrameType;
 
@@ -114,19 +115,70 @@ public final class WebSocketFrameEncoder {
         }
     }
 
+    static WebSocketFrameEncoder of(boolean maskPayload, PerMessageDeflateEncoder deflateEncoder) {
+        return new WebSocketFrameEncoder(maskPayload, deflateEncoder);
+    }
+
     private final boolean maskPayload;
+    @Nullable
+    private final PerMessageDeflateEncoder deflateEncoder;
+    // Whether the message being encoded is compressed. Used only when deflateEncoder is not null.
+    private boolean inCompressedMessage;
 
     private WebSocketFrameEncoder(boolean maskPayload) {
+        this(maskPayload, null);
+    }
+
+    private WebSocketFrameEncoder(boolean maskPayload, @Nullable PerMessageDeflateEncoder deflateEncoder) {
         this.maskPayload = maskPayload;
+        this.deflateEncoder = deflateEncoder;
     }
 
     public ByteBuf encode(RequestContext ctx, WebSocketFrame msg) {
         try (WebSocketFrame msg0 = msg) {
-            return encode0(ctx, msg0);
+            if (deflateEncoder == null || msg0.type().isControlFrame()) {
+                return encode0(ctx, msg0, 0);
+            }
+            return encodeCompressed(ctx, deflateEncoder, msg0);
+        }
+    }
+
+    private ByteBuf encodeCompressed(RequestContext ctx, PerMessageDeflateEncoder deflateEncoder,
+                                     WebSocketFrame msg) {
+        // Only the first frame of a message has the RSV1 bit set.
+        final int rsv = msg.type() != WebSocketFrameType.CONTINUATION ? PerMessageDeflate.RSV1 : 0;
+        if (msg.type() == WebSocketFrameType.CONTINUATION && !inCompressedMessage) {
+            throw new IllegalStateException("received a continuation frame outside a fragmented message");
+        }
+        final boolean finalFragment = msg.isFinalFragment();
+        inCompressedMessage = !finalFragment;
+        final ByteBuf compressed = deflateEncoder.encode(ctx.alloc(), msg.byteBuf(), finalFragment);
+        final WebSocketFrame compressedFrame;
+        switch (msg.type()) {
+            case TEXT:
+                compressedFrame = WebSocketFrame.ofPooledText(compressed, finalFragment);
+                break;
+            case BINARY:
+                compressedFrame = WebSocketFrame.ofPooledBinary(compressed, finalFragment);
+                break;
+            default:
+                compressedFrame = WebSocketFrame.ofPooledContinuation(compressed, finalFragment);
+        }
+        try (WebSocketFrame frame = compressedFrame) {
+            return encode0(ctx, frame, rsv);
+        }
+    }
+
+    /**
+     * Releases the compression context if the permessage-deflate extension is used.
+     */
+    public void close() {
+        if (deflateEncoder != null) {
+            deflateEncoder.close();
         }
     }
 
-    private ByteBuf encode0(RequestContext ctx, WebSocketFrame msg) {
+    private ByteBuf encode0(RequestContext ctx, WebSocketFrame msg, int rsv) {
         final WebSocketFrameType type = msg.type();
         final int length = msg.length();
         if (type.isControlFrame() && length > 125) {
@@ -141,7 +193,7 @@ public final class WebSocketFrameEncoder {
         if (msg.isFinalFragment()) {
             b0 |= 1 << 7;
         }
-        // b0 |= msg.rsv() << 4; // TODO(minwoox): Support rsv when we introduce the extension.
+        b0 |= rsv << 4;
         b0 |= type.opcode();
 
         boolean release = true;
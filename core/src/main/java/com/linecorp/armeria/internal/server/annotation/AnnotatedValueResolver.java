@@ -170,7 +170,12 @@ final class AnnotatedValueResolver {
         if (resolvers.isEmpty()) {
             return emptyArguments;
         }
-        return resolvers.stream().map(resolver -> resolver.resolve(resolverContext)).toArray();
+        final int size = resolvers.size();
+        final Object[] arguments = new Object[size];
+        for (int i = 0; i < size; i++) {
+            arguments[i] = resolvers.get(i).resolve(resolverContext);
+        }
+        return arguments;
     }
 
     /**
@@ -49,8 +49,10 @@ import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.stream.ClosedStreamException;
 import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.common.util.TimeoutMode;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
 import com.linecorp.armeria.common.websocket.WebSocket;
 import com.linecorp.armeria.common.websocket.WebSocketIdleTimeoutException;
+import com.linecorp.armeria.internal.common.websocket.PerMessageDeflate;
 import com.linecorp.armeria.internal.common.websocket.WebSocketFrameEncoder;
 import com.linecorp.armeria.internal.common.websocket.WebSocketWrapper;
 import com.linecorp.armeria.server.HttpService;
@@ -80,6 +82,9 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
     private static final AttributeKey<WebSocketServiceFrameDecoder> DECODER =
             AttributeKey.valueOf(DefaultWebSocketService.class, "DECODER");
 
+    private static final AttributeKey<PerMessageDeflate> PER_MESSAGE_DEFLATE =
+            AttributeKey.valueOf(DefaultWebSocketService.class, "PER_MESSAGE_DEFLATE");
+
     private static final String SUB_PROTOCOL_WILDCARD = "*";
 
     private static final ResponseHeaders UNSUPPORTED_WEB_SOCKET_VERSION =
@@ -106,12 +111,15 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
     private final ServiceOptions serviceOptions;
     @Nullable
     private final Duration streamTimeout;
+    @Nullable
+    private final PerMessageDeflateConfig perMessageDeflateConfig;
 
     public DefaultWebSocketService(WebSocketServiceHandler handler, @Nullable Duration streamTimeout,
                                    @Nullable HttpService fallbackService, int maxFramePayloadLength,
                                    boolean allowMaskMismatch, Set<String> subprotocols,
                                    boolean allowAnyOrigin, @Nullable Predicate<? super String> originPredicate,
-                                   boolean aggregateContinuation, ServiceOptions serviceOptions) {
+                                   boolean aggregateContinuation, ServiceOptions serviceOptions,
+                                   @Nullable PerMessageDeflateConfig perMessageDeflateConfig) {
         this.handler = handler;
         this.streamTimeout = streamTimeout;
         this.fallbackService = fallbackService;
@@ -122,6 +130,7 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
         this.originPredicate = originPredicate;
         this.aggregateContinuation = aggregateContinuation;
         this.serviceOptions = serviceOptions;
+        this.perMessageDeflateConfig = perMessageDeflateConfig;
     }
 
     @Override
@@ -398,9 +407,18 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
 
     @Override
     public WebSocket decode(ServiceRequestContext ctx, HttpRequest req) {
+        PerMessageDeflate perMessageDeflate = null;
+        if (perMessageDeflateConfig != null) {
+            perMessageDeflate = PerMessageDeflate.negotiate(perMessageDeflateConfig, req.headers());
+            if (perMessageDeflate != null) {
+                ctx.setAttr(PER_MESSAGE_DEFLATE, perMessageDeflate);
+            }
+        }
         final WebSocketServiceFrameDecoder decoder =
                 new WebSocketServiceFrameDecoder(ctx, maxFramePayloadLength, allowMaskMismatch,
-                                                 aggregateContinuation);
+                                                 aggregateContinuation,
+                                                 perMessageDeflate != null ? perMessageDeflate.newDecoder()
+                                                                           : null);
         ctx.setAttr(DECODER, decoder);
         return new WebSocketWrapper(req.decode(decoder, ctx.alloc()));
     }
@@ -424,6 +442,17 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
         }
         maybeAddSubprotocol(requestHeaders, responseHeadersBuilder);
 
+        final PerMessageDeflate perMessageDeflate = ctx.attr(PER_MESSAGE_DEFLATE);
+        final WebSocketFrameEncoder frameEncoder;
+        if (perMessageDeflate != null) {
+            responseHeadersBuilder.add(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS,
+                                       perMessageDeflate.headerValue());
+            // A new encoder is created for each connection because it holds the compression context.
+            frameEncoder = perMessageDeflate.newEncoder(false);
+        } else {
+            frameEncoder = encoder;
+        }
+
         final WebSocketServiceFrameDecoder decoder = ctx.attr(DECODER);
         assert decoder != null;
         decoder.setOutboundWebSocket(out);
@@ -438,7 +467,14 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
                     ctx.logBuilder().responseCause(cause);
                     return newCloseWebSocketFrame(cause);
                    })
-                   .map(frame -> HttpData.wrap(encoder.encode(ctx, frame)));
+                   .map(frame -> HttpData.wrap(frameEncoder.encode(ctx, frame)));
+        if (perMessageDeflate != null) {
+            // Frames are encoded by the event loop, so release the compression context there as well.
+            data.whenComplete().handleAsync((unused1, unused2) -> {
+                frameEncoder.close();
+                return null;
+            }, ctx.eventLoop());
+        }
         return HttpResponse.of(responseHeadersBuilder.build(), data);
     }
 
@@ -17,7 +17,9 @@ package com.linecorp.armeria.internal.server.websocket;
 
 import com.linecorp.armeria.common.HttpRequestWriter;
 import com.linecorp.armeria.common.Request;
+import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.internal.common.RequestContextExtension;
+import com.linecorp.armeria.internal.common.websocket.PerMessageDeflateDecoder;
 import com.linecorp.armeria.internal.common.websocket.WebSocketFrameDecoder;
 import com.linecorp.armeria.server.ServiceRequestContext;
 
@@ -26,8 +28,9 @@ final class WebSocketServiceFrameDecoder extends WebSocketFrameDecoder {
     private final ServiceRequestContext ctx;
 
     WebSocketServiceFrameDecoder(ServiceRequestContext ctx, int maxFramePayloadLength,
-                                 boolean allowMaskMismatch, boolean aggregateContinuation) {
-        super(maxFramePayloadLength, allowMaskMismatch, aggregateContinuation);
+                                 boolean allowMaskMismatch, boolean aggregateContinuation,
+                                 @Nullable PerMessageDeflateDecoder deflateDecoder) {
+        super(maxFramePayloadLength, allowMaskMismatch, aggregateContinuation, deflateDecoder);
         this.ctx = ctx;
     }
 
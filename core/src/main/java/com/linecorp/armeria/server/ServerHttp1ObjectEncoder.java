@@ -39,7 +39,6 @@ import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMessage;
-import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpStatusClass;
@@ -170,7 +169,7 @@ final class ServerHttp1ObjectEncoder extends Http1ObjectEncoder implements Serve
     }
 
     @Override
-    protected ChannelFuture write(HttpObject obj, ChannelPromise promise) {
+    protected ChannelFuture write(Object obj, ChannelPromise promise) {
         // Use FQCN for Netty HttpResponse to avoid confusion with Armeria HttpResponse
         // We check if obj is an HttpResponse here because server-side writes both headers
         // and errors as an HttpResponse.
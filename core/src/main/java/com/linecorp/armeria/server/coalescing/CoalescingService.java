@@ -0,0 +1,319 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.coalescing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseDuplicator;
+import com.linecorp.armeria.common.QueryParams;
+import com.linecorp.armeria.common.QueryParamsBuilder;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.SimpleDecoratingHttpService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.AsciiString;
+
+/**
+ * An {@link HttpService} decorator that coalesces the concurrent identical requests, so that only one of
+ * them, the leader, invokes the delegate while the others, the followers, subscribe to a duplicate of the
+ * leader's response. This prevents a burst of identical requests from overloading the backend, e.g. when
+ * a popular cache entry expires.
+ * <pre>{@code
+ * Server.builder()
+ *       .annotatedService(new ProductService(),
+ *                         CoalescingService.builder()
+ *                                          .queryParams("id")
+ *                                          .headers(HttpHeaderNames.ACCEPT_LANGUAGE)
+ *                                          .newDecorator())
+ *       ...
+ * }</pre>
+ *
+ * <p>Only {@code GET} and {@code HEAD} requests are coalesced. Two requests are identical if they have
+ * the same method, path, {@linkplain CoalescingServiceBuilder#queryParams(String...) query parameters} and
+ * {@linkplain CoalescingServiceBuilder#headers(CharSequence...) headers}. The requests with
+ * an {@code "authorization"} or {@code "cookie"} header are not coalesced unless the header is a part of
+ * the key, so that a response is not shared between different users. A {@code "set-cookie"} header in
+ * the leader's response headers is not sent to the followers for the same reason.
+ *
+ * <p>A follower falls back to invoking the delegate on its own if the maximum number of followers is
+ * reached or the leader's response headers are not received within the wait timeout.
+ *
+ * <p>The leader's response is buffered so that a follower which joins later receives it from the beginning.
+ * Once the leader's response content exceeds {@link CoalescingServiceBuilder#maxResponseLength(long)},
+ * no more followers join the leader and the buffered content is released as soon as the leader and its
+ * current followers consume it. The next identical request becomes a new leader.
+ *
+ * @see CoalescingServiceBuilder
+ */
+@UnstableApi
+public final class CoalescingService extends SimpleDecoratingHttpService {
+
+    /**
+     * Returns a new {@link CoalescingServiceBuilder}.
+     */
+    public static CoalescingServiceBuilder builder() {
+        return new CoalescingServiceBuilder();
+    }
+
+    /**
+     * Creates a new {@link HttpService} decorator which coalesces the identical requests with the default
+     * configuration. The query string and the path make up the key of a request.
+     */
+    public static Function<? super HttpService, CoalescingService> newDecorator() {
+        return builder().newDecorator();
+    }
+
+    private final Map<String, Inflight> inflights = new ConcurrentHashMap<>();
+    @Nullable
+    private final List<String> queryParamNames;
+    private final List<AsciiString> headerNames;
+    private final boolean authorizationInKey;
+    private final boolean cookieInKey;
+    private final int maxNumFollowers;
+    private final long waitTimeoutMillis;
+    private final long maxResponseLength;
+    private final CoalescingServiceMetrics metrics;
+
+    CoalescingService(HttpService delegate, @Nullable List<String> queryParamNames,
+                      List<AsciiString> headerNames, int maxNumFollowers, long waitTimeoutMillis,
+                      long maxResponseLength, MeterRegistry meterRegistry, MeterIdPrefix meterIdPrefix) {
+        super(delegate);
+        this.queryParamNames = queryParamNames;
+        this.headerNames = headerNames;
+        authorizationInKey = headerNames.contains(HttpHeaderNames.AUTHORIZATION);
+        cookieInKey = headerNames.contains(HttpHeaderNames.COOKIE);
+        this.maxNumFollowers = maxNumFollowers;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.maxResponseLength = maxResponseLength;
+        metrics = new CoalescingServiceMetrics(meterRegistry, meterIdPrefix);
+    }
+
+    @Override
+    public HttpResponse serve(ServiceRequestContext ctx, HttpRequest req) throws Exception {
+        final RequestHeaders headers = req.headers();
+        if (!isCoalescable(headers)) {
+            metrics.onBypass();
+            return unwrap().serve(ctx, req);
+        }
+
+        final String key = key(ctx, headers);
+        for (;;) {
+            final Inflight inflight = inflights.get(key);
+            if (inflight != null) {
+                final HttpResponse duplicate = inflight.join();
+                if (duplicate != null) {
+                    return follow(ctx, req, inflight, duplicate);
+                }
+                if (!inflight.isClosed()) {
+                    metrics.onOverflow();
+                    return unwrap().serve(ctx, req);
+                }
+                // The leader's response has been completed. Try again to become a new leader.
+                inflights.remove(key, inflight);
+                continue;
+            }
+
+            final CompletableFuture<HttpResponse> resFuture = new CompletableFuture<>();
+            // Do not limit the duplicator, which would fail the leader's response. The buffered content is
+            // bounded by closing the duplicator when the response exceeds maxResponseLength instead.
+            final Inflight newInflight = new Inflight(
+                    HttpResponse.of(resFuture).toDuplicator(ctx.eventLoop(), 0));
+            if (inflights.putIfAbsent(key, newInflight) != null) {
+                newInflight.abort();
+                continue;
+            }
+            return lead(ctx, req, key, newInflight, resFuture);
+        }
+    }
+
+    private boolean isCoalescable(RequestHeaders headers) {
+        final HttpMethod method = headers.method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        return (authorizationInKey || !headers.contains(HttpHeaderNames.AUTHORIZATION)) &&
+               (cookieInKey || !headers.contains(HttpHeaderNames.COOKIE));
+    }
+
+    private String key(ServiceRequestContext ctx, RequestHeaders headers) {
+        final StringBuilder buf = new StringBuilder();
+        buf.append(headers.method().name()).append(' ').append(ctx.path());
+        if (queryParamNames == null) {
+            final String query = ctx.query();
+            if (query != null) {
+                buf.append('?').append(query);
+            }
+        } else if (!queryParamNames.isEmpty()) {
+            final QueryParams params = ctx.queryParams();
+            final QueryParamsBuilder selected = QueryParams.builder();
+            for (String name : queryParamNames) {
+                selected.add(name, params.getAll(name));
+            }
+            buf.append('?').append(selected.build().toQueryString());
+        }
+        for (AsciiString name : headerNames) {
+            // A header value never contains a line break.
+            buf.append('\n').append(name).append(':').append(String.join(",", headers.getAll(name)));
+        }
+        return buf.toString();
+    }
+
+    private HttpResponse lead(ServiceRequestContext ctx, HttpRequest req, String key, Inflight inflight,
+                              CompletableFuture<HttpResponse> resFuture) {
+        metrics.onLeader();
+        final HttpResponse duplicate = inflight.duplicator.duplicate();
+        duplicate.whenComplete().handle((unused, cause) -> {
+            inflights.remove(key, inflight);
+            inflight.close();
+            return null;
+        });
+        try {
+            resFuture.complete(unwrap().serve(ctx, req)
+                                       .peekHeaders(headers -> inflight.onHeaders())
+                                       .peekData(data -> inflight.onData(key, data.length())));
+        } catch (Throwable cause) {
+            resFuture.completeExceptionally(cause);
+        }
+        return duplicate;
+    }
+
+    private HttpResponse follow(ServiceRequestContext ctx, HttpRequest req, Inflight inflight,
+                                HttpResponse duplicate) {
+        if (inflight.headersFuture.isDone()) {
+            metrics.onCoalesced();
+            return removePerClientHeaders(duplicate);
+        }
+
+        final CompletableFuture<Boolean> coalescedFuture = new CompletableFuture<>();
+        inflight.headersFuture.thenRun(() -> coalescedFuture.complete(true));
+        final ScheduledFuture<?> timeoutFuture = ctx.eventLoop().schedule(
+                () -> coalescedFuture.complete(false), waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        return HttpResponse.of(coalescedFuture.thenApplyAsync(coalesced -> {
+            if (coalesced) {
+                timeoutFuture.cancel(false);
+                metrics.onCoalesced();
+                return removePerClientHeaders(duplicate);
+            }
+            metrics.onTimeout();
+            duplicate.abort();
+            try {
+                return unwrap().serve(ctx, req);
+            } catch (Throwable cause) {
+                return HttpResponse.ofFailure(cause);
+            }
+        }, ctx.eventLoop()));
+    }
+
+    /**
+     * Removes the headers which were meant only for the leader's client from a follower's response.
+     */
+    private static HttpResponse removePerClientHeaders(HttpResponse duplicate) {
+        return duplicate.mapHeaders(headers -> {
+            if (!headers.contains(HttpHeaderNames.SET_COOKIE)) {
+                return headers;
+            }
+            return headers.toBuilder().removeAndThen(HttpHeaderNames.SET_COOKIE).build();
+        });
+    }
+
+    /**
+     * The response of a leader which is being sent.
+     */
+    private final class Inflight {
+
+        private final HttpResponseDuplicator duplicator;
+
+        /**
+         * Completed when the leader receives the non-informational response headers or its response is
+         * completed.
+         */
+        private final CompletableFuture<Void> headersFuture = new CompletableFuture<>();
+
+        private int numFollowers;
+        private boolean closed;
+        // Accessed only by the executor of the duplicator.
+        private long contentLength;
+        private boolean contentTooLarge;
+
+        Inflight(HttpResponseDuplicator duplicator) {
+            this.duplicator = duplicator;
+        }
+
+        /**
+         * Returns a duplicate of the leader's response, or {@code null} if the maximum number of followers
+         * is reached or the leader's response has been completed.
+         */
+        @Nullable
+        synchronized HttpResponse join() {
+            if (closed || numFollowers >= maxNumFollowers) {
+                return null;
+            }
+            numFollowers++;
+            return duplicator.duplicate();
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+
+        void onHeaders() {
+            headersFuture.complete(null);
+        }
+
+        void onData(String key, int length) {
+            if (maxResponseLength == 0 || contentTooLarge) {
+                return;
+            }
+            contentLength += length;
+            if (contentLength > maxResponseLength) {
+                contentTooLarge = true;
+                // Stop buffering the content for the followers which have not joined yet.
+                inflights.remove(key, this);
+                close();
+            }
+        }
+
+        synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            headersFuture.complete(null);
+            duplicator.close();
+        }
+
+        synchronized void abort() {
+            closed = true;
+            duplicator.abort();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.coalescing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.server.HttpService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.AsciiString;
+
+/**
+ * Builds a new {@link CoalescingService} or its decorator function.
+ *
+ * <h2>Exported metrics</h2>
+ *
+ * <table>
+ * <caption>Metrics</caption>
+ * <tr><th>metric name</th><th>description</th></tr>
+ * <tr><td>{@code <prefix>.requests{result=leader}} (counter)</td>
+ *     <td>the number of the requests which invoked the delegate on behalf of the identical requests</td></tr>
+ * <tr><td>{@code <prefix>.requests{result=coalesced}} (counter)</td>
+ *     <td>the number of the requests served with the response of a leader</td></tr>
+ * <tr><td>{@code <prefix>.requests{result=timeout}} (counter)</td>
+ *     <td>the number of the requests which invoked the delegate because the leader did not respond
+ *         within the wait timeout</td></tr>
+ * <tr><td>{@code <prefix>.requests{result=overflow}} (counter)</td>
+ *     <td>the number of the requests which invoked the delegate because the leader had the maximum
+ *         number of followers</td></tr>
+ * <tr><td>{@code <prefix>.requests{result=bypass}} (counter)</td>
+ *     <td>the number of the requests which are not coalescable</td></tr>
+ * </table>
+ *
+ * <p>The coalesced request ratio is {@code coalesced / (leader + coalesced + timeout + overflow)}.
+ */
+@UnstableApi
+public final class CoalescingServiceBuilder {
+
+    static final int DEFAULT_MAX_NUM_FOLLOWERS = 1024;
+    static final long DEFAULT_WAIT_TIMEOUT_MILLIS = 3000;
+    static final String DEFAULT_METER_ID_PREFIX = "armeria.server.coalescing";
+
+    @Nullable
+    private List<String> queryParamNames;
+    private List<AsciiString> headerNames = ImmutableList.of();
+    private int maxNumFollowers = DEFAULT_MAX_NUM_FOLLOWERS;
+    private long waitTimeoutMillis = DEFAULT_WAIT_TIMEOUT_MILLIS;
+    private long maxResponseLength = Flags.defaultMaxResponseLength();
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    private MeterIdPrefix meterIdPrefix = new MeterIdPrefix(DEFAULT_METER_ID_PREFIX);
+
+    CoalescingServiceBuilder() {}
+
+    /**
+     * Sets the names of the query parameters which make up the key of a request. The other query
+     * parameters are ignored when determining whether two requests are identical.
+     * If unspecified, the whole query string is a part of the key.
+     */
+    public CoalescingServiceBuilder queryParams(String... queryParamNames) {
+        return queryParams(ImmutableList.copyOf(requireNonNull(queryParamNames, "queryParamNames")));
+    }
+
+    /**
+     * Sets the names of the query parameters which make up the key of a request. The other query
+     * parameters are ignored when determining whether two requests are identical.
+     * If unspecified, the whole query string is a part of the key.
+     */
+    public CoalescingServiceBuilder queryParams(Iterable<String> queryParamNames) {
+        requireNonNull(queryParamNames, "queryParamNames");
+        this.queryParamNames = ImmutableSet.copyOf(queryParamNames).stream().sorted()
+                                           .collect(ImmutableList.toImmutableList());
+        return this;
+    }
+
+    /**
+     * Sets the names of the request headers which make up the key of a request.
+     * If unspecified, no headers are a part of the key.
+     */
+    public CoalescingServiceBuilder headers(CharSequence... headerNames) {
+        return headers(ImmutableList.copyOf(requireNonNull(headerNames, "headerNames")));
+    }
+
+    /**
+     * Sets the names of the request headers which make up the key of a request.
+     * If unspecified, no headers are a part of the key.
+     */
+    public CoalescingServiceBuilder headers(Iterable<? extends CharSequence> headerNames) {
+        requireNonNull(headerNames, "headerNames");
+        final ImmutableSet.Builder<AsciiString> builder = ImmutableSet.builder();
+        for (CharSequence headerName : headerNames) {
+            builder.add(HttpHeaderNames.of(requireNonNull(headerName, "headerNames contains null.")));
+        }
+        this.headerNames = builder.build().asList();
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the followers of a leader. The requests which exceed the limit invoke
+     * the delegate on their own. If unspecified, {@value #DEFAULT_MAX_NUM_FOLLOWERS} is used.
+     */
+    public CoalescingServiceBuilder maxNumFollowers(int maxNumFollowers) {
+        checkArgument(maxNumFollowers > 0, "maxNumFollowers: %s (expected: > 0)", maxNumFollowers);
+        this.maxNumFollowers = maxNumFollowers;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time a follower waits for the response headers of its leader. The follower invokes
+     * the delegate on its own when the timeout is reached.
+     * If unspecified, {@value #DEFAULT_WAIT_TIMEOUT_MILLIS} milliseconds is used.
+     */
+    public CoalescingServiceBuilder waitTimeout(Duration waitTimeout) {
+        requireNonNull(waitTimeout, "waitTimeout");
+        checkArgument(!waitTimeout.isNegative() && !waitTimeout.isZero(),
+                      "waitTimeout: %s (expected: > 0)", waitTimeout);
+        return waitTimeoutMillis(waitTimeout.toMillis());
+    }
+
+    /**
+     * Sets the maximum time in milliseconds a follower waits for the response headers of its leader.
+     * The follower invokes the delegate on its own when the timeout is reached.
+     * If unspecified, {@value #DEFAULT_WAIT_TIMEOUT_MILLIS} milliseconds is used.
+     */
+    public CoalescingServiceBuilder waitTimeoutMillis(long waitTimeoutMillis) {
+        checkArgument(waitTimeoutMillis > 0, "waitTimeoutMillis: %s (expected: > 0)", waitTimeoutMillis);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Sets the maximum length of the leader's response content which is buffered for its followers.
+     * Once the content exceeds the limit, no more followers join the leader and the buffered content is
+     * released as soon as the leader and its current followers consume it. The response itself is never
+     * failed because of the limit. {@code 0} disables the limit, which keeps the whole content in memory
+     * until the response is completed. If unspecified, {@link Flags#defaultMaxResponseLength()} is used.
+     */
+    public CoalescingServiceBuilder maxResponseLength(long maxResponseLength) {
+        checkArgument(maxResponseLength >= 0, "maxResponseLength: %s (expected: >= 0)", maxResponseLength);
+        this.maxResponseLength = maxResponseLength;
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} which collects the metrics of the service.
+     * If unspecified, {@link Flags#meterRegistry()} is used.
+     */
+    public CoalescingServiceBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the metrics of the service.
+     * If unspecified, {@value #DEFAULT_METER_ID_PREFIX} is used.
+     */
+    public CoalescingServiceBuilder meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link CoalescingService} based on the properties of this builder.
+     */
+    public CoalescingService build(HttpService delegate) {
+        requireNonNull(delegate, "delegate");
+        return new CoalescingService(delegate, queryParamNames, headerNames, maxNumFollowers,
+                                     waitTimeoutMillis, maxResponseLength, meterRegistry, meterIdPrefix);
+    }
+
+    /**
+     * Returns a newly-created decorator that decorates an {@link HttpService} with a new
+     * {@link CoalescingService} based on the properties of this builder.
+     */
+    public Function<? super HttpService, CoalescingService> newDecorator() {
+        return this::build;
+    }
+}
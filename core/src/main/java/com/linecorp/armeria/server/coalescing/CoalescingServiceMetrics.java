@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.coalescing;
+
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The metrics of a {@link CoalescingService}.
+ *
+ * @see CoalescingServiceBuilder
+ */
+final class CoalescingServiceMetrics {
+
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timedOut;
+    private final Counter overflowed;
+    private final Counter bypassed;
+
+    CoalescingServiceMetrics(MeterRegistry registry, MeterIdPrefix idPrefix) {
+        final String requests = idPrefix.name("requests");
+        leaders = registry.counter(requests, idPrefix.tags("result", "leader"));
+        coalesced = registry.counter(requests, idPrefix.tags("result", "coalesced"));
+        timedOut = registry.counter(requests, idPrefix.tags("result", "timeout"));
+        overflowed = registry.counter(requests, idPrefix.tags("result", "overflow"));
+        bypassed = registry.counter(requests, idPrefix.tags("result", "bypass"));
+    }
+
+    void onLeader() {
+        leaders.increment();
+    }
+
+    void onCoalesced() {
+        coalesced.increment();
+    }
+
+    void onTimeout() {
+        timedOut.increment();
+    }
+
+    void onOverflow() {
+        overflowed.increment();
+    }
+
+    void onBypass() {
+        bypassed.increment();
+    }
+}
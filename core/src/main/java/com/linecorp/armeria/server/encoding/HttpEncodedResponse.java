@@ -18,8 +18,6 @@ package com.linecorp.armeria.server.encoding;
 
 import static com.linecorp.armeria.common.util.Exceptions.throwIfFatal;
 
-import java.io.IOException;
-import java.io.OutputStream;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Predicate;
 
@@ -28,7 +26,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.primitives.Ints;
 
 import com.linecorp.armeria.common.FilteredHttpResponse;
 import com.linecorp.armeria.common.HttpData;
@@ -41,12 +38,11 @@ import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.ResponseHeadersBuilder;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.encoding.StreamEncoder;
 import com.linecorp.armeria.common.encoding.StreamEncoderFactory;
 import com.linecorp.armeria.common.stream.FilteredStreamMessage;
 
-import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import io.netty.buffer.ByteBufOutputStream;
 
 /**
  * A {@link FilteredStreamMessage} that applies HTTP encoding to {@link HttpObject}s as they are published.
@@ -63,12 +59,8 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
     private final long minBytesToForceChunkedAndEncoding;
     private final ByteBufAllocator alloc;
 
-    @VisibleForTesting
-    @Nullable
-    ByteBufOutputStream encodedStream;
-
     @Nullable
-    private OutputStream encodingStream;
+    private StreamEncoder encoder;
 
     private boolean headersSent;
 
@@ -80,7 +72,8 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
                         Predicate<MediaType> encodableContentTypePredicate,
                         ByteBufAllocator alloc,
                         long minBytesToForceChunkedAndEncoding) {
-        super(delegate);
+        // Receive the pooled objects as they are so that they are encoded without being copied.
+        super(delegate, true);
         this.encoderFactory = encoderFactory;
         this.encodableContentTypePredicate = encodableContentTypePredicate;
         this.alloc = alloc;
@@ -108,17 +101,7 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
                 return obj;
             }
 
-            final ByteBuf buf;
-            final long contentLength = headers.contentLength();
-            if (contentLength > 0) {
-                // A compression ratio heavily depends on the content but the compression ratio is higher than
-                // 50% in common cases.
-                buf = alloc.buffer(Ints.saturatedCast(contentLength) / 2);
-            } else {
-                buf = alloc.buffer();
-            }
-            encodedStream = new ByteBufOutputStream(buf);
-            encodingStream = encoderFactory.newEncoder(encodedStream);
+            encoder = encoderFactory.newEncoder(alloc);
 
             final ResponseHeadersBuilder mutable = headers.toBuilder();
             // Always use chunked encoding when compressing.
@@ -133,41 +116,38 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
             return obj;
         }
 
-        if (encodingStream == null) {
+        if (encoder == null) {
             // Encoding was disabled for this response.
             return obj;
         }
 
-        final HttpData data = (HttpData) obj;
-        assert encodedStream != null;
-        try {
-            encodingStream.write(data.array());
-            encodingStream.flush();
-            final ByteBuf encodedBuf = encodedStream.buffer();
-            final HttpData httpData = HttpData.wrap(encodedBuf.retainedSlice());
-            encodedBuf.readerIndex(encodedBuf.writerIndex());
-            return httpData;
-        } catch (IOException e) {
-            // An unreleased ByteBuf in `encodedStream` will be released by `beforeError()`
-            throw new IllegalStateException(
-                    "Error encoding HttpData, this should not happen with byte arrays.",
-                    e);
-        }
+        // The encoder releases the data. Any pending buffers in the encoder will be released by
+        // `beforeError()`.
+        return encoder.encode((HttpData) obj);
     }
 
     @Override
     protected void beforeComplete(Subscriber<? super HttpObject> subscriber) {
-        if (!closeEncoder(false)) {
+        if (!encoderClosedUpdater.compareAndSet(this, 0, 1)) {
             return;
         }
-        if (encodedStream == null) {
+        if (encoder == null) {
             return;
         }
 
-        final ByteBuf buf = encodedStream.buffer();
-        if (buf.isReadable()) {
+        final HttpData last;
+        try {
+            last = encoder.finish();
+        } catch (Throwable t) {
+            encoder.close();
+            subscriber.onError(t);
+            throwIfFatal(t);
+            logger.warn("Unexpected exception is raised while finishing the encoder.", t);
+            return;
+        }
+        if (!last.isEmpty()) {
             try {
-                subscriber.onNext(HttpData.wrap(buf));
+                subscriber.onNext(last);
             } catch (Throwable t) {
                 subscriber.onError(t);
                 throwIfFatal(t);
@@ -175,37 +155,33 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
                             subscriber, t);
             }
         } else {
-            buf.release();
+            last.close();
         }
     }
 
     @Override
     protected Throwable beforeError(Subscriber<? super HttpObject> subscriber, Throwable cause) {
-        closeEncoder(true);
+        closeEncoder();
         return cause;
     }
 
     @Override
     protected void onCancellation(Subscriber<? super HttpObject> subscriber) {
-        closeEncoder(true);
+        closeEncoder();
     }
 
-    private boolean closeEncoder(boolean releaseEncodedBuf) {
+    private void closeEncoder() {
         if (!encoderClosedUpdater.compareAndSet(this, 0, 1)) {
-            return false;
-        }
-        if (encodingStream == null) {
-            return false;
-        }
-        try {
-            encodingStream.close();
-        } catch (IOException e) {
-            logger.warn("Unexpected exception is raised while closing the encoding stream.", e);
+            return;
         }
-        if (encodedStream != null && releaseEncodedBuf) {
-            encodedStream.buffer().release();
+        if (encoder != null) {
+            encoder.close();
         }
-        return true;
+    }
+
+    @VisibleForTesting
+    boolean isEncoderClosed() {
+        return encoderClosed == 1;
     }
 
     private boolean shouldEncodeResponse(ResponseHeaders headers) {
@@ -217,6 +193,11 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
             // Content-Encoding.
             return false;
         }
+        if (headers.contains(HttpHeaderNames.CONTENT_RANGE)) {
+            // A content range refers to the unencoded representation, so a partial content must not be
+            // encoded.
+            return false;
+        }
         if (headers.contentType() != null) {
             // Make sure the content type is worth encoding.
             try {
@@ -22,6 +22,7 @@ import java.time.Clock;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.regex.Pattern;
 
 import com.google.common.base.Splitter;
 import com.google.common.math.LongMath;
@@ -35,11 +36,19 @@ import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.ResponseHeadersBuilder;
+import com.linecorp.armeria.common.SessionProtocol;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.logging.RequestLogProperty;
 import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.internal.common.FileRegionHttpData;
+import com.linecorp.armeria.internal.common.util.ChannelUtil;
 import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.ServiceRequestContext;
 
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.FileRegion;
 
 /**
  * A skeletal {@link HttpFile} implementation.
@@ -47,6 +56,9 @@ import io.netty.buffer.ByteBufAllocator;
 public abstract class AbstractHttpFile implements HttpFile {
 
     private static final Splitter etagSplitter = Splitter.on(',').trimResults().omitEmptyStrings();
+    private static final Splitter acceptEncodingSplitter = Splitter.on(',').trimResults().omitEmptyStrings();
+    private static final Pattern ZERO_QUALITY_PATTERN =
+            Pattern.compile("^\\s*q\\s*=\\s*0(?:\\.0{0,3})?\\s*$");
 
     @Nullable
     private final MediaType contentType;
@@ -169,6 +181,9 @@ public abstract class AbstractHttpFile implements HttpFile {
         final ResponseHeadersBuilder headers =
                 ResponseHeaders.builder(HttpStatus.OK)
                                .addLong(HttpHeaderNames.CONTENT_LENGTH, attrs.length());
+        if (this instanceof RangeReadableHttpFile) {
+            headers.set(HttpHeaderNames.ACCEPT_RANGES, "bytes");
+        }
         return addCommonHeaders(headers, attrs, etag);
     }
 
@@ -223,6 +238,155 @@ public abstract class AbstractHttpFile implements HttpFile {
         }
     }
 
+    @Nullable
+    private HttpResponse read(ServiceRequestContext ctx, RequestHeaders reqHeaders, HttpFileAttributes attrs,
+                              @Nullable String etag) {
+        final long length = attrs.length();
+        if (length == 0) {
+            return read(ctx.blockingTaskExecutor(), ctx.alloc(), attrs);
+        }
+
+        // Handle 'range' header, only if 'if-range' matches.
+        final String range = this instanceof RangeReadableHttpFile ? reqHeaders.get(HttpHeaderNames.RANGE)
+                                                                   : null;
+        if (range != null && ifRangeMatches(reqHeaders, attrs, etag)) {
+            final ByteRange byteRange = ByteRange.parse(range, length);
+            if (byteRange == ByteRange.UNSATISFIABLE) {
+                return HttpResponse.of(ResponseHeaders.builder(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                                                      .set(HttpHeaderNames.CONTENT_RANGE,
+                                                           byteRange.contentRange(length))
+                                                      .build());
+            }
+            if (byteRange != null) {
+                final ResponseHeaders headers = readHeaders(attrs);
+                assert headers != null;
+                final ResponseHeaders partialHeaders =
+                        headers.toBuilder()
+                               .status(HttpStatus.PARTIAL_CONTENT)
+                               .setLong(HttpHeaderNames.CONTENT_LENGTH, byteRange.length())
+                               .set(HttpHeaderNames.CONTENT_RANGE, byteRange.contentRange(length))
+                               .build();
+                return read(ctx, reqHeaders, partialHeaders, byteRange.offset(), byteRange.length());
+            }
+        }
+
+        final ResponseHeaders headers = readHeaders(attrs);
+        assert headers != null;
+        return read(ctx, reqHeaders, headers, 0, length);
+    }
+
+    @Nullable
+    private HttpResponse read(ServiceRequestContext ctx, RequestHeaders reqHeaders, ResponseHeaders headers,
+                              long offset, long length) {
+        if (supportsFileRegion(ctx, reqHeaders, headers)) {
+            final HttpResponse res = doReadFileRegions(headers, offset, length);
+            if (res != null) {
+                return res;
+            }
+        }
+
+        try {
+            if (headers.status() != HttpStatus.PARTIAL_CONTENT) {
+                return doRead(headers, length, ctx.blockingTaskExecutor(), ctx.alloc());
+            }
+            // Only a RangeReadableHttpFile parses a "range" header into a partial content.
+            return ((RangeReadableHttpFile) this).doReadRange(headers, offset, length,
+                                                              ctx.blockingTaskExecutor(), ctx.alloc());
+        } catch (IOException e) {
+            return Exceptions.throwUnsafely(e);
+        }
+    }
+
+    /**
+     * Returns whether the {@code "if-range"} header is absent or matches the current entity tag or
+     * the last modified date of the file. A {@code "range"} header must be ignored if not.
+     */
+    private static boolean ifRangeMatches(RequestHeaders reqHeaders, HttpFileAttributes attrs,
+                                          @Nullable String etag) {
+        final String ifRange = reqHeaders.get(HttpHeaderNames.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // A weak entity tag never matches. See https://datatracker.ietf.org/doc/html/rfc7233#section-3.2
+            return etag != null && ifRange.equals('\"' + etag + '\"');
+        }
+        try {
+            final Long ifRangeMillis = reqHeaders.getTimeMillis(HttpHeaderNames.IF_RANGE);
+            // HTTP-date does not have subsecond-precision.
+            return ifRangeMillis != null && ifRangeMillis / 1000 == attrs.lastModifiedMillis() / 1000;
+        } catch (Exception ignore) {
+            // Malformed date.
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether the content of a file can be sent with {@code sendfile()}, i.e. the request was received
+     * via a cleartext HTTP/1 connection whose transport supports {@link FileRegion} and nothing is going to
+     * transform or inspect the content. Accessing the content of a {@link FileRegionHttpData} reads the file
+     * in the calling thread, which is usually an event loop, so the content is read by
+     * {@link ServiceRequestContext#blockingTaskExecutor()} if it may be previewed or compressed.
+     */
+    private static boolean supportsFileRegion(ServiceRequestContext ctx, RequestHeaders reqHeaders,
+                                              ResponseHeaders headers) {
+        if (ctx.sessionProtocol() != SessionProtocol.H1C) {
+            return false;
+        }
+        if (ctx.logBuilder().isDeferred(RequestLogProperty.RESPONSE_CONTENT_PREVIEW)) {
+            // A content previewer is going to read the content.
+            return false;
+        }
+        if (mayBeEncoded(reqHeaders, headers)) {
+            return false;
+        }
+        final RequestLog log = ctx.log().getIfAvailable(RequestLogProperty.SESSION);
+        final Channel channel = log != null ? log.channel() : null;
+        return channel != null && ChannelUtil.supportsFileRegion(channel);
+    }
+
+    /**
+     * Returns whether the content may be compressed by a decorator such as {@code EncodingService}, i.e.
+     * the client accepts a content encoding and the content is not encoded already nor incompressible.
+     */
+    private static boolean mayBeEncoded(RequestHeaders reqHeaders, ResponseHeaders headers) {
+        if (headers.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+            return false;
+        }
+        final MediaType contentType = headers.contentType();
+        if (contentType != null && !CompressedFileCache.isCompressible(contentType)) {
+            return false;
+        }
+
+        final String acceptEncoding = reqHeaders.get(HttpHeaderNames.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String element : acceptEncodingSplitter.split(acceptEncoding)) {
+            final int semicolonIdx = element.indexOf(';');
+            final String coding = semicolonIdx < 0 ? element : element.substring(0, semicolonIdx).trim();
+            if (coding.isEmpty() || "identity".equalsIgnoreCase(coding)) {
+                continue;
+            }
+            if (semicolonIdx >= 0 &&
+                ZERO_QUALITY_PATTERN.matcher(element.substring(semicolonIdx + 1)).matches()) {
+                // Explicitly refused by the client.
+                continue;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a new {@link HttpResponse} which sends the specified range of the file as
+     * {@link FileRegionHttpData}s, or {@code null} if this file does not support {@link FileRegion}.
+     */
+    @Nullable
+    HttpResponse doReadFileRegions(ResponseHeaders headers, long offset, long length) {
+        return null;
+    }
+
     /**
      * Returns a new {@link HttpResponse} which streams the content of the file which follows the specified
      * {@link ResponseHeaders}.
@@ -295,7 +459,7 @@ public abstract class AbstractHttpFile implements HttpFile {
                         }
                         break;
                     case GET:
-                        final HttpResponse res = read(ctx.blockingTaskExecutor(), ctx.alloc(), attrs);
+                        final HttpResponse res = read(ctx, reqHeaders, attrs, etag);
                         if (res != null) {
                             return res;
                         }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import com.google.common.base.Ascii;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+/**
+ * A single byte range of a file, parsed from the {@code "range"} header.
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc7233#section-2.1">Byte Ranges</a>
+ */
+final class ByteRange {
+
+    /**
+     * A {@link ByteRange} which indicates that the requested range does not overlap the file.
+     */
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    /**
+     * Parses the specified {@code "range"} header value.
+     *
+     * @return the {@link ByteRange} of the file, {@link #UNSATISFIABLE} if the range does not overlap
+     *         the file, or {@code null} if the range is malformed or has more than one range,
+     *         which means the {@code "range"} header has to be ignored.
+     */
+    @Nullable
+    static ByteRange parse(String range, long fileLength) {
+        if (range.length() <= BYTES_UNIT.length() ||
+            !Ascii.equalsIgnoreCase(range.substring(0, BYTES_UNIT.length()), BYTES_UNIT) ||
+            range.indexOf(',') >= 0) {
+            // Not a byte range or a multipart range which is not supported.
+            return null;
+        }
+
+        final String spec = range.substring(BYTES_UNIT.length()).trim();
+        final int dashIndex = spec.indexOf('-');
+        if (dashIndex < 0) {
+            return null;
+        }
+
+        final long first = parseLong(spec.substring(0, dashIndex).trim());
+        final long last = parseLong(spec.substring(dashIndex + 1).trim());
+        if (first < 0) {
+            if (last < 0 || dashIndex != 0) {
+                return null;
+            }
+            // A suffix range, e.g. "bytes=-500"
+            if (last == 0) {
+                return UNSATISFIABLE;
+            }
+            final long length = Math.min(last, fileLength);
+            return new ByteRange(fileLength - length, length);
+        }
+
+        if (first >= fileLength) {
+            return UNSATISFIABLE;
+        }
+        if (last < 0) {
+            if (dashIndex != spec.length() - 1) {
+                return null;
+            }
+            // An open-ended range, e.g. "bytes=500-"
+            return new ByteRange(first, fileLength - first);
+        }
+        if (last < first) {
+            return null;
+        }
+        return new ByteRange(first, Math.min(last, fileLength - 1) - first + 1);
+    }
+
+    /**
+     * Parses the specified non-negative decimal number.
+     *
+     * @return the parsed number, or {@code -1} if the specified {@link String} is empty or not a valid number.
+     */
+    private static long parseLong(String value) {
+        if (value.isEmpty() || value.length() > 18) {
+            return -1;
+        }
+        long result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            result = result * 10 + (ch - '0');
+        }
+        return result;
+    }
+
+    private final long offset;
+    private final long length;
+
+    private ByteRange(long offset, long length) {
+        this.offset = offset;
+        this.length = length;
+    }
+
+    long offset() {
+        return offset;
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * Returns the {@code "content-range"} header value of this range.
+     */
+    String contentRange(long fileLength) {
+        if (this == UNSATISFIABLE) {
+            return "bytes */" + fileLength;
+        }
+        return "bytes " + offset + '-' + (offset + length - 1) + '/' + fileLength;
+    }
+
+    @Override
+    public String toString() {
+        return this == UNSATISFIABLE ? "unsatisfiable" : offset + "+" + length;
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Ascii;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.encoding.StreamEncoder;
+import com.linecorp.armeria.common.encoding.StreamEncoderFactories;
+import com.linecorp.armeria.common.encoding.StreamEncoderFactory;
+import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.Zstd;
+
+/**
+ * A size-bounded cache of the compressed variants of the files served by a {@link FileService}.
+ * A variant is compressed in the background when a file is requested for the first time, so that
+ * a hot file is compressed only once rather than for every request.
+ */
+final class CompressedFileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompressedFileCache.class);
+
+    private static final Splitter COMMA_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    /**
+     * The files smaller than this are not worth compressing because the saved bytes are likely to be
+     * smaller than the overhead of the compression format.
+     */
+    private static final int MIN_COMPRESSIBLE_LENGTH = 1024;
+
+    /**
+     * The approximate memory footprint of an entry excluding its content, used to weigh the entries of
+     * the files which turned out to be incompressible.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private static final List<MediaType> COMPRESSIBLE_MEDIA_TYPES =
+            ImmutableList.of(MediaType.ANY_TEXT_TYPE,
+                             MediaType.APPLICATION_XML_UTF_8,
+                             MediaType.JAVASCRIPT_UTF_8,
+                             MediaType.JSON_UTF_8,
+                             MediaType.MANIFEST_JSON_UTF_8,
+                             MediaType.SVG_UTF_8,
+                             MediaType.WASM_APPLICATION);
+
+    // Ordered by priority. The variants are compressed only once, so better compression ratio is
+    // preferred over compression speed, i.e. the maximum quality of brotli and a high level of zstd.
+    private static final List<StreamEncoderFactory> ENCODER_FACTORIES;
+
+    static {
+        final ImmutableList.Builder<StreamEncoderFactory> builder = ImmutableList.builder();
+        if (Brotli.isAvailable()) {
+            builder.add(StreamEncoderFactory.brotli(11));
+        }
+        if (Zstd.isAvailable()) {
+            builder.add(StreamEncoderFactory.zstd(19));
+        }
+        builder.add(StreamEncoderFactories.GZIP);
+        ENCODER_FACTORIES = builder.build();
+    }
+
+    private final FileServiceConfig config;
+    private final Cache<Key, Variant> cache;
+    private final Set<Key> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    CompressedFileCache(FileServiceConfig config) {
+        this.config = requireNonNull(config, "config");
+        cache = Caffeine.newBuilder()
+                        .maximumWeight(config.autoCompressCacheSizeBytes())
+                        .weigher((Key key, Variant value) -> value.weight())
+                        .recordStats()
+                        .build();
+    }
+
+    Cache<?, ?> cache() {
+        return cache;
+    }
+
+    /**
+     * Returns whether the file at the specified path may be served as a compressed variant, i.e. its
+     * responses vary depending on the {@code "accept-encoding"} header.
+     */
+    boolean mayCompress(String path) {
+        final MediaType contentType = config.mediaTypeResolver().guessFromPath(path, null);
+        return contentType != null && isCompressible(contentType);
+    }
+
+    /**
+     * Returns the compressed variant of the specified file if it has been compressed already.
+     * Otherwise, schedules the compression of the file and returns {@code null} so that the caller serves
+     * the uncompressed file meanwhile.
+     */
+    @Nullable
+    HttpFile get(ServiceRequestContext ctx, String path, HttpFile uncachedFile, HttpFileAttributes attrs) {
+        if (attrs.length() < MIN_COMPRESSIBLE_LENGTH) {
+            return null;
+        }
+
+        final MediaType contentType = config.mediaTypeResolver().guessFromPath(path, null);
+        if (contentType == null || !isCompressible(contentType)) {
+            return null;
+        }
+
+        final StreamEncoderFactory encoderFactory = selectEncoder(ctx.request().headers());
+        if (encoderFactory == null) {
+            return null;
+        }
+
+        final String entityTag = DefaultEntityTagFunction.get().apply(path, attrs);
+        final Key key = new Key(path, entityTag, encoderFactory.encodingHeaderValue());
+        final Variant variant = cache.getIfPresent(key);
+        if (variant != null) {
+            // A null file means the content turned out to be incompressible.
+            return variant.file != null ? variant.file.toHttpFile() : null;
+        }
+
+        compress(ctx.blockingTaskExecutor(), key, path, contentType, uncachedFile, attrs, encoderFactory);
+        return null;
+    }
+
+    private void compress(Executor executor, Key key, String path, MediaType contentType,
+                          HttpFile uncachedFile, HttpFileAttributes attrs,
+                          StreamEncoderFactory encoderFactory) {
+        if (!pendingKeys.add(key)) {
+            // Being compressed by another request.
+            return;
+        }
+
+        uncachedFile.aggregate(executor).thenAcceptAsync(aggregated -> {
+            final HttpData content = aggregated.content();
+            if (content == null || !attrs.equals(aggregated.attributes())) {
+                // Removed or modified while being read. The next request will try again with
+                // the new attributes.
+                return;
+            }
+            final byte[] compressed = encode(encoderFactory, content);
+            if (compressed.length >= attrs.length()) {
+                cache.put(key, new Variant(null));
+                return;
+            }
+
+            final AggregatedHttpFile file =
+                    AggregatedHttpFile.builder(HttpData.wrap(compressed), attrs.lastModifiedMillis())
+                                      .clock(config.clock())
+                                      .contentType(contentType)
+                                      .setHeaders(config.headers())
+                                      .setHeader(HttpHeaderNames.CONTENT_ENCODING, key.contentEncoding)
+                                      .setHeader(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING)
+                                      // A variant must have an entity tag different from the original.
+                                      .entityTag((unused1, unused2) -> key.entityTag + '-' +
+                                                                        key.contentEncoding)
+                                      .build();
+            cache.put(key, new Variant(file));
+        }, executor).whenComplete((unused, cause) -> {
+            pendingKeys.remove(key);
+            if (cause != null) {
+                logger.warn("Failed to compress a file: {} (encoding: {})",
+                            path, key.contentEncoding, Exceptions.peel(cause));
+            }
+        });
+    }
+
+    private static byte[] encode(StreamEncoderFactory encoderFactory, HttpData content) {
+        try (StreamEncoder encoder = encoderFactory.newEncoder(ByteBufAllocator.DEFAULT);
+             HttpData first = encoder.encode(content);
+             HttpData last = encoder.finish()) {
+            final byte[] compressed = new byte[first.length() + last.length()];
+            System.arraycopy(first.array(), 0, compressed, 0, first.length());
+            System.arraycopy(last.array(), 0, compressed, first.length(), last.length());
+            return compressed;
+        }
+    }
+
+    static boolean isCompressible(MediaType contentType) {
+        for (MediaType mediaType : COMPRESSIBLE_MEDIA_TYPES) {
+            if (contentType.belongsTo(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the {@link StreamEncoderFactory} with the highest priority among the encodings accepted by
+     * the client. Similar to {@link FileService}, the weights are not taken into account except for
+     * the encodings explicitly refused with {@code q=0}.
+     */
+    @Nullable
+    private static StreamEncoderFactory selectEncoder(RequestHeaders headers) {
+        final String acceptEncoding = headers.get(HttpHeaderNames.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return null;
+        }
+
+        StreamEncoderFactory selected = null;
+        int selectedIndex = ENCODER_FACTORIES.size();
+        for (String element : COMMA_SPLITTER.split(acceptEncoding)) {
+            final int semicolonIndex = element.indexOf(';');
+            final String coding = semicolonIndex < 0 ? element : element.substring(0, semicolonIndex).trim();
+            if (semicolonIndex >= 0 && isRefused(element.substring(semicolonIndex + 1))) {
+                continue;
+            }
+            for (int i = 0; i < selectedIndex; i++) {
+                final StreamEncoderFactory encoderFactory = ENCODER_FACTORIES.get(i);
+                if (Ascii.equalsIgnoreCase(coding, encoderFactory.encodingHeaderValue())) {
+                    selected = encoderFactory;
+                    selectedIndex = i;
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private static boolean isRefused(String parameter) {
+        final int equalsIndex = parameter.indexOf('=');
+        if (equalsIndex < 0) {
+            return false;
+        }
+        try {
+            return Float.parseFloat(parameter.substring(equalsIndex + 1)) <= 0.0f;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("maxWeight", config.autoCompressCacheSizeBytes())
+                          .add("encoderFactories", ENCODER_FACTORIES)
+                          .toString();
+    }
+
+    private static final class Variant {
+        @Nullable
+        final AggregatedHttpFile file;
+
+        Variant(@Nullable AggregatedHttpFile file) {
+            this.file = file;
+        }
+
+        int weight() {
+            if (file == null) {
+                return ENTRY_OVERHEAD_BYTES;
+            }
+            final HttpData content = file.content();
+            assert content != null;
+            return content.length() + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+
+    private static final class Key {
+        private final String path;
+        private final String entityTag;
+        private final String contentEncoding;
+
+        Key(String path, String entityTag, String contentEncoding) {
+            this.path = path;
+            this.entityTag = entityTag;
+            this.contentEncoding = contentEncoding;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) obj;
+            return path.equals(that.path) &&
+                   entityTag.equals(that.entityTag) &&
+                   contentEncoding.equals(that.contentEncoding);
+        }
+
+        @Override
+        public int hashCode() {
+            return (path.hashCode() * 31 + entityTag.hashCode()) * 31 + contentEncoding.hashCode();
+        }
+    }
+}
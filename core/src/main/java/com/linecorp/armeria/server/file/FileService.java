@@ -42,6 +42,7 @@ import com.google.common.collect.Sets;
 
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpHeaders;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.MediaType;
@@ -139,6 +140,8 @@ public final class FileService extends AbstractHttpService {
 
     @Nullable
     private final Cache<PathAndEncoding, AggregatedHttpFile> cache;
+    @Nullable
+    private final CompressedFileCache compressedFileCache;
 
     FileService(FileServiceConfig config) {
         this.config = requireNonNull(config, "config");
@@ -148,6 +151,11 @@ public final class FileService extends AbstractHttpService {
         } else {
             cache = null;
         }
+        if (config.autoCompress()) {
+            compressedFileCache = new CompressedFileCache(config);
+        } else {
+            compressedFileCache = null;
+        }
     }
 
     private static Cache<PathAndEncoding, AggregatedHttpFile> newCache(String cacheSpec) {
@@ -177,6 +185,16 @@ public final class FileService extends AbstractHttpService {
 
             CaffeineMetricSupport.setup(registry, meterIdPrefix, cache);
         }
+        if (compressedFileCache != null) {
+            final MeterIdPrefix meterIdPrefix =
+                    new MeterIdPrefix("armeria.server.file.compressed.cache",
+                                      "hostname.pattern",
+                                      cfg.virtualHost().hostnamePattern(),
+                                      "route", cfg.route().patternString(),
+                                      "vfs", config.vfs().meterTag());
+
+            CaffeineMetricSupport.setup(registry, meterIdPrefix, compressedFileCache.cache());
+        }
     }
 
     @Override
@@ -321,11 +339,32 @@ public final class FileService extends AbstractHttpService {
         final ScheduledExecutorService readExecutor = ctx.blockingTaskExecutor();
         @Nullable
         final String contentEncoding = encoding != null ? encoding.decoderFactory.encodingHeaderValue() : null;
+        final HttpHeaders headers;
+        if (compressedFileCache != null && encoding == null && compressedFileCache.mayCompress(path)) {
+            // The uncompressed file, which is served until its compressed variant is ready, also varies
+            // depending on the 'accept-encoding' header.
+            headers = config.headers().toBuilder()
+                            .add(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING.toString())
+                            .build();
+        } else {
+            headers = config.headers();
+        }
         final HttpFile uncachedFile = config.vfs().get(readExecutor, path, config.clock(),
-                                                       contentEncoding, config.headers(),
+                                                       contentEncoding, headers,
                                                        config.mediaTypeResolver());
 
         return uncachedFile.readAttributes(readExecutor).thenApply(uncachedAttrs -> {
+            if (compressedFileCache != null && encoding == null && uncachedAttrs != null &&
+                uncachedAttrs.length() <= config.maxCacheEntrySizeBytes()) {
+                // Serve the compressed variant if available. Otherwise, the file is compressed in
+                // the background and the uncompressed file is served meanwhile.
+                final HttpFile compressedFile =
+                        compressedFileCache.get(ctx, path, uncachedFile, uncachedAttrs);
+                if (compressedFile != null) {
+                    return compressedFile;
+                }
+            }
+
             if (cache == null) {
                 if (uncachedAttrs != null) {
                     if (decompress && encoding != null) {
@@ -18,6 +18,7 @@ package com.linecorp.armeria.server.file;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
+import static com.linecorp.armeria.server.file.FileServiceConfig.validateAutoCompressCacheSizeBytes;
 import static com.linecorp.armeria.server.file.FileServiceConfig.validateEntryCacheSpec;
 import static com.linecorp.armeria.server.file.FileServiceConfig.validateMaxCacheEntrySizeBytes;
 import static com.linecorp.armeria.server.file.FileServiceConfig.validateNonNegativeParameter;
@@ -49,6 +50,7 @@ public final class FileServiceBuilder {
     @Nullable
     private static final String DEFAULT_ENTRY_CACHE_SPEC = Flags.fileServiceCacheSpec();
     private static final int DEFAULT_MAX_CACHE_ENTRY_SIZE_BYTES = 65536;
+    private static final long DEFAULT_AUTO_COMPRESS_CACHE_SIZE_BYTES = 32 * 1024 * 1024;
 
     final HttpVfs vfs;
     Clock clock = Clock.systemUTC();
@@ -57,6 +59,8 @@ public final class FileServiceBuilder {
     int maxCacheEntrySizeBytes = DEFAULT_MAX_CACHE_ENTRY_SIZE_BYTES;
     boolean serveCompressedFiles;
     private boolean autoDecompress;
+    boolean autoCompress;
+    long autoCompressCacheSizeBytes = DEFAULT_AUTO_COMPRESS_CACHE_SIZE_BYTES;
     boolean autoIndex;
     boolean canSetMaxCacheEntries = true;
     boolean canSetEntryCacheSpec = true;
@@ -141,6 +145,36 @@ public final class FileServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets whether {@link FileService} compresses the files automatically when a client
+     * {@link HttpHeaderNames#ACCEPT_ENCODING accepts} brotli, zstd or gzip. A file is compressed
+     * in the background using the blocking task executor when it is requested for the first time, and
+     * the compressed file is cached so that it is never compressed again until the file is modified.
+     * The uncompressed file is served until the compression is done. By default, this feature is disabled.
+     *
+     * <p>Only the text-based files, such as HTML, CSS, JavaScript, JSON and SVG, whose size is between
+     * {@code 1024} bytes and {@link #maxCacheEntrySizeBytes(int)} are compressed. The pre-compressed files
+     * enabled by {@link #serveCompressedFiles(boolean)} take precedence over the automatically
+     * compressed files.
+     *
+     * @see #autoCompressCacheSizeBytes(long)
+     */
+    @UnstableApi
+    public FileServiceBuilder autoCompress(boolean autoCompress) {
+        this.autoCompress = autoCompress;
+        return this;
+    }
+
+    /**
+     * Sets the maximum total size of the compressed files cached when {@link #autoCompress(boolean)} is
+     * enabled. If not set, {@value #DEFAULT_AUTO_COMPRESS_CACHE_SIZE_BYTES} is used by default.
+     */
+    @UnstableApi
+    public FileServiceBuilder autoCompressCacheSizeBytes(long autoCompressCacheSizeBytes) {
+        this.autoCompressCacheSizeBytes = validateAutoCompressCacheSizeBytes(autoCompressCacheSizeBytes);
+        return this;
+    }
+
     /**
      * Sets the maximum allowed size of a cached file entry. The file bigger than this value will not be
      * cached. If not set, {@value #DEFAULT_MAX_CACHE_ENTRY_SIZE_BYTES} is used by default.
@@ -294,14 +328,16 @@ public final class FileServiceBuilder {
 
         return new FileService(new FileServiceConfig(
                 vfs, clock, entryCacheSpec, maxCacheEntrySizeBytes,
-                serveCompressedFiles, autoDecompress, autoIndex, buildHeaders(),
+                serveCompressedFiles, autoDecompress, autoCompress, autoCompressCacheSizeBytes,
+                autoIndex, buildHeaders(),
                 mediaTypeResolver.orElse(MediaTypeResolver.ofDefault()), fallbackFileExtensions()));
     }
 
     @Override
     public String toString() {
         return FileServiceConfig.toString(this, vfs, clock, entryCacheSpec, maxCacheEntrySizeBytes,
-                                          serveCompressedFiles, autoIndex, headers, mediaTypeResolver,
+                                          serveCompressedFiles, autoCompress, autoCompressCacheSizeBytes,
+                                          autoIndex, headers, mediaTypeResolver,
                                           fallbackFileExtensions());
     }
 }
@@ -45,21 +45,25 @@ public final class FileServiceConfig {
     private final int maxCacheEntrySizeBytes;
     private final boolean serveCompressedFiles;
     private final boolean autoDecompress;
+    private final boolean autoCompress;
+    private final long autoCompressCacheSizeBytes;
     private final boolean autoIndex;
     private final HttpHeaders headers;
     private final MediaTypeResolver mediaTypeResolver;
     private final List<String> fallbackFileExtensions;
 
     FileServiceConfig(HttpVfs vfs, Clock clock, @Nullable String entryCacheSpec, int maxCacheEntrySizeBytes,
-                      boolean serveCompressedFiles, boolean autoDecompress, boolean autoIndex,
-                      HttpHeaders headers, MediaTypeResolver mediaTypeResolver,
-                      List<String> fallbackFileExtensions) {
+                      boolean serveCompressedFiles, boolean autoDecompress, boolean autoCompress,
+                      long autoCompressCacheSizeBytes, boolean autoIndex, HttpHeaders headers,
+                      MediaTypeResolver mediaTypeResolver, List<String> fallbackFileExtensions) {
         this.vfs = requireNonNull(vfs, "vfs");
         this.clock = requireNonNull(clock, "clock");
         this.entryCacheSpec = validateEntryCacheSpec(entryCacheSpec);
         this.maxCacheEntrySizeBytes = validateMaxCacheEntrySizeBytes(maxCacheEntrySizeBytes);
         this.serveCompressedFiles = serveCompressedFiles;
         this.autoDecompress = autoDecompress;
+        this.autoCompress = autoCompress;
+        this.autoCompressCacheSizeBytes = validateAutoCompressCacheSizeBytes(autoCompressCacheSizeBytes);
         this.autoIndex = autoIndex;
         this.headers = requireNonNull(headers, "headers");
         this.mediaTypeResolver = requireNonNull(mediaTypeResolver, "mediaTypeResolver");
@@ -83,6 +87,14 @@ public final class FileServiceConfig {
         return validateNonNegativeParameter(maxCacheEntrySizeBytes, "maxCacheEntrySizeBytes");
     }
 
+    static long validateAutoCompressCacheSizeBytes(long autoCompressCacheSizeBytes) {
+        if (autoCompressCacheSizeBytes <= 0) {
+            throw new IllegalArgumentException(
+                    "autoCompressCacheSizeBytes: " + autoCompressCacheSizeBytes + " (expected: > 0)");
+        }
+        return autoCompressCacheSizeBytes;
+    }
+
     static int validateNonNegativeParameter(int value, String name) {
         if (value < 0) {
             throw new IllegalArgumentException(name + ": " + value + " (expected: >= 0)");
@@ -135,6 +147,24 @@ public final class FileServiceConfig {
         return autoDecompress;
     }
 
+    /**
+     * Returns whether the files are compressed and cached automatically when a client
+     * {@link HttpHeaderNames#ACCEPT_ENCODING accepts} a compressed response.
+     */
+    @UnstableApi
+    public boolean autoCompress() {
+        return autoCompress;
+    }
+
+    /**
+     * Returns the maximum total size of the compressed files cached when {@link #autoCompress()}
+     * is enabled.
+     */
+    @UnstableApi
+    public long autoCompressCacheSizeBytes() {
+        return autoCompressCacheSizeBytes;
+    }
+
     /**
      * Returns whether a directory listing for a directory without an {@code index.html} file will be
      * auto-generated.
@@ -168,13 +198,15 @@ public final class FileServiceConfig {
     @Override
     public String toString() {
         return toString(this, vfs(), clock(), entryCacheSpec(), maxCacheEntrySizeBytes(),
-                        serveCompressedFiles(), autoIndex(), headers(), mediaTypeResolver(),
+                        serveCompressedFiles(), autoCompress(), autoCompressCacheSizeBytes(),
+                        autoIndex(), headers(), mediaTypeResolver(),
                         fallbackFileExtensions());
     }
 
     static String toString(Object holder, HttpVfs vfs, Clock clock,
                            @Nullable String entryCacheSpec, int maxCacheEntrySizeBytes,
-                           boolean serveCompressedFiles, boolean autoIndex,
+                           boolean serveCompressedFiles, boolean autoCompress,
+                           long autoCompressCacheSizeBytes, boolean autoIndex,
                            @Nullable Iterable<Entry<AsciiString, String>> headers,
                            MediaTypeResolver mediaTypeResolver, @Nullable List<String> fallbackFileExtensions) {
 
@@ -184,6 +216,8 @@ public final class FileServiceConfig {
                           .add("entryCacheSpec", entryCacheSpec)
                           .add("maxCacheEntrySizeBytes", maxCacheEntrySizeBytes)
                           .add("serveCompressedFiles", serveCompressedFiles)
+                          .add("autoCompress", autoCompress)
+                          .add("autoCompressCacheSizeBytes", autoCompressCacheSizeBytes)
                           .add("autoIndex", autoIndex)
                           .add("headers", headers)
                           .add("mediaTypeResolver", mediaTypeResolver)
@@ -20,6 +20,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -33,12 +34,17 @@ import java.util.function.BiFunction;
 import com.google.common.base.MoreObjects;
 
 import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseWriter;
+import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.internal.common.FileRegionHttpData;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 
-final class FileSystemHttpFile extends StreamingHttpFile<ByteChannel> {
+final class FileSystemHttpFile extends StreamingHttpFile<ByteChannel> implements RangeReadableHttpFile {
 
     private final Path path;
 
@@ -92,6 +98,42 @@ final class FileSystemHttpFile extends StreamingHttpFile<ByteChannel> {
         }
     }
 
+    @Override
+    HttpResponse doReadFileRegions(ResponseHeaders headers, long offset, long length) {
+        final HttpResponseWriter res = HttpResponse.streaming();
+        res.write(headers);
+        final long end = offset + length;
+        for (long position = offset; position < end;) {
+            final int regionLength = (int) Math.min(FileRegionHttpData.MAX_REGION_LENGTH, end - position);
+            final long nextPosition = position + regionLength;
+            res.write(FileRegionHttpData.of(path, position, regionLength, nextPosition == end));
+            position = nextPosition;
+        }
+        res.close();
+        return res;
+    }
+
+    @Nullable
+    @Override
+    public HttpResponse doReadRange(ResponseHeaders headers, long offset, long length,
+                                    Executor fileReadExecutor, ByteBufAllocator alloc) throws IOException {
+        final ByteChannel in = newStream();
+        if (in == null) {
+            return null;
+        }
+
+        boolean success = false;
+        try {
+            ((SeekableByteChannel) in).position(offset);
+            success = true;
+        } finally {
+            if (!success) {
+                in.close();
+            }
+        }
+        return doRead(headers, in, length, fileReadExecutor, alloc);
+    }
+
     @Override
     protected int read(ByteChannel src, ByteBuf dst) throws IOException {
         if (src instanceof ScatteringByteChannel) {
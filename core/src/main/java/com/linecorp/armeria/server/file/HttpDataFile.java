@@ -40,7 +40,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.handler.codec.DateFormatter;
 
-final class HttpDataFile extends AbstractHttpFile implements AggregatedHttpFile {
+final class HttpDataFile extends AbstractHttpFile implements AggregatedHttpFile, RangeReadableHttpFile {
 
     private final HttpData content;
     private final HttpFileAttributes attrs;
@@ -111,6 +111,19 @@ final class HttpDataFile extends AbstractHttpFile implements AggregatedHttpFile
         }
     }
 
+    @Override
+    public HttpResponse doReadRange(ResponseHeaders headers, long offset, long length,
+                                    Executor fileReadExecutor, ByteBufAllocator alloc) {
+        final int intOffset = (int) offset;
+        final int intLength = (int) length;
+        if (content.isPooled()) {
+            final ByteBuf buf = content.byteBuf(intOffset, intLength, ByteBufAccessMode.RETAINED_DUPLICATE);
+            return HttpResponse.of(headers, HttpData.wrap(buf));
+        } else {
+            return HttpResponse.of(headers, HttpData.wrap(content.array(), intOffset, intLength));
+        }
+    }
+
     @Nonnull
     @Override
     public HttpData content() {
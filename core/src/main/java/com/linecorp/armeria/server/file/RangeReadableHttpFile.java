@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * An {@link AbstractHttpFile} which can send a part of its content in response to a {@code "range"}
+ * header. The {@code "accept-ranges"} header is sent only for the files which implement this interface.
+ */
+interface RangeReadableHttpFile {
+
+    /**
+     * Returns a new {@link HttpResponse} which streams the specified range of the file which follows
+     * the specified {@link ResponseHeaders}.
+     *
+     * @return the {@link HttpResponse}, or {@code null} if the file does not exist.
+     */
+    @Nullable
+    HttpResponse doReadRange(ResponseHeaders headers, long offset, long length,
+                             Executor fileReadExecutor, ByteBufAllocator alloc) throws IOException;
+}
@@ -87,7 +87,15 @@ public abstract class StreamingHttpFile<T extends Closeable> extends AbstractHtt
         if (in == null) {
             return null;
         }
+        return doRead(headers, in, length, fileReadExecutor, alloc);
+    }
 
+    /**
+     * Returns a new {@link HttpResponse} which streams {@code length} bytes from the current position of
+     * the specified stream. The stream is closed when the {@link HttpResponse} is complete.
+     */
+    final HttpResponse doRead(ResponseHeaders headers, T in, long length,
+                              Executor fileReadExecutor, ByteBufAllocator alloc) {
         boolean submitted = false;
         try {
             final HttpResponseWriter res = HttpResponse.streaming();
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.logging.RequestLogListener;
+import com.linecorp.armeria.common.logging.RequestLogProperty;
+import com.linecorp.armeria.internal.common.util.TemporaryThreadLocals;
+import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+/**
+ * Keeps the recent {@link RequestLog}s of a server in a fixed-size off-heap ring buffer, so that
+ * the last requests of a route can be inspected in production without keeping {@link RequestLog}s on the
+ * heap. Each completed {@link RequestLog} is encoded into a compact binary record, and the oldest records are
+ * overwritten when the buffer is full.
+ * <pre>{@code
+ * RecentRequestLogs recentLogs = RecentRequestLogs.builder()
+ *                                                 .maxBytes(16 * 1024 * 1024)
+ *                                                 .build();
+ * Server.builder()
+ *       .decorator(recentLogs.newDecorator())
+ *       .service("/internal/requests", recentLogs.asService())
+ *       ...
+ * }</pre>
+ *
+ * <p>The service returned by {@link #asService()} responds with a JSON array of the recent requests,
+ * the newest first, and accepts the following query parameters:
+ * <ul>
+ *   <li>{@code route} - the
+ *       {@linkplain com.linecorp.armeria.server.Route#patternString() pattern} of the route,
+ *       e.g. {@code /users/:id}</li>
+ *   <li>{@code status} - the status code, e.g. {@code 503}, or the status class, e.g. {@code 5xx}</li>
+ *   <li>{@code minLatencyMillis} - the minimum total duration of the request</li>
+ *   <li>{@code limit} - the maximum number of the requests to return, {@code 100} by default</li>
+ * </ul>
+ * <pre>{@code
+ * curl "http://my-service.com/internal/requests?route=/users/:id&status=5xx&minLatencyMillis=500"
+ * }</pre>
+ *
+ * <p>Note that the recent requests may contain sensitive information, so make sure to protect the service
+ * from public access.
+ */
+@UnstableApi
+public final class RecentRequestLogs {
+
+    /**
+     * The maximum number of the distinct routes kept in the route table. The routes beyond this are
+     * encoded inline.
+     */
+    private static final int MAX_NUM_ROUTES = 4096;
+
+    /**
+     * Returns a new {@link RecentRequestLogs} with the default configuration.
+     */
+    public static RecentRequestLogs of() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a new {@link RecentRequestLogsBuilder}.
+     */
+    public static RecentRequestLogsBuilder builder() {
+        return new RecentRequestLogsBuilder();
+    }
+
+    private final RequestLogRingBuffer buffer;
+    private final int fields;
+    private final RequestLogListener listener = this::onEvent;
+
+    private final Map<String, Integer> routeIds = new ConcurrentHashMap<>();
+    private volatile String[] routes = {};
+
+    RecentRequestLogs(int maxBytes, int fields) {
+        buffer = new RequestLogRingBuffer(maxBytes);
+        this.fields = fields;
+    }
+
+    /**
+     * Returns a new decorator which records the {@link RequestLog}s of the decorated services.
+     * Use {@link ServerBuilder#decorator(Function)} to record the requests of all services.
+     */
+    public Function<? super HttpService, HttpService> newDecorator() {
+        return delegate -> delegate.decorate((unwrapped, ctx, req) -> {
+            ctx.log().addListener(listener);
+            return unwrapped.serve(ctx, req);
+        });
+    }
+
+    /**
+     * Returns a new {@link HttpService} which responds with the recent requests as a JSON array.
+     */
+    public HttpService asService() {
+        return new RecentRequestLogsService(this);
+    }
+
+    /**
+     * Returns the number of the recorded requests.
+     */
+    public int size() {
+        return buffer.numRecords();
+    }
+
+    private void onEvent(RequestLogProperty property, RequestLog log) {
+        if (property != RequestLogProperty.ALL_COMPLETE) {
+            return;
+        }
+        final ServiceRequestContext ctx = (ServiceRequestContext) log.context();
+        final String route = ctx.config().route().patternString();
+        final int routeId = routeId(route);
+        try (TemporaryThreadLocals tempThreadLocals = TemporaryThreadLocals.acquire()) {
+            final byte[] record = tempThreadLocals.byteArray(RequestLogRecord.MAX_RECORD_LENGTH);
+            final int length = RequestLogRecord.encode(log, ctx, fields, routeId, route, record);
+            buffer.append(record, length);
+        }
+    }
+
+    private int routeId(String route) {
+        final Integer routeId = routeIds.get(route);
+        if (routeId != null) {
+            return routeId;
+        }
+        synchronized (routeIds) {
+            final Integer existing = routeIds.get(route);
+            if (existing != null) {
+                return existing;
+            }
+            final String[] routes = this.routes;
+            if (routes.length >= MAX_NUM_ROUTES) {
+                return 0;
+            }
+            final String[] newRoutes = Arrays.copyOf(routes, routes.length + 1);
+            newRoutes[routes.length] = route;
+            this.routes = newRoutes;
+            routeIds.put(route, newRoutes.length);
+            return newRoutes.length;
+        }
+    }
+
+    /**
+     * Returns the recorded requests which match the specified conditions, the newest first.
+     */
+    List<RequestLogRecord> find(@Nullable String route, int minStatus, int maxStatus,
+                                long minLatencyMillis, int limit) {
+        final byte[] snapshot = buffer.snapshot();
+        // Read the route table after taking the snapshot so that all routes in the snapshot are found.
+        final String[] routes = this.routes;
+
+        final List<Integer> offsets = new ArrayList<>();
+        for (int offset = 0; offset < snapshot.length;
+             offset = RequestLogRingBuffer.payloadOffset(offset) +
+                      RequestLogRingBuffer.recordLength(snapshot, offset)) {
+            offsets.add(RequestLogRingBuffer.payloadOffset(offset));
+        }
+
+        final long minLatencyNanos = TimeUnit.MILLISECONDS.toNanos(minLatencyMillis);
+        final List<RequestLogRecord> records = new ArrayList<>();
+        for (int i = offsets.size() - 1; i >= 0 && records.size() < limit; i--) {
+            final RequestLogRecord record = RequestLogRecord.decode(snapshot, offsets.get(i), routes);
+            if (record.status() < minStatus || record.status() > maxStatus ||
+                record.durationNanos() < minLatencyNanos ||
+                (route != null && !route.equals(record.route()))) {
+                continue;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("maxBytes", buffer.capacity())
+                          .add("fields", fields)
+                          .add("size", size())
+                          .toString();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLogProperty;
+
+/**
+ * Builds a new {@link RecentRequestLogs}.
+ *
+ * <p>The start time, total duration, response status, method, route, path and request ID of a request are
+ * always recorded. The following {@link RequestLogProperty}s can be recorded additionally
+ * using {@link #properties(RequestLogProperty...)}:
+ * <ul>
+ *   <li>{@link RequestLogProperty#SESSION} - the client address and the session protocol</li>
+ *   <li>{@link RequestLogProperty#NAME} - the service name and the method name</li>
+ *   <li>{@link RequestLogProperty#REQUEST_HEADERS} - the authority and the query string</li>
+ *   <li>{@link RequestLogProperty#AUTHENTICATED_USER}</li>
+ *   <li>{@link RequestLogProperty#REQUEST_LENGTH}</li>
+ *   <li>{@link RequestLogProperty#RESPONSE_LENGTH}</li>
+ *   <li>{@link RequestLogProperty#RESPONSE_CAUSE} - the class name of the exception</li>
+ * </ul>
+ */
+@UnstableApi
+public final class RecentRequestLogsBuilder {
+
+    static final int DEFAULT_MAX_BYTES = 4 * 1024 * 1024;
+    static final int MIN_MAX_BYTES = 2 * RequestLogRecord.MAX_RECORD_LENGTH;
+
+    private static final int DEFAULT_FIELDS = RequestLogRecord.SESSION | RequestLogRecord.NAME |
+                                              RequestLogRecord.RESPONSE_CAUSE;
+
+    private int maxBytes = DEFAULT_MAX_BYTES;
+    private int fields = DEFAULT_FIELDS;
+
+    RecentRequestLogsBuilder() {}
+
+    /**
+     * Sets the size of the off-heap buffer which holds the recorded requests.
+     * The memory used by the {@link RecentRequestLogs} does not grow beyond this.
+     * If unspecified, {@value #DEFAULT_MAX_BYTES} bytes is used.
+     *
+     * @param maxBytes the size of the buffer, which must be equal to or greater than
+     *                 {@value #MIN_MAX_BYTES}
+     */
+    public RecentRequestLogsBuilder maxBytes(int maxBytes) {
+        checkArgument(maxBytes >= MIN_MAX_BYTES, "maxBytes: %s (expected: >= %s)", maxBytes, MIN_MAX_BYTES);
+        this.maxBytes = maxBytes;
+        return this;
+    }
+
+    /**
+     * Sets the optional {@link RequestLogProperty}s to record.
+     * If unspecified, {@link RequestLogProperty#SESSION}, {@link RequestLogProperty#NAME} and
+     * {@link RequestLogProperty#RESPONSE_CAUSE} are recorded.
+     *
+     * @throws IllegalArgumentException if any of the specified properties is not supported
+     */
+    public RecentRequestLogsBuilder properties(RequestLogProperty... properties) {
+        return properties(ImmutableList.copyOf(requireNonNull(properties, "properties")));
+    }
+
+    /**
+     * Sets the optional {@link RequestLogProperty}s to record.
+     * If unspecified, {@link RequestLogProperty#SESSION}, {@link RequestLogProperty#NAME} and
+     * {@link RequestLogProperty#RESPONSE_CAUSE} are recorded.
+     *
+     * @throws IllegalArgumentException if any of the specified properties is not supported
+     */
+    public RecentRequestLogsBuilder properties(Iterable<RequestLogProperty> properties) {
+        requireNonNull(properties, "properties");
+        int fields = 0;
+        for (RequestLogProperty property : properties) {
+            requireNonNull(property, "properties contains null.");
+            final int field = RequestLogRecord.field(property);
+            checkArgument(field != 0, "unsupported property: %s", property);
+            fields |= field;
+        }
+        this.fields = fields;
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link RecentRequestLogs} based on the properties of this builder.
+     */
+    public RecentRequestLogs build() {
+        return new RecentRequestLogs(maxBytes, fields);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import java.util.List;
+
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.QueryParams;
+import com.linecorp.armeria.server.AbstractHttpService;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+/**
+ * Responds with the requests recorded by a {@link RecentRequestLogs} as a JSON array.
+ */
+final class RecentRequestLogsService extends AbstractHttpService {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final RecentRequestLogs recentRequestLogs;
+
+    RecentRequestLogsService(RecentRequestLogs recentRequestLogs) {
+        this.recentRequestLogs = recentRequestLogs;
+    }
+
+    @Override
+    protected HttpResponse doGet(ServiceRequestContext ctx, HttpRequest req) throws Exception {
+        final QueryParams params = ctx.queryParams();
+
+        int minStatus = 0;
+        int maxStatus = Integer.MAX_VALUE;
+        final String status = params.get("status");
+        if (status != null) {
+            final Integer code;
+            if (status.length() == 3 && status.endsWith("xx")) {
+                code = Ints.tryParse(status.substring(0, 1));
+                if (code != null) {
+                    minStatus = code * 100;
+                    maxStatus = minStatus + 99;
+                }
+            } else {
+                code = Ints.tryParse(status);
+                if (code != null) {
+                    minStatus = code;
+                    maxStatus = code;
+                }
+            }
+            if (code == null) {
+                return badRequest("status: " + status + " (expected: a status code or a class such as 5xx)");
+            }
+        }
+
+        long minLatencyMillis = 0;
+        final String minLatency = params.get("minLatencyMillis");
+        if (minLatency != null) {
+            final Long value = Longs.tryParse(minLatency);
+            if (value == null || value < 0) {
+                return badRequest("minLatencyMillis: " + minLatency + " (expected: >= 0)");
+            }
+            minLatencyMillis = value;
+        }
+
+        int limit = DEFAULT_LIMIT;
+        final String limitParam = params.get("limit");
+        if (limitParam != null) {
+            final Integer value = Ints.tryParse(limitParam);
+            if (value == null || value <= 0) {
+                return badRequest("limit: " + limitParam + " (expected: > 0)");
+            }
+            limit = value;
+        }
+
+        final List<RequestLogRecord> records =
+                recentRequestLogs.find(params.get("route"), minStatus, maxStatus, minLatencyMillis, limit);
+        return HttpResponse.ofJson(records);
+    }
+
+    private static HttpResponse badRequest(String message) {
+        return HttpResponse.of(HttpStatus.BAD_REQUEST, MediaType.PLAIN_TEXT_UTF_8, message);
+    }
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.logging.RequestLogProperty;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+/**
+ * A {@link RequestLog} decoded from the compact binary format of {@link RecentRequestLogs}.
+ *
+ * <p>A record consists of the following fields. Integers are encoded as unsigned variable-length
+ * integers and strings are prefixed with their length in a byte, where {@code 255} means {@code null}.
+ * A string is truncated to {@value #MAX_STRING_LENGTH} bytes.
+ * <ul>
+ *   <li>the bit mask of the optional fields</li>
+ *   <li>the request start time in microseconds since the epoch</li>
+ *   <li>the total duration in nanoseconds</li>
+ *   <li>the response status code</li>
+ *   <li>the ordinal of the {@link HttpMethod}</li>
+ *   <li>the ID of the route in the route table, or {@code 0} followed by the route pattern string</li>
+ *   <li>the path and the request ID</li>
+ *   <li>the optional fields which are enabled in the bit mask, in the order of the bits</li>
+ * </ul>
+ */
+@JsonInclude(Include.NON_NULL)
+final class RequestLogRecord {
+
+    static final int MAX_STRING_LENGTH = 254;
+
+    /**
+     * The maximum length of an encoded record, which is large enough for all fields.
+     */
+    static final int MAX_RECORD_LENGTH = 4096;
+
+    static final int SESSION = 1;
+    static final int NAME = 1 << 1;
+    static final int REQUEST_HEADERS = 1 << 2;
+    static final int AUTHENTICATED_USER = 1 << 3;
+    static final int REQUEST_LENGTH = 1 << 4;
+    static final int RESPONSE_LENGTH = 1 << 5;
+    static final int RESPONSE_CAUSE = 1 << 6;
+
+    private static final int NULL_STRING = 0xFF;
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+    private static final SessionProtocol[] PROTOCOLS = SessionProtocol.values();
+
+    /**
+     * Returns the bit of the optional field which holds the specified {@link RequestLogProperty},
+     * or {@code 0} if the property is not supported.
+     */
+    static int field(RequestLogProperty property) {
+        switch (property) {
+            case SESSION:
+                return SESSION;
+            case NAME:
+                return NAME;
+            case REQUEST_HEADERS:
+                return REQUEST_HEADERS;
+            case AUTHENTICATED_USER:
+                return AUTHENTICATED_USER;
+            case REQUEST_LENGTH:
+                return REQUEST_LENGTH;
+            case RESPONSE_LENGTH:
+                return RESPONSE_LENGTH;
+            case RESPONSE_CAUSE:
+                return RESPONSE_CAUSE;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Encodes the specified completed {@link RequestLog} into the specified buffer whose length is
+     * at least {@value #MAX_RECORD_LENGTH}.
+     *
+     * @param routeId the ID of the route in the route table, or {@code 0} to encode the route inline
+     * @return the length of the encoded record
+     */
+    static int encode(RequestLog log, ServiceRequestContext ctx, int fields, int routeId, String route,
+                      byte[] out) {
+        int pos = writeVarLong(out, 0, fields);
+        pos = writeVarLong(out, pos, log.requestStartTimeMicros());
+        pos = writeVarLong(out, pos, Math.max(0, log.totalDurationNanos()));
+        pos = writeVarLong(out, pos, log.responseHeaders().status().code());
+        out[pos++] = (byte) ctx.method().ordinal();
+        pos = writeVarLong(out, pos, routeId);
+        if (routeId == 0) {
+            pos = writeString(out, pos, route);
+        }
+        pos = writeString(out, pos, ctx.path());
+        pos = writeString(out, pos, ctx.id().text());
+
+        if ((fields & SESSION) != 0) {
+            final byte[] address = ctx.clientAddress().getAddress();
+            out[pos++] = (byte) address.length;
+            System.arraycopy(address, 0, out, pos, address.length);
+            pos += address.length;
+            final SessionProtocol protocol = log.sessionProtocol();
+            out[pos++] = (byte) (protocol != null ? protocol.ordinal() + 1 : 0);
+        }
+        if ((fields & NAME) != 0) {
+            pos = writeString(out, pos, log.serviceName());
+            pos = writeString(out, pos, log.name());
+        }
+        if ((fields & REQUEST_HEADERS) != 0) {
+            pos = writeString(out, pos, log.requestHeaders().authority());
+            pos = writeString(out, pos, ctx.query());
+        }
+        if ((fields & AUTHENTICATED_USER) != 0) {
+            pos = writeString(out, pos, log.authenticatedUser());
+        }
+        if ((fields & REQUEST_LENGTH) != 0) {
+            pos = writeVarLong(out, pos, log.requestLength());
+        }
+        if ((fields & RESPONSE_LENGTH) != 0) {
+            pos = writeVarLong(out, pos, log.responseLength());
+        }
+        if ((fields & RESPONSE_CAUSE) != 0) {
+            final Throwable cause = log.responseCause();
+            pos = writeString(out, pos, cause != null ? cause.getClass().getName() : null);
+        }
+        return pos;
+    }
+
+    private static int writeVarLong(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    /**
+     * Writes the specified string in UTF-8 without allocating an intermediate byte array.
+     */
+    private static int writeString(byte[] out, int pos, @Nullable String value) {
+        if (value == null) {
+            out[pos] = (byte) NULL_STRING;
+            return pos + 1;
+        }
+
+        final int start = pos + 1;
+        final int limit = start + MAX_STRING_LENGTH;
+        int p = start;
+        final int numChars = value.length();
+        for (int i = 0; i < numChars; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                if (p + 1 > limit) {
+                    break;
+                }
+                out[p++] = (byte) c;
+            } else if (c < 0x800) {
+                if (p + 2 > limit) {
+                    break;
+                }
+                out[p++] = (byte) (0xC0 | (c >> 6));
+                out[p++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < numChars &&
+                       Character.isLowSurrogate(value.charAt(i + 1))) {
+                if (p + 4 > limit) {
+                    break;
+                }
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out[p++] = (byte) (0xF0 | (codePoint >> 18));
+                out[p++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[p++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[p++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (p + 1 > limit) {
+                    break;
+                }
+                out[p++] = '?';
+            } else {
+                if (p + 3 > limit) {
+                    break;
+                }
+                out[p++] = (byte) (0xE0 | (c >> 12));
+                out[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[p++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        out[pos] = (byte) (p - start);
+        return p;
+    }
+
+    /**
+     * Decodes a record encoded by {@link #encode(RequestLog, ServiceRequestContext, int, int, String, byte[])}.
+     */
+    static RequestLogRecord decode(byte[] in, int offset, String[] routes) {
+        final Decoder decoder = new Decoder(in, offset);
+        final int fields = (int) decoder.readVarLong();
+        final long startTimeMicros = decoder.readVarLong();
+        final long durationNanos = decoder.readVarLong();
+        final int status = (int) decoder.readVarLong();
+        final HttpMethod method = METHODS[in[decoder.pos++]];
+        final int routeId = (int) decoder.readVarLong();
+        final String route = routeId == 0 ? decoder.readString() : routes[routeId - 1];
+        final String path = decoder.readString();
+        final String requestId = decoder.readString();
+        final RequestLogRecord record = new RequestLogRecord(startTimeMicros, durationNanos, status, method,
+                                                             route, path, requestId);
+
+        if ((fields & SESSION) != 0) {
+            final byte[] address = new byte[in[decoder.pos++]];
+            System.arraycopy(in, decoder.pos, address, 0, address.length);
+            decoder.pos += address.length;
+            try {
+                record.remoteAddress = InetAddress.getByAddress(address).getHostAddress();
+            } catch (UnknownHostException e) {
+                // Never reached because the address was encoded from an InetAddress.
+            }
+            final int protocol = in[decoder.pos++];
+            record.protocol = protocol != 0 ? PROTOCOLS[protocol - 1].uriText() : null;
+        }
+        if ((fields & NAME) != 0) {
+            record.serviceName = decoder.readString();
+            record.name = decoder.readString();
+        }
+        if ((fields & REQUEST_HEADERS) != 0) {
+            record.authority = decoder.readString();
+            record.query = decoder.readString();
+        }
+        if ((fields & AUTHENTICATED_USER) != 0) {
+            record.authenticatedUser = decoder.readString();
+        }
+        if ((fields & REQUEST_LENGTH) != 0) {
+            record.requestLength = decoder.readVarLong();
+        }
+        if ((fields & RESPONSE_LENGTH) != 0) {
+            record.responseLength = decoder.readVarLong();
+        }
+        if ((fields & RESPONSE_CAUSE) != 0) {
+            record.responseCause = decoder.readString();
+        }
+        return record;
+    }
+
+    private final long startTimeMicros;
+    private final long durationNanos;
+    private final int status;
+    private final HttpMethod method;
+    @Nullable
+    private final String route;
+    @Nullable
+    private final String path;
+    @Nullable
+    private final String requestId;
+    @Nullable
+    private String remoteAddress;
+    @Nullable
+    private String protocol;
+    @Nullable
+    private String serviceName;
+    @Nullable
+    private String name;
+    @Nullable
+    private String authority;
+    @Nullable
+    private String query;
+    @Nullable
+    private String authenticatedUser;
+    @Nullable
+    private Long requestLength;
+    @Nullable
+    private Long responseLength;
+    @Nullable
+    private String responseCause;
+
+    private RequestLogRecord(long startTimeMicros, long durationNanos, int status, HttpMethod method,
+                             @Nullable String route, @Nullable String path, @Nullable String requestId) {
+        this.startTimeMicros = startTimeMicros;
+        this.durationNanos = durationNanos;
+        this.status = status;
+        this.method = method;
+        this.route = route;
+        this.path = path;
+        this.requestId = requestId;
+    }
+
+    @JsonProperty
+    String timestamp() {
+        return Instant.ofEpochSecond(TimeUnit.MICROSECONDS.toSeconds(startTimeMicros),
+                                     TimeUnit.MICROSECONDS.toNanos(startTimeMicros % 1_000_000))
+                      .toString();
+    }
+
+    @JsonProperty
+    long durationNanos() {
+        return durationNanos;
+    }
+
+    @JsonProperty
+    int status() {
+        return status;
+    }
+
+    @JsonProperty
+    HttpMethod method() {
+        return method;
+    }
+
+    @Nullable
+    @JsonProperty
+    String route() {
+        return route;
+    }
+
+    @Nullable
+    @JsonProperty
+    String path() {
+        return path;
+    }
+
+    @Nullable
+    @JsonProperty
+    String requestId() {
+        return requestId;
+    }
+
+    @Nullable
+    @JsonProperty
+    String remoteAddress() {
+        return remoteAddress;
+    }
+
+    @Nullable
+    @JsonProperty
+    String protocol() {
+        return protocol;
+    }
+
+    @Nullable
+    @JsonProperty
+    String serviceName() {
+        return serviceName;
+    }
+
+    @Nullable
+    @JsonProperty
+    String name() {
+        return name;
+    }
+
+    @Nullable
+    @JsonProperty
+    String authority() {
+        return authority;
+    }
+
+    @Nullable
+    @JsonProperty
+    String query() {
+        return query;
+    }
+
+    @Nullable
+    @JsonProperty
+    String authenticatedUser() {
+        return authenticatedUser;
+    }
+
+    @Nullable
+    @JsonProperty
+    Long requestLength() {
+        return requestLength;
+    }
+
+    @Nullable
+    @JsonProperty
+    Long responseLength() {
+        return responseLength;
+    }
+
+    @Nullable
+    @JsonProperty
+    String responseCause() {
+        return responseCause;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .omitNullValues()
+                          .add("timestamp", timestamp())
+                          .add("durationNanos", durationNanos)
+                          .add("status", status)
+                          .add("method", method)
+                          .add("route", route)
+                          .add("path", path)
+                          .add("requestId", requestId)
+                          .add("remoteAddress", remoteAddress)
+                          .add("protocol", protocol)
+                          .add("serviceName", serviceName)
+                          .add("name", name)
+                          .add("authority", authority)
+                          .add("query", query)
+                          .add("authenticatedUser", authenticatedUser)
+                          .add("requestLength", requestLength)
+                          .add("responseLength", responseLength)
+                          .add("responseCause", responseCause)
+                          .toString();
+    }
+
+    private static final class Decoder {
+
+        private final byte[] in;
+        private int pos;
+
+        Decoder(byte[] in, int pos) {
+            this.in = in;
+            this.pos = pos;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                final byte b = in[pos++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+        @Nullable
+        String readString() {
+            final int length = in[pos++] & 0xFF;
+            if (length == NULL_STRING) {
+                return null;
+            }
+            final String value = new String(in, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+    }
+}
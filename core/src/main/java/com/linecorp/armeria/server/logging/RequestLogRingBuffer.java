@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import java.nio.ByteBuffer;
+
+import com.linecorp.armeria.internal.common.util.ReentrantShortLock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * A fixed-size ring of variable-length records in a direct buffer. Each record is prefixed with its length
+ * as an unsigned short, and the oldest records are overwritten when there is no room for a new record.
+ */
+final class RequestLogRingBuffer {
+
+    static final int MAX_RECORD_LENGTH = 0xFFFF;
+
+    private static final int LENGTH_PREFIX_BYTES = 2;
+
+    private final ReentrantShortLock lock = new ReentrantShortLock();
+
+    /**
+     * A direct buffer which is not tracked by the leak detector and is freed when it is garbage-collected.
+     */
+    private final ByteBuf buf;
+    private final int capacity;
+
+    // The logical positions of the oldest record and the end of the newest record, guarded by lock.
+    private long head;
+    private long tail;
+    private int numRecords;
+
+    RequestLogRingBuffer(int capacity) {
+        buf = Unpooled.wrappedBuffer(ByteBuffer.allocateDirect(capacity));
+        this.capacity = capacity;
+    }
+
+    /**
+     * Appends the specified record, evicting the oldest records if necessary.
+     */
+    void append(byte[] record, int length) {
+        assert length <= MAX_RECORD_LENGTH && length + LENGTH_PREFIX_BYTES <= capacity;
+        final int recordLength = length + LENGTH_PREFIX_BYTES;
+        lock.lock();
+        try {
+            while (tail + recordLength - head > capacity) {
+                head += LENGTH_PREFIX_BYTES + readLength(head);
+                numRecords--;
+            }
+            final int index = index(tail);
+            buf.setByte(index, length >>> 8);
+            buf.setByte(index(tail + 1), length);
+            write(tail + LENGTH_PREFIX_BYTES, record, length);
+            tail += recordLength;
+            numRecords++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a copy of the records in this buffer, from the oldest to the newest, in the same format.
+     */
+    byte[] snapshot() {
+        lock.lock();
+        try {
+            final byte[] snapshot = new byte[(int) (tail - head)];
+            final int index = index(head);
+            final int firstLength = Math.min(snapshot.length, capacity - index);
+            buf.getBytes(index, snapshot, 0, firstLength);
+            buf.getBytes(0, snapshot, firstLength, snapshot.length - firstLength);
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of the records in this buffer.
+     */
+    int numRecords() {
+        lock.lock();
+        try {
+            return numRecords;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private int readLength(long pos) {
+        return (buf.getUnsignedByte(index(pos)) << 8) | buf.getUnsignedByte(index(pos + 1));
+    }
+
+    private void write(long pos, byte[] src, int length) {
+        final int index = index(pos);
+        final int firstLength = Math.min(length, capacity - index);
+        buf.setBytes(index, src, 0, firstLength);
+        buf.setBytes(0, src, firstLength, length - firstLength);
+    }
+
+    private int index(long pos) {
+        return (int) (pos % capacity);
+    }
+
+    /**
+     * Returns the length of the record at the specified offset of a {@link #snapshot()}.
+     */
+    static int recordLength(byte[] snapshot, int offset) {
+        return ((snapshot[offset] & 0xFF) << 8) | (snapshot[offset + 1] & 0xFF);
+    }
+
+    /**
+     * Returns the offset of the payload of the record at the specified offset of a {@link #snapshot()}.
+     */
+    static int payloadOffset(int offset) {
+        return offset + LENGTH_PREFIX_BYTES;
+    }
+}
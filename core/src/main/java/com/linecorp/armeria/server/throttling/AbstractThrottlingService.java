@@ -24,6 +24,7 @@ import com.linecorp.armeria.common.Request;
 import com.linecorp.armeria.common.Response;
 import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.server.Service;
+import com.linecorp.armeria.server.ServiceConfig;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.SimpleDecoratingService;
 
@@ -52,6 +53,12 @@ public abstract class AbstractThrottlingService<I extends Request, O extends Res
         this.rejectHandler = requireNonNull(rejectHandler, "rejectHandler");
     }
 
+    @Override
+    public void serviceAdded(ServiceConfig cfg) throws Exception {
+        super.serviceAdded(cfg);
+        strategy.serviceAdded(cfg);
+    }
+
     @Override
     public final O serve(ServiceRequestContext ctx, I req) throws Exception {
         return responseConverter.apply(
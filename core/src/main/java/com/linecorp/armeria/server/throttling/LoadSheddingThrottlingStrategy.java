@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.throttling;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.common.Request;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.util.UnmodifiableFuture;
+import com.linecorp.armeria.server.Server;
+import com.linecorp.armeria.server.ServerListener;
+import com.linecorp.armeria.server.ServiceConfig;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.channel.EventLoop;
+
+/**
+ * A {@link ThrottlingStrategy} which sheds requests when the queueing delay stays above a target.
+ * See {@link LoadSheddingThrottlingStrategyBuilder} for the algorithm.
+ */
+final class LoadSheddingThrottlingStrategy<T extends Request> extends ThrottlingStrategy<T> {
+
+    private static final UnmodifiableFuture<Boolean> ACCEPT = UnmodifiableFuture.completedFuture(true);
+    private static final UnmodifiableFuture<Boolean> REJECT = UnmodifiableFuture.completedFuture(false);
+
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final long probeIntervalNanos;
+    private final int numPriorities;
+    private final ToIntFunction<? super ServiceRequestContext> priorityFunction;
+    private final Map<EventLoop, EventLoopProbe> probes = new ConcurrentHashMap<>();
+    private final Set<Server> servers = ConcurrentHashMap.newKeySet();
+
+    // The minimum queueing delay observed in the current interval.
+    private final AtomicLong minDelayNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong intervalStartNanos;
+    // The number of the least important priority classes being shed.
+    private volatile int shedLevel;
+
+    LoadSheddingThrottlingStrategy(@Nullable String name, long targetNanos, long intervalNanos,
+                                   long probeIntervalNanos, int numPriorities,
+                                   ToIntFunction<? super ServiceRequestContext> priorityFunction) {
+        super(name);
+        this.targetNanos = targetNanos;
+        this.intervalNanos = intervalNanos;
+        this.probeIntervalNanos = probeIntervalNanos;
+        this.numPriorities = numPriorities;
+        this.priorityFunction = priorityFunction;
+        intervalStartNanos = new AtomicLong(System.nanoTime());
+    }
+
+    @VisibleForTesting
+    int shedLevel() {
+        return shedLevel;
+    }
+
+    @VisibleForTesting
+    int numProbes() {
+        return probes.size();
+    }
+
+    @Override
+    void serviceAdded(ServiceConfig cfg) {
+        final Server server = cfg.server();
+        if (probeIntervalNanos > 0 && servers.add(server)) {
+            // The event loops may outlive the server, e.g. when they are shared, so the probes are stopped
+            // explicitly. They are started again lazily if the server is restarted.
+            server.addListener(ServerListener.builder()
+                                             .whenStopped(unused -> stopProbes())
+                                             .build());
+        }
+    }
+
+    private void stopProbes() {
+        for (EventLoopProbe probe : probes.values()) {
+            probes.remove(probe.eventLoop, probe);
+            probe.stop();
+        }
+    }
+
+    @Override
+    public CompletionStage<Boolean> accept(ServiceRequestContext ctx, T request) {
+        final long now = System.nanoTime();
+        long delayNanos = now - ctx.log().partial().requestStartTimeNanos();
+        if (probeIntervalNanos > 0) {
+            delayNanos = Math.max(delayNanos, probe(ctx.eventLoop().withoutContext()).latencyNanos);
+        }
+        final long startNanos = intervalStartNanos.get();
+        if (now - startNanos >= intervalNanos && intervalStartNanos.compareAndSet(startNanos, now)) {
+            onIntervalEnd(minDelayNanos.getAndSet(Long.MAX_VALUE));
+        }
+        minDelayNanos.accumulateAndGet(delayNanos, Math::min);
+
+        final int level = shedLevel;
+        if (level == 0) {
+            return ACCEPT;
+        }
+        final int priority = Math.max(0, Math.min(numPriorities - 1, priorityFunction.applyAsInt(ctx)));
+        return priority >= numPriorities - level ? REJECT : ACCEPT;
+    }
+
+    private void onIntervalEnd(long intervalMinDelayNanos) {
+        // Only the thread which moved the interval forward updates the shedLevel.
+        final int level = shedLevel;
+        if (intervalMinDelayNanos != Long.MAX_VALUE && intervalMinDelayNanos > targetNanos) {
+            // Overloaded during the whole interval. Shed one more priority class.
+            shedLevel = Math.min(numPriorities, level + 1);
+        } else {
+            shedLevel = Math.max(0, level - 1);
+        }
+    }
+
+    private EventLoopProbe probe(EventLoop eventLoop) {
+        final EventLoopProbe probe = probes.get(eventLoop);
+        if (probe != null) {
+            return probe;
+        }
+        return probes.computeIfAbsent(eventLoop, key -> {
+            final EventLoopProbe newProbe = new EventLoopProbe(key);
+            key.execute(newProbe::schedule);
+            return newProbe;
+        });
+    }
+
+    /**
+     * Measures how late a scheduled task runs in an {@link EventLoop}. Netty moves a scheduled task to
+     * the tail of the task queue when it is due, so the lateness includes the time the task waited for
+     * the tasks queued before it.
+     */
+    private final class EventLoopProbe implements Runnable {
+
+        private final EventLoop eventLoop;
+        private long expectedNanos;
+        @Nullable
+        private ScheduledFuture<?> scheduledFuture;
+        volatile long latencyNanos;
+        private volatile boolean stopped;
+
+        EventLoopProbe(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        void schedule() {
+            if (stopped) {
+                return;
+            }
+            if (eventLoop.isShuttingDown()) {
+                probes.remove(eventLoop, this);
+                return;
+            }
+            expectedNanos = System.nanoTime() + probeIntervalNanos;
+            scheduledFuture = eventLoop.schedule(this, probeIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void run() {
+            latencyNanos = Math.max(0, System.nanoTime() - expectedNanos);
+            schedule();
+        }
+
+        void stop() {
+            stopped = true;
+            if (eventLoop.isShuttingDown()) {
+                return;
+            }
+            eventLoop.execute(() -> {
+                if (scheduledFuture != null) {
+                    scheduledFuture.cancel(false);
+                    scheduledFuture = null;
+                }
+            });
+        }
+    }
+}
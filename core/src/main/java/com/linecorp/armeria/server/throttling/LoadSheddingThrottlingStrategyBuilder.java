@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.throttling;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import com.linecorp.armeria.common.Request;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.util.AttributeKey;
+
+/**
+ * Builds a {@link ThrottlingStrategy} which sheds requests when the queueing delay of the server stays
+ * above a target, as the CoDel (Controlled Delay) algorithm does.
+ *
+ * <p>The queueing delay of a request is the greater of:
+ * <ul>
+ *   <li>the time between the request headers were decoded and the service was invoked, and</li>
+ *   <li>how late a task runs in the event loop which handles the request, which is measured by a probe
+ *       task scheduled every {@linkplain #probeInterval(Duration) probe interval}.</li>
+ * </ul>
+ *
+ * <p>If the minimum queueing delay observed during an {@linkplain #interval(Duration) interval} is above
+ * the {@linkplain #target(Duration) target}, the server is considered overloaded and the requests of
+ * the lowest priority class start to be rejected. Each following overloaded interval extends the shedding
+ * to the next priority class, and each interval whose minimum queueing delay is below the target restores
+ * one priority class. Using the minimum ignores a short burst which the queue can absorb by itself.
+ *
+ * <p>A priority class is an integer from {@code 0}, the most important, to {@code numPriorities - 1},
+ * the least important. A request whose priority is unknown belongs to the middle class,
+ * {@code numPriorities / 2}, so that the requests explicitly marked as less important are shed first
+ * and the first overloaded interval does not reject all requests. For example:
+ * <pre>{@code
+ * ThrottlingStrategy<HttpRequest> strategy =
+ *     ThrottlingStrategy.loadShedding()
+ *                       .target(Duration.ofMillis(5))
+ *                       .numPriorities(3)
+ *                       .priorityHeader("x-request-priority")
+ *                       .build();
+ * ServerBuilder sb = Server.builder();
+ * sb.decorator(ThrottlingService.newDecorator(strategy));
+ * }</pre>
+ */
+@UnstableApi
+public final class LoadSheddingThrottlingStrategyBuilder {
+
+    static final long DEFAULT_TARGET_MILLIS = 5;
+    static final long DEFAULT_INTERVAL_MILLIS = 100;
+    static final long DEFAULT_PROBE_INTERVAL_MILLIS = 10;
+    static final int DEFAULT_NUM_PRIORITIES = 3;
+
+    private long targetNanos = Duration.ofMillis(DEFAULT_TARGET_MILLIS).toNanos();
+    private long intervalNanos = Duration.ofMillis(DEFAULT_INTERVAL_MILLIS).toNanos();
+    private long probeIntervalNanos = Duration.ofMillis(DEFAULT_PROBE_INTERVAL_MILLIS).toNanos();
+    private int numPriorities = DEFAULT_NUM_PRIORITIES;
+    @Nullable
+    private ToIntFunction<? super ServiceRequestContext> priorityFunction;
+    // Returns null if the priority of a request is unknown.
+    @Nullable
+    private Function<? super ServiceRequestContext, Integer> nullablePriorityFunction;
+    @Nullable
+    private String name;
+
+    LoadSheddingThrottlingStrategyBuilder() {}
+
+    /**
+     * Sets the acceptable queueing delay. If unspecified, {@value #DEFAULT_TARGET_MILLIS} milliseconds
+     * is used.
+     */
+    public LoadSheddingThrottlingStrategyBuilder target(Duration target) {
+        requireNonNull(target, "target");
+        checkArgument(!target.isNegative() && !target.isZero(), "target: %s (expected: > 0)", target);
+        targetNanos = target.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the interval that the queueing delay must stay above the {@linkplain #target(Duration) target}
+     * to start or escalate shedding. If unspecified, {@value #DEFAULT_INTERVAL_MILLIS} milliseconds is used.
+     */
+    public LoadSheddingThrottlingStrategyBuilder interval(Duration interval) {
+        requireNonNull(interval, "interval");
+        checkArgument(!interval.isNegative() && !interval.isZero(), "interval: %s (expected: > 0)", interval);
+        intervalNanos = interval.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the interval of the probe task which measures how late a task runs in an event loop.
+     * Specify {@link Duration#ZERO} to measure only the delay before the service invocation.
+     * If unspecified, {@value #DEFAULT_PROBE_INTERVAL_MILLIS} milliseconds is used.
+     */
+    public LoadSheddingThrottlingStrategyBuilder probeInterval(Duration probeInterval) {
+        requireNonNull(probeInterval, "probeInterval");
+        checkArgument(!probeInterval.isNegative(), "probeInterval: %s (expected: >= 0)", probeInterval);
+        probeIntervalNanos = probeInterval.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the number of the priority classes. If unspecified, {@value #DEFAULT_NUM_PRIORITIES} is used.
+     */
+    public LoadSheddingThrottlingStrategyBuilder numPriorities(int numPriorities) {
+        checkArgument(numPriorities > 0, "numPriorities: %s (expected: > 0)", numPriorities);
+        this.numPriorities = numPriorities;
+        return this;
+    }
+
+    /**
+     * Sets the {@link ToIntFunction} which returns the priority class of a request. A value out of
+     * {@code [0, numPriorities)} is clamped into the range. If unspecified, all requests belong to the
+     * middle class, {@code numPriorities / 2}, and thus are shed all at once when the server is overloaded.
+     */
+    public LoadSheddingThrottlingStrategyBuilder priority(
+            ToIntFunction<? super ServiceRequestContext> priorityFunction) {
+        this.priorityFunction = requireNonNull(priorityFunction, "priorityFunction");
+        nullablePriorityFunction = null;
+        return this;
+    }
+
+    /**
+     * Sets the name of the request header whose integer value is the priority class of a request.
+     * A request without a valid header value belongs to the middle class, {@code numPriorities / 2}.
+     */
+    public LoadSheddingThrottlingStrategyBuilder priorityHeader(CharSequence headerName) {
+        requireNonNull(headerName, "headerName");
+        priorityFunction = null;
+        nullablePriorityFunction = ctx -> ctx.request().headers().getInt(headerName);
+        return this;
+    }
+
+    /**
+     * Sets the {@link AttributeKey} of the priority class of a request, which is usually set by a decorator
+     * bound to a route. A request without the attribute belongs to the middle class,
+     * {@code numPriorities / 2}.
+     *
+     * @see ServiceRequestContext#setAttr(AttributeKey, Object)
+     */
+    public LoadSheddingThrottlingStrategyBuilder priorityAttr(AttributeKey<Integer> key) {
+        requireNonNull(key, "key");
+        priorityFunction = null;
+        nullablePriorityFunction = ctx -> ctx.attr(key);
+        return this;
+    }
+
+    /**
+     * Sets the name of the {@link ThrottlingStrategy}.
+     */
+    public LoadSheddingThrottlingStrategyBuilder name(String name) {
+        this.name = requireNonNull(name, "name");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link ThrottlingStrategy} based on the properties of this builder.
+     */
+    public <T extends Request> ThrottlingStrategy<T> build() {
+        final int defaultPriority = numPriorities / 2;
+        final ToIntFunction<? super ServiceRequestContext> priorityFunction;
+        if (this.priorityFunction != null) {
+            priorityFunction = this.priorityFunction;
+        } else if (nullablePriorityFunction != null) {
+            final Function<? super ServiceRequestContext, Integer> nullablePriorityFunction =
+                    this.nullablePriorityFunction;
+            priorityFunction = ctx -> {
+                final Integer priority = nullablePriorityFunction.apply(ctx);
+                return priority != null ? priority : defaultPriority;
+            };
+        } else {
+            priorityFunction = ctx -> defaultPriority;
+        }
+        return new LoadSheddingThrottlingStrategy<>(name, targetNanos, intervalNanos, probeIntervalNanos,
+                                                    numPriorities, priorityFunction);
+    }
+}
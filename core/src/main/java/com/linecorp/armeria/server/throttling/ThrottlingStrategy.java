@@ -21,7 +21,10 @@ import java.util.function.BiFunction;
 
 import com.linecorp.armeria.common.Request;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.util.UnmodifiableFuture;
+import com.linecorp.armeria.server.Server;
+import com.linecorp.armeria.server.ServiceConfig;
 import com.linecorp.armeria.server.ServiceRequestContext;
 
 /**
@@ -113,6 +116,15 @@ public abstract class ThrottlingStrategy<T extends Request> {
         return new RateLimitingThrottlingStrategy<>(requestsPerSecond, name);
     }
 
+    /**
+     * Returns a new {@link LoadSheddingThrottlingStrategyBuilder} which builds a {@link ThrottlingStrategy}
+     * that sheds requests when the queueing delay of the server stays above a target.
+     */
+    @UnstableApi
+    public static LoadSheddingThrottlingStrategyBuilder loadShedding() {
+        return new LoadSheddingThrottlingStrategyBuilder();
+    }
+
     private final String name;
 
     /**
@@ -146,4 +158,10 @@ public abstract class ThrottlingStrategy<T extends Request> {
     public final String name() {
         return name;
     }
+
+    /**
+     * Invoked when the {@link AbstractThrottlingService} which uses this {@link ThrottlingStrategy} is
+     * added to a {@link Server}.
+     */
+    void serviceAdded(ServiceConfig cfg) {}
 }
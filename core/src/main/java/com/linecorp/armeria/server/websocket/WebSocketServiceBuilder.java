@@ -36,6 +36,7 @@ import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.common.stream.StreamTimeoutMode;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
 import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
 import com.linecorp.armeria.common.websocket.WebSocketFrameType;
 import com.linecorp.armeria.common.websocket.WebSocketIdleTimeoutException;
@@ -91,6 +92,8 @@ public final class WebSocketServiceBuilder {
     private ServiceOptions serviceOptions = DEFAULT_OPTIONS;
     @Nullable
     private Duration streamTimeout;
+    @Nullable
+    private PerMessageDeflateConfig perMessageDeflateConfig;
 
     WebSocketServiceBuilder(WebSocketServiceHandler handler) {
         this.handler = requireNonNull(handler, "handler");
@@ -261,6 +264,26 @@ public final class WebSocketServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets whether to accept the <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a>
+     * extension offered by a client with {@link PerMessageDeflateConfig#ofDefault()}.
+     * It's disabled by default.
+     */
+    public WebSocketServiceBuilder perMessageDeflate(boolean enabled) {
+        perMessageDeflateConfig = enabled ? PerMessageDeflateConfig.ofDefault() : null;
+        return this;
+    }
+
+    /**
+     * Sets the {@link PerMessageDeflateConfig} to accept the
+     * <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a> extension offered by
+     * a client. The payloads of the messages are compressed only when the client offers the extension.
+     */
+    public WebSocketServiceBuilder perMessageDeflate(PerMessageDeflateConfig perMessageDeflateConfig) {
+        this.perMessageDeflateConfig = requireNonNull(perMessageDeflateConfig, "perMessageDeflateConfig");
+        return this;
+    }
+
     /**
      * Returns a newly-created {@link WebSocketService} with the properties set so far.
      */
@@ -276,6 +299,6 @@ public final class WebSocketServiceBuilder {
         }
         return new DefaultWebSocketService(handler, streamTimeout, fallbackService, maxFramePayloadLength,
                                            allowMaskMismatch, subprotocols, allowAnyOrigin, originPredicate,
-                                           aggregateContinuation, serviceOptions);
+                                           aggregateContinuation, serviceOptions, perMessageDeflateConfig);
     }
 }
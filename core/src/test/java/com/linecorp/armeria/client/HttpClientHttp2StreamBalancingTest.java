@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.common.collect.Maps;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HttpClientHttp2StreamBalancingTest {
+
+    private static final int MAX_CONCURRENT_STREAMS = 4;
+
+    private static final BlockingQueue<PendingResponse> pendingResponses = new LinkedBlockingQueue<>();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.service("/", (ctx, req) -> {
+                final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+                pendingResponses.add(new PendingResponse(ctx.remoteAddress(), future));
+                return HttpResponse.of(future);
+            });
+            sb.http2MaxStreamsPerConnection(MAX_CONCURRENT_STREAMS);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        for (;;) {
+            final PendingResponse pending = pendingResponses.poll();
+            if (pending == null) {
+                break;
+            }
+            pending.future.complete(HttpResponse.of(HttpStatus.OK));
+        }
+    }
+
+    @Test
+    void shouldOpenConnectionInAdvanceAndPickLeastLoadedOne() throws Exception {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final List<PendingResponse> received = new ArrayList<>();
+        final List<CompletableFuture<AggregatedHttpResponse>> responses = new ArrayList<>();
+        try (ClientFactory factory = ClientFactory.builder()
+                                                  .workerGroup(1)
+                                                  .meterRegistry(meterRegistry)
+                                                  .http2MinStreamHeadroom(2)
+                                                  .build()) {
+            final WebClient client = WebClient.builder(server.uri(SessionProtocol.H2C))
+                                              .factory(factory)
+                                              .build();
+
+            // The headroom falls below 2 on the 3rd request, which opens a new connection in advance.
+            for (int i = 0; i < 3; i++) {
+                responses.add(client.get("/").aggregate());
+                received.add(pendingResponses.take());
+            }
+            await().untilAsserted(() -> {
+                assertThat(factory.numConnections()).isEqualTo(2);
+                assertThat(gauges(meterRegistry))
+                        .containsEntry("armeria.client.connection.pool.http2.connections#value" +
+                                       "{protocol=H2C,remote.endpoint=127.0.0.1:" + server.httpPort() + '}',
+                                       2.0);
+            });
+            // All requests so far went through the first connection.
+            assertThat(received).extracting(pending -> pending.remoteAddress)
+                                .containsOnly(received.get(0).remoteAddress);
+
+            // The next request should be sent over the idle connection opened in advance.
+            responses.add(client.get("/").aggregate());
+            received.add(pendingResponses.take());
+            assertThat(received.get(3).remoteAddress).isNotEqualTo(received.get(0).remoteAddress);
+            assertThat(gauges(meterRegistry))
+                    .containsEntry("armeria.client.connection.pool.http2.active.streams#value" +
+                                   "{protocol=H2C,remote.endpoint=127.0.0.1:" + server.httpPort() + '}',
+                                   4.0);
+
+            received.forEach(pending -> pending.future.complete(HttpResponse.of(HttpStatus.OK)));
+            responses.forEach(future -> assertThat(future.join().status()).isEqualTo(HttpStatus.OK));
+        }
+
+        // The gauges are removed when all connections are closed.
+        await().untilAsserted(() -> assertThat(gauges(meterRegistry)).isEmpty());
+    }
+
+    private static Map<String, Double> gauges(MeterRegistry meterRegistry) {
+        return Maps.filterKeys(MoreMeters.measureAll(meterRegistry),
+                               name -> name.startsWith("armeria.client.connection.pool.http2."));
+    }
+
+    private static final class PendingResponse {
+        final InetSocketAddress remoteAddress;
+        final CompletableFuture<HttpResponse> future;
+
+        PendingResponse(InetSocketAddress remoteAddress, CompletableFuture<HttpResponse> future) {
+            this.remoteAddress = remoteAddress;
+            this.future = future;
+        }
+    }
+}
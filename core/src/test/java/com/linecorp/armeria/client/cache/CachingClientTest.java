@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestWriter;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingClientTest {
+
+    private static final AtomicInteger maxAgeCounter = new AtomicInteger();
+    private static final AtomicInteger etagCounter = new AtomicInteger();
+    private static final AtomicInteger notModifiedCounter = new AtomicInteger();
+    private static final AtomicInteger swrCounter = new AtomicInteger();
+    private static final AtomicInteger slowCounter = new AtomicInteger();
+    private static final AtomicInteger noStoreCounter = new AtomicInteger();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/max-age", (ctx, req) -> HttpResponse.of(
+                    ResponseHeaders.of(HttpStatus.OK, HttpHeaderNames.CACHE_CONTROL, "max-age=60"),
+                    MediaType.PLAIN_TEXT_UTF_8, "max-age-" + maxAgeCounter.incrementAndGet()));
+            sb.service("/etag", (ctx, req) -> {
+                if ("\"v1\"".equals(req.headers().get(HttpHeaderNames.IF_NONE_MATCH))) {
+                    notModifiedCounter.incrementAndGet();
+                    return HttpResponse.of(ResponseHeaders.of(HttpStatus.NOT_MODIFIED,
+                                                              HttpHeaderNames.ETAG, "\"v1\""));
+                }
+                return HttpResponse.of(
+                        ResponseHeaders.of(HttpStatus.OK, HttpHeaderNames.CACHE_CONTROL, "no-cache",
+                                           HttpHeaderNames.ETAG, "\"v1\""),
+                        MediaType.PLAIN_TEXT_UTF_8, "etag-" + etagCounter.incrementAndGet());
+            });
+            sb.service("/swr", (ctx, req) -> HttpResponse.of(
+                    ResponseHeaders.of(HttpStatus.OK, HttpHeaderNames.CACHE_CONTROL,
+                                       "max-age=10, stale-while-revalidate=60"),
+                    MediaType.PLAIN_TEXT_UTF_8, "swr-" + swrCounter.incrementAndGet()));
+            sb.service("/slow", (ctx, req) -> HttpResponse.delayed(HttpResponse.of(
+                    ResponseHeaders.of(HttpStatus.OK, HttpHeaderNames.CACHE_CONTROL, "max-age=60"),
+                    MediaType.PLAIN_TEXT_UTF_8, "slow-" + slowCounter.incrementAndGet()),
+                    Duration.ofMillis(500)));
+            sb.service("/no-store", (ctx, req) -> HttpResponse.of(
+                    ResponseHeaders.of(HttpStatus.OK, HttpHeaderNames.CACHE_CONTROL, "no-store"),
+                    MediaType.PLAIN_TEXT_UTF_8, "no-store-" + noStoreCounter.incrementAndGet()));
+        }
+    };
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private MeterRegistry registry;
+    private WebClient client;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        client = WebClient.builder(server.httpUri())
+                          .decorator(CachingClient.builder()
+                                                  .meterRegistry(registry)
+                                                  .meterIdPrefix(new MeterIdPrefix("cache"))
+                                                  .ticker(nanoTime::get)
+                                                  .newDecorator())
+                          .build();
+    }
+
+    @Test
+    void freshResponse() {
+        final int base = maxAgeCounter.get();
+        final AggregatedHttpResponse res1 = client.get("/max-age").aggregate().join();
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        final AggregatedHttpResponse res2 = client.get("/max-age").aggregate().join();
+
+        assertThat(res1.contentUtf8()).isEqualTo("max-age-" + (base + 1));
+        assertThat(res2.contentUtf8()).isEqualTo(res1.contentUtf8());
+        assertThat(res2.headers().getLong(HttpHeaderNames.AGE)).isEqualTo(30);
+
+        // Expired.
+        nanoTime.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(client.get("/max-age").aggregate().join().contentUtf8())
+                .isEqualTo("max-age-" + (base + 2));
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("cache.requests#count{result=hit}", 1.0)
+                .containsEntry("cache.requests#count{result=miss}", 2.0);
+    }
+
+    @Test
+    void abortRequestOnCacheHit() {
+        final String content = client.get("/max-age").aggregate().join().contentUtf8();
+
+        final HttpRequestWriter req = HttpRequest.streaming(RequestHeaders.of(HttpMethod.GET, "/max-age"));
+        req.write(HttpData.ofUtf8("unused"));
+        assertThat(client.execute(req).aggregate().join().contentUtf8()).isEqualTo(content);
+        // The request which was not sent to the upstream is aborted so that its content is released.
+        assertThat(req.whenComplete()).isCompletedExceptionally();
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("cache.requests#count{result=hit}", 1.0);
+    }
+
+    @Test
+    void revalidateWithEtag() {
+        final int base = etagCounter.get();
+        final int notModifiedBase = notModifiedCounter.get();
+        final String content = client.get("/etag").aggregate().join().contentUtf8();
+        assertThat(content).isEqualTo("etag-" + (base + 1));
+
+        for (int i = 0; i < 3; i++) {
+            final AggregatedHttpResponse res = client.get("/etag").aggregate().join();
+            assertThat(res.status()).isSameAs(HttpStatus.OK);
+            assertThat(res.contentUtf8()).isEqualTo(content);
+        }
+        assertThat(etagCounter.get()).isEqualTo(base + 1);
+        assertThat(notModifiedCounter.get()).isEqualTo(notModifiedBase + 3);
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("cache.requests#count{result=revalidation}", 3.0)
+                .containsEntry("cache.revalidations#count{result=unmodified}", 3.0);
+    }
+
+    @Test
+    void staleWhileRevalidate() {
+        final int base = swrCounter.get();
+        assertThat(client.get("/swr").aggregate().join().contentUtf8()).isEqualTo("swr-" + (base + 1));
+
+        // Stale, but within the stale-while-revalidate window.
+        nanoTime.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertThat(client.get("/swr").aggregate().join().contentUtf8()).isEqualTo("swr-" + (base + 1));
+        await().untilAsserted(() -> assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("cache.revalidations#count{result=modified}", 1.0));
+        assertThat(swrCounter.get()).isEqualTo(base + 2);
+
+        // The refreshed response is served.
+        assertThat(client.get("/swr").aggregate().join().contentUtf8()).isEqualTo("swr-" + (base + 2));
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("cache.requests#count{result=stale}", 1.0)
+                .containsEntry("cache.requests#count{result=hit}", 1.0);
+    }
+
+    @Test
+    void coalesceConcurrentMisses() {
+        final int base = slowCounter.get();
+        final List<CompletableFuture<AggregatedHttpResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(client.get("/slow").aggregate());
+        }
+        for (CompletableFuture<AggregatedHttpResponse> future : futures) {
+            assertThat(future.join().contentUtf8()).isEqualTo("slow-" + (base + 1));
+        }
+        assertThat(slowCounter.get()).isEqualTo(base + 1);
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("cache.requests#count{result=miss}", 1.0)
+                .containsEntry("cache.requests#count{result=coalesced}", 9.0);
+    }
+
+    @Test
+    void notStored() {
+        final int base = noStoreCounter.get();
+        assertThat(client.get("/no-store").aggregate().join().contentUtf8())
+                .isEqualTo("no-store-" + (base + 1));
+        assertThat(client.get("/no-store").aggregate().join().contentUtf8())
+                .isEqualTo("no-store-" + (base + 2));
+        assertThat(client.post("/max-age", "").aggregate().join().status()).isSameAs(HttpStatus.OK);
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("cache.requests#count{result=miss}", 2.0)
+                .containsEntry("cache.requests#count{result=bypass}", 1.0);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.hedging;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.linecorp.armeria.client.hedging.AbstractHedgingClient.ARMERIA_HEDGING_ATTEMPT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.common.base.Stopwatch;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.ClientRequestContextCaptor;
+import com.linecorp.armeria.client.Clients;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.client.endpoint.EndpointGroup;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.logging.RequestLogAccess;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class HedgingClientTest {
+
+    private static final Duration SLOW_RESPONSE_DELAY = Duration.ofSeconds(3);
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.http(0);
+            sb.http(0);
+            sb.service("/slow-initial", (ctx, req) -> {
+                if (req.headers().contains(ARMERIA_HEDGING_ATTEMPT)) {
+                    return HttpResponse.of("hedged");
+                }
+                return HttpResponse.delayed(HttpResponse.of("initial"), SLOW_RESPONSE_DELAY);
+            });
+            sb.service("/failing-initial", (ctx, req) -> {
+                if (req.headers().contains(ARMERIA_HEDGING_ATTEMPT)) {
+                    return HttpResponse.of("hedged");
+                }
+                return HttpResponse.of(HttpStatus.SERVICE_UNAVAILABLE);
+            });
+            sb.service("/fast", (ctx, req) -> HttpResponse.of("fast"));
+        }
+    };
+
+    @Test
+    void hedgedAttemptWins() {
+        final WebClient client = newClient(HedgingClient.builder().initialHedgingDelayMillis(100));
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final ClientRequestContext ctx;
+        final AggregatedHttpResponse res;
+        try (ClientRequestContextCaptor captor = Clients.newContextCaptor()) {
+            res = client.blocking().get("/slow-initial");
+            ctx = captor.get();
+        }
+        assertThat(res.contentUtf8()).isEqualTo("hedged");
+        assertThat(stopwatch.elapsed()).isLessThan(SLOW_RESPONSE_DELAY);
+
+        final RequestLog log = ctx.log().whenComplete().join();
+        assertThat(log.responseHeaders().status()).isEqualTo(HttpStatus.OK);
+        final List<RequestLogAccess> children = log.children();
+        assertThat(children).hasSize(2);
+        final RequestLog initial = children.get(0).whenComplete().join();
+        final RequestLog hedged = children.get(1).whenComplete().join();
+        assertThat(initial.requestHeaders().contains(ARMERIA_HEDGING_ATTEMPT)).isFalse();
+        // The losing attempt has been cancelled.
+        assertThat(initial.responseCause()).isNotNull();
+        assertThat(hedged.requestHeaders().get(ARMERIA_HEDGING_ATTEMPT)).isEqualTo("1");
+        assertThat(hedged.responseHeaders().status()).isEqualTo(HttpStatus.OK);
+        // The hedged attempt is sent to another endpoint.
+        assertThat(((ClientRequestContext) hedged.context()).endpoint())
+                .isNotEqualTo(((ClientRequestContext) initial.context()).endpoint());
+    }
+
+    @Test
+    void fastResponseIsNotHedged() {
+        final WebClient client = newClient(HedgingClient.builder().initialHedgingDelayMillis(1000));
+        final ClientRequestContext ctx;
+        try (ClientRequestContextCaptor captor = Clients.newContextCaptor()) {
+            assertThat(client.blocking().get("/fast").contentUtf8()).isEqualTo("fast");
+            ctx = captor.get();
+        }
+        assertThat(ctx.log().whenComplete().join().children()).hasSize(1);
+    }
+
+    @Test
+    void hedgeImmediatelyOnFailure() {
+        final WebClient client = newClient(HedgingClient.builder().initialHedgingDelayMillis(10_000));
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final ClientRequestContext ctx;
+        try (ClientRequestContextCaptor captor = Clients.newContextCaptor()) {
+            assertThat(client.blocking().get("/failing-initial").contentUtf8()).isEqualTo("hedged");
+            ctx = captor.get();
+        }
+        assertThat(stopwatch.elapsed()).isLessThan(Duration.ofSeconds(10));
+        final RequestLog log = ctx.log().whenComplete().join();
+        assertThat(log.children()).hasSize(2);
+        assertThat(log.children().get(0).whenComplete().join().responseHeaders().status())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void lastFailureIsReturnedWhenAllAttemptsFail() {
+        // No hedged attempt is sent because the hedging budget is empty.
+        final WebClient client = newClient(HedgingClient.builder()
+                                                        .initialHedgingDelayMillis(0)
+                                                        .budget(0, 0));
+        assertThat(client.blocking().get("/failing-initial").status())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void nonIdempotentRequestIsNotHedged() {
+        final WebClient client = newClient(HedgingClient.builder().initialHedgingDelayMillis(100));
+        final ClientRequestContext ctx;
+        final AggregatedHttpResponse res;
+        try (ClientRequestContextCaptor captor = Clients.newContextCaptor()) {
+            res = client.blocking().post("/slow-initial", "body");
+            ctx = captor.get();
+        }
+        assertThat(res.contentUtf8()).isEqualTo("initial");
+        assertThat(ctx.log().whenComplete().join().children()).isEmpty();
+    }
+
+    @Test
+    void hedgingBudget() {
+        // Only one hedged attempt is allowed because no tokens are earned by the requests.
+        final WebClient client = newClient(HedgingClient.builder()
+                                                        .initialHedgingDelayMillis(100)
+                                                        .budget(0, 1));
+        assertThat(client.blocking().get("/slow-initial").contentUtf8()).isEqualTo("hedged");
+        assertThat(client.blocking().get("/slow-initial").contentUtf8()).isEqualTo("initial");
+    }
+
+    private static WebClient newClient(HedgingClientBuilder builder) {
+        final List<Endpoint> endpoints = server.server().activePorts().keySet().stream()
+                                               .map(InetSocketAddress::getPort)
+                                               .map(port -> Endpoint.of("127.0.0.1", port))
+                                               .collect(toImmutableList());
+        return WebClient.builder(SessionProtocol.HTTP, EndpointGroup.of(endpoints))
+                        .decorator(builder.newDecorator())
+                        .build();
+    }
+}
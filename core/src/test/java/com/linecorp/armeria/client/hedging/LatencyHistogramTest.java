@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketBounds() {
+        long previousUpperBound = -1;
+        for (int i = 0; i < LatencyHistogram.NUM_BUCKETS; i++) {
+            final long upperBound = LatencyHistogram.bucketUpperBound(i);
+            assertThat(upperBound).isGreaterThan(previousUpperBound);
+            assertThat(LatencyHistogram.bucketIndex(previousUpperBound + 1)).isEqualTo(i);
+            assertThat(LatencyHistogram.bucketIndex(upperBound)).isEqualTo(i);
+            previousUpperBound = upperBound;
+        }
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.NUM_BUCKETS - 1);
+    }
+
+    @Test
+    void percentile() {
+        final AtomicLong ticker = new AtomicLong();
+        final LatencyHistogram histogram =
+                new LatencyHistogram(ticker::get, TimeUnit.SECONDS.toNanos(10), 100, 0.95);
+        for (int i = 1; i <= 99; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        // Not enough samples yet.
+        assertThat(histogram.percentileNanos()).isEqualTo(-1);
+
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(histogram.percentileNanos())
+                .isCloseTo(TimeUnit.MILLISECONDS.toNanos(95), withPercentage(12.5));
+    }
+
+    @Test
+    void oldLatenciesAreDiscarded() {
+        final AtomicLong ticker = new AtomicLong();
+        final LatencyHistogram histogram =
+                new LatencyHistogram(ticker::get, TimeUnit.SECONDS.toNanos(10), 10, 0.75);
+        for (int i = 0; i < 10; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(500));
+        }
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        for (int i = 0; i < 10; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        // The latencies of the previous half window are still in the window.
+        assertThat(histogram.percentileNanos()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(400));
+
+        // The latencies of the first half window are discarded.
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertThat(histogram.percentileNanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(12));
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(histogram.percentileNanos()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.ResponseTimeoutException;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.SafeCloseable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    void adjustLimitFromRoundTripTime() {
+        final AdaptiveConcurrencyLimit limit = newLimit(new SimpleMeterRegistry());
+        assertThat(limit.limit()).isEqualTo(10);
+
+        // The limit increases while the round-trip time is stable.
+        for (int i = 0; i < 10; i++) {
+            runWindow(limit, limit.limit(), 10, null);
+        }
+        final int increased = limit.limit();
+        assertThat(increased).isGreaterThan(10);
+
+        // The limit decreases when the requests are queued up in the server.
+        runWindow(limit, increased, 100, null);
+        assertThat(limit.limit()).isLessThan(increased);
+
+        // The limit keeps decreasing while the round-trip time increases.
+        for (int i = 0; i < 20; i++) {
+            runWindow(limit, limit.limit(), 1000 * (i + 1), null);
+        }
+        // Converges to 4 where limit = limit * 0.5 + sqrt(limit).
+        assertThat(limit.limit()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void backOffOnTimeout() {
+        final AdaptiveConcurrencyLimit limit = newLimit(new SimpleMeterRegistry());
+        runWindow(limit, 10, 10, ResponseTimeoutException.get());
+        // 10 * 0.5
+        assertThat(limit.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void doNotIncreaseWhenUnderutilized() {
+        final AdaptiveConcurrencyLimit limit = newLimit(new SimpleMeterRegistry());
+        for (int i = 0; i < 10; i++) {
+            // Only 2 requests are in flight out of 10.
+            runWindow(limit, 2, 10, null);
+            runWindow(limit, 2, 10, null);
+            runWindow(limit, 2, 10, null);
+            runWindow(limit, 2, 10, null);
+            runWindow(limit, 2, 10, null);
+        }
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void ignoreOtherFailures() {
+        final AdaptiveConcurrencyLimit limit = newLimit(new SimpleMeterRegistry());
+        for (int i = 0; i < 10; i++) {
+            runWindow(limit, 10, 10, new IllegalStateException());
+        }
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void pendingAcquisitionsAreDrainedWhenLimitIncreases() {
+        final AdaptiveConcurrencyLimit limit = newLimit(new SimpleMeterRegistry());
+        final List<ClientRequestContext> contexts = new ArrayList<>();
+        final List<SafeCloseable> permits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final ClientRequestContext ctx = newContext();
+            contexts.add(ctx);
+            permits.add(limit.acquire(ctx).join());
+        }
+        final CompletableFuture<SafeCloseable> pending = limit.acquire(newContext());
+        assertThat(pending).isNotDone();
+
+        // Complete the requests without releasing the permits.
+        for (ClientRequestContext ctx : contexts) {
+            complete(ctx, 10, null);
+        }
+        assertThat(limit.limit()).isGreaterThan(10);
+        pending.join().close();
+        permits.forEach(SafeCloseable::close);
+    }
+
+    @Test
+    void exportGauges() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final AdaptiveConcurrencyLimit limit = newLimit(registry);
+        final SafeCloseable permit = limit.acquire(newContext()).join();
+        assertThat(registry.get("test.concurrency.limit").gauge().value()).isEqualTo(10);
+        assertThat(registry.get("test.concurrency.in.flight").gauge().value()).isEqualTo(1);
+        permit.close();
+        assertThat(registry.get("test.concurrency.in.flight").gauge().value()).isZero();
+    }
+
+    private static AdaptiveConcurrencyLimit newLimit(SimpleMeterRegistry registry) {
+        return (AdaptiveConcurrencyLimit) ConcurrencyLimit.adaptiveBuilder()
+                                                          .initialLimit(10)
+                                                          .limitRange(2, 100)
+                                                          .smoothing(1.0)
+                                                          .backoffRatio(0.5)
+                                                          .sampleWindow(Duration.ZERO, 10)
+                                                          .meterRegistry(registry)
+                                                          .meterIdPrefix(new MeterIdPrefix("test.concurrency"))
+                                                          .build();
+    }
+
+    private static void runWindow(AdaptiveConcurrencyLimit limit, int concurrency, long rttMillis,
+                                  @Nullable Throwable cause) {
+        int remaining = 10;
+        while (remaining > 0) {
+            final int numRequests = Math.min(concurrency, remaining);
+            final List<ClientRequestContext> contexts = new ArrayList<>();
+            final List<SafeCloseable> permits = new ArrayList<>();
+            for (int i = 0; i < numRequests; i++) {
+                final ClientRequestContext ctx = newContext();
+                contexts.add(ctx);
+                permits.add(limit.acquire(ctx).join());
+            }
+            for (int i = 0; i < numRequests; i++) {
+                permits.get(i).close();
+                complete(contexts.get(i), rttMillis, cause);
+            }
+            remaining -= numRequests;
+        }
+        assertThat(limit.acquiredPermits()).isZero();
+    }
+
+    private static void complete(ClientRequestContext ctx, long rttMillis, @Nullable Throwable cause) {
+        final long responseEndTimeNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(rttMillis);
+        ctx.logBuilder().endRequest();
+        if (cause != null) {
+            ctx.logBuilder().endResponse(cause, responseEndTimeNanos);
+        } else {
+            ctx.logBuilder().endResponse(responseEndTimeNanos);
+        }
+    }
+
+    private static ClientRequestContext newContext() {
+        return ClientRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.EnumSource.Mode;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.client.websocket.WebSocketClientTest.WebSocketServiceEchoHandler;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.SerializationFormat;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
+import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
+import com.linecorp.armeria.common.websocket.WebSocketFrame;
+import com.linecorp.armeria.common.websocket.WebSocketWriter;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.websocket.WebSocketService;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class WebSocketClientPerMessageDeflateTest {
+
+    private static final String TEXT = Strings.repeat("armeria websocket ", 1000);
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.route()
+              .get("/chat")
+              .connect("/chat")
+              .build(WebSocketService.builder(new WebSocketServiceEchoHandler())
+                                     .perMessageDeflate(true)
+                                     .build());
+            sb.route()
+              .get("/no-context-takeover")
+              .connect("/no-context-takeover")
+              .build(WebSocketService.builder(new WebSocketServiceEchoHandler())
+                                     .perMessageDeflate(PerMessageDeflateConfig.builder()
+                                                                               .maxMemoryPerConnection(0)
+                                                                               .build())
+                                     .build());
+            sb.route()
+              .get("/uncompressed")
+              .connect("/uncompressed")
+              .build(WebSocketService.of(new WebSocketServiceEchoHandler()));
+        }
+    };
+
+    @EnumSource(value = SessionProtocol.class, names = { "H1C", "H2C" }, mode = Mode.INCLUDE)
+    @ParameterizedTest
+    void compressedMessages(SessionProtocol protocol) throws Exception {
+        final WebSocketSession session = connect(protocol, "/chat");
+        assertThat(session.responseHeaders().get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS))
+                .isEqualTo("permessage-deflate");
+        final RequestLog log = echo(session, protocol);
+        // The messages are compressed on the wire.
+        assertThat(log.requestLength()).isLessThan(TEXT.length());
+    }
+
+    @EnumSource(value = SessionProtocol.class, names = { "H1C", "H2C" }, mode = Mode.INCLUDE)
+    @ParameterizedTest
+    void compressedMessagesWithoutContextTakeover(SessionProtocol protocol) throws Exception {
+        final WebSocketSession session = connect(protocol, "/no-context-takeover");
+        assertThat(session.responseHeaders().get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS))
+                .isEqualTo("permessage-deflate; server_no_context_takeover; client_no_context_takeover");
+        echo(session, protocol);
+    }
+
+    @EnumSource(value = SessionProtocol.class, names = { "H1C", "H2C" }, mode = Mode.INCLUDE)
+    @ParameterizedTest
+    void offerDeclined(SessionProtocol protocol) throws Exception {
+        final WebSocketSession session = connect(protocol, "/uncompressed");
+        assertThat(session.responseHeaders().contains(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS)).isFalse();
+        final RequestLog log = echo(session, protocol);
+        assertThat(log.requestLength()).isGreaterThan(TEXT.length() * 3L);
+    }
+
+    private static WebSocketSession connect(SessionProtocol protocol, String path) {
+        return WebSocketClient.builder(server.uri(protocol, SerializationFormat.WS))
+                              .perMessageDeflate(true)
+                              .build()
+                              .connect(path)
+                              .join();
+    }
+
+    private static RequestLog echo(WebSocketSession session, SessionProtocol protocol) throws Exception {
+        final WebSocketWriter outbound = session.outbound();
+        final WebSocketInboundTestHandler inboundHandler =
+                new WebSocketInboundTestHandler(session.inbound(), protocol);
+        for (int i = 0; i < 3; i++) {
+            outbound.write(WebSocketFrame.ofText(TEXT));
+            assertThat(inboundHandler.inboundQueue().take()).isEqualTo(WebSocketFrame.ofText(TEXT));
+        }
+        // A fragmented message.
+        outbound.write(WebSocketFrame.ofText("armeria ", false));
+        outbound.write(WebSocketFrame.ofContinuation("websocket", true));
+        assertThat(inboundHandler.inboundQueue().take()).isEqualTo(WebSocketFrame.ofText("armeria ", false));
+        assertThat(inboundHandler.inboundQueue().take())
+                .isEqualTo(WebSocketFrame.ofContinuation("websocket", true));
+
+        outbound.close(WebSocketCloseStatus.NORMAL_CLOSURE);
+        assertThat(inboundHandler.inboundQueue().take())
+                .isEqualTo(WebSocketFrame.ofClose(WebSocketCloseStatus.NORMAL_CLOSURE));
+        inboundHandler.completionFuture().join();
+        return session.context().log().whenRequestComplete().join();
+    }
+}
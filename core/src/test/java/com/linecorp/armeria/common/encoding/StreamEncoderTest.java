@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.common.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.common.HttpData;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+class StreamEncoderTest {
+
+    private static final String CONTENT = Strings.repeat("Armeria is your go-to microservice framework. ", 512);
+
+    @MethodSource("encoderFactories")
+    @ParameterizedTest
+    void roundTripWithDirectBuffers(StreamEncoderFactory encoderFactory) {
+        final List<ByteBuf> inputs = new ArrayList<>();
+        final StreamEncoder encoder = encoderFactory.newEncoder(ByteBufAllocator.DEFAULT);
+        final List<HttpData> encoded = new ArrayList<>();
+        final byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < content.length; i += 1000) {
+            final int length = Math.min(1000, content.length - i);
+            final ByteBuf buf = ByteBufAllocator.DEFAULT.directBuffer(length).writeBytes(content, i, length);
+            inputs.add(buf);
+            encoded.add(encoder.encode(HttpData.wrap(buf)));
+        }
+        encoded.add(encoder.finish());
+
+        // The encoder should release the input buffers.
+        assertThat(inputs).allSatisfy(buf -> assertThat(buf.refCnt()).isZero());
+        assertThat(decode(encoderFactory, encoded)).isEqualTo(CONTENT);
+    }
+
+    @MethodSource("encoderFactories")
+    @ParameterizedTest
+    void roundTripWithHeapBuffers(StreamEncoderFactory encoderFactory) {
+        final StreamEncoder encoder = encoderFactory.newEncoder(ByteBufAllocator.DEFAULT);
+        final List<HttpData> encoded = new ArrayList<>();
+        encoded.add(encoder.encode(HttpData.ofUtf8(CONTENT)));
+        encoded.add(encoder.encode(HttpData.empty()));
+        encoded.add(encoder.encode(HttpData.wrap(Unpooled.copiedBuffer(CONTENT, StandardCharsets.UTF_8))));
+        encoded.add(encoder.finish());
+        assertThat(decode(encoderFactory, encoded)).isEqualTo(CONTENT + CONTENT);
+    }
+
+    @MethodSource("encoderFactories")
+    @ParameterizedTest
+    void closeWithoutFinish(StreamEncoderFactory encoderFactory) {
+        final StreamEncoder encoder = encoderFactory.newEncoder(ByteBufAllocator.DEFAULT);
+        encoder.encode(HttpData.ofUtf8(CONTENT)).close();
+        encoder.close();
+        // Should be no-op.
+        encoder.close();
+        assertThat(encoder.finish().isEmpty()).isTrue();
+    }
+
+    private static String decode(StreamEncoderFactory encoderFactory, List<HttpData> encoded) {
+        final StreamDecoder decoder =
+                StreamDecoderFactory.all().stream()
+                                    .filter(f -> f.encodingHeaderValue()
+                                                  .equals(encoderFactory.encodingHeaderValue()))
+                                    .findFirst().get()
+                                    .newDecoder(ByteBufAllocator.DEFAULT);
+        final StringBuilder decoded = new StringBuilder();
+        for (HttpData data : encoded) {
+            try (HttpData decodedData = decoder.decode(data)) {
+                decoded.append(decodedData.toStringUtf8());
+            }
+        }
+        try (HttpData decodedData = decoder.finish()) {
+            decoded.append(decodedData.toStringUtf8());
+        }
+        return decoded.toString();
+    }
+
+    private static List<StreamEncoderFactory> encoderFactories() {
+        return StreamEncoderFactory.all();
+    }
+}
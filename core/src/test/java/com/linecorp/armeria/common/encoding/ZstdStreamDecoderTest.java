@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.common.ContentTooLargeException;
+import com.linecorp.armeria.common.HttpData;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+
+@EnabledIf("io.netty.handler.codec.compression.Zstd#isAvailable")
+class ZstdStreamDecoderTest {
+
+    private static final String CONTENT =
+            Strings.repeat("{\"name\":\"armeria\",\"description\":\"Your go-to microservice framework\"}", 64);
+
+    @Test
+    void roundTrip() throws IOException {
+        final byte[] encoded = encode(StreamEncoderFactories.ZSTD, CONTENT);
+        final StreamDecoder decoder = StreamDecoderFactory.zstd().newDecoder(ByteBufAllocator.DEFAULT);
+        assertThat(decodeInChunks(decoder, encoded, encoded.length)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void roundTripWithSmallChunks() throws IOException {
+        final byte[] encoded = encode(StreamEncoderFactory.zstd(19), CONTENT);
+        final StreamDecoder decoder = StreamDecoderFactory.zstd().newDecoder(ByteBufAllocator.DEFAULT);
+        // A frame split into several chunks should be decoded incrementally.
+        assertThat(decodeInChunks(decoder, encoded, 7)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void roundTripWithDictionary() throws IOException {
+        // A raw content dictionary is accepted as well as a trained one.
+        final byte[] dictionary = "\"name\":\"armeria\",\"description\":\"Your go-to microservice framework\""
+                .getBytes(StandardCharsets.UTF_8);
+        final String content = "{\"name\":\"armeria\",\"description\":\"Your go-to microservice framework\"}";
+        final byte[] encodedWithDictionary = encode(StreamEncoderFactory.zstd(3, dictionary), content);
+        final byte[] encodedWithoutDictionary = encode(StreamEncoderFactories.ZSTD, content);
+        assertThat(encodedWithDictionary.length).isLessThan(encodedWithoutDictionary.length);
+
+        final StreamDecoder decoder = StreamDecoderFactory.zstd(dictionary)
+                                                          .newDecoder(ByteBufAllocator.DEFAULT);
+        assertThat(decodeInChunks(decoder, encodedWithDictionary, 5)).isEqualTo(content);
+    }
+
+    @Test
+    void maxLength() throws IOException {
+        final byte[] encoded = encode(StreamEncoderFactories.ZSTD, CONTENT);
+        final StreamDecoder decoder = StreamDecoderFactory.zstd().newDecoder(ByteBufAllocator.DEFAULT, 100);
+        assertThatThrownBy(() -> decoder.decode(HttpData.wrap(Unpooled.wrappedBuffer(encoded))))
+                .isInstanceOf(ContentTooLargeException.class);
+    }
+
+    @Test
+    void empty_unpooled() {
+        final StreamDecoder decoder = StreamDecoderFactory.zstd().newDecoder(ByteBufAllocator.DEFAULT);
+        final HttpData data = decoder.decode(HttpData.empty());
+        assertThat(data.isPooled()).isFalse();
+    }
+
+    @Test
+    void invalidLevel() {
+        assertThatThrownBy(() -> StreamEncoderFactory.zstd(23))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] encode(StreamEncoderFactory factory, String content) throws IOException {
+        final ByteBuf buf = Unpooled.buffer();
+        try (OutputStream encoder = factory.newEncoder(new ByteBufOutputStream(buf))) {
+            encoder.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        final byte[] encoded = new byte[buf.readableBytes()];
+        buf.readBytes(encoded);
+        buf.release();
+        return encoded;
+    }
+
+    private static String decodeInChunks(StreamDecoder decoder, byte[] encoded, int chunkSize) {
+        final StringBuilder decoded = new StringBuilder();
+        for (int i = 0; i < encoded.length; i += chunkSize) {
+            final int length = Math.min(chunkSize, encoded.length - i);
+            final ByteBuf chunk = ByteBufAllocator.DEFAULT.buffer(length).writeBytes(encoded, i, length);
+            try (HttpData data = decoder.decode(HttpData.wrap(chunk))) {
+                decoded.append(data.toStringUtf8());
+            }
+        }
+        try (HttpData data = decoder.finish()) {
+            decoded.append(data.toStringUtf8());
+        }
+        return decoded.toString();
+    }
+}
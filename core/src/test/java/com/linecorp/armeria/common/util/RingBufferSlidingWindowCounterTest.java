@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class RingBufferSlidingWindowCounterTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    void selectedBySlidingWindow() {
+        assertThat(EventCounter.ofSlidingWindow(Duration.ofSeconds(20), Duration.ofSeconds(1)))
+                .isInstanceOf(RingBufferSlidingWindowCounter.class);
+        // Too many buckets
+        assertThat(EventCounter.ofSlidingWindow(Duration.ofMinutes(5), Duration.ofMillis(1)))
+                .isInstanceOf(SlidingWindowCounter.class);
+    }
+
+    @Test
+    void testInitialState() {
+        final RingBufferSlidingWindowCounter counter = newCounter();
+        assertThat(counter.count()).isEqualTo(EventCount.of(0, 0));
+    }
+
+    @Test
+    void testOnSuccessAndFailure() {
+        final RingBufferSlidingWindowCounter counter = newCounter();
+
+        assertThat(counter.onSuccess()).isNull();
+        assertThat(counter.onFailure()).isNull();
+        assertThat(counter.count()).isEqualTo(EventCount.of(0, 0));
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        // The event in the current slot is not counted yet.
+        assertThat(counter.onFailure()).isEqualTo(EventCount.of(1, 1));
+        assertThat(counter.onSuccess()).isNull();
+        assertThat(counter.count()).isEqualTo(EventCount.of(1, 1));
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(counter.onSuccess()).isEqualTo(EventCount.of(2, 2));
+    }
+
+    @Test
+    void testTrim() {
+        final RingBufferSlidingWindowCounter counter = newCounter();
+
+        assertThat(counter.onSuccess()).isNull();
+        assertThat(counter.onFailure()).isNull();
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(counter.onFailure()).isEqualTo(EventCount.of(1, 1));
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        assertThat(counter.onFailure()).isEqualTo(EventCount.of(0, 0));
+        assertThat(counter.count()).isEqualTo(EventCount.of(0, 0));
+    }
+
+    @Test
+    void bucketsAreReused() {
+        final RingBufferSlidingWindowCounter counter = newCounter();
+        // Go around the ring several times with one success per slot.
+        for (int i = 0; i < 50; i++) {
+            final EventCount count = counter.onSuccess();
+            if (i == 0) {
+                assertThat(count).isNull();
+            } else {
+                // Only the last 10 slots are in the window.
+                assertThat(count).isEqualTo(EventCount.of(Math.min(i, 10), 0));
+            }
+            ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    @Test
+    void testLateEvent() {
+        final RingBufferSlidingWindowCounter counter = newCounter();
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(-1));
+        assertThat(counter.onSuccess()).isNull();
+        assertThat(counter.count()).isEqualTo(EventCount.of(0, 0));
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertThat(counter.onSuccess()).isEqualTo(EventCount.of(0, 0));
+
+        // Too late to be in the window.
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(-15));
+        assertThat(counter.onFailure()).isNull();
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(16));
+        assertThat(counter.onFailure()).isEqualTo(EventCount.of(1, 0));
+    }
+
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        final RingBufferSlidingWindowCounter counter = new RingBufferSlidingWindowCounter(
+                ticker::get, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        final int worker = 6;
+        final int batch = 100000;
+
+        final AtomicLong success = new AtomicLong();
+        final AtomicLong failure = new AtomicLong();
+
+        final CyclicBarrier barrier = new CyclicBarrier(worker);
+
+        final List<Thread> threads = new ArrayList<>(worker);
+
+        for (int i = 0; i < worker; i++) {
+            final Thread t = new Thread(() -> {
+                try {
+                    barrier.await();
+
+                    long s = 0;
+                    long f = 0;
+                    for (int j = 0; j < batch; j++) {
+                        if (ThreadLocalRandom.current().nextBoolean()) {
+                            counter.onSuccess();
+                            s++;
+                        } else {
+                            counter.onFailure();
+                            f++;
+                        }
+                    }
+                    success.addAndGet(s);
+                    failure.addAndGet(f);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            });
+
+            threads.add(t);
+            t.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(counter.onFailure()).isEqualTo(EventCount.of(success.get(), failure.get()));
+    }
+
+    private RingBufferSlidingWindowCounter newCounter() {
+        return new RingBufferSlidingWindowCounter(ticker::get, Duration.ofSeconds(10), Duration.ofSeconds(1));
+    }
+}
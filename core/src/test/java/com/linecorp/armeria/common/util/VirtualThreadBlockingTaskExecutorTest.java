@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.BlockingWebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.annotation.Blocking;
+import com.linecorp.armeria.server.annotation.Get;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadBlockingTaskExecutorTest {
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            if (!VirtualThreads.isAvailable()) {
+                sb.service("/", (ctx, req) -> HttpResponse.of(200));
+                return;
+            }
+            sb.blockingTaskExecutor(BlockingTaskExecutor.virtualThreadBuilder()
+                                                        .threadNamePrefix("server-wide")
+                                                        .build(), true);
+            sb.service("/server-wide", (ctx, req) -> HttpResponse.of(CompletableFuture.supplyAsync(
+                    () -> HttpResponse.of(Thread.currentThread().getName() + ':' +
+                                          (ServiceRequestContext.current() == ctx)),
+                    ctx.blockingTaskExecutor())));
+            sb.annotatedService()
+              .blockingTaskExecutor(BlockingTaskExecutor.virtualThreadBuilder()
+                                                        .threadNamePrefix("per-service")
+                                                        .build(), true)
+              .build(new Object() {
+                  @Blocking
+                  @Get("/per-service")
+                  public String perService(ServiceRequestContext ctx) {
+                      return Thread.currentThread().getName() + ':' +
+                             (ServiceRequestContext.current() == ctx);
+                  }
+              });
+        }
+    };
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void unsupported() {
+        assertThatThrownBy(BlockingTaskExecutor::ofVirtualThreads)
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("Java 21");
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void runsEachTaskOnItsOwnVirtualThread() throws Exception {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final BlockingTaskExecutor executor = newExecutor(registry);
+        final int numTasks = 1000;
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < numTasks; i++) {
+            futures.add(executor.submit(() -> {
+                latch.await();
+                return Thread.currentThread().getName();
+            }));
+        }
+
+        // All tasks block at the same time without being queued.
+        await().untilAsserted(() -> assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("test.virtual.threads#value", (double) numTasks));
+        latch.countDown();
+        for (Future<String> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).startsWith("test-virtual-");
+        }
+
+        await().untilAsserted(() -> assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("test.virtual.threads#value", 0.0)
+                .containsEntry("test.virtual.threads.started#count", (double) numTasks)
+                .containsEntry("test.task.duration#count", (double) numTasks)
+                .containsEntry("test.virtual.threads.pending#count", (double) numTasks));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void scheduledTasks() throws Exception {
+        final BlockingTaskExecutor executor = newExecutor(new SimpleMeterRegistry());
+        final ScheduledFuture<String> future =
+                executor.schedule(() -> Thread.currentThread().getName(), 100, TimeUnit.MILLISECONDS);
+        assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isPositive();
+        assertThat(future.get(10, TimeUnit.SECONDS)).startsWith("test-virtual-");
+
+        final AtomicInteger counter = new AtomicInteger();
+        final ScheduledFuture<?> periodic =
+                executor.scheduleWithFixedDelay(counter::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+        await().untilAtomic(counter, greaterThanOrEqualTo(3));
+        periodic.cancel(false);
+        assertThat(periodic.isCancelled()).isTrue();
+
+        final ScheduledFuture<?> delayed = executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        executor.shutdown();
+        assertThat(delayed.isDone()).isFalse();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shutdownNowInterruptsRunningTasks() throws Exception {
+        final BlockingTaskExecutor executor = newExecutor(new SimpleMeterRegistry());
+        final CountDownLatch started = new CountDownLatch(1);
+        final Future<?> future = executor.submit(() -> {
+            started.countDown();
+            Thread.sleep(Long.MAX_VALUE);
+            return null;
+        });
+        started.await();
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.isTerminated()).isTrue();
+        assertThatThrownBy(() -> future.get()).hasCauseInstanceOf(InterruptedException.class);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21, max = JRE.JAVA_23)
+    void detectPinning() throws Exception {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.virtualThreadBuilder()
+                                                                  .threadNamePrefix("pinned")
+                                                                  .pinnedThresholdMillis(10)
+                                                                  .meterRegistry(registry)
+                                                                  .meterIdPrefix(new MeterIdPrefix("pinned"))
+                                                                  .build();
+        final Object lock = new Object();
+        executor.submit(() -> {
+            // Parking inside a synchronized block pins the virtual thread before Java 24.
+            synchronized (lock) {
+                Thread.sleep(100);
+            }
+            return null;
+        }).get();
+        await().untilAsserted(() -> assertThat(MoreMeters.measureAll(registry))
+                .hasEntrySatisfying("pinned.virtual.threads.pinned#count",
+                                    count -> assertThat(count).isPositive()));
+        executor.shutdown();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void attributePinnedThreadsByExactPrefix() {
+        final VirtualThreadBlockingTaskExecutor executor =
+                (VirtualThreadBlockingTaskExecutor) BlockingTaskExecutor.virtualThreadBuilder()
+                                                                        .threadNamePrefix("blocking")
+                                                                        .detectPinning(false)
+                                                                        .build();
+        assertThat(executor.isOwnThreadName("blocking-0")).isTrue();
+        assertThat(executor.isOwnThreadName("blocking-42")).isTrue();
+        // The threads of an executor whose prefix is 'blocking-io'.
+        assertThat(executor.isOwnThreadName("blocking-io-1")).isFalse();
+        assertThat(executor.isOwnThreadName("blocking-")).isFalse();
+        assertThat(executor.isOwnThreadName("blocking")).isFalse();
+        executor.shutdown();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void serverWide() {
+        final AggregatedHttpResponse res = BlockingWebClient.of(server.httpUri()).get("/server-wide");
+        assertThat(res.contentUtf8()).startsWith("server-wide-").endsWith(":true");
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void perService() {
+        final AggregatedHttpResponse res = BlockingWebClient.of(server.httpUri()).get("/per-service");
+        assertThat(res.contentUtf8()).startsWith("per-service-").endsWith(":true");
+    }
+
+    private static BlockingTaskExecutor newExecutor(MeterRegistry registry) {
+        return BlockingTaskExecutor.virtualThreadBuilder()
+                                   .threadNamePrefix("test-virtual")
+                                   .detectPinning(false)
+                                   .meterRegistry(registry)
+                                   .meterIdPrefix(new MeterIdPrefix("test"))
+                                   .build();
+    }
+}
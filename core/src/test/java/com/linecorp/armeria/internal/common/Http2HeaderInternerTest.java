@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpHeaders;
+
+import io.netty.util.AsciiString;
+
+class Http2HeaderInternerTest {
+
+    @Test
+    void internNames() {
+        final Http2HeaderInterner interner = new Http2HeaderInterner();
+        assertThat(interner.name(new AsciiString("content-type"))).isSameAs(HttpHeaderNames.CONTENT_TYPE);
+
+        final AsciiString custom = interner.name(new AsciiString("x-custom"));
+        assertThat(custom).isEqualTo(AsciiString.of("x-custom"));
+        assertThat(interner.name(new AsciiString("x-custom"))).isSameAs(custom);
+        assertThat(interner.name("X-Custom")).isEqualTo(custom);
+
+        assertThatThrownBy(() -> interner.name(new AsciiString("x custom")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void internValues() {
+        final Http2HeaderInterner interner = new Http2HeaderInterner();
+        final AsciiString name = HttpHeaderNames.USER_AGENT;
+        final String value = interner.value(name, new AsciiString("armeria/1.0"));
+        assertThat(value).isEqualTo("armeria/1.0");
+        assertThat(interner.value(name, new AsciiString("armeria/1.0"))).isSameAs(value);
+        assertThat(interner.value(name, new AsciiString("armeria/2.0"))).isEqualTo("armeria/2.0");
+    }
+
+    @Test
+    void doNotInternUniqueOrSensitiveValues() {
+        final Http2HeaderInterner interner = new Http2HeaderInterner();
+        for (AsciiString name : new AsciiString[] {
+                HttpHeaderNames.PATH, HttpHeaderNames.AUTHORIZATION, HttpHeaderNames.COOKIE }) {
+            final String value = interner.value(name, new AsciiString("secret"));
+            assertThat(interner.value(name, new AsciiString("secret"))).isEqualTo(value).isNotSameAs(value);
+        }
+
+        final String longValue = Strings.repeat("a", Http2HeaderInterner.MAX_VALUE_LENGTH + 1);
+        final String converted = interner.value(HttpHeaderNames.ACCEPT, new AsciiString(longValue));
+        assertThat(interner.value(HttpHeaderNames.ACCEPT, new AsciiString(longValue)))
+                .isEqualTo(converted).isNotSameAs(converted);
+    }
+
+    @Test
+    void sharedAcrossHeaders() {
+        final Http2HeaderInterner interner = new Http2HeaderInterner();
+        final ArmeriaHttp2Headers first = new ArmeriaHttp2Headers(interner);
+        first.add(new AsciiString("x-tenant"), new AsciiString("alpha"));
+        final ArmeriaHttp2Headers second = new ArmeriaHttp2Headers(interner);
+        second.add(new AsciiString("x-tenant"), new AsciiString("alpha"));
+
+        final HttpHeaders firstHeaders = first.delegate().build();
+        final HttpHeaders secondHeaders = second.delegate().build();
+        assertThat(secondHeaders).isEqualTo(firstHeaders);
+        assertThat(secondHeaders.get("x-tenant")).isSameAs(firstHeaders.get("x-tenant"));
+    }
+}
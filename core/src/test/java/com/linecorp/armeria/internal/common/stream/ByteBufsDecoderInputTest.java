@@ -30,6 +30,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
 
@@ -229,6 +230,45 @@ class ByteBufsDecoderInputTest {
         assertThat(byteBuf4.refCnt()).isZero();
     }
 
+    @Test
+    void readRetainedSlices() {
+        final ByteBufsDecoderInput input = new ByteBufsDecoderInput(UnpooledByteBufAllocator.DEFAULT);
+        final ByteBuf byteBuf1 = Unpooled.wrappedBuffer(new byte[] { 1, 2, 3, 4 });
+        final ByteBuf byteBuf2 = Unpooled.wrappedBuffer(new byte[] { 5, 6 });
+        final ByteBuf byteBuf3 = Unpooled.wrappedBuffer(new byte[] { 7, 8, 9 });
+
+        input.add(byteBuf1);
+        input.add(byteBuf2);
+        input.add(byteBuf3);
+
+        // Should return a retained slice of byteBuf1 without additional copies
+        ByteBuf buf = input.readRetainedSlices(2);
+        assertThat(ByteBufUtil.getBytes(buf)).isEqualTo(new byte[] { 1, 2 });
+        assertThat(buf.unwrap()).isSameAs(byteBuf1);
+        buf.release();
+
+        // Should compose the remaining of byteBuf1, byteBuf2 and a slice of byteBuf3
+        buf = input.readRetainedSlices(5);
+        assertThat(buf).isInstanceOf(CompositeByteBuf.class);
+        assertThat(((CompositeByteBuf) buf).numComponents()).isEqualTo(3);
+        assertThat(ByteBufUtil.getBytes(buf)).isEqualTo(new byte[] { 3, 4, 5, 6, 7 });
+        assertThat(input.readableBytes()).isEqualTo(2);
+        assertThat(byteBuf1.refCnt()).isOne();
+        assertThat(byteBuf2.refCnt()).isOne();
+        assertThat(byteBuf3.refCnt()).isEqualTo(2);
+        buf.release();
+        assertThat(byteBuf1.refCnt()).isZero();
+        assertThat(byteBuf2.refCnt()).isZero();
+        assertThat(byteBuf3.refCnt()).isOne();
+
+        assertThatThrownBy(() -> input.readRetainedSlices(3))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("end of deframer input");
+        assertThat(input.readableBytes()).isEqualTo(2);
+        input.close();
+        assertThat(byteBuf3.refCnt()).isZero();
+    }
+
     @Test
     void readBytesToArray() {
         final ByteBufsDecoderInput input = new ByteBufsDecoderInput(UnpooledByteBufAllocator.DEFAULT);
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestWriter;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
+import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
+import com.linecorp.armeria.common.websocket.WebSocketFrame;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.websocket.WebSocketProtocolViolationException;
+
+import io.netty.buffer.ByteBuf;
+
+class PerMessageDeflateTest {
+
+    private static final ServiceRequestContext ctx =
+            ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+
+    @Test
+    void negotiateDefault() {
+        final PerMessageDeflate deflate = negotiate(PerMessageDeflateConfig.ofDefault(),
+                                                    "permessage-deflate; client_max_window_bits");
+        assertThat(deflate).isNotNull();
+        assertThat(deflate.headerValue()).isEqualTo("permessage-deflate");
+        assertThat(deflate.localNoContextTakeover()).isFalse();
+        assertThat(deflate.remoteNoContextTakeover()).isFalse();
+    }
+
+    @Test
+    void negotiateNextOfferIfUnacceptable() {
+        // Deflater cannot limit the window bits.
+        final PerMessageDeflate deflate =
+                negotiate(PerMessageDeflateConfig.ofDefault(),
+                          "permessage-deflate; server_max_window_bits=10, " +
+                          "permessage-deflate; server_no_context_takeover");
+        assertThat(deflate).isNotNull();
+        assertThat(deflate.headerValue()).isEqualTo("permessage-deflate; server_no_context_takeover");
+        assertThat(deflate.localNoContextTakeover()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "x-webkit-deflate-frame",
+            "permessage-deflate; unknown",
+            "permessage-deflate; server_no_context_takeover; server_no_context_takeover",
+            "permessage-deflate; client_max_window_bits=7",
+            "permessage-deflate; client_no_context_takeover=1",
+    })
+    void declineInvalidOffers(String offer) {
+        assertThat(negotiate(PerMessageDeflateConfig.ofDefault(), offer)).isNull();
+    }
+
+    @Test
+    void limitClientWindowBits() {
+        final PerMessageDeflateConfig config = PerMessageDeflateConfig.builder()
+                                                                      .clientMaxWindowBits(10)
+                                                                      .build();
+        assertThat(negotiate(config, "permessage-deflate; client_max_window_bits").headerValue())
+                .isEqualTo("permessage-deflate; client_max_window_bits=10");
+        assertThat(negotiate(config, "permessage-deflate; client_max_window_bits=9").headerValue())
+                .isEqualTo("permessage-deflate");
+        // client_max_window_bits must not be sent if the client did not offer it.
+        assertThat(negotiate(config, "permessage-deflate").headerValue())
+                .isEqualTo("permessage-deflate");
+    }
+
+    @Test
+    void disableContextTakeoverToFitMemoryLimit() {
+        PerMessageDeflateConfig config =
+                PerMessageDeflateConfig.builder()
+                                       .maxMemoryPerConnection(PerMessageDeflate.INFLATER_MEMORY)
+                                       .build();
+        PerMessageDeflate deflate = negotiate(config, "permessage-deflate");
+        assertThat(deflate.headerValue()).isEqualTo("permessage-deflate; server_no_context_takeover");
+        assertThat(deflate.localNoContextTakeover()).isTrue();
+        assertThat(deflate.remoteNoContextTakeover()).isFalse();
+
+        config = PerMessageDeflateConfig.builder()
+                                        .maxMemoryPerConnection(0)
+                                        .build();
+        deflate = negotiate(config, "permessage-deflate");
+        assertThat(deflate.headerValue())
+                .isEqualTo("permessage-deflate; server_no_context_takeover; client_no_context_takeover");
+        assertThat(deflate.localNoContextTakeover()).isTrue();
+        assertThat(deflate.remoteNoContextTakeover()).isTrue();
+        assertThat(PerMessageDeflate.offer(config))
+                .isEqualTo("permessage-deflate; server_no_context_takeover; client_no_context_takeover");
+    }
+
+    @Test
+    void clientAccept() {
+        final PerMessageDeflateConfig config = PerMessageDeflateConfig.builder()
+                                                                      .serverMaxWindowBits(10)
+                                                                      .build();
+        assertThat(PerMessageDeflate.offer(config)).isEqualTo("permessage-deflate; server_max_window_bits=10");
+
+        final PerMessageDeflate deflate =
+                PerMessageDeflate.accept(config, "permessage-deflate; server_max_window_bits=9; " +
+                                                 "client_no_context_takeover");
+        assertThat(deflate.localNoContextTakeover()).isTrue();
+        assertThat(deflate.remoteNoContextTakeover()).isFalse();
+
+        assertThatThrownBy(() -> PerMessageDeflate.accept(config, "permessage-deflate; " +
+                                                                  "server_max_window_bits=11"))
+                .isInstanceOf(IllegalArgumentException.class);
+        // client_max_window_bits was not offered.
+        assertThatThrownBy(() -> PerMessageDeflate.accept(config, "permessage-deflate; " +
+                                                                  "client_max_window_bits=10"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PerMessageDeflate.accept(config, "x-webkit-deflate-frame"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void encodeAndDecode(boolean noContextTakeover) throws Exception {
+        final PerMessageDeflateConfig config =
+                PerMessageDeflateConfig.builder()
+                                       .serverNoContextTakeover(noContextTakeover)
+                                       .clientNoContextTakeover(noContextTakeover)
+                                       .build();
+        final PerMessageDeflate deflate = negotiate(config, "permessage-deflate");
+        final WebSocketFrameEncoder encoder = deflate.newEncoder(true);
+        final BlockingQueue<WebSocketFrame> frames = new LinkedBlockingQueue<>();
+        final HttpRequestWriter requestWriter = HttpRequest.streaming(RequestHeaders.of(HttpMethod.GET, "/"));
+        requestWriter.decode(new TestWebSocketFrameDecoder(1024 * 1024, deflate.newDecoder()), ctx.alloc())
+                     .subscribe(subscriber(frames, new CompletableFuture<>()));
+
+        final String text = Strings.repeat("Hello, Armeria! ", 1000);
+        int previousLength = Integer.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            final ByteBuf encoded = encoder.encode(ctx, WebSocketFrame.ofText(text));
+            // RSV1 is set.
+            assertThat(encoded.getByte(0) & 0x70).isEqualTo(0x40);
+            final int length = encoded.readableBytes();
+            assertThat(length).isLessThan(text.length() / 10);
+            if (!noContextTakeover) {
+                // The previous message is referred by the next message.
+                assertThat(length).isLessThanOrEqualTo(previousLength);
+            }
+            previousLength = length;
+            requestWriter.write(HttpData.wrap(encoded));
+            assertThat(frames.take()).isEqualTo(WebSocketFrame.ofText(text));
+        }
+
+        // A fragmented message has RSV1 only in the first frame.
+        final ByteBuf first = encoder.encode(ctx, WebSocketFrame.ofBinary(new byte[] { 1, 2, 3 }, false));
+        final ByteBuf last = encoder.encode(ctx, WebSocketFrame.ofContinuation(new byte[] { 4, 5 }, true));
+        assertThat(first.getByte(0) & 0x70).isEqualTo(0x40);
+        assertThat(last.getByte(0) & 0x70).isZero();
+        requestWriter.write(HttpData.wrap(first));
+        requestWriter.write(HttpData.wrap(last));
+        assertThat(frames.take()).isEqualTo(WebSocketFrame.ofBinary(new byte[] { 1, 2, 3 }, false));
+        assertThat(frames.take()).isEqualTo(WebSocketFrame.ofContinuation(new byte[] { 4, 5 }, true));
+
+        // Control frames are not compressed.
+        final ByteBuf ping = encoder.encode(ctx, WebSocketFrame.ofPing());
+        assertThat(ping.getByte(0) & 0x70).isZero();
+        requestWriter.write(HttpData.wrap(ping));
+        assertThat(frames.take()).isEqualTo(WebSocketFrame.ofPing());
+
+        encoder.close();
+        requestWriter.close();
+    }
+
+    @Test
+    void rejectTooLargeDecompressedMessage() {
+        final PerMessageDeflate deflate = negotiate(PerMessageDeflateConfig.ofDefault(), "permessage-deflate");
+        final WebSocketFrameEncoder encoder = deflate.newEncoder(true);
+        final HttpRequestWriter requestWriter = HttpRequest.streaming(RequestHeaders.of(HttpMethod.GET, "/"));
+        final CompletableFuture<Void> whenComplete = new CompletableFuture<>();
+        requestWriter.decode(new TestWebSocketFrameDecoder(1024, deflate.newDecoder()), ctx.alloc())
+                     .subscribe(subscriber(new LinkedBlockingQueue<>(), whenComplete));
+
+        // Compressed into a few bytes which is smaller than the limit.
+        final ByteBuf encoded = encoder.encode(ctx, WebSocketFrame.ofBinary(new byte[1024 * 1024]));
+        assertThat(encoded.readableBytes()).isLessThan(1024 * 4);
+        requestWriter.write(HttpData.wrap(encoded));
+
+        assertThatThrownBy(whenComplete::join)
+                .hasCauseInstanceOf(WebSocketProtocolViolationException.class)
+                .satisfies(cause -> {
+                    final WebSocketProtocolViolationException exception =
+                            (WebSocketProtocolViolationException) cause.getCause();
+                    assertThat(exception.closeStatus()).isEqualTo(WebSocketCloseStatus.MESSAGE_TOO_BIG);
+                });
+        encoder.close();
+    }
+
+    @Test
+    void rejectRsvWithoutExtension() {
+        final PerMessageDeflate deflate = negotiate(PerMessageDeflateConfig.ofDefault(), "permessage-deflate");
+        final WebSocketFrameEncoder encoder = deflate.newEncoder(true);
+        final HttpRequestWriter requestWriter = HttpRequest.streaming(RequestHeaders.of(HttpMethod.GET, "/"));
+        final CompletableFuture<Void> whenComplete = new CompletableFuture<>();
+        requestWriter.decode(new TestWebSocketFrameDecoder(1024, null), ctx.alloc())
+                     .subscribe(subscriber(new LinkedBlockingQueue<>(), whenComplete));
+        requestWriter.write(HttpData.wrap(encoder.encode(ctx, WebSocketFrame.ofText("hello"))));
+
+        assertThatThrownBy(whenComplete::join)
+                .hasCauseInstanceOf(WebSocketProtocolViolationException.class)
+                .hasMessageContaining("RSV != 0 and no extension negotiated");
+        encoder.close();
+    }
+
+    private static PerMessageDeflate negotiate(PerMessageDeflateConfig config, String offer) {
+        return PerMessageDeflate.negotiate(
+                config, RequestHeaders.builder(HttpMethod.GET, "/")
+                                      .add(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS, offer)
+                                      .build());
+    }
+
+    private static Subscriber<WebSocketFrame> subscriber(BlockingQueue<WebSocketFrame> frames,
+                                                         CompletableFuture<Void> whenComplete) {
+        return new Subscriber<WebSocketFrame>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(WebSocketFrame webSocketFrame) {
+                frames.add(webSocketFrame);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                whenComplete.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                whenComplete.complete(null);
+            }
+        };
+    }
+
+    private static final class TestWebSocketFrameDecoder extends WebSocketFrameDecoder {
+
+        TestWebSocketFrameDecoder(int maxFramePayloadLength,
+                                  @Nullable PerMessageDeflateDecoder deflateDecoder) {
+            super(maxFramePayloadLength, false, false, deflateDecoder);
+        }
+
+        @Override
+        protected boolean expectMaskedFrames() {
+            return true;
+        }
+
+        @Override
+        protected void onCloseFrameRead() {}
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseWriter;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoalescingServiceTest {
+
+    private static final int LARGE_CONTENT_LENGTH = 16 * 1024 * 1024;
+
+    private static final MeterRegistry registry = new SimpleMeterRegistry();
+    private static final AtomicInteger invocations = new AtomicInteger();
+    private static final AtomicInteger arrivals = new AtomicInteger();
+    private static volatile CompletableFuture<Void> gate = new CompletableFuture<>();
+    private static volatile CompletableFuture<Void> streamGate = new CompletableFuture<>();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            final HttpService service = (ctx, req) -> {
+                invocations.incrementAndGet();
+                return HttpResponse.of(gate.thenApply(unused -> HttpResponse.of(
+                        "hello-" + ctx.queryParam("id"))));
+            };
+            sb.service("/default", decorate(service, "default",
+                                            CoalescingService.builder()
+                                                             .queryParams("id")
+                                                             .headers(HttpHeaderNames.ACCEPT)));
+            sb.service("/bypass", decorate(service, "bypass", CoalescingService.builder()));
+            sb.service("/limited", decorate(service, "limited",
+                                            CoalescingService.builder().maxNumFollowers(2)));
+            sb.service("/timeout", decorate(service, "timeout",
+                                            CoalescingService.builder().waitTimeoutMillis(100)));
+            sb.service("/cookie", decorate((ctx, req) -> {
+                invocations.incrementAndGet();
+                return HttpResponse.of(gate.thenApply(unused -> HttpResponse.of(
+                        ResponseHeaders.of(HttpStatus.OK, HttpHeaderNames.SET_COOKIE, "session=leader"),
+                        HttpData.wrap(new byte[LARGE_CONTENT_LENGTH]))));
+            }, "cookie", CoalescingService.builder()));
+            sb.service("/stream", decorate((ctx, req) -> {
+                invocations.incrementAndGet();
+                final HttpResponseWriter res = HttpResponse.streaming();
+                final CompletableFuture<Void> currentStreamGate = streamGate;
+                gate.thenRun(() -> {
+                    res.write(ResponseHeaders.of(HttpStatus.OK));
+                    res.write(HttpData.wrap(new byte[2048]));
+                    // Keep the response open like a long-running stream.
+                    currentStreamGate.thenRun(res::close);
+                });
+                return res;
+            }, "stream", CoalescingService.builder().maxResponseLength(1024)));
+        }
+    };
+
+    private static HttpService decorate(HttpService service, String name, CoalescingServiceBuilder builder) {
+        return service.decorate(builder.meterRegistry(registry)
+                                       .meterIdPrefix(new MeterIdPrefix(name))
+                                       .newDecorator())
+                      .decorate((delegate, ctx, req) -> {
+                          final HttpResponse res = delegate.serve(ctx, req);
+                          arrivals.incrementAndGet();
+                          return res;
+                      });
+    }
+
+    @BeforeEach
+    void setUp() {
+        invocations.set(0);
+        arrivals.set(0);
+        gate = new CompletableFuture<>();
+        streamGate = new CompletableFuture<>();
+    }
+
+    @Test
+    void coalesceIdenticalRequests() {
+        final WebClient client = WebClient.of(server.httpUri());
+        final List<CompletableFuture<AggregatedHttpResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            // The query parameters which are not a part of the key are ignored.
+            futures.add(client.get("/default?id=1&nonce=" + i).aggregate());
+        }
+        // The different key.
+        futures.add(client.execute(RequestHeaders.of(HttpMethod.GET, "/default?id=1",
+                                                     HttpHeaderNames.ACCEPT, "text/plain"))
+                          .aggregate());
+        await().untilAtomic(arrivals, is(11));
+        gate.complete(null);
+
+        for (CompletableFuture<AggregatedHttpResponse> future : futures) {
+            assertThat(future.join().contentUtf8()).isEqualTo("hello-1");
+        }
+        assertThat(invocations).hasValue(2);
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("default.requests#count{result=leader}", 2.0)
+                .containsEntry("default.requests#count{result=coalesced}", 9.0);
+    }
+
+    @Test
+    void notCoalescable() {
+        final WebClient client = WebClient.of(server.httpUri());
+        gate.complete(null);
+        final List<CompletableFuture<AggregatedHttpResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(client.execute(RequestHeaders.of(HttpMethod.GET, "/bypass?id=2",
+                                                         HttpHeaderNames.AUTHORIZATION, "Bearer " + i))
+                              .aggregate());
+        }
+        futures.add(client.post("/bypass?id=2", "").aggregate());
+        futures.forEach(CompletableFuture::join);
+        assertThat(invocations).hasValue(4);
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("bypass.requests#count{result=bypass}", 4.0);
+    }
+
+    @Test
+    void maxNumFollowers() {
+        final WebClient client = WebClient.of(server.httpUri());
+        final List<CompletableFuture<AggregatedHttpResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(client.get("/limited").aggregate());
+        }
+        await().untilAtomic(arrivals, is(5));
+        gate.complete(null);
+        futures.forEach(CompletableFuture::join);
+
+        assertThat(invocations).hasValue(3);
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("limited.requests#count{result=leader}", 1.0)
+                .containsEntry("limited.requests#count{result=coalesced}", 2.0)
+                .containsEntry("limited.requests#count{result=overflow}", 2.0);
+    }
+
+    @Test
+    void fallbackOnTimeout() {
+        final WebClient client = WebClient.of(server.httpUri());
+        final CompletableFuture<AggregatedHttpResponse> leader = client.get("/timeout").aggregate();
+        await().untilAtomic(invocations, is(1));
+        final CompletableFuture<AggregatedHttpResponse> follower = client.get("/timeout").aggregate();
+
+        // The follower invokes the delegate on its own after the wait timeout.
+        await().untilAtomic(invocations, is(2));
+        gate.complete(null);
+        assertThat(leader.join().contentUtf8()).isEqualTo("hello-null");
+        assertThat(follower.join().contentUtf8()).isEqualTo("hello-null");
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("timeout.requests#count{result=leader}", 1.0)
+                .containsEntry("timeout.requests#count{result=timeout}", 1.0);
+    }
+
+    @Test
+    void doNotShareSetCookieWithFollowers() {
+        final WebClient client = WebClient.builder(server.httpUri())
+                                          .maxResponseLength(0)
+                                          .build();
+        final CompletableFuture<AggregatedHttpResponse> leader = client.get("/cookie").aggregate();
+        await().untilAtomic(invocations, is(1));
+        final CompletableFuture<AggregatedHttpResponse> follower = client.get("/cookie").aggregate();
+        await().untilAtomic(arrivals, is(2));
+        gate.complete(null);
+
+        // A response longer than Flags.defaultMaxResponseLength() is coalesced as well.
+        final AggregatedHttpResponse leaderRes = leader.join();
+        assertThat(leaderRes.status()).isEqualTo(HttpStatus.OK);
+        assertThat(leaderRes.content().length()).isEqualTo(LARGE_CONTENT_LENGTH);
+        assertThat(leaderRes.headers().get(HttpHeaderNames.SET_COOKIE)).isEqualTo("session=leader");
+
+        final AggregatedHttpResponse followerRes = follower.join();
+        assertThat(followerRes.status()).isEqualTo(HttpStatus.OK);
+        assertThat(followerRes.content().length()).isEqualTo(LARGE_CONTENT_LENGTH);
+        assertThat(followerRes.headers().contains(HttpHeaderNames.SET_COOKIE)).isFalse();
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void stopCoalescingWhenResponseExceedsMaxResponseLength() {
+        final WebClient client = WebClient.of(server.httpUri());
+        final AtomicInteger leaderReceived = new AtomicInteger();
+        final CompletableFuture<AggregatedHttpResponse> leader =
+                client.get("/stream").peekData(data -> leaderReceived.addAndGet(data.length())).aggregate();
+        await().untilAtomic(arrivals, is(1));
+        final CompletableFuture<AggregatedHttpResponse> follower = client.get("/stream").aggregate();
+        await().untilAtomic(arrivals, is(2));
+        gate.complete(null);
+
+        // The content exceeded maxResponseLength, so a new request does not join the leader.
+        await().untilAtomic(leaderReceived, is(2048));
+        final CompletableFuture<AggregatedHttpResponse> newLeader = client.get("/stream").aggregate();
+        await().untilAtomic(invocations, is(2));
+
+        streamGate.complete(null);
+        // The leader and the follower which joined before the limit receive the whole content.
+        assertThat(leader.join().content().length()).isEqualTo(2048);
+        assertThat(follower.join().content().length()).isEqualTo(2048);
+        assertThat(newLeader.join().content().length()).isEqualTo(2048);
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("stream.requests#count{result=leader}", 2.0)
+                .containsEntry("stream.requests#count{result=coalesced}", 1.0);
+    }
+}
@@ -24,6 +24,7 @@ import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -41,6 +42,7 @@ import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.encoding.StreamDecoder;
 import com.linecorp.armeria.common.encoding.StreamDecoderFactory;
+import com.linecorp.armeria.common.encoding.StreamEncoder;
 import com.linecorp.armeria.common.encoding.StreamEncoderFactories;
 import com.linecorp.armeria.common.encoding.StreamEncoderFactory;
 import com.linecorp.armeria.common.stream.AbortedStreamException;
@@ -52,6 +54,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 import reactor.test.StepVerifier;
 
@@ -78,6 +81,7 @@ class HttpEncodedResponseTest {
 
     @Test
     void testLeakOnError() {
+        final TrackingByteBufAllocator alloc = new TrackingByteBufAllocator();
         final ByteBuf buf = Unpooled.directBuffer();
         buf.writeCharSequence("foo", StandardCharsets.UTF_8);
 
@@ -121,7 +125,7 @@ class HttpEncodedResponseTest {
                                 HttpData.ofUtf8("bar"),
                                 HttpData.ofUtf8("baz"));
         final HttpEncodedResponse encoded = new HttpEncodedResponse(
-                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ByteBufAllocator.DEFAULT, 1);
+                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, alloc, 1);
 
         final AtomicReference<Throwable> causeRef = new AtomicReference<>();
         // Drain the stream.
@@ -139,6 +143,7 @@ class HttpEncodedResponseTest {
             public void onNext(HttpObject httpObject) {
                 if (httpObject instanceof HttpData) {
                     assertThat(((HttpData) httpObject).isEmpty()).isFalse();
+                    ((HttpData) httpObject).close();
                     subscription.cancel();
                 } else {
                     subscription.request(1);
@@ -160,19 +165,21 @@ class HttpEncodedResponseTest {
             assertThatThrownBy(() -> encoded.whenComplete().join())
                     .isInstanceOf(CompletionException.class)
                     .hasCauseInstanceOf(CancelledSubscriptionException.class);
-            assertThat(encoded.encodedStream.buffer().refCnt()).isZero();
+            assertThat(encoded.isEncoderClosed()).isTrue();
+            alloc.assertAllReleased();
         });
     }
 
     @Test
     void shouldReleaseEncodedStreamOnError() {
+        final TrackingByteBufAllocator alloc = new TrackingByteBufAllocator();
         final HttpResponse orig =
                 HttpResponse.of(ResponseHeaders.of(HttpStatus.OK),
                                 HttpData.ofUtf8("foo"),
                                 HttpData.ofUtf8("bar"),
                                 HttpData.ofUtf8("baz"));
         final HttpEncodedResponse encoded = new HttpEncodedResponse(
-                orig, StreamEncoderFactories.BROTLI, mediaType -> true, ByteBufAllocator.DEFAULT, 1);
+                orig, StreamEncoderFactories.BROTLI, mediaType -> true, alloc, 1);
 
         final AtomicReference<Throwable> causeRef = new AtomicReference<>();
         encoded.subscribe(new Subscriber<HttpObject>() {
@@ -189,6 +196,7 @@ class HttpEncodedResponseTest {
             public void onNext(HttpObject httpObject) {
                 if (httpObject instanceof HttpData) {
                     assertThat(((HttpData) httpObject).isEmpty()).isFalse();
+                    ((HttpData) httpObject).close();
                     encoded.abort();
                 } else {
                     subscription.request(1);
@@ -209,7 +217,8 @@ class HttpEncodedResponseTest {
             assertThatThrownBy(() -> encoded.whenComplete().join())
                     .isInstanceOf(CompletionException.class)
                     .hasCauseInstanceOf(AbortedStreamException.class);
-            assertThat(encoded.encodedStream.buffer().refCnt()).isZero();
+            assertThat(encoded.isEncoderClosed()).isTrue();
+            alloc.assertAllReleased();
         });
     }
 
@@ -232,13 +241,14 @@ class HttpEncodedResponseTest {
 
     @Test
     void shouldEncodeContent() {
+        final TrackingByteBufAllocator alloc = new TrackingByteBufAllocator();
         final HttpResponse orig =
                 HttpResponse.of(ResponseHeaders.of(HttpStatus.OK),
                                 HttpData.ofUtf8("foo"),
                                 HttpData.ofUtf8("bar"),
                                 HttpData.ofUtf8("baz"));
         final HttpEncodedResponse encoded = new HttpEncodedResponse(
-                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ByteBufAllocator.DEFAULT, 1);
+                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, alloc, 1);
         final List<HttpData> data = encoded.split().body().collect().join();
         final StreamDecoder decoder = StreamDecoderFactory.deflate().newDecoder(ByteBufAllocator.DEFAULT);
 
@@ -252,7 +262,8 @@ class HttpEncodedResponseTest {
         result += finish.toStringUtf8();
         finish.close();
         assertThat(result).isEqualTo("foobarbaz");
-        assertThat(encoded.encodedStream.buffer().refCnt()).isZero();
+        assertThat(encoded.isEncoderClosed()).isTrue();
+        alloc.assertAllReleased();
     }
 
     @Test
@@ -297,4 +308,35 @@ class HttpEncodedResponseTest {
 
         assertThat(exceptionRef.get()).isNull();
     }
+
+    /**
+     * An {@link UnpooledByteBufAllocator} which keeps the allocated buffers to check whether the buffers
+     * created by a {@link StreamEncoder} are released.
+     */
+    private static final class TrackingByteBufAllocator extends UnpooledByteBufAllocator {
+
+        private final List<ByteBuf> buffers = new CopyOnWriteArrayList<>();
+
+        TrackingByteBufAllocator() {
+            super(false);
+        }
+
+        @Override
+        protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+            final ByteBuf buf = super.newHeapBuffer(initialCapacity, maxCapacity);
+            buffers.add(buf);
+            return buf;
+        }
+
+        @Override
+        protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+            final ByteBuf buf = super.newDirectBuffer(initialCapacity, maxCapacity);
+            buffers.add(buf);
+            return buf;
+        }
+
+        void assertAllReleased() {
+            assertThat(buffers).isNotEmpty().allSatisfy(buf -> assertThat(buf.refCnt()).isZero());
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ByteRangeTest {
+
+    @CsvSource({
+            "bytes=0-99, 0, 100, bytes 0-99/1000",
+            "bytes=100-199, 100, 100, bytes 100-199/1000",
+            "BYTES=100-199, 100, 100, bytes 100-199/1000",
+            "bytes=900-, 900, 100, bytes 900-999/1000",
+            "bytes=900-2000, 900, 100, bytes 900-999/1000",
+            "bytes=-100, 900, 100, bytes 900-999/1000",
+            "bytes=-2000, 0, 1000, bytes 0-999/1000",
+            "bytes= 10 - 19 , 10, 10, bytes 10-19/1000",
+    })
+    @ParameterizedTest
+    void satisfiable(String range, long offset, long length, String contentRange) {
+        final ByteRange byteRange = ByteRange.parse(range, 1000);
+        assertThat(byteRange).isNotNull();
+        assertThat(byteRange.offset()).isEqualTo(offset);
+        assertThat(byteRange.length()).isEqualTo(length);
+        assertThat(byteRange.contentRange(1000)).isEqualTo(contentRange);
+    }
+
+    @ValueSource(strings = { "bytes=1000-", "bytes=1000-1001", "bytes=-0" })
+    @ParameterizedTest
+    void unsatisfiable(String range) {
+        assertThat(ByteRange.parse(range, 1000)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.UNSATISFIABLE.contentRange(1000)).isEqualTo("bytes */1000");
+    }
+
+    @ValueSource(strings = {
+            "bytes=", "bytes=-", "bytes=abc", "bytes=1-a", "bytes=a-1", "bytes=--1", "bytes=10-5",
+            "bytes=0-1,5-6", "items=0-1", "bytes=99999999999999999999-"
+    })
+    @ParameterizedTest
+    void ignored(String range) {
+        assertThat(ByteRange.parse(range, 1000)).isNull();
+    }
+}
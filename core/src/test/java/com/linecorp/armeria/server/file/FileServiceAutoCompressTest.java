@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+
+import com.linecorp.armeria.client.BlockingWebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class FileServiceAutoCompressTest {
+
+    private static final String CONTENT =
+            Strings.repeat("function armeria() { return 'Your go-to microservice framework'; }\n", 64);
+
+    @TempDir
+    static Path tmpDir;
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.serviceUnder("/", FileService.builder(tmpDir)
+                                            .autoCompress(true)
+                                            .build());
+        }
+    };
+
+    @BeforeAll
+    static void writeFiles() throws IOException {
+        Files.write(tmpDir.resolve("main.js"), CONTENT.getBytes(StandardCharsets.UTF_8));
+        Files.write(tmpDir.resolve("small.js"), "var a = 1;".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void compressedInBackground() throws IOException {
+        final BlockingWebClient client = server.blockingWebClient();
+        final AggregatedHttpResponse uncompressed = client.execute(get("/main.js", "gzip"));
+        assertThat(uncompressed.status()).isEqualTo(HttpStatus.OK);
+        // The uncompressed file also varies depending on the 'accept-encoding' header.
+        assertThat(uncompressed.headers().get(HttpHeaderNames.VARY)).isEqualTo("accept-encoding");
+        final String entityTag = uncompressed.headers().get(HttpHeaderNames.ETAG);
+
+        // The uncompressed file is served until the compressed one is cached.
+        await().untilAsserted(() -> {
+            final AggregatedHttpResponse res = client.execute(get("/main.js", "gzip"));
+            assertThat(res.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+        });
+
+        final AggregatedHttpResponse compressed = client.execute(get("/main.js", "gzip, deflate"));
+        assertThat(compressed.status()).isEqualTo(HttpStatus.OK);
+        assertThat(compressed.headers().get(HttpHeaderNames.VARY)).isEqualTo("accept-encoding");
+        assertThat(compressed.headers().contentType()).isEqualTo(uncompressed.headers().contentType());
+        assertThat(compressed.headers().get(HttpHeaderNames.ETAG)).isNotEqualTo(entityTag);
+        assertThat(compressed.content().length()).isLessThan(CONTENT.length());
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.content().array()))) {
+            assertThat(new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        }
+
+        // Not compressed if a client does not accept it.
+        final AggregatedHttpResponse identity = client.get("/main.js");
+        assertThat(identity.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+        assertThat(identity.headers().get(HttpHeaderNames.VARY)).isEqualTo("accept-encoding");
+        assertThat(client.execute(get("/main.js", "gzip;q=0")).headers()
+                         .get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    void tooSmallToCompress() {
+        final BlockingWebClient client = server.blockingWebClient();
+        for (int i = 0; i < 3; i++) {
+            final AggregatedHttpResponse res = client.execute(get("/small.js", "gzip"));
+            assertThat(res.status()).isEqualTo(HttpStatus.OK);
+            assertThat(res.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+            assertThat(res.contentUtf8()).isEqualTo("var a = 1;");
+        }
+    }
+
+    private static RequestHeaders get(String path, String acceptEncoding) {
+        return RequestHeaders.builder(HttpMethod.GET, path)
+                             .set(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding)
+                             .build();
+    }
+}
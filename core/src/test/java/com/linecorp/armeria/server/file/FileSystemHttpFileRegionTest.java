@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+
+import com.linecorp.armeria.client.BlockingWebClient;
+import com.linecorp.armeria.client.ClientFactory;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.internal.common.FileRegionHttpData;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.encoding.EncodingService;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class FileSystemHttpFileRegionTest {
+
+    private static final byte[] SMALL_CONTENT = new byte[1024];
+    private static final byte[] LARGE_CONTENT = new byte[FileRegionHttpData.MAX_REGION_LENGTH + 4096];
+
+    private static final byte[] TEXT_CONTENT = Strings.repeat("Armeria ", 8192).getBytes(UTF_8);
+
+    private static final Queue<Class<?>> dataTypes = new LinkedTransferQueue<>();
+    private static final Queue<Class<?>> unencodedDataTypes = new LinkedTransferQueue<>();
+
+    @TempDir
+    static Path tmpDir;
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.http(0);
+            sb.https(0);
+            sb.tlsSelfSigned();
+            sb.serviceUnder("/", FileService.builder(tmpDir)
+                                            .maxCacheEntries(0)
+                                            .build());
+            sb.serviceUnder("/encoded", FileService.builder(tmpDir)
+                                                   .maxCacheEntries(0)
+                                                   .build()
+                                                   .decorate((delegate, ctx, req) -> {
+                                                       return delegate.serve(ctx, req).peekData(
+                                                               data -> unencodedDataTypes.add(data.getClass()));
+                                                   })
+                                                   .decorate(EncodingService.newDecorator()));
+            sb.decorator((delegate, ctx, req) -> {
+                return delegate.serve(ctx, req).peekData(data -> dataTypes.add(data.getClass()));
+            });
+        }
+    };
+
+    @BeforeAll
+    static void writeFiles() throws IOException {
+        final Random random = new Random();
+        random.nextBytes(SMALL_CONTENT);
+        random.nextBytes(LARGE_CONTENT);
+        Files.write(tmpDir.resolve("small.bin"), SMALL_CONTENT);
+        Files.write(tmpDir.resolve("large.bin"), LARGE_CONTENT);
+        Files.write(tmpDir.resolve("text.txt"), TEXT_CONTENT);
+    }
+
+    @BeforeEach
+    void clear() {
+        dataTypes.clear();
+        unencodedDataTypes.clear();
+        server.requestContextCaptor().clear();
+    }
+
+    @CsvSource({ "H1C, true", "H2C, false", "H1, false", "H2, false" })
+    @ParameterizedTest
+    void sendFileRegionOnlyOverCleartextHttp1(SessionProtocol protocol, boolean zeroCopy) throws Exception {
+        final WebClient client = WebClient.builder(server.uri(protocol))
+                                          .factory(ClientFactory.insecure())
+                                          .maxResponseLength(0)
+                                          .build();
+        for (String path : new String[] { "/small.bin", "/large.bin" }) {
+            final byte[] expected = "/small.bin".equals(path) ? SMALL_CONTENT : LARGE_CONTENT;
+            final AggregatedHttpResponse res = client.blocking().get(path);
+            assertThat(res.status()).isEqualTo(HttpStatus.OK);
+            assertThat(res.headers().contentLength()).isEqualTo(expected.length);
+            assertThat(res.content().array()).isEqualTo(expected);
+
+            final ServiceRequestContext sctx = server.requestContextCaptor().take();
+            final RequestLog log = sctx.log().whenComplete().join();
+            assertThat(log.responseLength()).isEqualTo(expected.length);
+            assertThat(log.responseCause()).isNull();
+        }
+
+        if (zeroCopy) {
+            assertThat(dataTypes).containsOnly(FileRegionHttpData.class).hasSize(3);
+        } else {
+            assertThat(dataTypes).doesNotContain(FileRegionHttpData.class);
+        }
+    }
+
+    @CsvSource({ "H1C, true", "H2C, false" })
+    @ParameterizedTest
+    void sendRange(SessionProtocol protocol, boolean zeroCopy) throws Exception {
+        final BlockingWebClient client = WebClient.builder(server.uri(protocol))
+                                                  .maxResponseLength(0)
+                                                  .build()
+                                                  .blocking();
+        final int offset = FileRegionHttpData.MAX_REGION_LENGTH - 10;
+        final AggregatedHttpResponse res = client.execute(RequestHeaders.builder(HttpMethod.GET, "/large.bin")
+                                                                        .set(HttpHeaderNames.RANGE,
+                                                                             "bytes=" + offset + '-')
+                                                                        .build());
+        assertThat(res.status()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        final int length = LARGE_CONTENT.length - offset;
+        assertThat(res.headers().contentLength()).isEqualTo(length);
+        assertThat(res.headers().get(HttpHeaderNames.CONTENT_RANGE))
+                .isEqualTo("bytes " + offset + '-' + (LARGE_CONTENT.length - 1) + '/' + LARGE_CONTENT.length);
+        assertThat(res.content().array())
+                .isEqualTo(Arrays.copyOfRange(LARGE_CONTENT, offset, LARGE_CONTENT.length));
+
+        final RequestLog log = server.requestContextCaptor().take().log().whenComplete().join();
+        assertThat(log.responseLength()).isEqualTo(length);
+        if (zeroCopy) {
+            // The range spans two regions.
+            assertThat(dataTypes).containsOnly(FileRegionHttpData.class).hasSize(2);
+        } else {
+            assertThat(dataTypes).doesNotContain(FileRegionHttpData.class);
+        }
+
+        final AggregatedHttpResponse unsatisfiable =
+                client.execute(RequestHeaders.builder(HttpMethod.GET, "/small.bin")
+                                             .set(HttpHeaderNames.RANGE, "bytes=1024-")
+                                             .build());
+        assertThat(unsatisfiable.status()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(unsatisfiable.headers().get(HttpHeaderNames.CONTENT_RANGE)).isEqualTo("bytes */1024");
+    }
+
+    @CsvSource({ "H1C", "H2C" })
+    @ParameterizedTest
+    void ignoreRangeIfEntityTagDoesNotMatch(SessionProtocol protocol) {
+        final BlockingWebClient client = WebClient.of(server.uri(protocol)).blocking();
+        final AggregatedHttpResponse full = client.get("/small.bin");
+        assertThat(full.headers().get(HttpHeaderNames.ACCEPT_RANGES)).isEqualTo("bytes");
+        final String etag = full.headers().get(HttpHeaderNames.ETAG);
+        assertThat(etag).isNotNull();
+
+        final AggregatedHttpResponse partial =
+                client.execute(RequestHeaders.builder(HttpMethod.GET, "/small.bin")
+                                             .set(HttpHeaderNames.RANGE, "bytes=-10")
+                                             .set(HttpHeaderNames.IF_RANGE, etag)
+                                             .build());
+        assertThat(partial.status()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(partial.content().array())
+                .isEqualTo(Arrays.copyOfRange(SMALL_CONTENT, SMALL_CONTENT.length - 10, SMALL_CONTENT.length));
+
+        final AggregatedHttpResponse stale =
+                client.execute(RequestHeaders.builder(HttpMethod.GET, "/small.bin")
+                                             .set(HttpHeaderNames.RANGE, "bytes=-10")
+                                             .set(HttpHeaderNames.IF_RANGE, "\"stale\"")
+                                             .build());
+        assertThat(stale.status()).isEqualTo(HttpStatus.OK);
+        assertThat(stale.content().array()).isEqualTo(SMALL_CONTENT);
+    }
+
+    @Test
+    void doNotSendFileRegionIfContentMayBeEncoded() throws Exception {
+        final BlockingWebClient client = WebClient.builder(server.uri(SessionProtocol.H1C))
+                                                  .maxResponseLength(0)
+                                                  .build()
+                                                  .blocking();
+        final AggregatedHttpResponse encoded =
+                client.execute(RequestHeaders.builder(HttpMethod.GET, "/encoded/text.txt")
+                                             .set(HttpHeaderNames.ACCEPT_ENCODING, "gzip")
+                                             .build());
+        assertThat(encoded.status()).isEqualTo(HttpStatus.OK);
+        assertThat(encoded.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (InputStream in = new GZIPInputStream(encoded.content().toInputStream())) {
+            assertThat(ByteStreams.toByteArray(in)).isEqualTo(TEXT_CONTENT);
+        }
+        // The content was read by the blocking task executor rather than by EncodingService.
+        assertThat(unencodedDataTypes).isNotEmpty().doesNotContain(FileRegionHttpData.class);
+
+        // A partial content is not encoded.
+        unencodedDataTypes.clear();
+        final AggregatedHttpResponse partial =
+                client.execute(RequestHeaders.builder(HttpMethod.GET, "/encoded/text.txt")
+                                             .set(HttpHeaderNames.ACCEPT_ENCODING, "gzip")
+                                             .set(HttpHeaderNames.RANGE, "bytes=0-99")
+                                             .build());
+        assertThat(partial.status()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(partial.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+        assertThat(partial.content().array()).isEqualTo(Arrays.copyOf(TEXT_CONTENT, 100));
+        assertThat(unencodedDataTypes).isNotEmpty().doesNotContain(FileRegionHttpData.class);
+
+        // Sent with sendfile() if the client does not accept any encoding.
+        unencodedDataTypes.clear();
+        final AggregatedHttpResponse identity =
+                client.execute(RequestHeaders.builder(HttpMethod.GET, "/encoded/text.txt")
+                                             .set(HttpHeaderNames.ACCEPT_ENCODING, "gzip;q=0, identity")
+                                             .build());
+        assertThat(identity.status()).isEqualTo(HttpStatus.OK);
+        assertThat(identity.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+        assertThat(identity.content().array()).isEqualTo(TEXT_CONTENT);
+        assertThat(unencodedDataTypes).containsOnly(FileRegionHttpData.class);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.linecorp.armeria.client.BlockingWebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.logging.RequestLogProperty;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class RecentRequestLogsTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final RecentRequestLogs recentLogs =
+            RecentRequestLogs.builder()
+                             .properties(RequestLogProperty.SESSION, RequestLogProperty.REQUEST_HEADERS,
+                                         RequestLogProperty.RESPONSE_LENGTH)
+                             .build();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.decorator(recentLogs.newDecorator());
+            sb.service("/users/{id}", (ctx, req) -> {
+                if ("0".equals(ctx.pathParam("id"))) {
+                    return HttpResponse.of(HttpStatus.NOT_FOUND);
+                }
+                return HttpResponse.of("user-" + ctx.pathParam("id"));
+            });
+            sb.service("/slow", (ctx, req) -> HttpResponse.delayed(
+                    HttpResponse.of(HttpStatus.SERVICE_UNAVAILABLE), Duration.ofMillis(300)));
+            sb.service("/internal/requests", recentLogs.asService());
+        }
+    };
+
+    @Test
+    void queryRecentRequests() throws Exception {
+        final BlockingWebClient client = server.blockingWebClient();
+        for (int i = 0; i < 5; i++) {
+            client.get("/users/" + i + "?q=" + i);
+        }
+        client.get("/slow");
+        await().until(() -> recentLogs.size() >= 6);
+
+        JsonNode result = query(client, "/internal/requests?route=/users/:id");
+        assertThat(result).hasSize(5);
+        // The newest first.
+        final JsonNode newest = result.get(0);
+        assertThat(newest.get("path").asText()).isEqualTo("/users/4");
+        assertThat(newest.get("query").asText()).isEqualTo("q=4");
+        assertThat(newest.get("method").asText()).isEqualTo("GET");
+        assertThat(newest.get("status").asInt()).isEqualTo(200);
+        assertThat(newest.get("route").asText()).isEqualTo("/users/:id");
+        assertThat(newest.get("remoteAddress").asText()).isEqualTo("127.0.0.1");
+        assertThat(newest.get("protocol").asText()).isIn("h1c", "h2c");
+        assertThat(newest.get("responseLength").asLong()).isEqualTo("user-4".length());
+        assertThat(newest.get("requestId").asText()).isNotEmpty();
+        assertThat(newest.has("timestamp")).isTrue();
+        assertThat(newest.has("serviceName")).isFalse();
+
+        result = query(client, "/internal/requests?status=4xx");
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).get("path").asText()).isEqualTo("/users/0");
+
+        result = query(client, "/internal/requests?minLatencyMillis=250");
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).get("status").asInt()).isEqualTo(503);
+
+        result = query(client, "/internal/requests?route=/users/:id&status=200&limit=2");
+        assertThat(result).hasSize(2);
+        assertThat(result.get(1).get("path").asText()).isEqualTo("/users/3");
+
+        assertThat(client.get("/internal/requests?status=abc").status()).isSameAs(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void boundedMemory() {
+        final RequestLogRingBuffer buffer = new RequestLogRingBuffer(64);
+        final byte[] record = new byte[10];
+        for (int i = 0; i < 100; i++) {
+            record[0] = (byte) i;
+            buffer.append(record, record.length);
+        }
+        // Each record takes 12 bytes including its length.
+        assertThat(buffer.numRecords()).isEqualTo(5);
+        final byte[] snapshot = buffer.snapshot();
+        assertThat(snapshot).hasSize(60);
+        int offset = 0;
+        for (int i = 95; i < 100; i++) {
+            assertThat(RequestLogRingBuffer.recordLength(snapshot, offset)).isEqualTo(10);
+            assertThat(snapshot[RequestLogRingBuffer.payloadOffset(offset)]).isEqualTo((byte) i);
+            offset = RequestLogRingBuffer.payloadOffset(offset) + 10;
+        }
+    }
+
+    private static JsonNode query(BlockingWebClient client, String path) throws Exception {
+        final AggregatedHttpResponse res = client.get(path);
+        assertThat(res.status()).isSameAs(HttpStatus.OK);
+        return mapper.readTree(res.contentUtf8());
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.throttling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.server.Server;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.testing.junit5.common.EventLoopExtension;
+
+class LoadSheddingThrottlingStrategyTest {
+
+    @RegisterExtension
+    static final EventLoopExtension eventLoop = new EventLoopExtension();
+
+    @Test
+    void shedLowPriorityRequestsFirst() throws Exception {
+        final LoadSheddingThrottlingStrategy<HttpRequest> strategy =
+                (LoadSheddingThrottlingStrategy<HttpRequest>)
+                        ThrottlingStrategy.loadShedding()
+                                          .target(Duration.ofMillis(5))
+                                          .interval(Duration.ofMillis(100))
+                                          .probeInterval(Duration.ZERO)
+                                          .numPriorities(3)
+                                          .priorityHeader("x-priority")
+                                          .<HttpRequest>build();
+
+        // A short burst does not shed requests.
+        assertThat(accept(strategy, 50, null)).isTrue();
+        assertThat(accept(strategy, 0, null)).isTrue();
+        Thread.sleep(150);
+        assertThat(accept(strategy, 50, null)).isTrue();
+        assertThat(strategy.shedLevel()).isZero();
+
+        // The requests of the least important class are shed after an overloaded interval.
+        Thread.sleep(150);
+        assertThat(accept(strategy, 50, 2)).isFalse();
+        assertThat(strategy.shedLevel()).isOne();
+        // A request without a priority belongs to the middle class.
+        assertThat(accept(strategy, 50, null)).isTrue();
+        assertThat(accept(strategy, 50, 1)).isTrue();
+        assertThat(accept(strategy, 50, 0)).isTrue();
+
+        // The next priority class is shed after another overloaded interval.
+        Thread.sleep(150);
+        assertThat(accept(strategy, 50, 1)).isFalse();
+        assertThat(strategy.shedLevel()).isEqualTo(2);
+        assertThat(accept(strategy, 50, 0)).isTrue();
+
+        // Recovers one priority class per interval.
+        assertThat(accept(strategy, 0, 0)).isTrue();
+        Thread.sleep(150);
+        assertThat(accept(strategy, 0, 1)).isTrue();
+        assertThat(strategy.shedLevel()).isOne();
+        Thread.sleep(150);
+        assertThat(accept(strategy, 0, 2)).isTrue();
+        assertThat(strategy.shedLevel()).isZero();
+    }
+
+    @Test
+    void measureEventLoopLatency() throws Exception {
+        final LoadSheddingThrottlingStrategy<HttpRequest> strategy =
+                (LoadSheddingThrottlingStrategy<HttpRequest>)
+                        ThrottlingStrategy.loadShedding()
+                                          .target(Duration.ofMillis(5))
+                                          .interval(Duration.ofMillis(10))
+                                          .probeInterval(Duration.ofMillis(1))
+                                          .numPriorities(1)
+                                          .<HttpRequest>build();
+        // Start the probe.
+        assertThat(accept(strategy, 0, null)).isTrue();
+
+        // Keep the event loop busy so that the tasks are delayed.
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        final Runnable busyTask = new Runnable() {
+            @Override
+            public void run() {
+                sleep(20);
+                if (System.nanoTime() < deadline && strategy.shedLevel() == 0) {
+                    eventLoop.get().execute(this);
+                }
+            }
+        };
+        eventLoop.get().execute(busyTask);
+
+        await().untilAsserted(() -> {
+            // The requests are decoded just now, but the event loop is slow.
+            assertThat(accept(strategy, 0, null)).isFalse();
+        });
+    }
+
+    @Test
+    void stopProbesWhenServerStops() {
+        final LoadSheddingThrottlingStrategy<HttpRequest> strategy =
+                (LoadSheddingThrottlingStrategy<HttpRequest>)
+                        ThrottlingStrategy.loadShedding()
+                                          .probeInterval(Duration.ofMillis(1))
+                                          .<HttpRequest>build();
+        final Server server = Server.builder()
+                                    .http(0)
+                                    .service("/", (ctx, req) -> HttpResponse.of(HttpStatus.OK))
+                                    .decorator(ThrottlingService.newDecorator(strategy))
+                                    .build();
+        server.start().join();
+        try {
+            final AggregatedHttpResponse res =
+                    WebClient.of("http://127.0.0.1:" + server.activeLocalPort()).blocking().get("/");
+            assertThat(res.status()).isEqualTo(HttpStatus.OK);
+            assertThat(strategy.numProbes()).isOne();
+        } finally {
+            server.stop().join();
+        }
+        // The probes are stopped although the event loops are shared and still running.
+        assertThat(strategy.numProbes()).isZero();
+    }
+
+    private static boolean accept(ThrottlingStrategy<HttpRequest> strategy, long delayMillis,
+                                  @Nullable Integer priority) {
+        final RequestHeaders headers;
+        if (priority != null) {
+            headers = RequestHeaders.of(HttpMethod.GET, "/", "x-priority", priority);
+        } else {
+            headers = RequestHeaders.of(HttpMethod.GET, "/");
+        }
+        final HttpRequest req = HttpRequest.of(headers);
+        final long requestStartTimeNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        final long requestStartTimeMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        final ServiceRequestContext ctx =
+                ServiceRequestContext.builder(req)
+                                     .eventLoop(eventLoop.get())
+                                     .requestStartTime(requestStartTimeNanos, requestStartTimeMicros)
+                                     .build();
+        return strategy.accept(ctx, req).toCompletableFuture().join();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -20,10 +20,14 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -63,8 +67,11 @@ import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.eureka.InstanceInfo;
 import com.linecorp.armeria.common.eureka.InstanceInfo.InstanceStatus;
 import com.linecorp.armeria.common.eureka.InstanceInfo.PortWrapper;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
 import com.linecorp.armeria.internal.common.eureka.Application;
 import com.linecorp.armeria.internal.common.eureka.Applications;
+import com.linecorp.armeria.internal.common.eureka.ApplicationsDelta;
+import com.linecorp.armeria.internal.common.eureka.ApplicationsDelta.InstanceChange;
 import com.linecorp.armeria.server.eureka.EurekaUpdatingListener;
 
 import io.netty.channel.EventLoop;
@@ -90,6 +97,7 @@ public final class EurekaEndpointGroup extends DynamicEndpointGroup {
     private static final String VIPS = "/vips/";
     private static final String SVIPS = "/svips/";
     private static final String INSTANCES = "/instances/";
+    private static final String DELTA = "/delta";
 
     /**
      * Returns a new {@link EurekaEndpointGroup} that retrieves the {@link Endpoint} list from the specified
@@ -199,13 +207,19 @@ public final class EurekaEndpointGroup extends DynamicEndpointGroup {
     private final Function<byte[], List<Endpoint>> responseConverter;
     private final WebClient webClient;
     @Nullable
+    private final RequestHeaders deltaRequestHeaders;
+    @Nullable
+    private final RegistrySnapshot registrySnapshot;
+    private final EurekaEndpointGroupMetrics metrics;
+    @Nullable
     private volatile ScheduledFuture<?> scheduledFuture;
     private volatile boolean closed;
 
     EurekaEndpointGroup(EndpointSelectionStrategy selectionStrategy, boolean allowEmptyEndpoints,
                         long selectionTimeoutMillis, WebClient webClient, long registryFetchIntervalMillis,
                         @Nullable String appName, @Nullable String instanceId, @Nullable String vipAddress,
-                        @Nullable String secureVipAddress, @Nullable List<String> regions) {
+                        @Nullable String secureVipAddress, @Nullable List<String> regions,
+                        boolean useDeltaFetch, MeterIdPrefix meterIdPrefix) {
         super(selectionStrategy, allowEmptyEndpoints, selectionTimeoutMillis);
         this.webClient = webClient;
         this.registryFetchIntervalMillis = registryFetchIntervalMillis;
@@ -217,6 +231,21 @@ public final class EurekaEndpointGroup extends DynamicEndpointGroup {
                                               vipAddress, secureVipAddress, regions);
         requestHeaders = headersBuilder.build();
 
+        final String path = requestHeaders.path();
+        if (useDeltaFetch && responseConverter instanceof ApplicationsConverter &&
+            (APPS.equals(path) || path.startsWith(APPS + '?'))) {
+            // Only the whole registry can be fetched incrementally.
+            deltaRequestHeaders = requestHeaders.toBuilder()
+                                                .path(APPS + DELTA + path.substring(APPS.length()))
+                                                .build();
+            registrySnapshot = new RegistrySnapshot((ApplicationsConverter) responseConverter);
+        } else {
+            deltaRequestHeaders = null;
+            registrySnapshot = null;
+        }
+        metrics = new EurekaEndpointGroupMetrics(webClient.options().factory().meterRegistry(),
+                                                 meterIdPrefix);
+
         webClient.options().factory().whenClosed().thenRun(this::closeAsync);
         fetchRegistry();
     }
@@ -225,6 +254,17 @@ public final class EurekaEndpointGroup extends DynamicEndpointGroup {
         if (closed) {
             return;
         }
+        final boolean delta = registrySnapshot != null && registrySnapshot.isInitialized();
+        final RequestHeaders requestHeaders;
+        if (delta) {
+            assert deltaRequestHeaders != null;
+            requestHeaders = deltaRequestHeaders;
+            metrics.onDeltaFetch();
+        } else {
+            requestHeaders = this.requestHeaders;
+            metrics.onFullFetch();
+        }
+
         final HttpResponse response;
         final ClientRequestContext ctx;
         try {
@@ -253,9 +293,11 @@ public final class EurekaEndpointGroup extends DynamicEndpointGroup {
                                                 aggregatedRes.contentUtf8(), requestHeaders);
                                 } else {
                                     try {
-                                        final List<Endpoint> endpoints = responseConverter.apply(
-                                                content.array());
-                                        setEndpoints(endpoints);
+                                        if (!updateEndpoints(content.array(), delta)) {
+                                            // The snapshot went out of sync. Fetch the whole registry again.
+                                            eventLoop.execute(this::fetchRegistry);
+                                            return null;
+                                        }
                                     } catch (Exception e) {
                                         logger.warn("Unexpected exception while parsing a response from: {}. " +
                                                     "(content: {}, responseConverter: {}, requestHeaders: {})",
@@ -275,6 +317,36 @@ public final class EurekaEndpointGroup extends DynamicEndpointGroup {
         }
     }
 
+    /**
+     * Updates the {@link Endpoint}s with the specified response content.
+     *
+     * @return {@code false} if the delta could not be applied because the {@code appsHashCode} of
+     *         the {@link RegistrySnapshot} does not match the one of the Eureka registry.
+     */
+    private boolean updateEndpoints(byte[] content, boolean delta) throws IOException {
+        if (registrySnapshot == null) {
+            setEndpoints(responseConverter.apply(content));
+            return true;
+        }
+
+        if (!delta) {
+            setEndpoints(registrySnapshot.reset(mapper.readValue(content, Applications.class)));
+            return true;
+        }
+
+        final ApplicationsDelta applicationsDelta = mapper.readValue(content, ApplicationsDelta.class);
+        final List<Endpoint> endpoints = registrySnapshot.apply(applicationsDelta);
+        if (endpoints == null) {
+            logger.debug("Mismatching appsHashCode after applying the delta from: {}. (expected: {})",
+                         webClient.uri(), applicationsDelta.appsHashCode());
+            metrics.onDeltaMismatch();
+            registrySnapshot.invalidate();
+            return false;
+        }
+        setEndpoints(endpoints);
+        return true;
+    }
+
     private void scheduleNextFetch(EventLoop executorService) {
         scheduledFuture = executorService.schedule(this::fetchRegistry,
                                                    registryFetchIntervalMillis, TimeUnit.MILLISECONDS);
@@ -436,6 +508,103 @@ public final class EurekaEndpointGroup extends DynamicEndpointGroup {
         }
     }
 
+    /**
+     * A local copy of the whole Eureka registry which is updated with the deltas retrieved from
+     * the {@code /apps/delta} endpoint. The {@link Endpoint}s are updated only for the changed instances.
+     */
+    private static final class RegistrySnapshot {
+
+        private final Predicate<InstanceInfo> filter;
+        private final boolean secureVip;
+
+        // Accessed only by the chain of the registry fetches which are sent one after another.
+        private final Map<String, InstanceInfo> instances = new HashMap<>();
+        private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        private boolean initialized;
+
+        RegistrySnapshot(ApplicationsConverter converter) {
+            filter = converter.filter;
+            secureVip = converter.secureVip;
+        }
+
+        boolean isInitialized() {
+            return initialized;
+        }
+
+        void invalidate() {
+            initialized = false;
+        }
+
+        List<Endpoint> reset(Applications applications) {
+            instances.clear();
+            endpoints.clear();
+            for (Application application : applications.applications()) {
+                for (InstanceInfo instanceInfo : application.instances()) {
+                    put(instanceInfo);
+                }
+            }
+            initialized = true;
+            return ImmutableList.copyOf(endpoints.values());
+        }
+
+        /**
+         * Applies the specified {@link ApplicationsDelta} and returns the updated {@link Endpoint}s,
+         * or {@code null} if the {@code appsHashCode} does not match after applying the delta.
+         */
+        @Nullable
+        List<Endpoint> apply(ApplicationsDelta delta) {
+            for (InstanceChange change : delta.changes()) {
+                final InstanceInfo instanceInfo = change.instanceInfo();
+                switch (change.actionType()) {
+                    case ADDED:
+                    case MODIFIED:
+                        put(instanceInfo);
+                        break;
+                    case DELETED:
+                        final String key = key(instanceInfo);
+                        instances.remove(key);
+                        endpoints.remove(key);
+                        break;
+                }
+            }
+            if (!appsHashCode().equals(delta.appsHashCode())) {
+                return null;
+            }
+            return ImmutableList.copyOf(endpoints.values());
+        }
+
+        private void put(InstanceInfo instanceInfo) {
+            final String key = key(instanceInfo);
+            instances.put(key, instanceInfo);
+            if (filter.test(instanceInfo) && instanceInfo.getStatus() == InstanceStatus.UP) {
+                endpoints.put(key, endpoint(instanceInfo, secureVip));
+            } else {
+                endpoints.remove(key);
+            }
+        }
+
+        /**
+         * Returns the {@code appsHashCode} of the snapshot, which is computed in the same way as Eureka does,
+         * e.g. {@code "DOWN_2_UP_10_"}.
+         */
+        private String appsHashCode() {
+            final Map<String, Integer> numInstancesPerStatus = new TreeMap<>();
+            for (InstanceInfo instanceInfo : instances.values()) {
+                numInstancesPerStatus.merge(instanceInfo.getStatus().name(), 1, Integer::sum);
+            }
+            final StringBuilder buf = new StringBuilder();
+            numInstancesPerStatus.forEach((status, count) -> buf.append(status).append('_')
+                                                                .append(count).append('_'));
+            return buf.toString();
+        }
+
+        private static String key(InstanceInfo instanceInfo) {
+            final String instanceId = instanceInfo.getInstanceId();
+            return instanceInfo.getAppName() + '/' +
+                   (instanceId != null ? instanceId : instanceInfo.getHostName());
+        }
+    }
+
     private static Endpoint endpoint(InstanceInfo instanceInfo, boolean secureVip) {
         final String hostname = instanceInfo.getHostName();
         final PortWrapper portWrapper = instanceInfo.getPort();
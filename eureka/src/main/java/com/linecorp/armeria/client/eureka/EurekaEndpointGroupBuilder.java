@@ -63,6 +63,7 @@ import com.linecorp.armeria.common.auth.AuthToken;
 import com.linecorp.armeria.common.auth.BasicToken;
 import com.linecorp.armeria.common.auth.OAuth1aToken;
 import com.linecorp.armeria.common.auth.OAuth2Token;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
 
 /**
  * Builds a {@link EurekaEndpointGroup}.
@@ -71,6 +72,7 @@ public final class EurekaEndpointGroupBuilder extends AbstractWebClientBuilder
         implements DynamicEndpointGroupSetters<EurekaEndpointGroupBuilder> {
 
     private static final long DEFAULT_REGISTRY_FETCH_INTERVAL_MILLIS = 30000;
+    static final String DEFAULT_METER_ID_PREFIX = "armeria.client.eureka";
 
     private final DynamicEndpointGroupBuilder dynamicEndpointGroupBuilder = new DynamicEndpointGroupBuilder();
     private EndpointSelectionStrategy selectionStrategy = EndpointSelectionStrategy.weightedRoundRobin();
@@ -92,6 +94,9 @@ public final class EurekaEndpointGroupBuilder extends AbstractWebClientBuilder
     @Nullable
     private List<String> regions;
 
+    private boolean useDeltaFetch;
+    private MeterIdPrefix meterIdPrefix = new MeterIdPrefix(DEFAULT_METER_ID_PREFIX);
+
     /**
      * Creates a new instance.
      */
@@ -247,6 +252,31 @@ public final class EurekaEndpointGroupBuilder extends AbstractWebClientBuilder
         return this;
     }
 
+    /**
+     * Sets whether to fetch only the changes of the registry from the {@code /apps/delta} endpoint after
+     * the whole registry is fetched once. The changes are applied to a local snapshot of the registry,
+     * which is replaced with the whole registry again when its {@code appsHashCode} does not match the one
+     * of the Eureka server. This option is disabled by default.
+     *
+     * <p>Note that the delta can be fetched only when neither {@link #appName(String)},
+     * {@link #instanceId(String)}, {@link #vipAddress(String)} nor {@link #secureVipAddress(String)} is set,
+     * or {@link #regions(String...)} is set. Otherwise, this option is ignored.
+     */
+    public EurekaEndpointGroupBuilder useDeltaFetch(boolean useDeltaFetch) {
+        this.useDeltaFetch = useDeltaFetch;
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the metrics which count the full and delta registry fetches.
+     * The metrics are registered to the {@link ClientFactory#meterRegistry()} of the {@link ClientFactory}.
+     * If unspecified, {@value #DEFAULT_METER_ID_PREFIX} is used.
+     */
+    public EurekaEndpointGroupBuilder meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
     /**
      * Returns a newly-created {@link EurekaEndpointGroup} based on the properties set so far. Note that
      * if {@link RetryingClient} was not set using {@link #decorator(DecoratingHttpClientFunction)},
@@ -269,7 +299,8 @@ public final class EurekaEndpointGroupBuilder extends AbstractWebClientBuilder
         final long selectionTimeoutMillis = dynamicEndpointGroupBuilder.selectionTimeoutMillis();
         return new EurekaEndpointGroup(selectionStrategy, allowEmptyEndpoints, selectionTimeoutMillis,
                                        client, registryFetchIntervalMillis, appName,
-                                       instanceId, vipAddress, secureVipAddress, regions);
+                                       instanceId, vipAddress, secureVipAddress, regions,
+                                       useDeltaFetch, meterIdPrefix);
     }
 
     // Override the return type of the chaining methods in the superclass.
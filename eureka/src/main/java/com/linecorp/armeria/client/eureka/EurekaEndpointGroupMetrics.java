@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.eureka;
+
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The metrics of the registry fetches of an {@link EurekaEndpointGroup}.
+ *
+ * @see EurekaEndpointGroupBuilder#meterIdPrefix(MeterIdPrefix)
+ */
+final class EurekaEndpointGroupMetrics {
+
+    private final Counter fullFetches;
+    private final Counter deltaFetches;
+    private final Counter deltaMismatches;
+
+    EurekaEndpointGroupMetrics(MeterRegistry registry, MeterIdPrefix idPrefix) {
+        final String fetches = idPrefix.name("registry.fetches");
+        fullFetches = registry.counter(fetches, idPrefix.tags("type", "full"));
+        deltaFetches = registry.counter(fetches, idPrefix.tags("type", "delta"));
+        deltaMismatches = registry.counter(idPrefix.name("registry.delta.mismatches"), idPrefix.tags());
+    }
+
+    void onFullFetch() {
+        fullFetches.increment();
+    }
+
+    void onDeltaFetch() {
+        deltaFetches.increment();
+    }
+
+    void onDeltaMismatch() {
+        deltaMismatches.increment();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.eureka;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.eureka.InstanceInfo;
+
+/**
+ * The changes of the registry retrieved from the {@code /apps/delta} endpoint of Eureka.
+ */
+@JsonDeserialize(using = ApplicationsDeltaDeserializer.class)
+@JsonRootName("applications")
+public final class ApplicationsDelta {
+
+    @Nullable
+    private final String appsHashCode;
+
+    private final List<InstanceChange> changes;
+
+    ApplicationsDelta(@Nullable String appsHashCode, List<InstanceChange> changes) {
+        this.appsHashCode = appsHashCode;
+        this.changes = ImmutableList.copyOf(requireNonNull(changes, "changes"));
+    }
+
+    /**
+     * Returns the {@code appsHashCode} of the whole registry after the changes are applied.
+     */
+    @Nullable
+    public String appsHashCode() {
+        return appsHashCode;
+    }
+
+    /**
+     * Returns the {@link List} of {@link InstanceChange}s.
+     */
+    public List<InstanceChange> changes() {
+        return changes;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this).add("appsHashCode", appsHashCode)
+                                   .add("changes", changes)
+                                   .toString();
+    }
+
+    /**
+     * The type of the change of an {@link InstanceInfo}.
+     */
+    public enum ActionType {
+        ADDED,
+        MODIFIED,
+        DELETED
+    }
+
+    /**
+     * A change of an {@link InstanceInfo}.
+     */
+    public static final class InstanceChange {
+
+        private final ActionType actionType;
+        private final InstanceInfo instanceInfo;
+
+        InstanceChange(ActionType actionType, InstanceInfo instanceInfo) {
+            this.actionType = requireNonNull(actionType, "actionType");
+            this.instanceInfo = requireNonNull(instanceInfo, "instanceInfo");
+        }
+
+        /**
+         * Returns the {@link ActionType} of the change.
+         */
+        public ActionType actionType() {
+            return actionType;
+        }
+
+        /**
+         * Returns the {@link InstanceInfo} which was changed.
+         */
+        public InstanceInfo instanceInfo() {
+            return instanceInfo;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(this).add("actionType", actionType)
+                                       .add("instanceInfo", instanceInfo)
+                                       .toString();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.eureka;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import com.linecorp.armeria.common.eureka.InstanceInfo;
+import com.linecorp.armeria.internal.common.eureka.ApplicationsDelta.ActionType;
+import com.linecorp.armeria.internal.common.eureka.ApplicationsDelta.InstanceChange;
+
+final class ApplicationsDeltaDeserializer extends StdDeserializer<ApplicationsDelta> {
+
+    private static final long serialVersionUID = 3394518164306917458L;
+
+    private static final String INSTANCE = "instance";
+    private static final String ACTION_TYPE = "actionType";
+
+    private static final ObjectMapper mapper = new ObjectMapper().setSerializationInclusion(Include.NON_NULL);
+    private static final ObjectReader readerForInstanceInfo = mapper.readerFor(InstanceInfo.class);
+
+    ApplicationsDeltaDeserializer() {
+        super(ApplicationsDelta.class);
+    }
+
+    @Override
+    public ApplicationsDelta deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken jsonToken;
+        String appsHashCode = null;
+        final List<InstanceChange> changes = new ArrayList<>();
+        while ((jsonToken = p.nextToken()) != JsonToken.END_OBJECT) {
+            if (JsonToken.FIELD_NAME == jsonToken) {
+                final String fieldName = p.getCurrentName();
+                jsonToken = p.nextToken();
+
+                if (ApplicationsDeserializer.isAppsHashCode(fieldName)) {
+                    appsHashCode = p.getValueAsString();
+                } else if (ApplicationsDeserializer.APPLICATION.equals(fieldName)) {
+                    if (jsonToken == JsonToken.START_ARRAY) {
+                        while (p.nextToken() != JsonToken.END_ARRAY) {
+                            addChanges(mapper.readTree(p), changes);
+                        }
+                    } else if (jsonToken == JsonToken.START_OBJECT) {
+                        addChanges(mapper.readTree(p), changes);
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        return new ApplicationsDelta(appsHashCode, changes);
+    }
+
+    private static void addChanges(JsonNode application, List<InstanceChange> changes) throws IOException {
+        final JsonNode instances = application.path(INSTANCE);
+        if (instances.isArray()) {
+            for (JsonNode instance : instances) {
+                addChange(instance, changes);
+            }
+        } else if (instances.isObject()) {
+            addChange(instances, changes);
+        }
+    }
+
+    private static void addChange(JsonNode instance, List<InstanceChange> changes) throws IOException {
+        final ActionType actionType;
+        try {
+            actionType = ActionType.valueOf(instance.path(ACTION_TYPE).asText());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown actionType: " + instance.get(ACTION_TYPE), e);
+        }
+        changes.add(new InstanceChange(actionType, readerForInstanceInfo.readValue(instance)));
+    }
+}
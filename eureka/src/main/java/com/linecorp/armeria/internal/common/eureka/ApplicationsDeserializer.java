@@ -31,8 +31,10 @@ final class ApplicationsDeserializer extends StdDeserializer<Applications> {
 
     private static final long serialVersionUID = -2925089225769559114L;
 
-    private static final String APPS_HASHCODE = "apps_hashcode";
-    private static final String APPLICATION = "application";
+    // Eureka escapes '_' in the JSON field names.
+    private static final String APPS_HASHCODE = "apps__hashcode";
+    private static final String UNESCAPED_APPS_HASHCODE = "apps_hashcode";
+    static final String APPLICATION = "application";
 
     private static final ObjectReader readerForApplication =
             new ObjectMapper().setSerializationInclusion(Include.NON_NULL).readerFor(Application.class);
@@ -51,7 +53,7 @@ final class ApplicationsDeserializer extends StdDeserializer<Applications> {
                 final String fieldName = p.getCurrentName();
                 jsonToken = p.nextToken();
 
-                if (APPS_HASHCODE.equals(fieldName)) {
+                if (isAppsHashCode(fieldName)) {
                     appsHashCode = p.getValueAsString();
                 } else if (APPLICATION.equals(fieldName)) {
                     if (jsonToken == JsonToken.START_ARRAY) {
@@ -66,4 +68,8 @@ final class ApplicationsDeserializer extends StdDeserializer<Applications> {
         }
         return new Applications(appsHashCode, applications);
     }
+
+    static boolean isAppsHashCode(String fieldName) {
+        return APPS_HASHCODE.equals(fieldName) || UNESCAPED_APPS_HASHCODE.equals(fieldName);
+    }
 }
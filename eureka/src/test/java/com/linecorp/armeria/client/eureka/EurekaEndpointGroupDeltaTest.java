@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.eureka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.ActionType;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.converters.wrappers.CodecWrappers;
+import com.netflix.discovery.converters.wrappers.CodecWrappers.JacksonJson;
+import com.netflix.discovery.converters.wrappers.EncoderWrapper;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import com.netflix.discovery.util.InstanceInfoGenerator;
+
+import com.linecorp.armeria.client.ClientFactory;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EurekaEndpointGroupDeltaTest {
+
+    private static final EncoderWrapper encoder = CodecWrappers.getEncoder(JacksonJson.class);
+
+    private static final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private static final ClientFactory factory = ClientFactory.builder()
+                                                              .meterRegistry(meterRegistry)
+                                                              .build();
+
+    private static final AtomicInteger numFullFetches = new AtomicInteger();
+    private static final AtomicInteger numDeltaFetches = new AtomicInteger();
+
+    private static volatile byte[] registry = new byte[0];
+    private static volatile byte[] delta = new byte[0];
+
+    @RegisterExtension
+    static final ServerExtension eurekaServer = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.service("/apps", (ctx, req) -> {
+                numFullFetches.incrementAndGet();
+                return HttpResponse.of(HttpStatus.OK, MediaType.JSON_UTF_8, registry);
+            });
+            sb.service("/apps/delta", (ctx, req) -> {
+                numDeltaFetches.incrementAndGet();
+                return HttpResponse.of(HttpStatus.OK, MediaType.JSON_UTF_8, delta);
+            });
+        }
+    };
+
+    @AfterAll
+    static void closeFactory() {
+        factory.close();
+    }
+
+    @Test
+    void applyDeltaToSnapshot() throws Exception {
+        final Applications apps = InstanceInfoGenerator.newBuilder(6, 2).build().toApplications();
+        registry = encode(apps, apps.getReconcileHashCode());
+        delta = encode(new Applications(), apps.getReconcileHashCode());
+
+        try (EurekaEndpointGroup endpointGroup = EurekaEndpointGroup.builder(eurekaServer.httpUri())
+                                                                    .factory(factory)
+                                                                    .useDeltaFetch(true)
+                                                                    .registryFetchIntervalMillis(100)
+                                                                    .build()) {
+            assertThat(endpointGroup.whenReady().join()).hasSize(6);
+            await().untilAsserted(() -> assertThat(numDeltaFetches).hasValueGreaterThan(1));
+            assertThat(numFullFetches).hasValue(1);
+
+            // Mark an instance as DOWN and add a new instance.
+            final Application app = apps.getRegisteredApplications().get(0);
+            final InstanceInfo down = new InstanceInfo(app.getInstances().get(0));
+            down.setStatusWithoutDirty(InstanceStatus.DOWN);
+            down.setActionType(ActionType.MODIFIED);
+            final InstanceInfo added = new InstanceInfo.Builder(app.getInstances().get(1))
+                    .setAppName("NEW_APPLICATION")
+                    .setInstanceId("i-new")
+                    .setHostName("new.example.com")
+                    .build();
+            added.setActionType(ActionType.ADDED);
+            app.addInstance(down);
+            apps.addApplication(new Application(added.getAppName()));
+            apps.getRegisteredApplications(added.getAppName()).addInstance(added);
+
+            final Applications changes = new Applications();
+            final Application changedApp = new Application(app.getName());
+            changedApp.addInstance(down);
+            changes.addApplication(changedApp);
+            final Application addedApp = new Application(added.getAppName());
+            addedApp.addInstance(added);
+            changes.addApplication(addedApp);
+            registry = encode(apps, apps.getReconcileHashCode());
+            delta = encode(changes, apps.getReconcileHashCode());
+
+            // 6 - 1 (DOWN) + 1 (ADDED)
+            await().untilAsserted(() -> assertThat(endpointGroup.endpoints())
+                    .hasSize(6)
+                    .noneMatch(endpoint -> endpoint.host().equals(down.getHostName()) &&
+                                           endpoint.port() == down.getPort())
+                    .anyMatch(endpoint -> endpoint.host().equals(added.getHostName())));
+            assertThat(numFullFetches).hasValue(1);
+            assertThat(MoreMeters.measureAll(meterRegistry))
+                    .containsEntry("armeria.client.eureka.registry.fetches#count{type=full}", 1.0)
+                    .hasEntrySatisfying("armeria.client.eureka.registry.fetches#count{type=delta}",
+                                        count -> assertThat(count).isGreaterThan(1.0));
+        }
+    }
+
+    @Test
+    void fullFetchOnMismatch() throws Exception {
+        final Applications apps = InstanceInfoGenerator.newBuilder(4, 1).build().toApplications();
+        registry = encode(apps, apps.getReconcileHashCode());
+        // The delta does not contain the changes which make the hash code.
+        delta = encode(new Applications(), "UP_5_");
+        final int numFullFetchesBefore = numFullFetches.get();
+
+        try (EurekaEndpointGroup endpointGroup = EurekaEndpointGroup.builder(eurekaServer.httpUri())
+                                                                    .factory(factory)
+                                                                    .useDeltaFetch(true)
+                                                                    .registryFetchIntervalMillis(100)
+                                                                    .build()) {
+            assertThat(endpointGroup.whenReady().join()).hasSize(4);
+            await().untilAsserted(() -> assertThat(numFullFetches.get() - numFullFetchesBefore)
+                    .isGreaterThan(2));
+            assertThat(MoreMeters.measureAll(meterRegistry))
+                    .hasEntrySatisfying("armeria.client.eureka.registry.delta.mismatches#count",
+                                        count -> assertThat(count).isGreaterThan(1.0));
+        }
+    }
+
+    @Test
+    void deltaIsNotUsedForVipAddress() {
+        try (EurekaEndpointGroup endpointGroup = EurekaEndpointGroup.builder(eurekaServer.httpUri())
+                                                                    .factory(factory)
+                                                                    .vipAddress("my-vip")
+                                                                    .useDeltaFetch(true)
+                                                                    .build()) {
+            assertThat(endpointGroup.toString()).contains("/vips/my-vip").doesNotContain("/delta");
+        }
+    }
+
+    private static byte[] encode(Applications apps, String appsHashCode) throws IOException {
+        apps.setAppsHashCode(appsHashCode);
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        encoder.encode(apps, bos);
+        return bos.toByteArray();
+    }
+}
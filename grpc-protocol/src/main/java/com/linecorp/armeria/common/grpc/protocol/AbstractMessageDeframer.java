@@ -23,8 +23,10 @@ import java.io.InputStream;
 import com.google.common.annotations.VisibleForTesting;
 
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.stream.StreamDecoderInput;
 import com.linecorp.armeria.internal.common.grpc.protocol.StatusCodes;
+import com.linecorp.armeria.internal.common.stream.ByteBufsDecoderInput;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
@@ -54,6 +56,7 @@ public abstract class AbstractMessageDeframer {
 
     @Nullable
     private Decompressor decompressor;
+    private boolean composeMessageBuffers;
 
     /**
      * Creates a new instance with the specified {@code maxMessageLength}.
@@ -104,6 +107,8 @@ public abstract class AbstractMessageDeframer {
         final ByteBuf buf;
         if (requiredLength == 0) {
             buf = Unpooled.EMPTY_BUFFER;
+        } else if (composeMessageBuffers && in instanceof ByteBufsDecoderInput) {
+            buf = ((ByteBufsDecoderInput) in).readRetainedSlices(requiredLength);
         } else {
             buf = in.readBytes(requiredLength);
         }
@@ -147,6 +152,19 @@ public abstract class AbstractMessageDeframer {
         return this;
     }
 
+    /**
+     * Sets whether to compose the body of a message which spans multiple {@link ByteBuf}s from the retained
+     * slices of the {@link ByteBuf}s instead of copying it into a new {@link ByteBuf}. The composed
+     * {@link ByteBuf} keeps all the received {@link ByteBuf}s that the message spans alive until it is
+     * released, so this is useful only when the message is parsed from {@link ByteBuf#nioBuffers()}
+     * without a copy. This option is disabled by default.
+     */
+    @UnstableApi
+    protected AbstractMessageDeframer composeMessageBuffers(boolean composeMessageBuffers) {
+        this.composeMessageBuffers = composeMessageBuffers;
+        return this;
+    }
+
     /**
      * An {@link InputStream} that enforces the {@link #maxMessageSize} limit for compressed frames.
      */
@@ -130,4 +130,11 @@ public class ArmeriaMessageDeframer extends AbstractMessageDeframer implements H
                    "Deframing has already started, cannot change decompressor mid-stream.");
         return (ArmeriaMessageDeframer) super.decompressor(decompressor);
     }
+
+    @Override
+    public ArmeriaMessageDeframer composeMessageBuffers(boolean composeMessageBuffers) {
+        checkState(!startedDeframing,
+                   "Deframing has already started, cannot change composeMessageBuffers mid-stream.");
+        return (ArmeriaMessageDeframer) super.composeMessageBuffers(composeMessageBuffers);
+    }
 }
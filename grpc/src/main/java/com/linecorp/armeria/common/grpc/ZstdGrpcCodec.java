@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.grpc;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.internal.common.encoding.ZstdAvailability;
+
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+
+/**
+ * A {@link Codec} that compresses and decompresses gRPC messages with
+ * <a href="https://datatracker.ietf.org/doc/html/rfc8878">Zstandard</a> ({@code "zstd"}).
+ * Note that {@code com.github.luben:zstd-jni} must be in the class path.
+ *
+ * <p>Register it to a {@link CompressorRegistry} and a {@link DecompressorRegistry} to use it. For example:
+ * <pre>{@code
+ * ZstdGrpcCodec codec = ZstdGrpcCodec.of();
+ * CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+ * compressorRegistry.register(codec);
+ * DecompressorRegistry decompressorRegistry =
+ *         DecompressorRegistry.getDefaultInstance().with(codec, true);
+ *
+ * GrpcService.builder()
+ *            .compressorRegistry(compressorRegistry)
+ *            .decompressorRegistry(decompressorRegistry)
+ *            ...
+ *
+ * GrpcClients.builder(uri)
+ *            .compressor(codec)
+ *            .decompressorRegistry(decompressorRegistry)
+ *            ...
+ * }</pre>
+ */
+@UnstableApi
+public final class ZstdGrpcCodec implements Codec {
+
+    /**
+     * Returns the {@link ZstdGrpcCodec} which uses the default compression level, {@code 3}.
+     */
+    public static ZstdGrpcCodec of() {
+        return DefaultInstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Returns a new {@link ZstdGrpcCodec} which uses the specified compression level.
+     *
+     * @param level the compression level from {@code -131072} to {@code 22}. A negative level trades
+     *              the compression ratio for speed.
+     */
+    public static ZstdGrpcCodec of(int level) {
+        return new ZstdGrpcCodec(level, null);
+    }
+
+    /**
+     * Returns a new {@link ZstdGrpcCodec} which uses the specified compression level and
+     * pre-trained dictionary. Both peers must use the same dictionary.
+     *
+     * @param level the compression level from {@code -131072} to {@code 22}. A negative level trades
+     *              the compression ratio for speed.
+     * @param dictionary the dictionary trained with {@code zstd --train} or {@code ZstdDictTrainer}
+     */
+    public static ZstdGrpcCodec of(int level, byte[] dictionary) {
+        return new ZstdGrpcCodec(level, requireNonNull(dictionary, "dictionary"));
+    }
+
+    private final int level;
+    @Nullable
+    private final ZstdDictCompress compressDictionary;
+    @Nullable
+    private final ZstdDictDecompress decompressDictionary;
+
+    private ZstdGrpcCodec(int level, @Nullable byte[] dictionary) {
+        ZstdAvailability.validateLevel(level);
+        ZstdAvailability.ensureAvailable();
+        this.level = level;
+        if (dictionary != null) {
+            compressDictionary = new ZstdDictCompress(dictionary, level);
+            decompressDictionary = new ZstdDictDecompress(dictionary);
+        } else {
+            compressDictionary = null;
+            decompressDictionary = null;
+        }
+    }
+
+    @Override
+    public String getMessageEncoding() {
+        return "zstd";
+    }
+
+    @Override
+    public OutputStream compress(OutputStream os) throws IOException {
+        // A compressing stream is always closed after writing a message, so the buffers are recycled soon.
+        final ZstdOutputStream out = new ZstdOutputStream(os, RecyclingBufferPool.INSTANCE);
+        out.setLevel(level);
+        if (compressDictionary != null) {
+            out.setDict(compressDictionary);
+        }
+        return out;
+    }
+
+    @Override
+    public InputStream decompress(InputStream is) throws IOException {
+        final ZstdInputStream in = new ZstdInputStream(is, RecyclingBufferPool.INSTANCE);
+        if (decompressDictionary != null) {
+            in.setDict(decompressDictionary);
+        }
+        return in;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("level", level)
+                          .add("dictionary", compressDictionary != null)
+                          .toString();
+    }
+
+    // Lazily initialized so that the native library is loaded only when the default codec is used.
+    private static final class DefaultInstanceHolder {
+        static final ZstdGrpcCodec INSTANCE = new ZstdGrpcCodec(ZstdAvailability.DEFAULT_LEVEL, null);
+    }
+}
@@ -250,7 +250,9 @@ final class ArmeriaClientCall<I, O> extends ClientCall<I, O>
 
         final HttpStreamDeframer deframer = new HttpStreamDeframer(
                 decompressorRegistry, ctx, this, exceptionHandler,
-                maxInboundMessageSizeBytes, grpcWebText, false);
+                maxInboundMessageSizeBytes, grpcWebText, false)
+                // The composed buffer is released by GrpcUnsafeBufferUtil.releaseBuffer().
+                .composeMessageBuffers(unsafeWrapResponseBuffers && !grpcWebText);
         final StreamMessage<DeframedMessage> deframed = res.decode(deframer, ctx.alloc());
         deframer.setDeframedStreamMessage(deframed);
 
@@ -21,8 +21,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import com.google.common.io.ByteStreams;
+import com.google.protobuf.ByteString;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
@@ -262,13 +267,7 @@ public final class GrpcMessageMarshaller<I, O> {
                 if (useMethodMarshaller) {
                     msg = (Message) marshaller.parse(new ByteBufInputStream(buf));
                 } else {
-                    final CodedInputStream stream;
-                    if (unsafeWrapDeserializedBuffer) {
-                        stream = UnsafeByteOperations.unsafeWrap(buf.nioBuffer()).newCodedInput();
-                        stream.enableAliasing(true);
-                    } else {
-                        stream = CodedInputStream.newInstance(buf.nioBuffer());
-                    }
+                    final CodedInputStream stream = newCodedInput(buf);
                     msg = prototype.getParserForType().parseFrom(stream);
                     try {
                         stream.checkLastTagWas(0);
@@ -290,6 +289,33 @@ public final class GrpcMessageMarshaller<I, O> {
         }
     }
 
+    private CodedInputStream newCodedInput(ByteBuf buf) {
+        if (buf.nioBufferCount() <= 1) {
+            if (unsafeWrapDeserializedBuffer) {
+                final CodedInputStream stream =
+                        UnsafeByteOperations.unsafeWrap(buf.nioBuffer()).newCodedInput();
+                stream.enableAliasing(true);
+                return stream;
+            }
+            return CodedInputStream.newInstance(buf.nioBuffer());
+        }
+
+        // A message composed of multiple buffers. Parse the message from each buffer directly
+        // instead of merging them into a new buffer with ByteBuf.nioBuffer().
+        final ByteBuffer[] nioBuffers = buf.nioBuffers();
+        if (unsafeWrapDeserializedBuffer) {
+            final List<ByteString> wrapped = new ArrayList<>(nioBuffers.length);
+            for (ByteBuffer nioBuffer : nioBuffers) {
+                wrapped.add(UnsafeByteOperations.unsafeWrap(nioBuffer));
+            }
+            // The CodedInputStream of a rope ByteString aliases the 'bytes' fields within a single buffer.
+            final CodedInputStream stream = ByteString.copyFrom(wrapped).newCodedInput();
+            stream.enableAliasing(true);
+            return stream;
+        }
+        return CodedInputStream.newInstance(Arrays.asList(nioBuffers));
+    }
+
     private static MessageType marshallerType(Marshaller<?> marshaller) {
         return marshaller instanceof PrototypeMarshaller ? MessageType.PROTOBUF : MessageType.UNKNOWN;
     }
@@ -166,4 +166,9 @@ public final class HttpStreamDeframer extends ArmeriaMessageDeframer {
     public HttpStreamDeframer decompressor(@Nullable Decompressor decompressor) {
         return (HttpStreamDeframer) super.decompressor(decompressor);
     }
+
+    @Override
+    public HttpStreamDeframer composeMessageBuffers(boolean composeMessageBuffers) {
+        return (HttpStreamDeframer) super.composeMessageBuffers(composeMessageBuffers);
+    }
 }
@@ -101,7 +101,9 @@ final class StreamingServerCall<I, O> extends AbstractServerCall<I, O>
         final HttpStreamDeframer requestDeframer =
                 new HttpStreamDeframer(decompressorRegistry, ctx, this,
                                        exceptionHandler, maxRequestMessageLength, grpcWebText, true)
-                        .decompressor(clientDecompressor(clientHeaders, decompressorRegistry));
+                        .decompressor(clientDecompressor(clientHeaders, decompressorRegistry))
+                        // The composed buffer is released by GrpcUnsafeBufferUtil.releaseBuffer().
+                        .composeMessageBuffers(unsafeWrapRequestBuffers && !grpcWebText);
         deframedRequest = req.decode(requestDeframer, alloc);
         requestDeframer.setDeframedStreamMessage(deframedRequest);
         this.res = requireNonNull(res, "res");
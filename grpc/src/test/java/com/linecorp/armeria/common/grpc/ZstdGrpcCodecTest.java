@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+
+class ZstdGrpcCodecTest {
+
+    private static final byte[] MESSAGE =
+            Strings.repeat("{\"id\":1,\"name\":\"armeria\"}", 64).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void roundTrip() throws Exception {
+        final ZstdGrpcCodec codec = ZstdGrpcCodec.of();
+        assertThat(codec.getMessageEncoding()).isEqualTo("zstd");
+
+        final byte[] compressed = compress(codec, MESSAGE);
+        assertThat(compressed.length).isLessThan(MESSAGE.length);
+        assertThat(decompress(codec, compressed)).isEqualTo(MESSAGE);
+    }
+
+    @Test
+    void roundTripWithDictionary() throws Exception {
+        final byte[] dictionary = Strings.repeat("{\"id\":1,\"name\":\"armeria\"}", 4)
+                                         .getBytes(StandardCharsets.UTF_8);
+        final ZstdGrpcCodec codec = ZstdGrpcCodec.of(19, dictionary);
+        final byte[] compressed = compress(codec, MESSAGE);
+        assertThat(compressed.length).isLessThan(compress(ZstdGrpcCodec.of(19), MESSAGE).length);
+        assertThat(decompress(codec, compressed)).isEqualTo(MESSAGE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -(1 << 17), -1, 0, 22 })
+    void validLevels(int level) throws Exception {
+        final ZstdGrpcCodec codec = ZstdGrpcCodec.of(level);
+        assertThat(decompress(codec, compress(codec, MESSAGE))).isEqualTo(MESSAGE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -(1 << 17) - 1, 23 })
+    void invalidLevels(int level) {
+        assertThatThrownBy(() -> ZstdGrpcCodec.of(level))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("level: " + level);
+        assertThatThrownBy(() -> ZstdGrpcCodec.of(level, new byte[16]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] compress(ZstdGrpcCodec codec, byte[] data) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream os = codec.compress(out)) {
+            os.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(ZstdGrpcCodec codec, byte[] data) throws Exception {
+        try (InputStream is = codec.decompress(new ByteArrayInputStream(data))) {
+            return ByteStreams.toByteArray(is);
+        }
+    }
+}
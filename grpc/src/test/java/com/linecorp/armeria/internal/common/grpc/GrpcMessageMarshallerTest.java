@@ -19,13 +19,18 @@ package com.linecorp.armeria.internal.common.grpc;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import org.curioswitch.common.protobuf.json.MessageMarshaller;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.google.common.primitives.Bytes;
+import com.google.protobuf.ByteString;
+
 import com.linecorp.armeria.common.grpc.GrpcJsonMarshaller;
 import com.linecorp.armeria.common.grpc.GrpcSerializationFormats;
 import com.linecorp.armeria.common.grpc.protocol.DeframedMessage;
@@ -33,6 +38,9 @@ import com.linecorp.armeria.common.grpc.protocol.DeframedMessage;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import testing.grpc.Messages.Payload;
 import testing.grpc.Messages.SimpleRequest;
 import testing.grpc.Messages.SimpleResponse;
 import testing.grpc.TestServiceGrpc;
@@ -122,6 +130,49 @@ class GrpcMessageMarshallerTest {
         buf.release();
     }
 
+    @ParameterizedTest
+    @CsvSource({ "true", "false" })
+    void deserializeRequest_compositeByteBuf(boolean unsafeWrapDeserializedBuffer) throws Exception {
+        final GrpcMessageMarshaller<SimpleRequest, SimpleResponse> marshaller =
+                new GrpcMessageMarshaller<>(ByteBufAllocator.DEFAULT,
+                                            GrpcSerializationFormats.PROTO,
+                                            TestServiceGrpc.getUnaryCallMethod(),
+                                            null,
+                                            unsafeWrapDeserializedBuffer,
+                                            false);
+        final byte[] body = new byte[65536];
+        Arrays.fill(body, (byte) 'a');
+        final SimpleRequest message =
+                GrpcTestUtil.REQUEST_MESSAGE.toBuilder()
+                                            .setPayload(Payload.newBuilder()
+                                                               .setBody(ByteString.copyFrom(body)))
+                                            .build();
+        final byte[] serialized = message.toByteArray();
+        final int bodyOffset = Bytes.indexOf(serialized, body);
+
+        // Split the message so that the body is in its own component.
+        final ByteBuf bodyBuf = Unpooled.directBuffer(body.length).writeBytes(body);
+        final CompositeByteBuf buf = Unpooled.compositeBuffer();
+        buf.addComponent(true, Unpooled.directBuffer().writeBytes(serialized, 0, bodyOffset));
+        buf.addComponent(true, bodyBuf);
+        final int bodyEnd = bodyOffset + body.length;
+        buf.addComponent(true, Unpooled.directBuffer().writeBytes(serialized, bodyEnd,
+                                                                  serialized.length - bodyEnd));
+        assertThat(buf.nioBufferCount()).isEqualTo(3);
+
+        final SimpleRequest request = marshaller.deserializeRequest(new DeframedMessage(buf, 0), false);
+        assertThat(request).isEqualTo(message);
+        if (unsafeWrapDeserializedBuffer) {
+            // The body should be aliased to the buffer.
+            bodyBuf.setByte(0, 'b');
+            assertThat(request.getPayload().getBody().byteAt(0)).isEqualTo((byte) 'b');
+            assertThat(buf.refCnt()).isEqualTo(1);
+            buf.release();
+        } else {
+            assertThat(buf.refCnt()).isEqualTo(0);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource({"messageMarshallerArgs", "messageMarshallerArgsWithMethodMarshaller"})
     void deserializeRequest_stream(GrpcMessageMarshaller<SimpleRequest, SimpleResponse> marshaller)
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 LY Corporation
+ *
+ * LY Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.server.jsonrpc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseWriter;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcError;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcMessage;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcRequest;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcResponse;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcStreamableResponse;
+import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.common.util.UnmodifiableFuture;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.channel.EventLoop;
+
+/**
+ * Dispatches the requests in a JSON-RPC batch concurrently and streams the response array as
+ * the responses complete.
+ *
+ * <p>The order of the responses in the array is not significant in JSON-RPC 2.0 because a client matches
+ * a response with its request by the {@code id}. So a response is written as soon as it completes unless
+ * {@link JsonRpcServiceBuilder#preserveBatchResponseOrder(boolean)} is enabled, in which case a response
+ * is held back until all responses of the preceding requests are written.
+ *
+ * <p>The response headers are sent with the first successful response, so that the status of a batch
+ * whose requests all failed is determined by the {@link JsonRpcStatusFunction} as for a single request.
+ * If the failed requests are mapped to different statuses, {@code 200 OK} is used.
+ *
+ * <p>All states are accessed only by the event loop of the {@link ServiceRequestContext}.
+ */
+final class JsonRpcBatch {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcBatch.class);
+
+    private final JsonRpcService service;
+    private final ObjectMapper mapper;
+    private final JsonRpcStatusFunction statusFunction;
+    private final ServiceRequestContext ctx;
+    private final EventLoop eventLoop;
+    private final int maxConcurrency;
+    private final boolean preserveOrder;
+    private final HttpResponseWriter writer = HttpResponse.streaming();
+
+    // null if the element is not a valid JSON-RPC message.
+    private final JsonRpcMessage[] messages;
+    // Non-null only if preserveOrder is true.
+    @Nullable
+    private final JsonRpcResponse[] pendingResponses;
+    @Nullable
+    private final boolean[] completed;
+    private final List<JsonRpcResponse> writtenResponses = new ArrayList<>();
+    // The serialized error responses which are held until the status of the batch is determined.
+    private final List<byte[]> heldResponses = new ArrayList<>();
+    @Nullable
+    private HttpStatus heldStatus;
+
+    private int nextDispatchIndex;
+    private int nextWriteIndex;
+    private int numInFlight;
+    private int numCompleted;
+    private int numWrittenChunks;
+    private boolean headersWritten;
+
+    JsonRpcBatch(JsonRpcService service, ObjectMapper mapper, JsonRpcStatusFunction statusFunction,
+                 ServiceRequestContext ctx, JsonNode batch, int maxConcurrency, boolean preserveOrder) {
+        this.service = service;
+        this.mapper = mapper;
+        this.statusFunction = statusFunction;
+        this.ctx = ctx;
+        eventLoop = ctx.eventLoop();
+        this.maxConcurrency = maxConcurrency;
+        this.preserveOrder = preserveOrder;
+
+        final int size = batch.size();
+        messages = new JsonRpcMessage[size];
+        for (int i = 0; i < size; i++) {
+            final JsonNode node = batch.get(i);
+            if (!node.isObject()) {
+                continue;
+            }
+            try {
+                messages[i] = JsonRpcService.parseNodeAsRpcMessage(node);
+            } catch (Exception e) {
+                logger.trace("Failed to parse a JSON-RPC message in a batch: {}", node, e);
+            }
+        }
+        ctx.logBuilder().requestContent(Arrays.asList(messages), batch);
+
+        if (preserveOrder) {
+            pendingResponses = new JsonRpcResponse[size];
+            completed = new boolean[size];
+        } else {
+            pendingResponses = null;
+            completed = null;
+        }
+    }
+
+    HttpResponse start() {
+        if (eventLoop.inEventLoop()) {
+            dispatch();
+        } else {
+            eventLoop.execute(this::dispatch);
+        }
+        return writer;
+    }
+
+    private void dispatch() {
+        while (numInFlight < maxConcurrency && nextDispatchIndex < messages.length) {
+            if (!writer.isOpen()) {
+                // The client went away. Do not invoke the remaining requests.
+                return;
+            }
+
+            final int index = nextDispatchIndex++;
+            final JsonRpcMessage message = messages[index];
+            if (message == null) {
+                // Each invalid element results in its own error response with a null id.
+                onResponse(index, null, JsonRpcResponse.ofFailure(JsonRpcError.INVALID_REQUEST));
+                continue;
+            }
+
+            numInFlight++;
+            CompletableFuture<@Nullable JsonRpcResponse> future;
+            try {
+                future = service.invoke(ctx, message);
+            } catch (Throwable cause) {
+                future = UnmodifiableFuture.exceptionallyCompletedFuture(cause);
+            }
+            future.handleAsync((response, cause) -> {
+                numInFlight--;
+                if (cause != null) {
+                    response = service.handleException(ctx, cause, message);
+                }
+                onResponse(index, message, response);
+                dispatch();
+                return null;
+            }, eventLoop);
+        }
+    }
+
+    private void onResponse(int index, @Nullable JsonRpcMessage message, @Nullable JsonRpcResponse response) {
+        if (response instanceof JsonRpcStreamableResponse) {
+            ((JsonRpcStreamableResponse) response).abort();
+            response = JsonRpcResponse.ofFailure(JsonRpcError.INTERNAL_ERROR.withData(
+                    "A streamable response is not supported in a batch request."));
+        }
+        if (response != null && response.id() == null && message instanceof JsonRpcRequest) {
+            response = response.withId(((JsonRpcRequest) message).id());
+        }
+
+        numCompleted++;
+        if (preserveOrder) {
+            assert pendingResponses != null;
+            assert completed != null;
+            pendingResponses[index] = response;
+            completed[index] = true;
+            while (nextWriteIndex < messages.length && completed[nextWriteIndex]) {
+                write(messages[nextWriteIndex], pendingResponses[nextWriteIndex]);
+                pendingResponses[nextWriteIndex++] = null;
+            }
+        } else {
+            write(message, response);
+        }
+
+        if (numCompleted == messages.length) {
+            finish();
+        }
+    }
+
+    private void write(@Nullable JsonRpcMessage message, @Nullable JsonRpcResponse response) {
+        if (response == null) {
+            // A notification or a response does not expect any response.
+            return;
+        }
+
+        byte[] json;
+        try {
+            json = mapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            final JsonRpcError error = JsonRpcError.INTERNAL_ERROR.withData(
+                    "Failed to serialize a JSON-RPC response: " + Exceptions.peel(e).getMessage());
+            response = response.id() != null ? JsonRpcResponse.ofFailure(response.id(), error)
+                                              : JsonRpcResponse.ofFailure(error);
+            try {
+                json = mapper.writeValueAsBytes(response);
+            } catch (JsonProcessingException unexpected) {
+                throw new IllegalStateException(unexpected);
+            }
+        }
+        writtenResponses.add(response);
+
+        if (headersWritten) {
+            writeResponse(json);
+            return;
+        }
+        if (response.isSuccess()) {
+            writeHeaders(HttpStatus.OK);
+            writeResponse(json);
+            return;
+        }
+
+        final HttpStatus status = errorStatus(message, response);
+        if (heldResponses.isEmpty()) {
+            heldStatus = status;
+        } else if (heldStatus != status) {
+            // The failed requests do not agree on a status.
+            heldStatus = HttpStatus.OK;
+        }
+        heldResponses.add(json);
+    }
+
+    private HttpStatus errorStatus(@Nullable JsonRpcMessage message, JsonRpcResponse response) {
+        if (!(message instanceof JsonRpcRequest)) {
+            // An invalid element of the batch.
+            return HttpStatus.BAD_REQUEST;
+        }
+        final JsonRpcError error = response.error();
+        assert error != null;
+        final HttpStatus status = statusFunction.toHttpStatus(ctx, (JsonRpcRequest) message, response, error);
+        assert status != null;
+        return status;
+    }
+
+    private void writeHeaders(HttpStatus status) {
+        headersWritten = true;
+        writer.tryWrite(ResponseHeaders.of(status, HttpHeaderNames.CONTENT_TYPE, MediaType.JSON_UTF_8));
+        for (byte[] json : heldResponses) {
+            writeResponse(json);
+        }
+        heldResponses.clear();
+    }
+
+    private void writeResponse(byte[] json) {
+        final byte[] chunk = new byte[json.length + 1];
+        chunk[0] = (byte) (numWrittenChunks++ == 0 ? '[' : ',');
+        System.arraycopy(json, 0, chunk, 1, json.length);
+        writer.tryWrite(HttpData.wrap(chunk));
+    }
+
+    private void finish() {
+        ctx.logBuilder().responseContent(writtenResponses, null);
+        if (!headersWritten && !heldResponses.isEmpty()) {
+            // All requests failed.
+            assert heldStatus != null;
+            writeHeaders(heldStatus);
+        }
+        if (headersWritten) {
+            writer.tryWrite(HttpData.ofUtf8("]"));
+        } else {
+            // All requests were notifications. Respond as for a single notification.
+            writer.tryWrite(ResponseHeaders.of(HttpStatus.ACCEPTED));
+        }
+        writer.close();
+    }
+}
@@ -103,17 +103,24 @@ public final class JsonRpcService implements HttpService {
     private final JsonRpcExceptionHandler exceptionHandler;
     private final JsonRpcStatusFunction statusFunction;
     private final boolean enableServerSentEvents;
+    private final int maxBatchSize;
+    private final int maxBatchConcurrency;
+    private final boolean preserveBatchResponseOrder;
 
     JsonRpcService(Map<String, JsonRpcMethodHandler> methodHandlers, JsonRpcHandler defaultHandler,
                    @Nullable HttpService fallbackService, JsonRpcExceptionHandler exceptionHandler,
                    JsonRpcStatusFunction statusFunction,
-                   boolean enableServerSentEvents) {
+                   boolean enableServerSentEvents, int maxBatchSize, int maxBatchConcurrency,
+                   boolean preserveBatchResponseOrder) {
         this.methodHandlers = methodHandlers;
         this.defaultHandler = defaultHandler;
         this.fallbackService = fallbackService;
         this.exceptionHandler = exceptionHandler;
         this.statusFunction = statusFunction;
         this.enableServerSentEvents = enableServerSentEvents;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchConcurrency = maxBatchConcurrency;
+        this.preserveBatchResponseOrder = preserveBatchResponseOrder;
     }
 
     // TODO(ikhoon): Override ServiceOptions method to disable request timeout and max request length for SSE.
@@ -150,6 +157,9 @@ public final class JsonRpcService implements HttpService {
                 } catch (IOException e) {
                     throw new JsonRpcParseException(e);
                 }
+                if (json.isArray() && json.size() > 0 && json.size() <= maxBatchSize) {
+                    return UnmodifiableFuture.completedFuture(dispatchBatchRequest(ctx, json));
+                }
                 return dispatchRequest(ctx, json).handle((rpcResponse, cause) -> {
                     final JsonRpcMessage message = ctx.attr(REQUEST_KEY);
                     if (cause != null) {
@@ -165,8 +175,8 @@ public final class JsonRpcService implements HttpService {
         }));
     }
 
-    private JsonRpcResponse handleException(ServiceRequestContext ctx, Throwable cause,
-                                            @Nullable JsonRpcMessage message) {
+    JsonRpcResponse handleException(ServiceRequestContext ctx, Throwable cause,
+                                    @Nullable JsonRpcMessage message) {
         cause = Exceptions.peel(cause);
         JsonRpcResponse recovered = exceptionHandler.handleException(ctx, message, cause);
         assert recovered != null;
@@ -260,11 +270,25 @@ public final class JsonRpcService implements HttpService {
     CompletableFuture<@Nullable JsonRpcResponse> dispatchRequest(ServiceRequestContext ctx, JsonNode jsonNode) {
         if (jsonNode.isObject()) {
             return handleUnaryRequest(ctx, jsonNode);
+        }
+
+        final String data;
+        if (!jsonNode.isArray()) {
+            data = "A JSON-RPC request must be an object or an array.";
+        } else if (jsonNode.size() == 0) {
+            data = "A batch request must not be empty.";
         } else {
-            // TODO(ikhoon): Implement batch request handling.
-            return UnmodifiableFuture.completedFuture(JsonRpcResponse.ofFailure(
-                    JsonRpcError.INVALID_REQUEST.withData("Batch requests are not supported by this server.")));
+            data = "The number of requests in a batch exceeds the limit: " + jsonNode.size() +
+                   " (expected: <= " + maxBatchSize + ')';
         }
+        return UnmodifiableFuture.completedFuture(
+                JsonRpcResponse.ofFailure(JsonRpcError.INVALID_REQUEST.withData(data)));
+    }
+
+    private HttpResponse dispatchBatchRequest(ServiceRequestContext ctx, JsonNode batch) {
+        final JsonRpcBatch rpcBatch = new JsonRpcBatch(this, mapper, statusFunction, ctx, batch,
+                                                       maxBatchConcurrency, preserveBatchResponseOrder);
+        return rpcBatch.start();
     }
 
     private CompletableFuture<@Nullable JsonRpcResponse> handleUnaryRequest(ServiceRequestContext ctx,
@@ -272,7 +296,14 @@ public final class JsonRpcService implements HttpService {
         final JsonRpcMessage message = parseNodeAsRpcMessage(unary);
         ctx.setAttr(REQUEST_KEY, message);
         ctx.logBuilder().requestContent(message, unary);
+        return invoke(ctx, message);
+    }
 
+    /**
+     * Invokes the handler of the specified {@link JsonRpcMessage}. The returned future is completed with
+     * {@code null} if the {@link JsonRpcMessage} does not expect any response.
+     */
+    CompletableFuture<@Nullable JsonRpcResponse> invoke(ServiceRequestContext ctx, JsonRpcMessage message) {
         final CompletableFuture<?> future = invokeMethod(ctx, message);
         requireNonNull(future, "A JSON-RPC handler returned null");
         return future.thenApply(res -> {
@@ -295,7 +326,7 @@ public final class JsonRpcService implements HttpService {
         });
     }
 
-    private static JsonRpcMessage parseNodeAsRpcMessage(JsonNode node) {
+    static JsonRpcMessage parseNodeAsRpcMessage(JsonNode node) {
         if (node.has("method") && node.has("id")) {
             return JsonRpcRequest.fromJson(node);
         }
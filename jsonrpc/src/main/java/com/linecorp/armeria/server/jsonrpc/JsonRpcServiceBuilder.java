@@ -31,6 +31,9 @@ import com.linecorp.armeria.server.HttpService;
 @UnstableApi
 public final class JsonRpcServiceBuilder {
 
+    static final int DEFAULT_MAX_BATCH_SIZE = 128;
+    static final int DEFAULT_MAX_BATCH_CONCURRENCY = 16;
+
     private final ImmutableMap.Builder<String, JsonRpcMethodHandler> methodHandlers = ImmutableMap.builder();
     private JsonRpcHandler defaultHandler = JsonRpcHandler.ofFallback();
     @Nullable
@@ -40,6 +43,9 @@ public final class JsonRpcServiceBuilder {
     @Nullable
     private JsonRpcStatusFunction statusFunction;
     private boolean enableServerSentEvents;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private int maxBatchConcurrency = DEFAULT_MAX_BATCH_CONCURRENCY;
+    private boolean preserveBatchResponseOrder;
 
     JsonRpcServiceBuilder() {}
 
@@ -139,6 +145,41 @@ public final class JsonRpcServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets the maximum number of the requests in a batch request. A batch request with more requests is
+     * rejected with an {@code Invalid Request} error as a whole.
+     * Default is {@value #DEFAULT_MAX_BATCH_SIZE}.
+     */
+    public JsonRpcServiceBuilder maxBatchSize(int maxBatchSize) {
+        checkArgument(maxBatchSize > 0, "maxBatchSize: %s (expected: > 0)", maxBatchSize);
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the requests in a batch request that are handled concurrently.
+     * The remaining requests are handled as the preceding ones complete.
+     * Default is {@value #DEFAULT_MAX_BATCH_CONCURRENCY}.
+     */
+    public JsonRpcServiceBuilder maxBatchConcurrency(int maxBatchConcurrency) {
+        checkArgument(maxBatchConcurrency > 0, "maxBatchConcurrency: %s (expected: > 0)",
+                      maxBatchConcurrency);
+        this.maxBatchConcurrency = maxBatchConcurrency;
+        return this;
+    }
+
+    /**
+     * Sets whether the responses of a batch request are sent in the order of the requests.
+     * If {@code false}, each response is streamed as soon as it completes, which is allowed because
+     * a client matches a response with its request by the {@code id}. If {@code true}, a response is
+     * held back until the responses of all preceding requests are sent.
+     * Default is {@code false}.
+     */
+    public JsonRpcServiceBuilder preserveBatchResponseOrder(boolean preserveBatchResponseOrder) {
+        this.preserveBatchResponseOrder = preserveBatchResponseOrder;
+        return this;
+    }
+
     /**
      * Constructs a new {@link JsonRpcService}.
      */
@@ -157,6 +198,7 @@ public final class JsonRpcServiceBuilder {
         }
 
         return new JsonRpcService(methodHandlers.build(), defaultHandler, fallbackService,
-                                  exceptionHandler, statusFunction, enableServerSentEvents);
+                                  exceptionHandler, statusFunction, enableServerSentEvents,
+                                  maxBatchSize, maxBatchConcurrency, preserveBatchResponseOrder);
     }
 }
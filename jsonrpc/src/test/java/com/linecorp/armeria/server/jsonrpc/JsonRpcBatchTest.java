@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 LY Corporation
+ *
+ * LY Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.server.jsonrpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.client.BlockingWebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcError;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcMessage;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcNotification;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcRequest;
+import com.linecorp.armeria.common.jsonrpc.JsonRpcResponse;
+import com.linecorp.armeria.common.util.UnmodifiableFuture;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class JsonRpcBatchTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final AtomicInteger numInFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+    private static final AtomicInteger numNotifications = new AtomicInteger();
+
+    /**
+     * Responds with the second parameter after the milliseconds of the first parameter.
+     */
+    private static final class DelayMethodHandler implements JsonRpcMethodHandler {
+        @Override
+        public CompletableFuture<JsonRpcResponse> onRequest(ServiceRequestContext ctx, JsonRpcRequest request) {
+            final List<Object> params = request.params().asList();
+            final int current = numInFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            final CompletableFuture<JsonRpcResponse> future = new CompletableFuture<>();
+            ctx.eventLoop().schedule(() -> {
+                numInFlight.decrementAndGet();
+                future.complete(JsonRpcResponse.ofSuccess(params.get(1)));
+            }, ((Number) params.get(0)).longValue(), TimeUnit.MILLISECONDS);
+            return future;
+        }
+
+        @Override
+        public CompletableFuture<Void> onNotification(ServiceRequestContext ctx,
+                                                      JsonRpcNotification notification) {
+            numNotifications.incrementAndGet();
+            return UnmodifiableFuture.completedFuture(null);
+        }
+    }
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/json-rpc", JsonRpcService.builder()
+                                                  .methodHandler("delay", new DelayMethodHandler())
+                                                  .maxBatchSize(8)
+                                                  .maxBatchConcurrency(2)
+                                                  .build());
+            sb.service("/json-rpc/ordered", JsonRpcService.builder()
+                                                          .methodHandler("delay", new DelayMethodHandler())
+                                                          .preserveBatchResponseOrder(true)
+                                                          .build());
+            sb.service("/json-rpc/status", JsonRpcService.builder()
+                                                         .methodHandler("delay", new DelayMethodHandler())
+                                                         .statusFunction((ctx, req, res, error) -> {
+                                                             if (error.code() ==
+                                                                 JsonRpcError.METHOD_NOT_FOUND.code()) {
+                                                                 return HttpStatus.NOT_FOUND;
+                                                             }
+                                                             return null;
+                                                         })
+                                                         .build());
+        }
+    };
+
+    private BlockingWebClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = server.blockingWebClient();
+        numInFlight.set(0);
+        maxInFlight.set(0);
+        numNotifications.set(0);
+    }
+
+    @Test
+    void mixedBatch() throws Exception {
+        final String batch = '[' +
+                             toJson(JsonRpcRequest.of(1, "delay", ImmutableList.of(0, "foo"))) + ',' +
+                             toJson(JsonRpcNotification.of("delay", ImmutableList.of(0, "bar"))) + ',' +
+                             toJson(JsonRpcRequest.of("2", "unknown")) + ',' +
+                             "1," +
+                             "{\"jsonrpc\":\"2.0\",\"id\":3}" +
+                             ']';
+        final AggregatedHttpResponse response = post("/json-rpc", batch);
+        assertThat(response.status()).isEqualTo(HttpStatus.OK);
+        assertThat(response.contentType()).isEqualTo(MediaType.JSON_UTF_8);
+        assertThat(numNotifications).hasValue(1);
+
+        // The notification is not answered.
+        final List<JsonRpcResponse> responses = parse(response);
+        assertThat(responses).hasSize(4);
+        final JsonRpcResponse success = find(responses, 1);
+        assertThat(success.result()).isEqualTo("foo");
+        final JsonRpcResponse unknown = find(responses, "2");
+        assertThat(unknown.error().code()).isEqualTo(JsonRpcError.METHOD_NOT_FOUND.code());
+        // The invalid elements are answered with a null id.
+        assertThat(responses).filteredOn(res -> res.id() == null)
+                             .hasSize(2)
+                             .allSatisfy(res -> assertThat(res.error().code())
+                                     .isEqualTo(JsonRpcError.INVALID_REQUEST.code()));
+    }
+
+    @Test
+    void shouldStreamResponsesInCompletionOrder() throws Exception {
+        final String batch = '[' +
+                             toJson(JsonRpcRequest.of(1, "delay", ImmutableList.of(300, "slow"))) + ',' +
+                             toJson(JsonRpcRequest.of(2, "delay", ImmutableList.of(0, "fast"))) +
+                             ']';
+        final List<JsonRpcResponse> responses = parse(post("/json-rpc", batch));
+        assertThat(responses).extracting(JsonRpcResponse::result).containsExactly("fast", "slow");
+    }
+
+    @Test
+    void shouldPreserveResponseOrder() throws Exception {
+        final String batch = '[' +
+                             toJson(JsonRpcRequest.of(1, "delay", ImmutableList.of(300, "slow"))) + ',' +
+                             toJson(JsonRpcRequest.of(2, "delay", ImmutableList.of(0, "fast"))) +
+                             ']';
+        final List<JsonRpcResponse> responses = parse(post("/json-rpc/ordered", batch));
+        assertThat(responses).extracting(JsonRpcResponse::result).containsExactly("slow", "fast");
+    }
+
+    @Test
+    void shouldLimitConcurrency() throws Exception {
+        final List<String> requests = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            requests.add(toJson(JsonRpcRequest.of(i, "delay", ImmutableList.of(50, i))));
+        }
+        final List<JsonRpcResponse> responses =
+                parse(post("/json-rpc", '[' + String.join(",", requests) + ']'));
+        assertThat(responses).hasSize(6);
+        assertThat(maxInFlight).hasValue(2);
+    }
+
+    @Test
+    void notificationsOnly() throws Exception {
+        final String batch = '[' +
+                             toJson(JsonRpcNotification.of("delay", ImmutableList.of(0, "foo"))) + ',' +
+                             toJson(JsonRpcNotification.of("delay", ImmutableList.of(0, "bar"))) +
+                             ']';
+        final AggregatedHttpResponse response = post("/json-rpc", batch);
+        assertThat(response.status()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.content().isEmpty()).isTrue();
+        assertThat(numNotifications).hasValue(2);
+    }
+
+    @Test
+    void rejectTooLargeBatch() throws Exception {
+        final List<String> requests = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            requests.add(toJson(JsonRpcRequest.of(i, "delay", ImmutableList.of(0, i))));
+        }
+        final AggregatedHttpResponse response = post("/json-rpc", '[' + String.join(",", requests) + ']');
+        assertThat(response.status()).isEqualTo(HttpStatus.BAD_REQUEST);
+        final JsonRpcResponse rpcResponse = JsonRpcResponse.fromJson(response.contentUtf8());
+        assertThat(rpcResponse.id()).isNull();
+        assertThat(rpcResponse.error().code()).isEqualTo(JsonRpcError.INVALID_REQUEST.code());
+        assertThat(maxInFlight).hasValue(0);
+    }
+
+    @Test
+    void shouldApplyStatusFunctionIfAllRequestsFail() throws Exception {
+        final String failures = '[' +
+                                toJson(JsonRpcRequest.of(1, "unknown")) + ',' +
+                                toJson(JsonRpcRequest.of(2, "unknown")) +
+                                ']';
+        final AggregatedHttpResponse failed = post("/json-rpc/status", failures);
+        assertThat(failed.status()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(parse(failed)).hasSize(2);
+
+        // The failures which are mapped to different statuses.
+        final AggregatedHttpResponse mixed =
+                post("/json-rpc/status", '[' + toJson(JsonRpcRequest.of(1, "unknown")) + ",1]");
+        assertThat(mixed.status()).isEqualTo(HttpStatus.OK);
+        assertThat(parse(mixed)).hasSize(2);
+
+        // A successful response is sent with 200 OK.
+        final String partial = '[' +
+                               toJson(JsonRpcRequest.of(1, "unknown")) + ',' +
+                               toJson(JsonRpcRequest.of(2, "delay", ImmutableList.of(100, "foo"))) +
+                               ']';
+        final AggregatedHttpResponse succeeded = post("/json-rpc/status", partial);
+        assertThat(succeeded.status()).isEqualTo(HttpStatus.OK);
+        assertThat(parse(succeeded)).extracting(JsonRpcResponse::id).containsExactly(1, 2);
+    }
+
+    private AggregatedHttpResponse post(String path, String batch) {
+        return client.prepare()
+                     .post(path)
+                     .content(MediaType.JSON_UTF_8, batch)
+                     .execute();
+    }
+
+    private static String toJson(JsonRpcMessage message) throws Exception {
+        return objectMapper.writeValueAsString(message);
+    }
+
+    private static List<JsonRpcResponse> parse(AggregatedHttpResponse response) throws Exception {
+        final JsonNode array = objectMapper.readTree(response.contentUtf8());
+        assertThat(array.isArray()).isTrue();
+        final List<JsonRpcResponse> responses = new ArrayList<>();
+        array.forEach(node -> responses.add(JsonRpcResponse.fromJson(node)));
+        return responses;
+    }
+
+    private static JsonRpcResponse find(List<JsonRpcResponse> responses, Object id) {
+        return responses.stream()
+                        .filter(res -> id.equals(res.id()))
+                        .findFirst()
+                        .orElseThrow(AssertionError::new);
+    }
+}
@@ -160,15 +160,11 @@ class JsonRpcMethodHandlerTest {
     }
 
     @Test
-    void rejectBatchRequests() throws JsonProcessingException {
-        final List<JsonRpcRequest> jsonRpcBatchRequest = ImmutableList.of(
-                JsonRpcRequest.of(1, "echo", ImmutableList.of("hello")),
-                JsonRpcRequest.of(2, "echo", ImmutableList.of("world")),
-                JsonRpcRequest.of(3, "echo", ImmutableList.of("armeria")));
+    void rejectEmptyBatchRequest() {
         final ResponseEntity<JsonRpcResponse> response =
                 client.prepare()
                       .post("/json-rpc")
-                      .contentJson(jsonRpcBatchRequest)
+                      .content(MediaType.JSON_UTF_8, "[]")
                       .asJson(JsonRpcResponse.class, s -> true)
                       .execute();
 
@@ -0,0 +1,554 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging.kafka;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * An append-only spool of access log records which consists of memory-mapped segment files.
+ *
+ * <p>A segment file is named after its sequence number and contains the batches of records back to back.
+ * A batch is laid out as follows:
+ * <pre>{@code
+ * +--------------+-------------+-----------------------+--------------------+-----------------+---------+
+ * | length (int) | crc32 (int) | createdTimeMillis (8) | recordCount (int)  | compressed (1)  | payload |
+ * +--------------+-------------+-----------------------+--------------------+-----------------+---------+
+ * }</pre>
+ * The payload is a sequence of {@code [keyLength (int, -1 if null)][key][valueLength (int)][value]}, which
+ * is deflated if {@code compressed} is {@code 1}. The {@code crc32} covers everything after itself, so
+ * a batch which was torn by a crash is detected when the spool is recovered.
+ *
+ * <p>The position of the first batch which was not acknowledged yet is stored in the {@code checkpoint}
+ * file. All batches after the checkpoint are replayed after a restart, so a record can be delivered more
+ * than once.
+ *
+ * <p>A segment and the checkpoint are flushed to the storage when the segment is full and when the spool
+ * is closed. The batches in the current segment survive a process crash because they are in the page
+ * cache, but they can be lost if the operating system crashes before they are flushed.
+ *
+ * <p>This class is not thread-safe. All methods must be called by the same thread.
+ */
+final class AccessLogSpool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogSpool.class);
+
+    static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 1;
+
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    // segmentId (8), position (4) and crc32 (4)
+    private static final int CHECKPOINT_SIZE = 8 + 4 + 4;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final boolean compress;
+    private final MappedByteBuffer checkpoint;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    // The position of the first unacknowledged batch.
+    private Segment readSegment;
+    private int readPosition;
+
+    private long numBytes;
+    private long numRecords;
+    private boolean closed;
+
+    AccessLogSpool(Path directory, int segmentSize, int maxSegments, boolean compress) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.compress = compress;
+        Files.createDirectories(directory);
+        checkpoint = map(directory.resolve(CHECKPOINT_FILE), CHECKPOINT_SIZE);
+        final Segment firstRecovered = recover();
+        // Never append to a recovered segment whose tail might be torn.
+        final Segment last = segments.peekLast();
+        segments.add(newSegment(last != null ? last.id + 1 : 0));
+        if (firstRecovered != null) {
+            readSegment = firstRecovered;
+        } else {
+            readSegment = segments.getFirst();
+            readPosition = 0;
+        }
+        // Overwrite the stale checkpoint which may point to a deleted segment.
+        updateCheckpoint();
+    }
+
+    /**
+     * Loads the segments which have unacknowledged batches and returns the first one. {@link #readPosition}
+     * is set to the position of the first unacknowledged batch in the returned segment.
+     */
+    @Nullable
+    private Segment recover() throws IOException {
+        final List<Long> ids = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, '*' + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                final String fileName = path.getFileName().toString();
+                try {
+                    ids.add(Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    logger.warn("Ignoring an unexpected file in the spool directory: {}", path);
+                }
+            }
+        }
+        ids.sort(null);
+
+        long checkpointId = checkpoint.getLong(0);
+        int checkpointPosition = checkpoint.getInt(8);
+        if (checkpoint.getInt(12) != checkpointCrc(checkpointId, checkpointPosition)) {
+            if (checkpointId != 0 || checkpointPosition != 0) {
+                logger.warn("The checkpoint of {} is corrupt. Replaying all segments.", directory);
+            }
+            checkpointId = -1;
+            checkpointPosition = 0;
+        }
+
+        Segment first = null;
+        for (long id : ids) {
+            final Path path = segmentPath(id);
+            if (id < checkpointId) {
+                // All batches in the segment were acknowledged.
+                Files.deleteIfExists(path);
+                continue;
+            }
+            if (Files.size(path) != segmentSize) {
+                // The segment size was changed or the file was truncated. Skip what cannot be read safely.
+                logger.warn("Discarding a spool segment whose size is not {}: {}", segmentSize, path);
+                Files.deleteIfExists(path);
+                continue;
+            }
+            final Segment segment = new Segment(id, map(path, segmentSize));
+            int position = 0;
+            for (;;) {
+                final int batchSize = validBatchSize(segment.buffer, position);
+                if (batchSize < 0) {
+                    break;
+                }
+                if (id != checkpointId || position >= checkpointPosition) {
+                    numBytes += batchSize;
+                    numRecords += segment.buffer.getInt(position + 16);
+                }
+                position += batchSize;
+            }
+            segment.limit = position;
+            segments.add(segment);
+            if (first == null) {
+                first = segment;
+                readPosition = id == checkpointId ? Math.min(checkpointPosition, position) : 0;
+            }
+        }
+        if (numRecords > 0) {
+            logger.info("Recovered {} access log records ({} bytes) from {}", numRecords, numBytes, directory);
+        }
+        return first;
+    }
+
+    /**
+     * Returns the size of the valid batch at the specified position, or {@code -1} if there's no valid
+     * batch.
+     */
+    private int validBatchSize(MappedByteBuffer buffer, int position) {
+        if (position + HEADER_SIZE > segmentSize) {
+            return -1;
+        }
+        final int length = buffer.getInt(position);
+        if (length <= 0 || length > segmentSize - HEADER_SIZE - position) {
+            return -1;
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(slice(buffer, position + 8, HEADER_SIZE - 8 + length));
+        if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+            return -1;
+        }
+        return HEADER_SIZE + length;
+    }
+
+    /**
+     * Appends a batch of the specified records.
+     *
+     * @return {@code false} if the spool is full
+     */
+    boolean append(List<byte[][]> records) {
+        ensureOpen();
+        final byte[] payload = encode(records);
+        final int batchSize = HEADER_SIZE + payload.length;
+        if (batchSize > segmentSize) {
+            logger.warn("Dropping {} access log records larger than the spool segment size: {} bytes",
+                        records.size(), batchSize);
+            return false;
+        }
+
+        Segment segment = segments.getLast();
+        if (segment.limit + batchSize > segmentSize) {
+            if (segments.size() >= maxSegments) {
+                return false;
+            }
+            // Flush the full segment so that it is not lost even if the operating system crashes.
+            segment.buffer.force();
+            checkpoint.force();
+            segment = newSegment(segment.id + 1);
+            segments.add(segment);
+        }
+
+        final MappedByteBuffer buffer = segment.buffer;
+        final int position = segment.limit;
+        buffer.putLong(position + 8, System.currentTimeMillis());
+        buffer.putInt(position + 16, records.size());
+        buffer.put(position + 20, (byte) (compress ? 1 : 0));
+        final ByteBuffer dup = buffer.duplicate();
+        dup.position(position + HEADER_SIZE);
+        dup.put(payload);
+        final CRC32 crc = new CRC32();
+        crc.update(slice(buffer, position + 8, HEADER_SIZE - 8 + payload.length));
+        buffer.putInt(position + 4, (int) crc.getValue());
+        // Write the length last so that a reader never sees a partially written batch.
+        buffer.putInt(position, payload.length);
+
+        segment.limit = position + batchSize;
+        numBytes += batchSize;
+        numRecords += records.size();
+        return true;
+    }
+
+    private byte[] encode(List<byte[][]> records) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] lengthBytes = new byte[4];
+        for (byte[][] record : records) {
+            for (byte[] bytes : record) {
+                writeInt(lengthBytes, bytes != null ? bytes.length : -1);
+                out.write(lengthBytes, 0, 4);
+                if (bytes != null) {
+                    out.write(bytes, 0, bytes.length);
+                }
+            }
+        }
+        final byte[] raw = out.toByteArray();
+        if (!compress) {
+            return raw;
+        }
+
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 4 + 64);
+            final byte[] buf = new byte[8192];
+            while (!deflater.finished()) {
+                final int len = deflater.deflate(buf);
+                compressed.write(buf, 0, len);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Returns the first batch which was not acknowledged, or {@code null} if there's no such batch.
+     */
+    @Nullable
+    Batch peek() {
+        ensureOpen();
+        if (!advance()) {
+            return null;
+        }
+
+        final MappedByteBuffer buffer = readSegment.buffer;
+        final int length = buffer.getInt(readPosition);
+        final long createdTimeMillis = buffer.getLong(readPosition + 8);
+        final int recordCount = buffer.getInt(readPosition + 16);
+        final boolean compressed = buffer.get(readPosition + 20) != 0;
+        final byte[] payload = new byte[length];
+        final ByteBuffer dup = buffer.duplicate();
+        dup.position(readPosition + HEADER_SIZE);
+        dup.get(payload);
+        return new Batch(readSegment.id, readPosition, HEADER_SIZE + length, createdTimeMillis,
+                         decode(payload, compressed, recordCount));
+    }
+
+    private static List<byte[][]> decode(byte[] payload, boolean compressed, int recordCount) {
+        byte[] raw = payload;
+        if (compressed) {
+            final Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(payload);
+                final ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length * 4);
+                final byte[] buf = new byte[8192];
+                while (!inflater.finished()) {
+                    final int len = inflater.inflate(buf);
+                    if (len == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalStateException("truncated access log batch");
+                    }
+                    out.write(buf, 0, len);
+                }
+                raw = out.toByteArray();
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("corrupt access log batch", e);
+            } finally {
+                inflater.end();
+            }
+        }
+
+        final List<byte[][]> records = new ArrayList<>(recordCount);
+        int offset = 0;
+        for (int i = 0; i < recordCount; i++) {
+            final byte[][] record = new byte[2][];
+            for (int j = 0; j < 2; j++) {
+                final int length = readInt(raw, offset);
+                offset += 4;
+                if (length >= 0) {
+                    record[j] = new byte[length];
+                    System.arraycopy(raw, offset, record[j], 0, length);
+                    offset += length;
+                }
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Marks the specified {@link Batch}, which must be the one returned by {@link #peek()}, as acknowledged.
+     */
+    void acknowledge(Batch batch) {
+        ensureOpen();
+        assert batch.segmentId == readSegment.id && batch.position == readPosition;
+        readPosition += batch.size;
+        numBytes -= batch.size;
+        numRecords -= batch.records.size();
+        updateCheckpoint();
+    }
+
+    private void updateCheckpoint() {
+        checkpoint.putLong(0, readSegment.id);
+        checkpoint.putInt(8, readPosition);
+        checkpoint.putInt(12, checkpointCrc(readSegment.id, readPosition));
+    }
+
+    /**
+     * Returns the creation time of the oldest unacknowledged batch, or {@code -1} if the spool is empty.
+     */
+    long oldestCreatedTimeMillis() {
+        ensureOpen();
+        if (!advance()) {
+            return -1;
+        }
+        return readSegment.buffer.getLong(readPosition + 8);
+    }
+
+    /**
+     * Moves the read position to the next segment if all batches of the current segment were acknowledged.
+     *
+     * @return {@code false} if there's no batch to read
+     */
+    private boolean advance() {
+        for (;;) {
+            if (readPosition < readSegment.limit) {
+                return true;
+            }
+            if (readSegment == segments.getLast()) {
+                return false;
+            }
+            // Delete the segment whose batches were all acknowledged.
+            final Segment acknowledged = segments.removeFirst();
+            assert acknowledged == readSegment;
+            readSegment = segments.getFirst();
+            readPosition = 0;
+            updateCheckpoint();
+            delete(acknowledged);
+        }
+    }
+
+    long numBytes() {
+        return numBytes;
+    }
+
+    long numRecords() {
+        return numRecords;
+    }
+
+    @VisibleForTesting
+    int numSegments() {
+        return segments.size();
+    }
+
+    /**
+     * Flushes the changes of the memory-mapped files to the storage.
+     */
+    void force() {
+        if (closed) {
+            return;
+        }
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+        checkpoint.force();
+    }
+
+    private void ensureOpen() {
+        checkState(!closed, "spool closed: %s", directory);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        force();
+        closed = true;
+        // Delete the empty segment so that it is not recovered.
+        final Segment last = segments.getLast();
+        if (last.limit == 0) {
+            segments.removeLast();
+            delete(last);
+        }
+        for (Segment segment : segments) {
+            unmap(segment.buffer);
+        }
+        segments.clear();
+        unmap(checkpoint);
+    }
+
+    private Segment newSegment(long id) {
+        try {
+            return new Segment(id, map(segmentPath(id), segmentSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delete(Segment segment) {
+        // Unmap first because the storage of a deleted file is not freed until it is unmapped.
+        unmap(segment.buffer);
+        try {
+            Files.deleteIfExists(segmentPath(segment.id));
+        } catch (IOException e) {
+            logger.warn("Failed to delete an acknowledged spool segment: {}", segmentPath(segment.id), e);
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            // The mapping remains valid after the channel is closed.
+            return channel.map(MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /**
+     * Releases the memory mapping of the specified buffer without waiting for the garbage collection.
+     * The buffer and its duplicates must not be accessed after this method returns.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        PlatformDependent.freeDirectBuffer(buffer);
+    }
+
+    private static ByteBuffer slice(MappedByteBuffer buffer, int position, int length) {
+        final ByteBuffer dup = buffer.duplicate();
+        dup.position(position);
+        dup.limit(position + length);
+        return dup;
+    }
+
+    private static int checkpointCrc(long id, int position) {
+        final byte[] bytes = new byte[12];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (id >>> (56 - i * 8));
+        }
+        writeInt(bytes, 8, position);
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+
+    private static void writeInt(byte[] bytes, int value) {
+        writeInt(bytes, 0, value);
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 |
+               (bytes[offset + 2] & 0xFF) << 8 | bytes[offset + 3] & 0xFF;
+    }
+
+    private static final class Segment {
+        final long id;
+        final MappedByteBuffer buffer;
+        int limit;
+
+        Segment(long id, MappedByteBuffer buffer) {
+            this.id = id;
+            this.buffer = buffer;
+        }
+    }
+
+    static final class Batch {
+        final long segmentId;
+        final int position;
+        final int size;
+        final long createdTimeMillis;
+        final List<byte[][]> records;
+
+        Batch(long segmentId, int position, int size, long createdTimeMillis, List<byte[][]> records) {
+            this.segmentId = segmentId;
+            this.position = position;
+            this.size = size;
+            this.createdTimeMillis = createdTimeMillis;
+            this.records = records;
+        }
+    }
+}
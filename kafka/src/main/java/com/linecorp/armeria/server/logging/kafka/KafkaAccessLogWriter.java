@@ -36,7 +36,8 @@ import com.linecorp.armeria.server.logging.AccessLogWriter;
  *
  * <p>This method returns immediately after the {@link Producer#send(ProducerRecord, Callback)} returns rather
  * than waiting for returned {@link Future} completes so logs which are written and are not yet flushed can
- * be lost if an application crashes in unclean way.
+ * be lost if an application crashes in unclean way. Use {@link SpoolingKafkaAccessLogWriter} to spool logs
+ * on disk so that a slow Kafka backend neither blocks nor drops them.
  */
 public final class KafkaAccessLogWriter<K, V> implements AccessLogWriter {
 
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging.kafka;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.ThreadFactories;
+import com.linecorp.armeria.server.logging.AccessLogWriter;
+import com.linecorp.armeria.server.logging.kafka.AccessLogSpool.Batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * An {@link AccessLogWriter} that sends access logs to a Kafka backend through a persistent on-disk spool.
+ *
+ * <p>{@link #log(RequestLog)} only extracts the record key and value and puts them into an in-memory
+ * queue, so a slow Kafka backend never affects the request latency. A dedicated thread batches the queued
+ * records, compresses and appends them to a memory-mapped spool, and another thread sends the spooled
+ * records to Kafka, so the records are spooled even while {@link Producer#send(ProducerRecord)} blocks.
+ * A batch is removed from the spool only after all its records are acknowledged by Kafka, and
+ * the unacknowledged batches are replayed after a restart. Therefore, a record can be sent more than once.
+ *
+ * <p>A record is dropped when the in-memory queue or the spool is full. The following meters are exported
+ * to monitor the spool:
+ * <table>
+ * <caption>Meters</caption>
+ * <tr>
+ *   <th>meter name</th>
+ *   <th>description</th>
+ * </tr>
+ * <tr>
+ *   <td>{@code <name>.depth.records}</td>
+ *   <td>The number of the records which are not acknowledged by Kafka yet.</td>
+ * </tr>
+ * <tr>
+ *   <td>{@code <name>.depth.bytes}</td>
+ *   <td>The size of the spooled batches which are not acknowledged by Kafka yet.</td>
+ * </tr>
+ * <tr>
+ *   <td>{@code <name>.lag.seconds}</td>
+ *   <td>The age of the oldest unacknowledged batch.</td>
+ * </tr>
+ * <tr>
+ *   <td>{@code <name>.dropped.records}</td>
+ *   <td>The number of the records dropped because the queue or the spool was full.</td>
+ * </tr>
+ * </table>
+ *
+ * <p>For example:
+ * <pre>{@code
+ * Producer<byte[], byte[]> producer = new KafkaProducer<>(...);
+ * AccessLogWriter writer =
+ *     SpoolingKafkaAccessLogWriter.builder(producer, "access-logs", Paths.get("/var/spool/access-logs"))
+ *                                 .valueExtractor(log -> toJson(log))
+ *                                 .build();
+ * Server.builder()
+ *       .accessLogWriter(writer, true)
+ *       ...
+ * }</pre>
+ */
+@UnstableApi
+public final class SpoolingKafkaAccessLogWriter implements AccessLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpoolingKafkaAccessLogWriter.class);
+
+    /**
+     * Returns a new {@link SpoolingKafkaAccessLogWriterBuilder}.
+     *
+     * @param producer a Kafka {@link Producer} which is used to send logs to Kafka
+     * @param topic the name of topic which is used to send logs
+     * @param spoolDirectory the directory where the spool files are stored. The directory must not be
+     *                       shared with other {@link SpoolingKafkaAccessLogWriter}s.
+     */
+    public static SpoolingKafkaAccessLogWriterBuilder builder(Producer<byte[], byte[]> producer, String topic,
+                                                              Path spoolDirectory) {
+        return new SpoolingKafkaAccessLogWriterBuilder(requireNonNull(producer, "producer"),
+                                                       requireNonNull(topic, "topic"),
+                                                       requireNonNull(spoolDirectory, "spoolDirectory"));
+    }
+
+    private final Producer<byte[], byte[]> producer;
+    private final String topic;
+    private final Function<? super RequestLog, byte @Nullable []> keyExtractor;
+    private final Function<? super RequestLog, byte @Nullable []> valueExtractor;
+    private final int batchSize;
+    private final int maxQueuedRecords;
+    private final long retryIntervalMillis;
+    private final Duration closeTimeout;
+
+    private final ScheduledExecutorService executor;
+    // Calls Producer.send() which may block for max.block.ms when the producer buffer is full.
+    private final ExecutorService sender;
+    private final AtomicBoolean shutdownRequested = new AtomicBoolean();
+    private final CompletableFuture<Void> shutdownFuture = new CompletableFuture<>();
+    private final Queue<byte[][]> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger numQueuedRecords = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Counter droppedRecords;
+
+    // Accessed only by the executor.
+    private final AccessLogSpool spool;
+    @Nullable
+    private Batch sendingBatch;
+    private boolean closed;
+
+    // Updated by the executor and read by the gauges.
+    private volatile long depthRecords;
+    private volatile long depthBytes;
+    private volatile long oldestCreatedTimeMillis = -1;
+
+    SpoolingKafkaAccessLogWriter(Producer<byte[], byte[]> producer, String topic,
+                                 Function<? super RequestLog, byte @Nullable []> keyExtractor,
+                                 Function<? super RequestLog, byte @Nullable []> valueExtractor,
+                                 Path spoolDirectory, int segmentSize, int maxSegments, boolean compress,
+                                 int batchSize, long flushIntervalMillis, int maxQueuedRecords,
+                                 long retryIntervalMillis, Duration closeTimeout,
+                                 MeterRegistry meterRegistry, MeterIdPrefix meterIdPrefix) {
+        this.producer = producer;
+        this.topic = topic;
+        this.keyExtractor = keyExtractor;
+        this.valueExtractor = valueExtractor;
+        this.batchSize = batchSize;
+        this.maxQueuedRecords = maxQueuedRecords;
+        this.retryIntervalMillis = retryIntervalMillis;
+        this.closeTimeout = closeTimeout;
+        try {
+            spool = new AccessLogSpool(spoolDirectory, segmentSize, maxSegments, compress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open the access log spool: " + spoolDirectory, e);
+        }
+        updateGauges();
+
+        executor = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactories.newThreadFactory("armeria-kafka-access-log-spool", true));
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+                                        TimeUnit.MILLISECONDS);
+        sender = Executors.newSingleThreadExecutor(
+                ThreadFactories.newThreadFactory("armeria-kafka-access-log-sender", true));
+        // Replay the recovered batches.
+        executor.execute(this::sendNext);
+
+        droppedRecords = Counter.builder(meterIdPrefix.name("dropped.records"))
+                                .tags(meterIdPrefix.tags())
+                                .register(meterRegistry);
+        Gauge.builder(meterIdPrefix.name("depth.records"), this, writer -> writer.depthRecords)
+             .tags(meterIdPrefix.tags())
+             .register(meterRegistry);
+        Gauge.builder(meterIdPrefix.name("depth.bytes"), this, writer -> writer.depthBytes)
+             .tags(meterIdPrefix.tags())
+             .register(meterRegistry);
+        Gauge.builder(meterIdPrefix.name("lag.seconds"), this, SpoolingKafkaAccessLogWriter::lagSeconds)
+             .tags(meterIdPrefix.tags())
+             .register(meterRegistry);
+    }
+
+    @Override
+    public void log(RequestLog log) {
+        final byte[] value = valueExtractor.apply(log);
+        if (value == null) {
+            return;
+        }
+        final byte[] key = keyExtractor.apply(log);
+
+        if (numQueuedRecords.incrementAndGet() > maxQueuedRecords) {
+            numQueuedRecords.decrementAndGet();
+            droppedRecords.increment();
+            return;
+        }
+        queue.add(new byte[][] { key, value });
+        if (numQueuedRecords.get() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flush);
+            } catch (Exception e) {
+                // Rejected after shutdown.
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Moves the queued records into the spool. Must be called by the executor.
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        if (closed) {
+            return;
+        }
+        boolean appended = false;
+        final List<byte[][]> batch = new ArrayList<>(Math.min(batchSize, numQueuedRecords.get()));
+        for (;;) {
+            final byte[][] record = queue.poll();
+            if (record != null) {
+                numQueuedRecords.decrementAndGet();
+                batch.add(record);
+                if (batch.size() < batchSize) {
+                    continue;
+                }
+            }
+            if (batch.isEmpty()) {
+                break;
+            }
+            appended |= append(batch);
+            batch.clear();
+            if (record == null) {
+                break;
+            }
+        }
+        if (appended) {
+            updateGauges();
+            sendNext();
+        }
+    }
+
+    private boolean append(List<byte[][]> batch) {
+        try {
+            if (spool.append(batch)) {
+                return true;
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to append {} access log records to the spool", batch.size(), e);
+        }
+        droppedRecords.increment(batch.size());
+        return false;
+    }
+
+    /**
+     * Sends the first unacknowledged batch to Kafka if no batch is being sent. Must be called by
+     * the executor.
+     */
+    private void sendNext() {
+        if (sendingBatch != null || closed) {
+            return;
+        }
+        final Batch batch;
+        try {
+            batch = spool.peek();
+        } catch (Exception e) {
+            logger.warn("Failed to read a batch from the access log spool", e);
+            return;
+        }
+        if (batch == null) {
+            return;
+        }
+        sendingBatch = batch;
+        try {
+            sender.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            // Shutting down. The batch will be replayed after a restart.
+            sendingBatch = null;
+        }
+    }
+
+    /**
+     * Sends the records of the specified {@link Batch}. Must be called by the sender.
+     */
+    private void send(Batch batch) {
+        final int numRecords = batch.records.size();
+        final AtomicInteger remaining = new AtomicInteger(numRecords);
+        final AtomicBoolean failed = new AtomicBoolean();
+        for (byte[][] record : batch.records) {
+            try {
+                producer.send(new ProducerRecord<>(topic, record[0], record[1]), (metadata, exception) -> {
+                    if (exception != null && !failed.getAndSet(true)) {
+                        logger.warn("Failed to send access log records to Kafka. Retrying in {} ms.",
+                                    retryIntervalMillis, exception);
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        onSendComplete(batch, failed.get());
+                    }
+                });
+            } catch (Exception e) {
+                // e.g. the producer buffer was full for max.block.ms.
+                if (!failed.getAndSet(true)) {
+                    logger.warn("Failed to send access log records to Kafka. Retrying in {} ms.",
+                                retryIntervalMillis, e);
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    onSendComplete(batch, true);
+                }
+            }
+        }
+    }
+
+    private void onSendComplete(Batch batch, boolean failed) {
+        try {
+            executor.execute(() -> {
+                sendingBatch = null;
+                if (closed) {
+                    return;
+                }
+                if (failed) {
+                    // Send the same batch again. The records acknowledged already are sent more than once.
+                    executor.schedule(this::sendNext, retryIntervalMillis, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                spool.acknowledge(batch);
+                updateGauges();
+                sendNext();
+            });
+        } catch (Exception e) {
+            // The executor was shut down. The batch will be replayed after a restart.
+        }
+    }
+
+    private void updateGauges() {
+        depthRecords = spool.numRecords();
+        depthBytes = spool.numBytes();
+        oldestCreatedTimeMillis = spool.oldestCreatedTimeMillis();
+    }
+
+    private double lagSeconds() {
+        final long createdTimeMillis = oldestCreatedTimeMillis;
+        if (createdTimeMillis < 0) {
+            return 0;
+        }
+        return Math.max(0, System.currentTimeMillis() - createdTimeMillis) / 1000.0;
+    }
+
+    @VisibleForTesting
+    long depthRecords() {
+        return depthRecords;
+    }
+
+    /**
+     * Spools all queued records and closes the {@link Producer}. The records which are not acknowledged
+     * within the close timeout remain in the spool and are sent after a restart. This method returns
+     * the same {@link CompletableFuture} when called more than once.
+     */
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        if (!shutdownRequested.compareAndSet(false, true)) {
+            return shutdownFuture;
+        }
+        executor.execute(() -> {
+            flush();
+            spool.force();
+            // Close the producer after sending the batch which was handed over to the sender.
+            sender.execute(() -> {
+                try {
+                    producer.close(closeTimeout);
+                } catch (Exception e) {
+                    logger.warn("Failed to close the Kafka producer", e);
+                }
+                // Run after the acknowledgements which were delivered while closing the producer.
+                executor.execute(() -> {
+                    closed = true;
+                    spool.close();
+                    executor.shutdown();
+                    shutdownFuture.complete(null);
+                });
+            });
+            sender.shutdown();
+        });
+        return shutdownFuture;
+    }
+}
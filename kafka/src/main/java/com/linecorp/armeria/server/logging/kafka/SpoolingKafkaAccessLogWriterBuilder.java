@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging.kafka;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.producer.Producer;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Builds a {@link SpoolingKafkaAccessLogWriter}.
+ */
+@UnstableApi
+public final class SpoolingKafkaAccessLogWriterBuilder {
+
+    static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    static final long DEFAULT_MAX_SPOOL_SIZE = 1024L * 1024 * 1024;
+    static final int DEFAULT_BATCH_SIZE = 512;
+    static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+    static final int DEFAULT_MAX_QUEUED_RECORDS = 65536;
+    static final long DEFAULT_RETRY_INTERVAL_MILLIS = 1000;
+    static final long DEFAULT_CLOSE_TIMEOUT_MILLIS = 10000;
+
+    private final Producer<byte[], byte[]> producer;
+    private final String topic;
+    private final Path spoolDirectory;
+    private Function<? super RequestLog, byte @Nullable []> keyExtractor = log -> null;
+    @Nullable
+    private Function<? super RequestLog, byte @Nullable []> valueExtractor;
+    private int segmentSize = DEFAULT_SEGMENT_SIZE;
+    private long maxSpoolSize = DEFAULT_MAX_SPOOL_SIZE;
+    private boolean compress = true;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+    private int maxQueuedRecords = DEFAULT_MAX_QUEUED_RECORDS;
+    private long retryIntervalMillis = DEFAULT_RETRY_INTERVAL_MILLIS;
+    private Duration closeTimeout = Duration.ofMillis(DEFAULT_CLOSE_TIMEOUT_MILLIS);
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    private MeterIdPrefix meterIdPrefix = new MeterIdPrefix("armeria.server.access.log.kafka.spool");
+
+    SpoolingKafkaAccessLogWriterBuilder(Producer<byte[], byte[]> producer, String topic, Path spoolDirectory) {
+        this.producer = producer;
+        this.topic = topic;
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    /**
+     * Sets the {@link Function} that extracts a record key from a {@link RequestLog}.
+     * The {@link Function} is allowed to return {@code null} to leave the record key unspecified.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder keyExtractor(
+            Function<? super RequestLog, byte @Nullable []> keyExtractor) {
+        this.keyExtractor = requireNonNull(keyExtractor, "keyExtractor");
+        return this;
+    }
+
+    /**
+     * Sets the {@link Function} that extracts a record value from a {@link RequestLog}.
+     * The {@link Function} is allowed to return {@code null} to skip logging for the given {@link RequestLog}.
+     * This property is mandatory.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder valueExtractor(
+            Function<? super RequestLog, byte @Nullable []> valueExtractor) {
+        this.valueExtractor = requireNonNull(valueExtractor, "valueExtractor");
+        return this;
+    }
+
+    /**
+     * Sets the size of a spool segment file. A batch of records must fit in a segment.
+     * If unspecified, {@value #DEFAULT_SEGMENT_SIZE} bytes is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder segmentSize(int segmentSize) {
+        checkArgument(segmentSize >= 4096, "segmentSize: %s (expected: >= 4096)", segmentSize);
+        this.segmentSize = segmentSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum total size of the spool segment files. The records are dropped when the spool is
+     * full. If unspecified, {@value #DEFAULT_MAX_SPOOL_SIZE} bytes is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder maxSpoolSize(long maxSpoolSize) {
+        checkArgument(maxSpoolSize > 0, "maxSpoolSize: %s (expected: > 0)", maxSpoolSize);
+        this.maxSpoolSize = maxSpoolSize;
+        return this;
+    }
+
+    /**
+     * Sets whether the batches in the spool are compressed with deflate. This does not affect the compression
+     * of the Kafka producer. If unspecified, {@code true} is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder compress(boolean compress) {
+        this.compress = compress;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of records in a batch. If unspecified, {@value #DEFAULT_BATCH_SIZE} is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder batchSize(int batchSize) {
+        checkArgument(batchSize > 0, "batchSize: %s (expected: > 0)", batchSize);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the interval of moving the queued records into the spool, even if they do not fill up a batch.
+     * If unspecified, {@value #DEFAULT_FLUSH_INTERVAL_MILLIS} milliseconds is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder flushInterval(Duration flushInterval) {
+        requireNonNull(flushInterval, "flushInterval");
+        checkArgument(!flushInterval.isNegative() && !flushInterval.isZero(),
+                      "flushInterval: %s (expected: > 0)", flushInterval);
+        flushIntervalMillis = Math.max(1, flushInterval.toMillis());
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of records queued in memory before being spooled. The records are dropped
+     * when the queue is full. If unspecified, {@value #DEFAULT_MAX_QUEUED_RECORDS} is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder maxQueuedRecords(int maxQueuedRecords) {
+        checkArgument(maxQueuedRecords > 0, "maxQueuedRecords: %s (expected: > 0)", maxQueuedRecords);
+        this.maxQueuedRecords = maxQueuedRecords;
+        return this;
+    }
+
+    /**
+     * Sets the delay before sending a batch again when Kafka failed to acknowledge it.
+     * If unspecified, {@value #DEFAULT_RETRY_INTERVAL_MILLIS} milliseconds is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder retryInterval(Duration retryInterval) {
+        requireNonNull(retryInterval, "retryInterval");
+        checkArgument(!retryInterval.isNegative(), "retryInterval: %s (expected: >= 0)", retryInterval);
+        retryIntervalMillis = retryInterval.toMillis();
+        return this;
+    }
+
+    /**
+     * Sets the maximum time to wait for the {@link Producer} to send the in-flight records on shutdown.
+     * If unspecified, {@value #DEFAULT_CLOSE_TIMEOUT_MILLIS} milliseconds is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder closeTimeout(Duration closeTimeout) {
+        requireNonNull(closeTimeout, "closeTimeout");
+        checkArgument(!closeTimeout.isNegative(), "closeTimeout: %s (expected: >= 0)", closeTimeout);
+        this.closeTimeout = closeTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} where the spool metrics are exported.
+     * If unspecified, {@link Flags#meterRegistry()} is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the spool metrics.
+     * If unspecified, {@code "armeria.server.access.log.kafka.spool"} is used.
+     */
+    public SpoolingKafkaAccessLogWriterBuilder meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link SpoolingKafkaAccessLogWriter} which replays the records remaining in
+     * the spool directory.
+     */
+    public SpoolingKafkaAccessLogWriter build() {
+        checkState(valueExtractor != null, "valueExtractor must be set.");
+        final int maxSegments = (int) Math.max(2, Math.min(Integer.MAX_VALUE, maxSpoolSize / segmentSize));
+        return new SpoolingKafkaAccessLogWriter(producer, topic, keyExtractor, valueExtractor,
+                                                spoolDirectory, segmentSize, maxSegments, compress,
+                                                batchSize, flushIntervalMillis, maxQueuedRecords,
+                                                retryIntervalMillis, closeTimeout, meterRegistry,
+                                                meterIdPrefix);
+    }
+}
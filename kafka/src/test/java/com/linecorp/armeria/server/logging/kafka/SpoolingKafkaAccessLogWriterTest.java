@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SpoolingKafkaAccessLogWriterTest {
+
+    private static final String TOPIC_NAME = "topic-test";
+
+    @TempDir
+    Path spoolDirectory;
+
+    @Test
+    void sendRecords() {
+        final MockProducer<byte[], byte[]> producer = newProducer(true);
+        final SpoolingKafkaAccessLogWriter writer = newWriter(producer, new SimpleMeterRegistry());
+        for (int i = 0; i < 10; i++) {
+            writer.log(newLog("/" + i));
+        }
+
+        await().untilAsserted(() -> assertThat(values(producer.history())).containsExactly(
+                "/0", "/1", "/2", "/3", "/4", "/5", "/6", "/7", "/8", "/9"));
+        assertThat(producer.history()).allSatisfy(record -> {
+            assertThat(record.topic()).isEqualTo(TOPIC_NAME);
+            assertThat(new String(record.key(), StandardCharsets.UTF_8)).isEqualTo("GET");
+        });
+        await().untilAsserted(() -> assertThat(writer.depthRecords()).isZero());
+        final CompletableFuture<Void> shutdownFuture = writer.shutdown();
+        shutdownFuture.join();
+        // Shutting down again is a no-op.
+        assertThat(writer.shutdown()).isSameAs(shutdownFuture);
+    }
+
+    @Test
+    void spoolRecordsWhileSendIsBlocked() throws Exception {
+        final CountDownLatch sendStarted = new CountDownLatch(1);
+        final CountDownLatch sendUnblocked = new CountDownLatch(1);
+        // A producer whose buffer is full.
+        final MockProducer<byte[], byte[]> producer =
+                new MockProducer<byte[], byte[]>(true, new ByteArraySerializer(), new ByteArraySerializer()) {
+                    @Override
+                    public Future<RecordMetadata> send(ProducerRecord<byte[], byte[]> record,
+                                                       Callback callback) {
+                        sendStarted.countDown();
+                        Uninterruptibles.awaitUninterruptibly(sendUnblocked);
+                        return super.send(record, callback);
+                    }
+                };
+        final SpoolingKafkaAccessLogWriter writer = newWriter(producer, new SimpleMeterRegistry());
+        writer.log(newLog("/0"));
+        sendStarted.await();
+
+        // The records are spooled although Producer.send() is blocked.
+        writer.log(newLog("/1"));
+        writer.log(newLog("/2"));
+        await().untilAsserted(() -> assertThat(writer.depthRecords()).isEqualTo(3));
+
+        sendUnblocked.countDown();
+        await().untilAsserted(() -> assertThat(values(producer.history())).containsExactly("/0", "/1", "/2"));
+        await().untilAsserted(() -> assertThat(writer.depthRecords()).isZero());
+        writer.shutdown().join();
+    }
+
+    @Test
+    void replayUnacknowledgedRecordsAfterRestart() {
+        // A broker which does not acknowledge.
+        final MockProducer<byte[], byte[]> producer = newProducer(false);
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final SpoolingKafkaAccessLogWriter writer = newWriter(producer, registry);
+        for (int i = 0; i < 5; i++) {
+            writer.log(newLog("/" + i));
+        }
+        await().untilAsserted(() -> assertThat(producer.history()).isNotEmpty());
+        await().untilAsserted(() -> assertThat(registry.get("test.spool.depth.records").gauge().value())
+                .isEqualTo(5));
+        assertThat(registry.get("test.spool.depth.bytes").gauge().value()).isPositive();
+        assertThat(registry.get("test.spool.lag.seconds").gauge().value()).isNotNegative();
+        // Acknowledge the first record only. The whole batch is replayed.
+        producer.completeNext();
+        writer.shutdown().join();
+
+        final MockProducer<byte[], byte[]> newProducer = newProducer(true);
+        final SpoolingKafkaAccessLogWriter newWriter = newWriter(newProducer, new SimpleMeterRegistry());
+        await().untilAsserted(() -> assertThat(values(newProducer.history()))
+                .containsExactly("/0", "/1", "/2", "/3", "/4"));
+        await().untilAsserted(() -> assertThat(newWriter.depthRecords()).isZero());
+        newWriter.shutdown().join();
+
+        // Nothing is replayed because all records were acknowledged.
+        final MockProducer<byte[], byte[]> lastProducer = newProducer(true);
+        final SpoolingKafkaAccessLogWriter lastWriter = newWriter(lastProducer, new SimpleMeterRegistry());
+        assertThat(lastWriter.depthRecords()).isZero();
+        lastWriter.log(newLog("/5"));
+        await().untilAsserted(() -> assertThat(values(lastProducer.history())).containsExactly("/5"));
+        lastWriter.shutdown().join();
+    }
+
+    @Test
+    void retryOnFailure() {
+        final MockProducer<byte[], byte[]> producer = newProducer(false);
+        final SpoolingKafkaAccessLogWriter writer = newWriter(producer, new SimpleMeterRegistry());
+        writer.log(newLog("/foo"));
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(1));
+
+        producer.errorNext(new IllegalStateException("broker unavailable"));
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(2));
+        assertThat(writer.depthRecords()).isOne();
+
+        producer.completeNext();
+        await().untilAsserted(() -> assertThat(writer.depthRecords()).isZero());
+        assertThat(values(producer.history())).containsExactly("/foo", "/foo");
+        writer.shutdown().join();
+    }
+
+    @Test
+    void dropRecordsWhenSpoolIsFull() {
+        final MockProducer<byte[], byte[]> producer = newProducer(false);
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final SpoolingKafkaAccessLogWriter writer =
+                SpoolingKafkaAccessLogWriter.builder(producer, TOPIC_NAME, spoolDirectory)
+                                            .valueExtractor(log -> new byte[3000])
+                                            .compress(false)
+                                            .batchSize(1)
+                                            .segmentSize(4096)
+                                            .maxSpoolSize(8192)
+                                            .meterRegistry(registry)
+                                            .meterIdPrefix(new MeterIdPrefix("test.spool"))
+                                            .build();
+        for (int i = 0; i < 5; i++) {
+            writer.log(newLog("/" + i));
+        }
+        // Only one batch fits in a segment and there are at most two segments.
+        await().untilAsserted(() -> assertThat(registry.get("test.spool.dropped.records").counter().count())
+                .isEqualTo(3));
+        assertThat(writer.depthRecords()).isEqualTo(2);
+        writer.shutdown().join();
+    }
+
+    private SpoolingKafkaAccessLogWriter newWriter(MockProducer<byte[], byte[]> producer,
+                                                   SimpleMeterRegistry registry) {
+        return SpoolingKafkaAccessLogWriter.builder(producer, TOPIC_NAME, spoolDirectory)
+                                           .keyExtractor(log -> log.requestHeaders().method().name()
+                                                                   .getBytes(StandardCharsets.UTF_8))
+                                           .valueExtractor(log -> log.requestHeaders().path()
+                                                                     .getBytes(StandardCharsets.UTF_8))
+                                           .flushInterval(Duration.ofMillis(10))
+                                           .retryInterval(Duration.ofMillis(10))
+                                           .closeTimeout(Duration.ZERO)
+                                           .segmentSize(4096)
+                                           .meterRegistry(registry)
+                                           .meterIdPrefix(new MeterIdPrefix("test.spool"))
+                                           .build();
+    }
+
+    private static MockProducer<byte[], byte[]> newProducer(boolean autoComplete) {
+        return new MockProducer<>(autoComplete, new ByteArraySerializer(), new ByteArraySerializer());
+    }
+
+    private static RequestLog newLog(String path) {
+        final ServiceRequestContext ctx = ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, path));
+        ctx.logBuilder().endRequest();
+        ctx.logBuilder().endResponse();
+        return ctx.log().ensureComplete();
+    }
+
+    private static List<String> values(List<ProducerRecord<byte[], byte[]>> records) {
+        return records.stream()
+                      .map(record -> new String(record.value(), StandardCharsets.UTF_8))
+                      .collect(Collectors.toList());
+    }
+}
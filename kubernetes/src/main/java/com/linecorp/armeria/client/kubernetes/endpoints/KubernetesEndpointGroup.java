@@ -33,6 +33,7 @@ import org.jctools.maps.NonBlockingHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.concurrent.GuardedBy;
 
 import com.linecorp.armeria.client.Endpoint;
@@ -51,6 +52,11 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointConditions;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointHints;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointPort;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointSlice;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointSliceList;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
@@ -58,6 +64,8 @@ import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.Resource;
 
 /**
  * A {@link DynamicEndpointGroup} that fetches a node IP and a node port for each Pod from Kubernetes.
@@ -84,6 +92,22 @@ import io.fabric8.kubernetes.client.WatcherException;
  *   verbs: ["get", "list", "watch"]
  * }</pre>
  *
+ * <h2>EndpointSlice mode</h2>
+ *
+ * <p>If {@link KubernetesEndpointGroupBuilder#useEndpointSlices(boolean)} is enabled,
+ * {@link KubernetesEndpointGroup} watches the
+ * <a href="https://kubernetes.io/docs/concepts/services-networking/endpoint-slices/">EndpointSlices</a>
+ * of the service instead, and creates an {@link Endpoint} with the IP address and the port of each ready
+ * Pod. The watch events are much smaller than the Pod events and only the changed EndpointSlice is
+ * converted into {@link Endpoint}s, which is useful for a large cluster. Note that the Pod IP addresses
+ * must be reachable from the client, and the following RBAC configuration is required:
+ * <pre>{@code
+ * rules:
+ * - apiGroups: ["discovery.k8s.io"]
+ *   resources: ["endpointslices"]
+ *   verbs: ["get", "list", "watch"]
+ * }</pre>
+ *
  * <p>Example:
  * <pre>{@code
  * // Create a KubernetesEndpointGroup that fetches the endpoints of the 'my-service' service in the 'default'
@@ -116,6 +140,8 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
 
     private static final KubernetesClient DEFAULT_CLIENT = new KubernetesClientBuilder().build();
 
+    private static final String SERVICE_NAME_LABEL = "kubernetes.io/service-name";
+
     private static final AtomicIntegerFieldUpdater<KubernetesEndpointGroup> wipUpdater =
             AtomicIntegerFieldUpdater.newUpdater(KubernetesEndpointGroup.class, "wip");
 
@@ -216,6 +242,9 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
     private final String portName;
     private final Function<Node, @Nullable String> nodeIpExtractor;
     private final long maxWatchAgeMillis;
+    private final boolean useEndpointSlices;
+    @Nullable
+    private final String preferredZone;
 
     @Nullable
     private volatile Watch nodeWatch;
@@ -223,9 +252,12 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
     private volatile Watch serviceWatch;
     @Nullable
     private volatile Watch podWatch;
+    @Nullable
+    private volatile Watch endpointSliceWatch;
 
     private final Map<String, String> podToNode = new NonBlockingHashMap<>();
     private final Map<String, String> nodeToIp = new NonBlockingHashMap<>();
+    private final Map<String, SliceEndpoints> sliceToEndpoints = new NonBlockingHashMap<>();
     @Nullable
     private volatile Service service;
     @Nullable
@@ -247,11 +279,13 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
     private volatile int numServiceFailures;
     private volatile int numNodeFailures;
     private volatile int numPodFailures;
+    private volatile int numEndpointSliceFailures;
 
     KubernetesEndpointGroup(KubernetesClient client, @Nullable String namespace, String serviceName,
                             @Nullable String portName, Function<Node, @Nullable String> nodeIpExtractor,
                             boolean autoClose, EndpointSelectionStrategy selectionStrategy,
-                            boolean allowEmptyEndpoints, long selectionTimeoutMillis, long maxWatchAgeMillis) {
+                            boolean allowEmptyEndpoints, long selectionTimeoutMillis, long maxWatchAgeMillis,
+                            boolean useEndpointSlices, @Nullable String preferredZone) {
         super(selectionStrategy, allowEmptyEndpoints, selectionTimeoutMillis);
         this.client = client;
         this.namespace = namespace;
@@ -260,6 +294,8 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
         this.nodeIpExtractor = nodeIpExtractor;
         this.autoClose = autoClose;
         this.maxWatchAgeMillis = maxWatchAgeMillis == Long.MAX_VALUE ? 0 : maxWatchAgeMillis;
+        this.useEndpointSlices = useEndpointSlices;
+        this.preferredZone = preferredZone;
         executeJob(() -> start(true));
     }
 
@@ -293,52 +329,17 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
             updateId++;
             nodeToIp.clear();
             podToNode.clear();
+            sliceToEndpoints.clear();
         } finally {
             updateLock.unlock();
         }
 
-        final Service service;
-        final NodeList nodes;
-        final PodList pods;
         try {
-            logger.info("[{}/{}] Fetching the service...", namespace, serviceName);
-            if (namespace == null) {
-                service = client.services().withName(serviceName).get();
-            } else {
-                service = client.services().inNamespace(namespace).withName(serviceName).get();
-            }
-            if (service == null) {
-                logger.warn("[{}/{}] Service not found.", namespace, serviceName);
-                throw new IllegalStateException(
-                        String.format("[%s/%s] Service not found.", namespace, serviceName));
-            }
-            if (!updateService(service)) {
-                throw new IllegalStateException(
-                        String.format("[%s/%s] NodePort not found.", namespace, serviceName));
-            }
-
-            logger.info("[{}/{}] Fetching the nodes ...", namespace, serviceName);
-            nodes = client.nodes().list();
-            for (Node node : nodes.getItems()) {
-                updateNode(Action.ADDED, node);
-            }
-
-            final Map<String, String> selector = service.getSpec().getSelector();
-            logger.info("[{}/{}] Fetching the pods with the selector: {}", namespace, serviceName, selector);
-            if (namespace == null) {
-                pods = client.pods().withLabels(selector).list();
+            if (useEndpointSlices) {
+                fetchAndWatchEndpointSlices();
             } else {
-                pods = client.pods().inNamespace(namespace).withLabels(selector).list();
-            }
-            for (Pod pod : pods.getItems()) {
-                updatePod(Action.ADDED, pod);
+                fetchAndWatchPods();
             }
-            // Initialize the endpoints.
-            maybeUpdateEndpoints();
-
-            watchService(service.getMetadata().getResourceVersion());
-            watchNode(updateId, nodes.getMetadata().getResourceVersion());
-            watchPod(updateId, pods.getMetadata().getResourceVersion());
         } catch (Exception e) {
             logger.warn("[{}/{}] Failed to start {}. (initial: {})", namespace, serviceName, this, initial, e);
             if (initial) {
@@ -362,6 +363,62 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
         return true;
     }
 
+    private void fetchAndWatchPods() {
+        final Service service;
+        final NodeList nodes;
+        final PodList pods;
+        logger.info("[{}/{}] Fetching the service...", namespace, serviceName);
+        if (namespace == null) {
+            service = client.services().withName(serviceName).get();
+        } else {
+            service = client.services().inNamespace(namespace).withName(serviceName).get();
+        }
+        if (service == null) {
+            logger.warn("[{}/{}] Service not found.", namespace, serviceName);
+            throw new IllegalStateException(
+                    String.format("[%s/%s] Service not found.", namespace, serviceName));
+        }
+        if (!updateService(service)) {
+            throw new IllegalStateException(
+                    String.format("[%s/%s] NodePort not found.", namespace, serviceName));
+        }
+
+        logger.info("[{}/{}] Fetching the nodes ...", namespace, serviceName);
+        nodes = client.nodes().list();
+        for (Node node : nodes.getItems()) {
+            updateNode(Action.ADDED, node);
+        }
+
+        final Map<String, String> selector = service.getSpec().getSelector();
+        logger.info("[{}/{}] Fetching the pods with the selector: {}", namespace, serviceName, selector);
+        if (namespace == null) {
+            pods = client.pods().withLabels(selector).list();
+        } else {
+            pods = client.pods().inNamespace(namespace).withLabels(selector).list();
+        }
+        for (Pod pod : pods.getItems()) {
+            updatePod(Action.ADDED, pod);
+        }
+        // Initialize the endpoints.
+        maybeUpdateEndpoints();
+
+        watchService(service.getMetadata().getResourceVersion());
+        watchNode(updateId, nodes.getMetadata().getResourceVersion());
+        watchPod(updateId, pods.getMetadata().getResourceVersion());
+    }
+
+    private void fetchAndWatchEndpointSlices() {
+        logger.info("[{}/{}] Fetching the endpoint slices...", namespace, serviceName);
+        final EndpointSliceList endpointSlices = endpointSlices().list();
+        for (EndpointSlice endpointSlice : endpointSlices.getItems()) {
+            updateEndpointSlice(Action.ADDED, endpointSlice);
+        }
+        // Initialize the endpoints.
+        maybeUpdateEndpoints();
+
+        watchEndpointSlice(updateId, endpointSlices.getMetadata().getResourceVersion());
+    }
+
     private void watchService(String resourceVersion) {
         logger.info("[{}/{}] Start the service watcher... (resource version: {})", namespace, serviceName,
                     resourceVersion);
@@ -540,6 +597,137 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
         return true;
     }
 
+    private void watchEndpointSlice(long updateId, String resourceVersion) {
+        logger.info("[{}/{}] Start the endpoint slice watcher... (resource version: {})",
+                    namespace, serviceName, resourceVersion);
+        endpointSliceWatch = doWatchEndpointSlice(updateId, resourceVersion);
+        logger.info("[{}/{}] Endpoint slice watcher is started.", namespace, serviceName);
+    }
+
+    private Watch doWatchEndpointSlice(long updateId, String resourceVersion) {
+        final Watcher<EndpointSlice> watcher = new Watcher<EndpointSlice>() {
+            @Override
+            public void eventReceived(Action action, EndpointSlice resource) {
+                if (closed) {
+                    return;
+                }
+                numEndpointSliceFailures = 0;
+                withUpdateLock(updateId, () -> {
+                    if (!updateEndpointSlice(action, resource)) {
+                        return;
+                    }
+                    maybeUpdateEndpoints();
+                });
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                if (closed) {
+                    return;
+                }
+                logger.warn("[{}/{}] Endpoint slice watcher is closed.", namespace, serviceName, cause);
+                scheduleRestartWithBackoff(++numEndpointSliceFailures);
+            }
+
+            @Override
+            public void onClose() {
+                logger.info("[{}/{}] Endpoint slice watcher is closed gracefully.", namespace, serviceName);
+            }
+        };
+
+        return endpointSlices().withResourceVersion(resourceVersion).watch(watcher);
+    }
+
+    private FilterWatchListDeletable<EndpointSlice, EndpointSliceList, Resource<EndpointSlice>>
+    endpointSlices() {
+        if (namespace == null) {
+            return client.discovery().v1().endpointSlices().withLabel(SERVICE_NAME_LABEL, serviceName);
+        } else {
+            return client.discovery().v1().endpointSlices().inNamespace(namespace)
+                         .withLabel(SERVICE_NAME_LABEL, serviceName);
+        }
+    }
+
+    /**
+     * Converts only the changed {@link EndpointSlice} into {@link Endpoint}s, so that a change of an
+     * endpoint does not require recomputing the whole {@link Endpoint}s of the service.
+     */
+    private boolean updateEndpointSlice(Action action, EndpointSlice resource) {
+        if (action == Action.ERROR || action == Action.BOOKMARK) {
+            return false;
+        }
+        final String sliceName = resource.getMetadata().getName();
+        logger.debug("[{}/{}] Endpoint slice event received. action: {}, slice: {}, resource version: {}",
+                     namespace, serviceName, action, sliceName, resource.getMetadata().getResourceVersion());
+
+        switch (action) {
+            case ADDED:
+            case MODIFIED:
+                sliceToEndpoints.put(sliceName, toSliceEndpoints(resource));
+                break;
+            case DELETED:
+                sliceToEndpoints.remove(sliceName);
+                break;
+        }
+        return true;
+    }
+
+    private SliceEndpoints toSliceEndpoints(EndpointSlice endpointSlice) {
+        final Integer port = endpointSlicePort(endpointSlice);
+        if (port == null) {
+            logger.debug("[{}/{}] No port{} in the endpoint slice: {}", namespace, serviceName,
+                         portName != null ? " matching '" + portName + '\'' : "", endpointSlice);
+            return SliceEndpoints.EMPTY;
+        }
+
+        final ImmutableList.Builder<Endpoint> endpoints = ImmutableList.builder();
+        final ImmutableList.Builder<Endpoint> preferredZoneEndpoints = ImmutableList.builder();
+        for (io.fabric8.kubernetes.api.model.discovery.v1.Endpoint endpoint : endpointSlice.getEndpoints()) {
+            final EndpointConditions conditions = endpoint.getConditions();
+            // A null condition should be interpreted as ready.
+            if (conditions != null && Boolean.FALSE.equals(conditions.getReady())) {
+                continue;
+            }
+            final List<String> addresses = endpoint.getAddresses();
+            if (addresses == null || addresses.isEmpty()) {
+                continue;
+            }
+            // The addresses are fungible, so the first one is used as recommended by Kubernetes.
+            final Endpoint converted = Endpoint.of(addresses.get(0), port);
+            endpoints.add(converted);
+            if (preferredZone != null && isInZone(endpoint, preferredZone)) {
+                preferredZoneEndpoints.add(converted);
+            }
+        }
+        return new SliceEndpoints(endpoints.build(), preferredZoneEndpoints.build());
+    }
+
+    @Nullable
+    private Integer endpointSlicePort(EndpointSlice endpointSlice) {
+        final List<EndpointPort> ports = endpointSlice.getPorts();
+        if (ports == null) {
+            return null;
+        }
+        return ports.stream()
+                    .filter(p -> portName == null || portName.equals(p.getName()))
+                    .map(EndpointPort::getPort)
+                    .filter(Objects::nonNull)
+                    .findFirst().orElse(null);
+    }
+
+    /**
+     * Returns whether the specified endpoint should serve the specified zone. The topology hints are used
+     * if exist. Otherwise, the zone of the endpoint is used.
+     */
+    private static boolean isInZone(io.fabric8.kubernetes.api.model.discovery.v1.Endpoint endpoint,
+                                    String zone) {
+        final EndpointHints hints = endpoint.getHints();
+        if (hints != null && hints.getForZones() != null && !hints.getForZones().isEmpty()) {
+            return hints.getForZones().stream().anyMatch(forZone -> zone.equals(forZone.getName()));
+        }
+        return zone.equals(endpoint.getZone());
+    }
+
     private void watchNode(long updateId, String resourceVersion) {
         logger.info("[{}/{}] Start the node watcher... (resource version: {})", namespace, serviceName,
                     resourceVersion);
@@ -679,6 +867,10 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
         if (closed) {
             return;
         }
+        if (useEndpointSlices) {
+            maybeUpdateEndpointsFromSlices();
+            return;
+        }
         if (service == null) {
             // No event received for the service yet.
             return;
@@ -709,6 +901,27 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
         setEndpoints(endpoints);
     }
 
+    private void maybeUpdateEndpointsFromSlices() {
+        if (sliceToEndpoints.isEmpty()) {
+            // No event received for the endpoint slices yet.
+            return;
+        }
+
+        final boolean usePreferredZone =
+                preferredZone != null &&
+                sliceToEndpoints.values().stream()
+                                .anyMatch(slice -> !slice.preferredZoneEndpoints.isEmpty());
+        final List<Endpoint> endpoints =
+                sliceToEndpoints.values().stream()
+                                .flatMap(slice -> usePreferredZone ? slice.preferredZoneEndpoints.stream()
+                                                                   : slice.endpoints.stream())
+                                // An endpoint may belong to more than one slice while the slices are
+                                // being rebalanced.
+                                .distinct()
+                                .collect(toImmutableList());
+        setEndpoints(endpoints);
+    }
+
     @Override
     protected void doCloseAsync(CompletableFuture<?> future) {
         closed = true;
@@ -742,6 +955,10 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
         if (podWatch != null) {
             podWatch.close();
         }
+        final Watch endpointSliceWatch = this.endpointSliceWatch;
+        if (endpointSliceWatch != null) {
+            endpointSliceWatch.close();
+        }
     }
 
     private void withUpdateLock(long updateId, Runnable task) {
@@ -756,4 +973,17 @@ public final class KubernetesEndpointGroup extends DynamicEndpointGroup {
             updateLock.unlock();
         }
     }
+
+    private static final class SliceEndpoints {
+
+        static final SliceEndpoints EMPTY = new SliceEndpoints(ImmutableList.of(), ImmutableList.of());
+
+        final List<Endpoint> endpoints;
+        final List<Endpoint> preferredZoneEndpoints;
+
+        SliceEndpoints(List<Endpoint> endpoints, List<Endpoint> preferredZoneEndpoints) {
+            this.endpoints = endpoints;
+            this.preferredZoneEndpoints = preferredZoneEndpoints;
+        }
+    }
 }
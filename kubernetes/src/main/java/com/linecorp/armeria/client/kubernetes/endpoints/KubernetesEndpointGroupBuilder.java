@@ -72,6 +72,10 @@ public final class KubernetesEndpointGroupBuilder
 
     private long maxWatchAgeMillis = DEFAULT_MAX_WATCH_AGE_MILLIS;
 
+    private boolean useEndpointSlices;
+    @Nullable
+    private String preferredZone;
+
     KubernetesEndpointGroupBuilder(KubernetesClient kubernetesClient, boolean autoClose) {
         super(Flags.defaultResponseTimeoutMillis());
         allowEmptyEndpoints(false);
@@ -101,6 +105,10 @@ public final class KubernetesEndpointGroupBuilder
      * Sets the name of the <a href="https://kubernetes.io/docs/concepts/services-networking/service/#field-spec-ports">port</a>
      * from which <a href="https://kubernetes.io/docs/concepts/services-networking/service/#type-nodeport">NodePort</a>
      * should be fetched from. If not set, the first node port will be used.
+     *
+     * <p>If {@link #useEndpointSlices(boolean)} is enabled, the port of the
+     * <a href="https://kubernetes.io/docs/concepts/services-networking/endpoint-slices/">EndpointSlice</a>
+     * whose name is the specified {@code portName} is used instead. If not set, the first port will be used.
      */
     public KubernetesEndpointGroupBuilder portName(String portName) {
         this.portName = requireNonNull(portName, "portName");
@@ -170,6 +178,34 @@ public final class KubernetesEndpointGroupBuilder
         return maxWatchAgeMillis(maxWatchAge.toMillis());
     }
 
+    /**
+     * Sets whether to watch the
+     * <a href="https://kubernetes.io/docs/concepts/services-networking/endpoint-slices/">EndpointSlices</a>
+     * of the service to create the {@link Endpoint}s with the IP addresses and the ports of the ready Pods,
+     * instead of watching the service, nodes and Pods to create the {@link Endpoint}s with the node IPs and
+     * the node port. The Pod IP addresses must be reachable from the client. This option is disabled by
+     * default.
+     */
+    public KubernetesEndpointGroupBuilder useEndpointSlices(boolean useEndpointSlices) {
+        this.useEndpointSlices = useEndpointSlices;
+        return this;
+    }
+
+    /**
+     * Sets the <a href="https://kubernetes.io/docs/reference/labels-annotations-taints/#topologykubernetesiozone">zone</a>
+     * of the client. If set, only the {@link Endpoint}s in the specified zone are used as long as
+     * at least one of them is ready. The
+     * <a href="https://kubernetes.io/docs/concepts/services-networking/topology-aware-routing/">topology hints</a>
+     * of an endpoint take precedence over its zone if exist.
+     * This option is only used when {@link #useEndpointSlices(boolean)} is enabled.
+     */
+    public KubernetesEndpointGroupBuilder preferredZone(String preferredZone) {
+        requireNonNull(preferredZone, "preferredZone");
+        checkArgument(!preferredZone.isEmpty(), "preferredZone is empty.");
+        this.preferredZone = preferredZone;
+        return this;
+    }
+
     /**
      * Returns a newly-created {@link KubernetesEndpointGroup} based on the properties of this builder.
      */
@@ -178,6 +214,7 @@ public final class KubernetesEndpointGroupBuilder
         return new KubernetesEndpointGroup(kubernetesClient, namespace, serviceName, portName,
                                            nodeIpExtractor, autoClose,
                                            selectionStrategy, shouldAllowEmptyEndpoints(),
-                                           selectionTimeoutMillis(), maxWatchAgeMillis);
+                                           selectionTimeoutMillis(), maxWatchAgeMillis,
+                                           useEndpointSlices, preferredZone);
     }
 }
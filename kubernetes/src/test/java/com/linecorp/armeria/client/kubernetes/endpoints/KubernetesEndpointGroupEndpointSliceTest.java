@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.kubernetes.endpoints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import org.junit.jupiter.api.Test;
+
+import com.linecorp.armeria.client.Endpoint;
+
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointConditions;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointConditionsBuilder;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointSlice;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointSliceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+
+@EnableKubernetesMockClient(crud = true)
+class KubernetesEndpointGroupEndpointSliceTest {
+
+    private static final String SERVICE_NAME = "nginx-service";
+
+    private KubernetesClient client;
+
+    @Test
+    void applyChangesPerSlice() {
+        final EndpointSlice slice1 = newEndpointSlice("nginx-service-1")
+                .addNewEndpoint()
+                .withAddresses("10.0.0.1").withNewConditions().withReady(true).endConditions()
+                .endEndpoint()
+                .addNewEndpoint()
+                .withAddresses("10.0.0.2").withNewConditions().withReady(false).endConditions()
+                .endEndpoint()
+                .build();
+        client.discovery().v1().endpointSlices().resource(slice1).create();
+        // A slice of another service.
+        client.discovery().v1().endpointSlices().resource(
+                newEndpointSlice("other-service-1", "other-service")
+                        .addNewEndpoint().withAddresses("10.0.1.1").endEndpoint()
+                        .build()).create();
+
+        try (KubernetesEndpointGroup endpointGroup = KubernetesEndpointGroup.builder(client)
+                                                                            .serviceName(SERVICE_NAME)
+                                                                            .useEndpointSlices(true)
+                                                                            .build()) {
+            // The endpoint which is not ready is excluded.
+            assertThat(endpointGroup.whenReady().join()).containsExactly(Endpoint.of("10.0.0.1", 8080));
+
+            // Add a new slice.
+            final EndpointSlice slice2 = newEndpointSlice("nginx-service-2")
+                    .addNewEndpoint()
+                    .withAddresses("10.0.0.3")
+                    .endEndpoint()
+                    .build();
+            client.discovery().v1().endpointSlices().resource(slice2).create();
+            await().untilAsserted(() -> assertThat(endpointGroup.endpoints()).containsExactlyInAnyOrder(
+                    Endpoint.of("10.0.0.1", 8080), Endpoint.of("10.0.0.3", 8080)));
+
+            // The endpoint becomes ready.
+            slice1.getEndpoints().get(1).getConditions().setReady(true);
+            client.discovery().v1().endpointSlices().resource(slice1).update();
+            await().untilAsserted(() -> assertThat(endpointGroup.endpoints()).containsExactlyInAnyOrder(
+                    Endpoint.of("10.0.0.1", 8080), Endpoint.of("10.0.0.2", 8080),
+                    Endpoint.of("10.0.0.3", 8080)));
+
+            // Remove a slice.
+            client.discovery().v1().endpointSlices().resource(slice1).delete();
+            await().untilAsserted(() -> assertThat(endpointGroup.endpoints()).containsExactly(
+                    Endpoint.of("10.0.0.3", 8080)));
+        }
+    }
+
+    @Test
+    void portName() {
+        final EndpointSlice slice = newEndpointSlice("nginx-service-1")
+                .addNewPort().withName("admin").withPort(8081).endPort()
+                .addNewEndpoint().withAddresses("10.0.0.1").endEndpoint()
+                .build();
+        client.discovery().v1().endpointSlices().resource(slice).create();
+
+        try (KubernetesEndpointGroup endpointGroup = KubernetesEndpointGroup.builder(client)
+                                                                            .serviceName(SERVICE_NAME)
+                                                                            .portName("admin")
+                                                                            .useEndpointSlices(true)
+                                                                            .build()) {
+            assertThat(endpointGroup.whenReady().join()).containsExactly(Endpoint.of("10.0.0.1", 8081));
+        }
+    }
+
+    @Test
+    void preferSameZone() {
+        final EndpointSlice slice = newEndpointSlice("nginx-service-1")
+                .addNewEndpoint()
+                .withAddresses("10.0.0.1").withZone("zone-a")
+                .endEndpoint()
+                .addNewEndpoint()
+                .withAddresses("10.0.0.2").withZone("zone-b")
+                .endEndpoint()
+                .addNewEndpoint()
+                // Assigned to zone-a by the topology hints.
+                .withAddresses("10.0.0.3").withZone("zone-c")
+                .withNewHints().addNewForZone().withName("zone-a").endForZone().endHints()
+                .endEndpoint()
+                .build();
+        client.discovery().v1().endpointSlices().resource(slice).create();
+
+        try (KubernetesEndpointGroup endpointGroup = KubernetesEndpointGroup.builder(client)
+                                                                            .serviceName(SERVICE_NAME)
+                                                                            .useEndpointSlices(true)
+                                                                            .preferredZone("zone-a")
+                                                                            .build()) {
+            assertThat(endpointGroup.whenReady().join()).containsExactlyInAnyOrder(
+                    Endpoint.of("10.0.0.1", 8080), Endpoint.of("10.0.0.3", 8080));
+
+            // Fall back to all endpoints if no endpoint is ready in the preferred zone.
+            slice.getEndpoints().get(0).setConditions(notReady());
+            slice.getEndpoints().get(2).setConditions(notReady());
+            client.discovery().v1().endpointSlices().resource(slice).update();
+            await().untilAsserted(() -> assertThat(endpointGroup.endpoints()).containsExactly(
+                    Endpoint.of("10.0.0.2", 8080)));
+        }
+    }
+
+    private static EndpointConditions notReady() {
+        return new EndpointConditionsBuilder().withReady(false).build();
+    }
+
+    private static EndpointSliceBuilder newEndpointSlice(String name) {
+        return newEndpointSlice(name, SERVICE_NAME);
+    }
+
+    private static EndpointSliceBuilder newEndpointSlice(String name, String serviceName) {
+        return new EndpointSliceBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .addToLabels("kubernetes.io/service-name", serviceName)
+                .endMetadata()
+                .withAddressType("IPv4")
+                .addNewPort().withName("http").withPort(8080).endPort();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.thrift;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.reactivestreams.Subscription;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * An {@link InputStream} which reads the {@link ByteBuf}s of a request as they are received.
+ * A reader blocks until the next {@link ByteBuf} is received, so this stream must be read from
+ * a blocking task executor. The next {@link ByteBuf} is requested from the {@link Subscription} whenever
+ * the reader starts to consume a {@link ByteBuf}, so that at most one {@link ByteBuf} is buffered ahead.
+ */
+final class StreamingRequestInputStream extends InputStream {
+
+    private static final Object END_OF_STREAM = new Object();
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Subscription subscription;
+
+    // Accessed only by the reader.
+    @Nullable
+    private ByteBuf current;
+    private boolean endOfStream;
+
+    // Guarded by 'this'.
+    private boolean closed;
+
+    StreamingRequestInputStream(Subscription subscription) {
+        this.subscription = subscription;
+    }
+
+    /**
+     * Adds the specified {@link ByteBuf} to read. The ownership of the {@link ByteBuf} is transferred to
+     * this stream.
+     */
+    synchronized void add(ByteBuf buf) {
+        if (closed) {
+            buf.release();
+            return;
+        }
+        queue.add(buf);
+    }
+
+    /**
+     * Notifies the reader that no more {@link ByteBuf} will be added.
+     *
+     * @param cause the cause of the failure, or {@code null} if the request has been fully received
+     */
+    synchronized void end(@Nullable Throwable cause) {
+        if (!closed) {
+            queue.add(cause != null ? cause : END_OF_STREAM);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        final ByteBuf buf = nextReadable();
+        if (buf == null) {
+            return -1;
+        }
+        return buf.readUnsignedByte();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        final ByteBuf buf = nextReadable();
+        if (buf == null) {
+            return -1;
+        }
+        final int length = Math.min(len, buf.readableBytes());
+        buf.readBytes(b, off, length);
+        return length;
+    }
+
+    @Override
+    public int available() {
+        final ByteBuf buf = current;
+        return buf != null ? buf.readableBytes() : 0;
+    }
+
+    @Nullable
+    private ByteBuf nextReadable() throws IOException {
+        ByteBuf buf = current;
+        while (buf == null || !buf.isReadable()) {
+            if (buf != null) {
+                buf.release();
+                current = null;
+            }
+            if (endOfStream) {
+                return null;
+            }
+
+            final Object next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            if (next == END_OF_STREAM) {
+                endOfStream = true;
+                return null;
+            }
+            if (next instanceof Throwable) {
+                endOfStream = true;
+                throw new IOException("failed to receive the request", (Throwable) next);
+            }
+            buf = (ByteBuf) next;
+            current = buf;
+            subscription.request(1);
+        }
+        return buf;
+    }
+
+    @Override
+    public void close() {
+        close(true);
+    }
+
+    /**
+     * Closes this stream and releases the {@link ByteBuf}s which have not been read.
+     *
+     * @param drain {@code true} to keep receiving and discarding the rest of the request,
+     *              or {@code false} to cancel the request.
+     */
+    void close(boolean drain) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+
+        if (current != null) {
+            current.release();
+            current = null;
+        }
+        for (;;) {
+            final Object next = queue.poll();
+            if (next == null) {
+                break;
+            }
+            if (next instanceof ByteBuf) {
+                ((ByteBuf) next).release();
+            }
+        }
+
+        if (drain) {
+            subscription.request(Long.MAX_VALUE);
+        } else {
+            subscription.cancel();
+        }
+    }
+}
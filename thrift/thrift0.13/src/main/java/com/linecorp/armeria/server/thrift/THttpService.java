@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -40,7 +41,11 @@ import org.apache.thrift.protocol.TMessageType;
 import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.protocol.TProtocolException;
 import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TIOStreamTransport;
 import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,20 +55,24 @@ import com.google.common.primitives.Ints;
 
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.AggregationOptions;
+import com.linecorp.armeria.common.ContentTooLargeException;
 import com.linecorp.armeria.common.DependencyInjector;
 import com.linecorp.armeria.common.ExchangeType;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpHeaders;
 import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpObject;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.common.RpcRequest;
 import com.linecorp.armeria.common.RpcResponse;
 import com.linecorp.armeria.common.SerializationFormat;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.logging.RequestLogProperty;
+import com.linecorp.armeria.common.stream.SubscriptionOption;
 import com.linecorp.armeria.common.thrift.ThriftCall;
 import com.linecorp.armeria.common.thrift.ThriftProtocolFactories;
 import com.linecorp.armeria.common.thrift.ThriftReply;
@@ -89,6 +98,8 @@ import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.VirtualHost;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.util.AttributeKey;
 
 /**
@@ -288,6 +299,10 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
 
     private int maxRequestStringLength;
     private int maxRequestContainerLength;
+    private final boolean useStreamingDecoding;
+    private final long incrementalDecodingThreshold;
+    private final int maxConcurrentIncrementalDecodings;
+    private final AtomicInteger numIncrementalDecodings = new AtomicInteger();
     private final Map<SerializationFormat, TProtocolFactory> responseProtocolFactories;
     private Map<SerializationFormat, TProtocolFactory> requestProtocolFactories;
     private Map<ThriftFunction, HttpService> decoratedTHttpServices;
@@ -298,6 +313,8 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
     THttpService(RpcService delegate, SerializationFormat defaultSerializationFormat,
                  Set<SerializationFormat> supportedSerializationFormats,
                  int maxRequestStringLength, int maxRequestContainerLength,
+                 boolean useStreamingDecoding, long incrementalDecodingThreshold,
+                 int maxConcurrentIncrementalDecodings,
                  BiFunction<? super ServiceRequestContext, ? super Throwable, ? extends RpcResponse>
                          exceptionHandler) {
         super(delegate);
@@ -306,6 +323,9 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
         this.supportedSerializationFormats = ImmutableSet.copyOf(supportedSerializationFormats);
         this.maxRequestStringLength = maxRequestStringLength;
         this.maxRequestContainerLength = maxRequestContainerLength;
+        this.useStreamingDecoding = useStreamingDecoding;
+        this.incrementalDecodingThreshold = incrementalDecodingThreshold;
+        this.maxConcurrentIncrementalDecodings = maxConcurrentIncrementalDecodings;
         this.exceptionHandler = exceptionHandler;
         responseProtocolFactories = supportedSerializationFormats
                 .stream()
@@ -422,22 +442,16 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
         final HttpResponse res = HttpResponse.of(responseFuture);
         ctx.logBuilder().serializationFormat(serializationFormat);
         ctx.logBuilder().defer(RequestLogProperty.REQUEST_CONTENT);
+        if (useStreamingDecoding && supportsStreamingDecoding(serializationFormat)) {
+            req.subscribe(new StreamingRequestDecoder(ctx, req.headers(), serializationFormat, responseFuture),
+                          ctx.eventLoop(), SubscriptionOption.WITH_POOLED_OBJECTS);
+            return res;
+        }
+
         req.aggregate(AggregationOptions.usePooledObjects(ctx.alloc(), ctx.eventLoop()))
            .handle((aReq, cause) -> {
                if (cause != null) {
-                   cause = Exceptions.peel(cause);
-                   if (cause instanceof HttpStatusException || cause instanceof HttpResponseException) {
-                       return HttpResponse.ofFailure(cause);
-                   }
-                   final HttpResponse errorRes;
-                   if (ctx.config().verboseResponses()) {
-                       errorRes = HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR,
-                                                  MediaType.PLAIN_TEXT_UTF_8,
-                                                  Exceptions.traceText(cause));
-                   } else {
-                       errorRes = HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR);
-                   }
-                   responseFuture.complete(errorRes);
+                   handleRequestFailure(ctx, responseFuture, cause);
                    return null;
                }
                decodeAndInvoke(ctx, aReq, serializationFormat, responseFuture);
@@ -448,7 +462,40 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
 
     @Override
     public ExchangeType exchangeType(RoutingContext routingContext) {
-        return ExchangeType.UNARY;
+        // The request has to be streamed so that its message header can be decoded before
+        // the whole request is received.
+        return useStreamingDecoding ? ExchangeType.REQUEST_STREAMING : ExchangeType.UNARY;
+    }
+
+    /**
+     * Returns whether the message header of the specified {@link SerializationFormat} can be decoded
+     * from a partially received request. The text-based formats read the whole content at once.
+     */
+    private static boolean supportsStreamingDecoding(SerializationFormat serializationFormat) {
+        return serializationFormat == ThriftSerializationFormats.BINARY ||
+               serializationFormat == ThriftSerializationFormats.COMPACT;
+    }
+
+    private static void handleRequestFailure(ServiceRequestContext ctx, CompletableFuture<HttpResponse> httpRes,
+                                             Throwable cause) {
+        cause = Exceptions.peel(cause);
+        if (cause instanceof HttpStatusException || cause instanceof HttpResponseException) {
+            httpRes.complete(HttpResponse.ofFailure(cause));
+            return;
+        }
+        if (cause instanceof ContentTooLargeException) {
+            httpRes.complete(HttpResponse.of(HttpStatus.REQUEST_ENTITY_TOO_LARGE));
+            return;
+        }
+        final HttpResponse errorRes;
+        if (ctx.config().verboseResponses()) {
+            errorRes = HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR,
+                                       MediaType.PLAIN_TEXT_UTF_8,
+                                       Exceptions.traceText(cause));
+        } else {
+            errorRes = HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        httpRes.complete(errorRes);
     }
 
     @Nullable
@@ -498,103 +545,28 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
             ServiceRequestContext ctx, AggregatedHttpRequest req,
             SerializationFormat serializationFormat, CompletableFuture<HttpResponse> httpRes) {
 
-        final int seqId;
+        final TMessage header;
         final ThriftFunction f;
         final RpcRequest decodedReq;
 
         try (HttpData content = req.content()) {
             final ByteBuf buf = content.byteBuf();
-            final TByteBufTransport inTransport = new TByteBufTransport(buf);
-            final TProtocolFactory protocolFactory = requestProtocolFactories.get(serializationFormat);
-            assert protocolFactory != null;
-            final TProtocol inProto = protocolFactory.getProtocol(inTransport);
-
-            final TMessage header;
-            final TBase<?, ?> args;
+            final TProtocol inProto = newRequestProtocol(serializationFormat, new TByteBufTransport(buf));
 
             try {
-                // Optionally checks the message length before calling `readMessageBegin()` because
-                // Thrift 0.9.x and 0.10.x does not support a correct validation of `readMessageBegin()` for
-                // some `TProtocol`s.
-                ThriftProtocolUtil.maybeCheckMessageLength(serializationFormat, buf, maxRequestStringLength);
-
-                header = inProto.readMessageBegin();
+                header = readMessageBegin(serializationFormat, buf, inProto);
             } catch (Exception e) {
-                logger.debug("{} Failed to decode a {} header:", ctx, serializationFormat, e);
-
-                final HttpStatus httpStatus;
-                String message;
-                if (e instanceof TProtocolException &&
-                    ((TProtocolException) e).getType() == TProtocolException.SIZE_LIMIT) {
-                    httpStatus = HttpStatus.REQUEST_ENTITY_TOO_LARGE;
-                    message = firstNonNull(e.getMessage(), httpStatus.toString());
-                } else {
-                    httpStatus = HttpStatus.BAD_REQUEST;
-                    message = "Failed to decode a " + serializationFormat + " header";
-                }
-                if (ctx.config().verboseResponses()) {
-                    message += '\n' + Exceptions.traceText(e);
-                }
-
-                httpRes.complete(HttpResponse.of(httpStatus, MediaType.PLAIN_TEXT_UTF_8, message));
+                handleHeaderDecodeException(ctx, httpRes, serializationFormat, e);
                 return;
             }
 
-            seqId = header.seqid;
-
-            final byte typeValue = header.type;
-            final int colonIdx = header.name.indexOf(':');
-            final String serviceName;
-            final String methodName;
-            if (colonIdx < 0) {
-                serviceName = "";
-                methodName = header.name;
-            } else {
-                serviceName = header.name.substring(0, colonIdx);
-                methodName = header.name.substring(colonIdx + 1);
-            }
-
-            // Basic sanity check. We usually should never fail here.
-            if (typeValue != TMessageType.CALL && typeValue != TMessageType.ONEWAY) {
-                final TApplicationException cause = new TApplicationException(
-                        TApplicationException.INVALID_MESSAGE_TYPE,
-                        "unexpected TMessageType: " + typeString(typeValue));
-
-                handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
-                return;
-            }
-
-            // Ensure that such a method exists.
-            final ThriftServiceEntry entry = entries().get(serviceName);
-            f = entry != null ? entry.metadata.function(methodName) : null;
+            f = findFunction(ctx, httpRes, serializationFormat, header);
             if (f == null) {
-                final TApplicationException cause = new TApplicationException(
-                        TApplicationException.UNKNOWN_METHOD, "unknown method: " + header.name);
-
-                handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
                 return;
             }
 
-            // Decode the invocation parameters.
-            try {
-                args = f.newArgs();
-                args.read(inProto);
-                inProto.readMessageEnd();
-
-                decodedReq = toRpcRequest(f.serviceType(), header.name, args);
-                ctx.logBuilder().requestContent(decodedReq, new ThriftCall(header, args));
-            } catch (Exception e) {
-                final TApplicationException cause;
-                if (ctx.config().verboseResponses()) {
-                    cause = new TApplicationException(
-                            TApplicationException.PROTOCOL_ERROR, "failed to decode arguments: " + e);
-                } else {
-                    // The exception could have sensitive information such as the required field.
-                    // So we don't include the cause message unless verboseResponses returns true.
-                    cause = new TApplicationException(TApplicationException.PROTOCOL_ERROR,
-                                                      "failed to decode arguments for " + header.name);
-                }
-                handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
+            decodedReq = decodeArgs(ctx, httpRes, serializationFormat, header, f, inProto);
+            if (decodedReq == null) {
                 return;
             }
         } finally {
@@ -602,18 +574,137 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
         }
 
         if (!f.declaredDecorators().isEmpty()) {
-            ctx.setAttr(DECODED_REQUEST, new DecodedRequest(serializationFormat, seqId, f, decodedReq));
-            try {
-                final HttpService decoratedTHttpService = decoratedTHttpServices.get(f);
-                assert decoratedTHttpService != null;
-                httpRes.complete(decoratedTHttpService.serve(ctx, req.toHttpRequest()));
-            } catch (Exception e) {
-                handleException(ctx, httpRes, serializationFormat, seqId, f, e);
-            }
+            invokeDecorated(ctx, req.toHttpRequest(), serializationFormat, header.seqid, f,
+                            decodedReq, httpRes);
             return;
         }
 
-        invoke(ctx, serializationFormat, seqId, f, decodedReq, httpRes);
+        invoke(ctx, serializationFormat, header.seqid, f, decodedReq, httpRes);
+    }
+
+    private TProtocol newRequestProtocol(SerializationFormat serializationFormat, TTransport transport) {
+        final TProtocolFactory protocolFactory = requestProtocolFactories.get(serializationFormat);
+        assert protocolFactory != null;
+        return protocolFactory.getProtocol(transport);
+    }
+
+    private TMessage readMessageBegin(SerializationFormat serializationFormat, ByteBuf buf,
+                                      TProtocol inProto) throws TException {
+        // Optionally checks the message length before calling `readMessageBegin()` because
+        // Thrift 0.9.x and 0.10.x does not support a correct validation of `readMessageBegin()` for
+        // some `TProtocol`s.
+        ThriftProtocolUtil.maybeCheckMessageLength(serializationFormat, buf, maxRequestStringLength);
+        return inProto.readMessageBegin();
+    }
+
+    private static void handleHeaderDecodeException(
+            ServiceRequestContext ctx, CompletableFuture<HttpResponse> httpRes,
+            SerializationFormat serializationFormat, Exception e) {
+        logger.debug("{} Failed to decode a {} header:", ctx, serializationFormat, e);
+
+        final HttpStatus httpStatus;
+        String message;
+        if (e instanceof TProtocolException &&
+            ((TProtocolException) e).getType() == TProtocolException.SIZE_LIMIT) {
+            httpStatus = HttpStatus.REQUEST_ENTITY_TOO_LARGE;
+            message = firstNonNull(e.getMessage(), httpStatus.toString());
+        } else {
+            httpStatus = HttpStatus.BAD_REQUEST;
+            message = "Failed to decode a " + serializationFormat + " header";
+        }
+        if (ctx.config().verboseResponses()) {
+            message += '\n' + Exceptions.traceText(e);
+        }
+
+        httpRes.complete(HttpResponse.of(httpStatus, MediaType.PLAIN_TEXT_UTF_8, message));
+    }
+
+    /**
+     * Finds the {@link ThriftFunction} of the specified message header. If the message header is not a call
+     * or there's no such function, an exception is sent to the client and {@code null} is returned.
+     */
+    @Nullable
+    private ThriftFunction findFunction(ServiceRequestContext ctx, CompletableFuture<HttpResponse> httpRes,
+                                        SerializationFormat serializationFormat, TMessage header) {
+        final int seqId = header.seqid;
+        final byte typeValue = header.type;
+        final int colonIdx = header.name.indexOf(':');
+        final String serviceName;
+        final String methodName;
+        if (colonIdx < 0) {
+            serviceName = "";
+            methodName = header.name;
+        } else {
+            serviceName = header.name.substring(0, colonIdx);
+            methodName = header.name.substring(colonIdx + 1);
+        }
+
+        // Basic sanity check. We usually should never fail here.
+        if (typeValue != TMessageType.CALL && typeValue != TMessageType.ONEWAY) {
+            final TApplicationException cause = new TApplicationException(
+                    TApplicationException.INVALID_MESSAGE_TYPE,
+                    "unexpected TMessageType: " + typeString(typeValue));
+
+            handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
+            return null;
+        }
+
+        // Ensure that such a method exists.
+        final ThriftServiceEntry entry = entries().get(serviceName);
+        final ThriftFunction f = entry != null ? entry.metadata.function(methodName) : null;
+        if (f == null) {
+            final TApplicationException cause = new TApplicationException(
+                    TApplicationException.UNKNOWN_METHOD, "unknown method: " + header.name);
+
+            handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
+            return null;
+        }
+        return f;
+    }
+
+    /**
+     * Decodes the invocation parameters. If failed to decode, an exception is sent to the client and
+     * {@code null} is returned.
+     */
+    @Nullable
+    private RpcRequest decodeArgs(ServiceRequestContext ctx, CompletableFuture<HttpResponse> httpRes,
+                                  SerializationFormat serializationFormat, TMessage header,
+                                  ThriftFunction f, TProtocol inProto) {
+        try {
+            final TBase<?, ?> args = f.newArgs();
+            args.read(inProto);
+            inProto.readMessageEnd();
+
+            final RpcRequest decodedReq = toRpcRequest(f.serviceType(), header.name, args);
+            ctx.logBuilder().requestContent(decodedReq, new ThriftCall(header, args));
+            return decodedReq;
+        } catch (Exception e) {
+            final TApplicationException cause;
+            if (ctx.config().verboseResponses()) {
+                cause = new TApplicationException(
+                        TApplicationException.PROTOCOL_ERROR, "failed to decode arguments: " + e);
+            } else {
+                // The exception could have sensitive information such as the required field.
+                // So we don't include the cause message unless verboseResponses returns true.
+                cause = new TApplicationException(TApplicationException.PROTOCOL_ERROR,
+                                                  "failed to decode arguments for " + header.name);
+            }
+            handlePreDecodeException(ctx, httpRes, cause, serializationFormat, header.seqid, f.name());
+            return null;
+        }
+    }
+
+    private void invokeDecorated(
+            ServiceRequestContext ctx, HttpRequest req, SerializationFormat serializationFormat, int seqId,
+            ThriftFunction f, RpcRequest decodedReq, CompletableFuture<HttpResponse> httpRes) {
+        ctx.setAttr(DECODED_REQUEST, new DecodedRequest(serializationFormat, seqId, f, decodedReq));
+        try {
+            final HttpService decoratedTHttpService = decoratedTHttpServices.get(f);
+            assert decoratedTHttpService != null;
+            httpRes.complete(decoratedTHttpService.serve(ctx, req));
+        } catch (Exception e) {
+            handleException(ctx, httpRes, serializationFormat, seqId, f, e);
+        }
     }
 
     private static String typeString(byte typeValue) {
@@ -847,6 +938,260 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
         }
     }
 
+    /**
+     * Decodes a Thrift call while the request is being received. The message header is decoded as soon as
+     * enough bytes are received so that an invalid call is rejected without receiving the rest of
+     * the request. The arguments are decoded when the whole request is received, or incrementally using
+     * {@link ServiceRequestContext#blockingTaskExecutor()} if the request is larger than
+     * the {@code incrementalDecodingThreshold} and fewer than {@code maxConcurrentIncrementalDecodings}
+     * requests are being decoded incrementally. The arguments of a function with decorators are always
+     * decoded after the whole request is received, so that the decorators get the content of the request.
+     */
+    private final class StreamingRequestDecoder implements Subscriber<HttpObject> {
+
+        private final ServiceRequestContext ctx;
+        private final RequestHeaders headers;
+        private final SerializationFormat serializationFormat;
+        private final CompletableFuture<HttpResponse> httpRes;
+        private final TProtocol inProto;
+
+        @Nullable
+        private CompositeByteBuf buf;
+
+        @Nullable
+        private Subscription subscription;
+        @Nullable
+        private TMessage header;
+        @Nullable
+        private ThriftFunction func;
+        @Nullable
+        private StreamingRequestInputStream incrementalInput;
+        @Nullable
+        private HttpData content;
+        private boolean done;
+
+        StreamingRequestDecoder(ServiceRequestContext ctx, RequestHeaders headers,
+                                SerializationFormat serializationFormat,
+                                CompletableFuture<HttpResponse> httpRes) {
+            this.ctx = ctx;
+            this.headers = headers;
+            this.serializationFormat = serializationFormat;
+            this.httpRes = httpRes;
+            buf = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+            inProto = newRequestProtocol(serializationFormat, new TByteBufTransport(buf));
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(HttpObject obj) {
+            if (!(obj instanceof HttpData)) {
+                // Trailers are not used by Thrift.
+                return;
+            }
+
+            final HttpData data = (HttpData) obj;
+            if (done) {
+                data.close();
+                return;
+            }
+            if (incrementalInput != null) {
+                incrementalInput.add(data.byteBuf());
+                return;
+            }
+
+            assert buf != null;
+            buf.addComponent(true, data.byteBuf());
+            if (header == null) {
+                decodeHeader(false);
+            }
+        }
+
+        private void decodeHeader(boolean endOfStream) {
+            assert buf != null;
+            assert subscription != null;
+            final int readerIndex = buf.readerIndex();
+            final TMessage header;
+            try {
+                header = readMessageBegin(serializationFormat, buf, inProto);
+            } catch (TTransportException e) {
+                // The header has not been fully received yet.
+                buf.readerIndex(readerIndex);
+                if (!endOfStream) {
+                    subscription.request(1);
+                    return;
+                }
+                reject();
+                handleHeaderDecodeException(ctx, httpRes, serializationFormat, e);
+                return;
+            } catch (Exception e) {
+                reject();
+                handleHeaderDecodeException(ctx, httpRes, serializationFormat, e);
+                return;
+            }
+
+            final ThriftFunction func = findFunction(ctx, httpRes, serializationFormat, header);
+            if (func == null) {
+                reject();
+                return;
+            }
+            this.header = header;
+            this.func = func;
+
+            if (endOfStream) {
+                return;
+            }
+            if (shouldDecodeIncrementally(func) && tryAcquireIncrementalDecoding()) {
+                startIncrementalDecoding(header, func);
+            } else {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        private boolean shouldDecodeIncrementally(ThriftFunction func) {
+            if (incrementalDecodingThreshold < 0 || !func.declaredDecorators().isEmpty()) {
+                return false;
+            }
+            final long contentLength = headers.contentLength();
+            return contentLength < 0 || contentLength >= incrementalDecodingThreshold;
+        }
+
+        private boolean tryAcquireIncrementalDecoding() {
+            for (;;) {
+                final int num = numIncrementalDecodings.get();
+                if (num >= maxConcurrentIncrementalDecodings) {
+                    return false;
+                }
+                if (numIncrementalDecodings.compareAndSet(num, num + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void startIncrementalDecoding(TMessage header, ThriftFunction func) {
+            assert buf != null;
+            assert subscription != null;
+            final StreamingRequestInputStream input = new StreamingRequestInputStream(subscription);
+            incrementalInput = input;
+            // Hand over the bytes received after the header.
+            input.add(buf);
+            buf = null;
+            ctx.blockingTaskExecutor().execute(() -> decodeIncrementally(input, header, func));
+        }
+
+        private void decodeIncrementally(StreamingRequestInputStream input, TMessage header,
+                                         ThriftFunction func) {
+            RpcRequest decodedReq = null;
+            try {
+                final TProtocol inProto;
+                try {
+                    inProto = newRequestProtocol(serializationFormat, new TIOStreamTransport(input));
+                } catch (Exception e) {
+                    // TIOStreamTransport() declares a TTransportException since Thrift 0.14.
+                    handlePreDecodeException(ctx, httpRes, e, serializationFormat, header.seqid, func.name());
+                    return;
+                }
+                decodedReq = decodeArgs(ctx, httpRes, serializationFormat, header, func, inProto);
+            } finally {
+                numIncrementalDecodings.decrementAndGet();
+                input.close(decodedReq != null);
+                ctx.logBuilder().requestContent(null, null);
+            }
+
+            if (decodedReq != null) {
+                final RpcRequest decodedReq0 = decodedReq;
+                ctx.eventLoop().execute(() -> dispatch(header, func, decodedReq0));
+            }
+        }
+
+        @Override
+        public void onError(Throwable cause) {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (incrementalInput != null) {
+                incrementalInput.end(cause);
+            } else {
+                releaseBuffer();
+                ctx.logBuilder().requestContent(null, null);
+            }
+            handleRequestFailure(ctx, httpRes, cause);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            if (incrementalInput != null) {
+                done = true;
+                incrementalInput.end(null);
+                return;
+            }
+
+            if (header == null) {
+                decodeHeader(true);
+                if (done) {
+                    return;
+                }
+            }
+            done = true;
+
+            final TMessage header = this.header;
+            final ThriftFunction func = this.func;
+            assert header != null;
+            assert func != null;
+            final RpcRequest decodedReq;
+            try {
+                if (!func.declaredDecorators().isEmpty()) {
+                    // Keep the received bytes for the decorators.
+                    assert buf != null;
+                    content = HttpData.wrap(ByteBufUtil.getBytes(buf, 0, buf.writerIndex()));
+                }
+                decodedReq = decodeArgs(ctx, httpRes, serializationFormat, header, func, inProto);
+            } finally {
+                releaseBuffer();
+                ctx.logBuilder().requestContent(null, null);
+            }
+            if (decodedReq != null) {
+                dispatch(header, func, decodedReq);
+            }
+        }
+
+        private void dispatch(TMessage header, ThriftFunction func, RpcRequest decodedReq) {
+            final HttpData content = this.content;
+            if (content != null) {
+                invokeDecorated(ctx, HttpRequest.of(headers, content), serializationFormat, header.seqid, func,
+                                decodedReq, httpRes);
+                return;
+            }
+            invoke(ctx, serializationFormat, header.seqid, func, decodedReq, httpRes);
+        }
+
+        /**
+         * Stops receiving the request which has been rejected before its arguments are decoded.
+         */
+        private void reject() {
+            assert subscription != null;
+            done = true;
+            subscription.cancel();
+            releaseBuffer();
+            ctx.logBuilder().requestContent(null, null);
+        }
+
+        private void releaseBuffer() {
+            if (buf != null) {
+                buf.release();
+                buf = null;
+            }
+        }
+    }
+
     private static final class DecodedRequest {
 
         private final SerializationFormat serializationFormat;
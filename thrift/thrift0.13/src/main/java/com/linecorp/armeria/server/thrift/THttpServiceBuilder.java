@@ -38,6 +38,7 @@ import com.google.common.collect.Multimaps;
 import com.linecorp.armeria.common.RpcResponse;
 import com.linecorp.armeria.common.SerializationFormat;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.thrift.ThriftProtocolFactoryProvider;
 import com.linecorp.armeria.common.thrift.ThriftSerializationFormats;
 import com.linecorp.armeria.server.RpcService;
@@ -69,6 +70,8 @@ import com.linecorp.armeria.server.ServiceRequestContext;
  */
 public final class THttpServiceBuilder {
 
+    private static final int DEFAULT_MAX_CONCURRENT_INCREMENTAL_DECODINGS = 16;
+
     private static final BiFunction<? super ServiceRequestContext, ? super Throwable, ? extends RpcResponse>
             defaultExceptionHandler = (ctx, cause) -> RpcResponse.ofFailure(cause);
 
@@ -86,6 +89,10 @@ public final class THttpServiceBuilder {
     private int maxRequestStringLength = -1;
     private int maxRequestContainerLength = -1;
     private boolean useBlockingTaskExecutor;
+    private boolean useStreamingDecoding;
+    // -1 means to disable the incremental decoding.
+    private long incrementalDecodingThreshold = -1;
+    private int maxConcurrentIncrementalDecodings = DEFAULT_MAX_CONCURRENT_INCREMENTAL_DECODINGS;
 
     THttpServiceBuilder() {}
 
@@ -203,6 +210,63 @@ public final class THttpServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the service decodes a request while it is being received instead of waiting for
+     * the whole request. If enabled, the message header of a {@link ThriftSerializationFormats#BINARY} or
+     * {@link ThriftSerializationFormats#COMPACT} request is decoded as soon as its first bytes are received,
+     * so that a call to an unknown method is rejected without receiving the rest of the request.
+     * The other {@link SerializationFormat}s are decoded after the whole request is received as usual.
+     * This option is disabled by default.
+     *
+     * @see #incrementalDecodingThreshold(long)
+     */
+    @UnstableApi
+    public THttpServiceBuilder useStreamingDecoding(boolean useStreamingDecoding) {
+        this.useStreamingDecoding = useStreamingDecoding;
+        return this;
+    }
+
+    /**
+     * Sets the minimum content length of a request whose arguments are decoded incrementally as the request
+     * is received. Such a request is decoded using the blocking task executor, so that large lists and maps
+     * are decoded while the rest of the request is being received and the received bytes are released as
+     * soon as they are decoded. A request without {@code "content-length"} header is always decoded
+     * incrementally. If unspecified, the arguments are decoded after the whole request is received.
+     *
+     * <p>Note that a request being decoded incrementally occupies a thread of the blocking task executor
+     * until the whole request is received, which may take long if the client sends the request slowly.
+     * The number of such requests is limited by {@link #maxConcurrentIncrementalDecodings(int)}, and the
+     * arguments of the other requests are decoded after the whole request is received.
+     *
+     * <p>Note that this option implies {@link #useStreamingDecoding(boolean)}.
+     *
+     * @see #maxConcurrentIncrementalDecodings(int)
+     */
+    @UnstableApi
+    public THttpServiceBuilder incrementalDecodingThreshold(long incrementalDecodingThreshold) {
+        checkArgument(incrementalDecodingThreshold >= 0, "incrementalDecodingThreshold: %s (expected: >= 0)",
+                      incrementalDecodingThreshold);
+        this.incrementalDecodingThreshold = incrementalDecodingThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the requests which are decoded incrementally at the same time,
+     * i.e. the maximum number of the blocking task executor threads which may wait for the rest of
+     * a request. A request received while the limit is reached is decoded after the whole request is
+     * received. If unspecified, {@code 16} is used.
+     *
+     * @see #incrementalDecodingThreshold(long)
+     */
+    @UnstableApi
+    public THttpServiceBuilder maxConcurrentIncrementalDecodings(int maxConcurrentIncrementalDecodings) {
+        checkArgument(maxConcurrentIncrementalDecodings > 0,
+                      "maxConcurrentIncrementalDecodings: %s (expected: > 0)",
+                      maxConcurrentIncrementalDecodings);
+        this.maxConcurrentIncrementalDecodings = maxConcurrentIncrementalDecodings;
+        return this;
+    }
+
     /**
      * Sets the {@link BiFunction} that returns an {@link RpcResponse} using the given {@link Throwable}
      * and {@link ServiceRequestContext}.
@@ -260,7 +324,9 @@ public final class THttpServiceBuilder {
 
         return new THttpService(
                 decorate(tcs), defaultSerializationFormat, builder.build(),
-                maxRequestStringLength, maxRequestContainerLength, exceptionHandler
+                maxRequestStringLength, maxRequestContainerLength,
+                useStreamingDecoding || incrementalDecodingThreshold >= 0, incrementalDecodingThreshold,
+                maxConcurrentIncrementalDecodings, exceptionHandler
         );
     }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.thrift;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.linecorp.armeria.client.thrift.ThriftClients;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestWriter;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.SerializationFormat;
+import com.linecorp.armeria.common.thrift.ThriftSerializationFormats;
+import com.linecorp.armeria.server.DecoratingHttpServiceFunction;
+import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.annotation.Decorator;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import testing.thrift.main.HelloService;
+import testing.thrift.main.Name;
+import testing.thrift.main.NameSortService;
+
+class THttpServiceStreamingDecodingTest {
+
+    private static final HelloService.AsyncIface HELLO_SERVICE_HANDLER =
+            (name, resultHandler) -> resultHandler.onComplete("Hello " + name);
+
+    private static final NameSortService.AsyncIface NAME_SORT_SERVICE_HANDLER =
+            (names, resultHandler) -> resultHandler.onComplete(
+                    names.stream()
+                         .sorted(Comparator.comparing(Name::getFirst))
+                         .collect(Collectors.toList()));
+
+    private static final BlockingQueue<byte[]> decoratorContents = new LinkedBlockingQueue<>();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/streaming", THttpService.builder()
+                                                 .addService(HELLO_SERVICE_HANDLER)
+                                                 .addService(NAME_SORT_SERVICE_HANDLER)
+                                                 .useStreamingDecoding(true)
+                                                 .build());
+            sb.service("/incremental", THttpService.builder()
+                                                   .addService(HELLO_SERVICE_HANDLER)
+                                                   .addService(NAME_SORT_SERVICE_HANDLER)
+                                                   .incrementalDecodingThreshold(0)
+                                                   .build());
+            sb.service("/streaming-decorated", THttpService.builder()
+                                                           .addService(new DecoratedHelloService())
+                                                           .useStreamingDecoding(true)
+                                                           .build());
+            sb.service("/incremental-decorated", THttpService.builder()
+                                                             .addService(new DecoratedHelloService())
+                                                             .incrementalDecodingThreshold(0)
+                                                             .build());
+        }
+    };
+
+    @BeforeEach
+    void clear() {
+        decoratorContents.clear();
+    }
+
+    @CsvSource({
+            "/streaming, tbinary", "/streaming, tcompact", "/streaming, tjson",
+            "/incremental, tbinary", "/incremental, tcompact", "/incremental, tjson"
+    })
+    @ParameterizedTest
+    void call(String path, String format) throws Exception {
+        final SerializationFormat serializationFormat = SerializationFormat.of(format);
+        final HelloService.Iface helloClient =
+                ThriftClients.newClient(server.httpUri(serializationFormat).resolve(path),
+                                        HelloService.Iface.class);
+        assertThat(helloClient.hello("Armeria")).isEqualTo("Hello Armeria");
+
+        final NameSortService.Iface sortClient =
+                ThriftClients.newClient(server.httpUri(serializationFormat).resolve(path),
+                                        NameSortService.Iface.class);
+        final List<Name> names = new ArrayList<>();
+        for (int i = 9999; i >= 0; i--) {
+            names.add(new Name(String.format("%05d", i), "b", "c"));
+        }
+        final List<Name> sorted = sortClient.sort(names);
+        assertThat(sorted).hasSize(10000);
+        assertThat(sorted.get(0).getFirst()).isEqualTo("00000");
+        assertThat(sorted.get(9999).getFirst()).isEqualTo("09999");
+    }
+
+    @CsvSource({ "/streaming", "/incremental" })
+    @ParameterizedTest
+    void rejectUnknownMethodBeforeRequestIsReceived(String path) throws Exception {
+        final TMemoryBuffer out = new TMemoryBuffer(64);
+        final TProtocol outProto = protocol(out);
+        outProto.writeMessageBegin(new TMessage("unknown", TMessageType.CALL, 1));
+
+        final HttpRequestWriter req = HttpRequest.streaming(
+                RequestHeaders.of(HttpMethod.POST, path,
+                                  HttpHeaderNames.CONTENT_TYPE, ThriftSerializationFormats.BINARY.mediaType()));
+        req.write(HttpData.wrap(Arrays.copyOf(out.getArray(), out.length())));
+
+        // The request is not closed, but the response is sent as soon as the header is decoded.
+        final AggregatedHttpResponse res =
+                server.webClient().execute(req).aggregate().get(10, TimeUnit.SECONDS);
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).contains("unknown method: unknown");
+        req.abort();
+    }
+
+    @Test
+    void decodeArgumentsWhileReceiving() throws Exception {
+        final List<Name> names = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            names.add(new Name(String.format("%05d", 999 - i), "b", "c"));
+        }
+        final TMemoryBuffer out = new TMemoryBuffer(1024);
+        final TProtocol outProto = protocol(out);
+        outProto.writeMessageBegin(new TMessage("sort", TMessageType.CALL, 42));
+        new NameSortService.sort_args(names).write(outProto);
+        outProto.writeMessageEnd();
+        final byte[] message = Arrays.copyOf(out.getArray(), out.length());
+
+        // Send the request in small chunks without 'content-length'.
+        final HttpRequestWriter req = HttpRequest.streaming(
+                RequestHeaders.of(HttpMethod.POST, "/incremental",
+                                  HttpHeaderNames.CONTENT_TYPE, ThriftSerializationFormats.BINARY.mediaType()));
+        final int chunkSize = 1000;
+        for (int i = 0; i < message.length; i += chunkSize) {
+            req.write(HttpData.wrap(Arrays.copyOfRange(message, i, Math.min(i + chunkSize, message.length))));
+        }
+        req.close();
+
+        final AggregatedHttpResponse res =
+                server.webClient().execute(req).aggregate().get(10, TimeUnit.SECONDS);
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+
+        final TProtocol inProto = protocol(new TMemoryInputTransport(res.content().array()));
+        final TMessage header = inProto.readMessageBegin();
+        assertThat(header.type).isEqualTo(TMessageType.REPLY);
+        assertThat(header.seqid).isEqualTo(42);
+        final NameSortService.sort_result result = new NameSortService.sort_result();
+        result.read(inProto);
+        assertThat(result.getSuccess()).hasSize(1000);
+        assertThat(result.getSuccess().get(0).getFirst()).isEqualTo("00000");
+    }
+
+    @CsvSource({ "/streaming-decorated", "/incremental-decorated" })
+    @ParameterizedTest
+    void decoratorsReceiveContent(String path) throws Exception {
+        final HelloService.Iface client = ThriftClients.newClient(server.httpUri().resolve(path),
+                                                                  HelloService.Iface.class);
+        assertThat(client.hello("Armeria")).isEqualTo("Hello Armeria");
+
+        final byte[] content = decoratorContents.poll(10, TimeUnit.SECONDS);
+        assertThat(content).isNotNull();
+        final TProtocol inProto = protocol(new TMemoryInputTransport(content));
+        assertThat(inProto.readMessageBegin().name).isEqualTo("hello");
+        final HelloService.hello_args args = new HelloService.hello_args();
+        args.read(inProto);
+        assertThat(args.getName()).isEqualTo("Armeria");
+    }
+
+    private static TProtocol protocol(TTransport transport) {
+        return ThriftSerializationFormats.protocolFactory(ThriftSerializationFormats.BINARY, 0, 0)
+                                         .getProtocol(transport);
+    }
+
+    private static final class DecoratedHelloService implements HelloService.AsyncIface {
+        @Override
+        @Decorator(ContentRecordingDecorator.class)
+        public void hello(String name, AsyncMethodCallback<String> resultHandler) {
+            resultHandler.onComplete("Hello " + name);
+        }
+    }
+
+    private static final class ContentRecordingDecorator implements DecoratingHttpServiceFunction {
+        @Override
+        public HttpResponse serve(HttpService delegate, ServiceRequestContext ctx, HttpRequest req)
+                throws Exception {
+            req.aggregate().thenAccept(aggregated -> decoratorContents.add(aggregated.content().array()));
+            return delegate.serve(ctx, req);
+        }
+    }
+}
@@ -34,14 +34,23 @@ final class CompositeXdsStream implements XdsStream {
     private final Map<XdsType, XdsStream> streamMap = new EnumMap<>(XdsType.class);
 
     CompositeXdsStream(GrpcClientBuilder clientBuilder, Node node, Backoff backoff,
-                       EventExecutor eventLoop, XdsResponseHandler handler,
+                       EventExecutor eventLoop, DefaultResponseHandler handler,
                        SubscriberStorage subscriberStorage,
-                       Function<String, DefaultConfigSourceLifecycleObserver> metersFunction) {
+                       Function<String, DefaultConfigSourceLifecycleObserver> metersFunction,
+                       boolean delta) {
         for (XdsType type: XdsType.discoverableTypes()) {
-            final SotwXdsStream stream = new SotwXdsStream(
-                    SotwDiscoveryStub.basic(type, clientBuilder), node, backoff, eventLoop,
-                    handler, subscriberStorage, EnumSet.of(type),
-                    metersFunction.apply(type.name().toLowerCase(Locale.ROOT)));
+            final DefaultConfigSourceLifecycleObserver observer =
+                    metersFunction.apply(type.name().toLowerCase(Locale.ROOT));
+            final XdsStream stream;
+            if (delta) {
+                stream = new DeltaXdsStream(DeltaDiscoveryStub.basic(type, clientBuilder), node, backoff,
+                                            eventLoop, handler, subscriberStorage, EnumSet.of(type),
+                                            observer);
+            } else {
+                stream = new SotwXdsStream(SotwDiscoveryStub.basic(type, clientBuilder), node, backoff,
+                                           eventLoop, handler, subscriberStorage, EnumSet.of(type),
+                                           observer);
+            }
             streamMap.put(type, stream);
         }
     }
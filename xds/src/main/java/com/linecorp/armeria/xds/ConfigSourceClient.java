@@ -31,6 +31,7 @@ import com.linecorp.armeria.common.metric.MeterIdPrefix;
 import com.linecorp.armeria.common.util.SafeCloseable;
 
 import io.envoyproxy.envoy.config.core.v3.ApiConfigSource;
+import io.envoyproxy.envoy.config.core.v3.ApiConfigSource.ApiType;
 import io.envoyproxy.envoy.config.core.v3.ConfigSource;
 import io.envoyproxy.envoy.config.core.v3.GrpcService;
 import io.envoyproxy.envoy.config.core.v3.GrpcService.EnvoyGrpc;
@@ -59,7 +60,7 @@ final class ConfigSourceClient implements SafeCloseable {
 
         final long fetchTimeoutMillis = initialFetchTimeoutMillis(configSource);
         subscriberStorage = new SubscriberStorage(eventLoop, fetchTimeoutMillis);
-        final XdsResponseHandler handler = new DefaultResponseHandler(subscriberStorage);
+        final DefaultResponseHandler handler = new DefaultResponseHandler(subscriberStorage);
 
         final List<GrpcService> grpcServices = apiConfigSource.getGrpcServicesList();
         checkArgument(!grpcServices.isEmpty(),
@@ -80,14 +81,21 @@ final class ConfigSourceClient implements SafeCloseable {
                         envoyGrpc.getClusterName(), xdsType);
 
         final boolean ads = configSource.hasAds();
+        final boolean delta = isDelta(apiConfigSource.getApiType());
         if (ads) {
-            final SotwDiscoveryStub stub = SotwDiscoveryStub.ads(builder);
-            stream = new SotwXdsStream(stub, node, Backoff.ofDefault(),
-                                       eventLoop, handler, subscriberStorage, metersFunction.apply("ads"));
+            if (delta) {
+                final DeltaDiscoveryStub stub = DeltaDiscoveryStub.ads(builder);
+                stream = new DeltaXdsStream(stub, node, Backoff.ofDefault(), eventLoop, handler,
+                                            subscriberStorage, metersFunction.apply("ads"));
+            } else {
+                final SotwDiscoveryStub stub = SotwDiscoveryStub.ads(builder);
+                stream = new SotwXdsStream(stub, node, Backoff.ofDefault(), eventLoop, handler,
+                                           subscriberStorage, metersFunction.apply("ads"));
+            }
         } else {
             stream = new CompositeXdsStream(builder, node, Backoff.ofDefault(),
                                             eventLoop, handler, subscriberStorage,
-                                            metersFunction);
+                                            metersFunction, delta);
         }
     }
 
@@ -116,6 +124,13 @@ final class ConfigSourceClient implements SafeCloseable {
         subscriberStorage.close();
     }
 
+    /**
+     * Returns whether the incremental xDS protocol is used for the {@link ApiType}.
+     */
+    private static boolean isDelta(ApiType apiType) {
+        return apiType == ApiType.DELTA_GRPC || apiType == ApiType.AGGREGATED_DELTA_GRPC;
+    }
+
     private static long initialFetchTimeoutMillis(ConfigSource configSource) {
         if (!configSource.hasInitialFetchTimeout()) {
             return 15_000;
@@ -25,6 +25,8 @@ import org.slf4j.LoggerFactory;
 import com.linecorp.armeria.common.metric.MeterIdPrefix;
 
 import io.envoyproxy.envoy.config.core.v3.ConfigSource.ConfigSourceSpecifierCase;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
 import io.envoyproxy.envoy.service.discovery.v3.DiscoveryRequest;
 import io.envoyproxy.envoy.service.discovery.v3.DiscoveryResponse;
 import io.micrometer.core.instrument.Counter;
@@ -108,6 +110,12 @@ final class DefaultConfigSourceLifecycleObserver implements ConfigSourceLifecycl
         streamRequestCounter.increment();
     }
 
+    @Override
+    public void requestSent(DeltaDiscoveryRequest request) {
+        logger.debug("{} Sending delta discovery request: {}", loggingIdentifier, request);
+        streamRequestCounter.increment();
+    }
+
     @Override
     public void responseReceived(DiscoveryResponse value) {
         if (logger.isTraceEnabled()) {
@@ -116,9 +124,27 @@ final class DefaultConfigSourceLifecycleObserver implements ConfigSourceLifecycl
         streamResponseCounter.increment();
     }
 
+    @Override
+    public void responseReceived(DeltaDiscoveryResponse value) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("{} Received delta discovery response: {}", loggingIdentifier, value);
+        }
+        streamResponseCounter.increment();
+    }
+
     @Override
     public void resourceUpdated(XdsType type, DiscoveryResponse response,
                                 Map<String, Object> updatedResources) {
+        resourceUpdated(updatedResources);
+    }
+
+    @Override
+    public void resourceUpdated(XdsType type, DeltaDiscoveryResponse response,
+                                Map<String, Object> updatedResources) {
+        resourceUpdated(updatedResources);
+    }
+
+    private void resourceUpdated(Map<String, Object> updatedResources) {
         if (!updatedResources.isEmpty()) {
             logger.debug("{} Updating resources: {}", loggingIdentifier, updatedResources);
         }
@@ -128,6 +154,16 @@ final class DefaultConfigSourceLifecycleObserver implements ConfigSourceLifecycl
     @Override
     public void resourceRejected(XdsType type, DiscoveryResponse response,
                                  Map<String, Throwable> rejectedResources) {
+        resourceRejected(rejectedResources);
+    }
+
+    @Override
+    public void resourceRejected(XdsType type, DeltaDiscoveryResponse response,
+                                 Map<String, Throwable> rejectedResources) {
+        resourceRejected(rejectedResources);
+    }
+
+    private void resourceRejected(Map<String, Throwable> rejectedResources) {
         if (!rejectedResources.isEmpty()) {
             logger.warn("{} Rejected resources: {}", loggingIdentifier, rejectedResources);
         }
@@ -16,6 +16,7 @@
 
 package com.linecorp.armeria.xds;
 
+import java.util.List;
 import java.util.Map;
 
 import com.google.common.base.Joiner;
@@ -23,9 +24,10 @@ import com.google.protobuf.Message;
 
 import com.linecorp.armeria.xds.SotwXdsStream.ActualStream;
 
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
 import io.envoyproxy.envoy.service.discovery.v3.DiscoveryResponse;
 
-final class DefaultResponseHandler implements XdsResponseHandler {
+final class DefaultResponseHandler implements XdsResponseHandler, DeltaXdsResponseHandler {
 
     private final SubscriberStorage storage;
     private static final Joiner errorMessageJoiner = Joiner.on('\n');
@@ -91,6 +93,49 @@ final class DefaultResponseHandler implements XdsResponseHandler {
         }
     }
 
+    @Override
+    public <I extends Message, O extends XdsResource> void handleDeltaResponse(
+            ResourceParser<I, O> resourceParser, DeltaDiscoveryResponse response,
+            DeltaXdsStream.ActualStream sender, ConfigSourceLifecycleObserver observer) {
+        final XdsType type = resourceParser.type();
+        final ParsedResourcesHolder holder =
+                resourceParser.parseDeltaResources(response.getResourcesList(), sender.nextRevision(type));
+        final List<String> removedResources = response.getRemovedResourcesList();
+        if (holder.errors().isEmpty()) {
+            sender.ackResponse(type, response);
+            storage.updateCache(type, holder.parsedResources(), removedResources);
+        } else {
+            sender.nackResponse(type, response.getNonce(), errorMessageJoiner.join(holder.errors()));
+        }
+        observer.resourceUpdated(type, response, holder.parsedResources());
+        observer.resourceRejected(type, response, holder.invalidResources());
+
+        // Unlike the state-of-the-world protocol, look up only the subscribers of the resources
+        // in the response because the other resources did not change.
+        final Map<String, XdsStreamSubscriber<O>> subscribers = storage.subscribers(type);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (String resourceName : holder.parsedResources().keySet()) {
+            final XdsStreamSubscriber<O> subscriber = subscribers.get(resourceName);
+            if (subscriber != null) {
+                notifyOnData(subscriber, holder, resourceName);
+            }
+        }
+        for (Map.Entry<String, Throwable> entry : holder.invalidResources().entrySet()) {
+            final XdsStreamSubscriber<O> subscriber = subscribers.get(entry.getKey());
+            if (subscriber != null) {
+                subscriber.onError(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String resourceName : removedResources) {
+            final XdsStreamSubscriber<O> subscriber = subscribers.get(resourceName);
+            if (subscriber != null) {
+                subscriber.onAbsent();
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <O extends XdsResource> void notifyOnData(XdsStreamSubscriber<O> subscriber,
                                                              ParsedResourcesHolder holder,
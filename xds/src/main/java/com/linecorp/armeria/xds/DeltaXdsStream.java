@@ -0,0 +1,389 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.xds;
+
+import static com.linecorp.armeria.xds.XdsResourceParserUtil.fromTypeUrl;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.rpc.Code;
+
+import com.linecorp.armeria.client.retry.Backoff;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.envoyproxy.envoy.config.core.v3.Node;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * An {@link XdsStream} which uses the incremental xDS protocol. Unlike {@link SotwXdsStream}, only
+ * the changes of the subscriptions are sent to the control plane, and the control plane sends only
+ * the resources which were added, updated or removed.
+ */
+final class DeltaXdsStream implements XdsStream, XdsStreamState {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeltaXdsStream.class);
+
+    private final ResourceVersions resourceVersions = new ResourceVersions();
+    private final DeltaDiscoveryStub stub;
+    private final Node node;
+    private final Backoff backoff;
+    private final EventExecutor eventLoop;
+    private final DeltaXdsResponseHandler responseHandler;
+    private final SubscriberStorage subscriberStorage;
+    private int connBackoffAttempts = 1;
+
+    // whether the stream is stopped explicitly by the user
+    private boolean stopped;
+    @Nullable
+    @VisibleForTesting
+    ActualStream actualStream;
+
+    private final Set<XdsType> targetTypes;
+    private final ConfigSourceLifecycleObserver lifecycleObserver;
+
+    DeltaXdsStream(DeltaDiscoveryStub stub, Node node, Backoff backoff,
+                   EventExecutor eventLoop, DeltaXdsResponseHandler responseHandler,
+                   SubscriberStorage subscriberStorage,
+                   ConfigSourceLifecycleObserver lifecycleObserver) {
+        this(stub, node, backoff, eventLoop, responseHandler, subscriberStorage,
+             XdsType.discoverableTypes(), lifecycleObserver);
+    }
+
+    DeltaXdsStream(DeltaDiscoveryStub stub, Node node, Backoff backoff,
+                   EventExecutor eventLoop, DeltaXdsResponseHandler responseHandler,
+                   SubscriberStorage subscriberStorage, Set<XdsType> targetTypes,
+                   ConfigSourceLifecycleObserver lifecycleObserver) {
+        this.stub = requireNonNull(stub, "stub");
+        this.node = requireNonNull(node, "node");
+        this.backoff = requireNonNull(backoff, "backoff");
+        this.eventLoop = requireNonNull(eventLoop, "eventLoop");
+        this.responseHandler = requireNonNull(responseHandler, "responseHandler");
+        this.subscriberStorage = requireNonNull(subscriberStorage, "subscriberStorage");
+        this.targetTypes = targetTypes;
+        this.lifecycleObserver = requireNonNull(lifecycleObserver, "lifecycleObserver");
+    }
+
+    @VisibleForTesting
+    void start() {
+        if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(this::start);
+            return;
+        }
+        stopped = false;
+        reset();
+    }
+
+    private void reset() {
+        if (stopped) {
+            return;
+        }
+
+        for (XdsType targetType : targetTypes) {
+            // An initial request without any resource names is a wildcard subscription for LDS and CDS,
+            // so send a request only if the resource type has subscriptions.
+            if (!subscriberStorage.resources(targetType).isEmpty()) {
+                resourcesUpdated(targetType);
+            }
+        }
+    }
+
+    void stop() {
+        stop(Status.CANCELLED.withDescription("shutdown").asException());
+    }
+
+    void stop(Throwable throwable) {
+        requireNonNull(throwable, "throwable");
+        if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(() -> stop(throwable));
+            return;
+        }
+        stopped = true;
+        if (actualStream == null) {
+            return;
+        }
+        actualStream.closeStream();
+        actualStream = null;
+    }
+
+    @Override
+    public void close() {
+        stop();
+        lifecycleObserver.close();
+    }
+
+    @Override
+    public void resourcesUpdated(XdsType type) {
+        actualStream().sendSubscriptionUpdate(type);
+    }
+
+    private ActualStream actualStream() {
+        if (actualStream == null) {
+            actualStream = new ActualStream(stub, this, resourceVersions, eventLoop,
+                                            lifecycleObserver, responseHandler, backoff, node);
+        }
+        return actualStream;
+    }
+
+    @Override
+    public void retryOrClose(boolean closedByError) {
+        if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(() -> retryOrClose(closedByError));
+            return;
+        }
+        if (stopped) {
+            // don't reschedule automatically since the user explicitly closed the stream
+            return;
+        }
+        actualStream = null;
+        // wait backoff
+        if (closedByError) {
+            connBackoffAttempts++;
+        } else {
+            connBackoffAttempts = 1;
+        }
+        final long nextDelayMillis = backoff.nextDelayMillis(connBackoffAttempts);
+        if (nextDelayMillis < 0) {
+            return;
+        }
+        eventLoop.schedule(this::reset, nextDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Collection<String> watchedResources(XdsType type) {
+        return subscriberStorage.resources(type);
+    }
+
+    static class ActualStream implements StreamObserver<DeltaDiscoveryResponse> {
+
+        private final StreamObserver<DeltaDiscoveryRequest> requestObserver;
+        private final XdsStreamState xdsStreamState;
+        private final ResourceVersions resourceVersions;
+        private final EventExecutor eventLoop;
+        private final ConfigSourceLifecycleObserver lifecycleObserver;
+        private final DeltaXdsResponseHandler responseHandler;
+        private final Backoff backoff;
+        private final Node node;
+
+        private int ackBackoffAttempts;
+        // The resource names which the control plane knows this stream is subscribing to.
+        private final Map<XdsType, Set<String>> subscribedResources = new EnumMap<>(XdsType.class);
+        boolean completed;
+
+        ActualStream(DeltaDiscoveryStub stub, XdsStreamState xdsStreamState,
+                     ResourceVersions resourceVersions, EventExecutor eventLoop,
+                     ConfigSourceLifecycleObserver lifecycleObserver,
+                     DeltaXdsResponseHandler responseHandler, Backoff backoff, Node node) {
+            this.xdsStreamState = xdsStreamState;
+            this.resourceVersions = resourceVersions;
+            this.eventLoop = eventLoop;
+            this.lifecycleObserver = lifecycleObserver;
+            this.responseHandler = responseHandler;
+            this.backoff = backoff;
+            this.node = node;
+            requestObserver = stub.stream(this);
+            lifecycleObserver.streamOpened();
+        }
+
+        void ackResponse(XdsType type, DeltaDiscoveryResponse response) {
+            ackBackoffAttempts = 0;
+            resourceVersions.update(type, response.getResourcesList(), response.getRemovedResourcesList());
+            sendDiscoveryRequest(DeltaDiscoveryRequest.newBuilder()
+                                                      .setTypeUrl(type.typeUrl())
+                                                      .setResponseNonce(response.getNonce()));
+        }
+
+        void nackResponse(XdsType type, String nonce, String errorDetail) {
+            ackBackoffAttempts++;
+            final DeltaDiscoveryRequest.Builder builder =
+                    DeltaDiscoveryRequest.newBuilder()
+                                         .setTypeUrl(type.typeUrl())
+                                         .setResponseNonce(nonce)
+                                         .setErrorDetail(com.google.rpc.Status.newBuilder()
+                                                                 .setCode(Code.INVALID_ARGUMENT_VALUE)
+                                                                 .setMessage(errorDetail)
+                                                                 .build());
+            eventLoop.schedule(() -> sendDiscoveryRequest(builder),
+                               backoff.nextDelayMillis(ackBackoffAttempts), TimeUnit.MILLISECONDS);
+        }
+
+        long nextRevision(XdsType type) {
+            return resourceVersions.nextRevision(type);
+        }
+
+        void closeStream() {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            requestObserver.onCompleted();
+        }
+
+        /**
+         * Sends the difference between the watched resources and the resources which have been subscribed
+         * to on this stream.
+         */
+        void sendSubscriptionUpdate(XdsType type) {
+            if (completed) {
+                return;
+            }
+            final Collection<String> watched = xdsStreamState.watchedResources(type);
+            final DeltaDiscoveryRequest.Builder builder =
+                    DeltaDiscoveryRequest.newBuilder().setTypeUrl(type.typeUrl());
+            final Set<String> subscribed = subscribedResources.get(type);
+            if (subscribed == null) {
+                if (watched.isEmpty()) {
+                    // Do not send a wildcard subscription.
+                    return;
+                }
+                // The first request of this type on the stream. Let the control plane know
+                // the versions we have so that it doesn't have to resend unchanged resources.
+                subscribedResources.put(type, new HashSet<>(watched));
+                builder.addAllResourceNamesSubscribe(watched)
+                       .putAllInitialResourceVersions(resourceVersions.versions(type, watched));
+            } else {
+                final List<String> toSubscribe = watched.stream()
+                                                        .filter(name -> !subscribed.contains(name))
+                                                        .collect(ImmutableList.toImmutableList());
+                final List<String> toUnsubscribe = subscribed.stream()
+                                                             .filter(name -> !watched.contains(name))
+                                                             .collect(ImmutableList.toImmutableList());
+                if (toSubscribe.isEmpty() && toUnsubscribe.isEmpty()) {
+                    return;
+                }
+                subscribed.addAll(toSubscribe);
+                toUnsubscribe.forEach(subscribed::remove);
+                resourceVersions.remove(type, toUnsubscribe);
+                builder.addAllResourceNamesSubscribe(toSubscribe)
+                       .addAllResourceNamesUnsubscribe(toUnsubscribe);
+            }
+            sendDiscoveryRequest(builder);
+        }
+
+        private void sendDiscoveryRequest(DeltaDiscoveryRequest.Builder builder) {
+            if (completed) {
+                return;
+            }
+            final DeltaDiscoveryRequest request = builder.setNode(node).build();
+            lifecycleObserver.requestSent(request);
+            requestObserver.onNext(request);
+        }
+
+        @Override
+        public void onNext(DeltaDiscoveryResponse value) {
+            if (!eventLoop.inEventLoop()) {
+                eventLoop.execute(() -> onNext(value));
+                return;
+            }
+            if (completed) {
+                return;
+            }
+            lifecycleObserver.responseReceived(value);
+
+            final ResourceParser<?, ?> resourceParser = fromTypeUrl(value.getTypeUrl());
+            if (resourceParser == null) {
+                logger.warn("XDS stream Received unexpected type: {}", value.getTypeUrl());
+                return;
+            }
+            responseHandler.handleDeltaResponse(resourceParser, value, this, lifecycleObserver);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!eventLoop.inEventLoop()) {
+                eventLoop.execute(() -> onError(throwable));
+                return;
+            }
+            completed = true;
+            lifecycleObserver.streamError(throwable);
+            xdsStreamState.retryOrClose(true);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (!eventLoop.inEventLoop()) {
+                eventLoop.execute(this::onCompleted);
+                return;
+            }
+            completed = true;
+            lifecycleObserver.streamCompleted();
+            xdsStreamState.retryOrClose(false);
+        }
+    }
+
+    /**
+     * Keeps the versions of the acknowledged resources across the streams, so that a new stream can
+     * resume from the resources which have been received already.
+     */
+    static class ResourceVersions {
+
+        private final Map<XdsType, Map<String, String>> versions = new EnumMap<>(XdsType.class);
+        private final Map<XdsType, Long> revisions = new EnumMap<>(XdsType.class);
+
+        void update(XdsType type, List<Resource> resources, List<String> removed) {
+            final Map<String, String> versions = this.versions.computeIfAbsent(type, unused -> new HashMap<>());
+            for (Resource resource : resources) {
+                versions.put(resource.getName(), resource.getVersion());
+            }
+            removed.forEach(versions::remove);
+        }
+
+        void remove(XdsType type, Collection<String> names) {
+            final Map<String, String> versions = this.versions.get(type);
+            if (versions != null) {
+                names.forEach(versions::remove);
+            }
+        }
+
+        Map<String, String> versions(XdsType type, Collection<String> names) {
+            final Map<String, String> versions = this.versions.get(type);
+            if (versions == null) {
+                return ImmutableMap.of();
+            }
+            final ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+            for (String name : names) {
+                final String version = versions.get(name);
+                if (version != null) {
+                    builder.put(name, version);
+                }
+            }
+            return builder.build();
+        }
+
+        long nextRevision(XdsType type) {
+            return revisions.merge(type, 1L, Long::sum);
+        }
+    }
+}
@@ -23,6 +23,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.protobuf.Any;
 import com.google.protobuf.Message;
 
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+
 abstract class ResourceParser<I extends Message, O extends XdsResource> {
 
     abstract String name(I message);
@@ -63,6 +65,45 @@ abstract class ResourceParser<I extends Message, O extends XdsResource> {
                                          invalidResources.buildKeepingLast());
     }
 
+    /**
+     * Parses the resources of an incremental xDS response. Unlike {@link #parseResources(List, String, long)},
+     * each {@link Resource} carries its own name and version.
+     */
+    ParsedResourcesHolder parseDeltaResources(List<Resource> resources, long revision) {
+        final ImmutableMap.Builder<String, Object> parsedResources = ImmutableMap.builder();
+        final ImmutableMap.Builder<String, Throwable> invalidResources = ImmutableMap.builder();
+
+        for (int i = 0; i < resources.size(); i++) {
+            final Resource resource = resources.get(i);
+            final String name = resource.getName();
+
+            final I unpackedMessage;
+            try {
+                unpackedMessage = resource.getResource().unpack(clazz());
+            } catch (Exception e) {
+                final String genName = name.isEmpty() ? String.format("generated_%s_%s", i,
+                                                                      clazz().getSimpleName())
+                                                      : name;
+                invalidResources.put(genName, e);
+                continue;
+            }
+            final String resourceName = name.isEmpty() ? name(unpackedMessage) : name;
+            final O resourceUpdate;
+            try {
+                resourceUpdate = parse(unpackedMessage, resource.getVersion(), revision);
+            } catch (Exception e) {
+                invalidResources.put(resourceName, e);
+                continue;
+            }
+
+            // Resource parsed successfully.
+            parsedResources.put(resourceName, resourceUpdate);
+        }
+
+        return new ParsedResourcesHolder(parsedResources.buildKeepingLast(),
+                                         invalidResources.buildKeepingLast());
+    }
+
     // Do not confuse with the SotW approach: it is the mechanism in which the client must specify all
     // resource names it is interested in with each request. Different resource types may behave
     // differently in this approach. For LDS and CDS resources, the server must return all resources
@@ -16,6 +16,7 @@
 
 package com.linecorp.armeria.xds;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -95,6 +96,13 @@ final class SubscriberStorage implements SafeCloseable {
         resourceCache.updateResources(type, resources);
     }
 
+    /**
+     * Updates only the specified resources of the cache, which is used for the incremental xDS protocol.
+     */
+    void updateCache(XdsType type, Map<String, Object> updatedResources, Collection<String> removedResources) {
+        resourceCache.updateResources(type, updatedResources, removedResources);
+    }
+
     static <T> T unsafeCast(Object obj) {
         //noinspection unchecked
         return (T) obj;
@@ -124,6 +132,22 @@ final class SubscriberStorage implements SafeCloseable {
             type2resources.put(type, resources);
         }
 
+        void updateResources(XdsType type, Map<String, Object> updatedResources,
+                             Collection<String> removedResources) {
+            if (updatedResources.isEmpty() && removedResources.isEmpty()) {
+                return;
+            }
+            Map<String, Object> resources = type2resources.get(type);
+            if (!(resources instanceof HashMap)) {
+                // Created by a state-of-the-world update or not created yet. Copy only once so that
+                // the subsequent updates touch only the changed entries.
+                resources = resources == null ? new HashMap<>() : new HashMap<>(resources);
+                type2resources.put(type, resources);
+            }
+            resources.putAll(updatedResources);
+            removedResources.forEach(resources::remove);
+        }
+
         @Nullable
         Object find(XdsType type, String resourceName) {
             return type2resources.getOrDefault(type, ImmutableMap.of())
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.xds;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+
+import io.envoyproxy.envoy.service.discovery.v3.AggregatedDiscoveryServiceGrpc.AggregatedDiscoveryServiceImplBase;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * A minimal control plane which serves the incremental xDS protocol over the aggregated discovery service.
+ * Each resource is versioned separately, and only the resources which changed are sent to the streams
+ * subscribing to them.
+ */
+final class DeltaTestControlPlane extends AggregatedDiscoveryServiceImplBase {
+
+    private final Map<String, Map<String, Resource>> resources = new ConcurrentHashMap<>();
+    private final Set<StreamState> streams = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<DeltaDiscoveryRequest> requests = new LinkedBlockingQueue<>();
+    private final AtomicLong versionCounter = new AtomicLong();
+    private final AtomicLong nonceCounter = new AtomicLong();
+
+    void setResource(XdsType type, String name, Message message) {
+        final Resource resource = Resource.newBuilder()
+                                          .setName(name)
+                                          .setVersion(String.valueOf(versionCounter.incrementAndGet()))
+                                          .setResource(Any.pack(message))
+                                          .build();
+        resources.computeIfAbsent(type.typeUrl(), unused -> new ConcurrentHashMap<>()).put(name, resource);
+        streams.forEach(stream -> stream.onUpdated(type.typeUrl(), resource));
+    }
+
+    void removeResource(XdsType type, String name) {
+        final Map<String, Resource> resources = this.resources.get(type.typeUrl());
+        if (resources == null || resources.remove(name) == null) {
+            return;
+        }
+        streams.forEach(stream -> stream.onRemoved(type.typeUrl(), name));
+    }
+
+    /**
+     * Returns the requests received from the clients, including ACKs and NACKs.
+     */
+    BlockingQueue<DeltaDiscoveryRequest> requests() {
+        return requests;
+    }
+
+    void clear() {
+        resources.clear();
+        requests.clear();
+    }
+
+    @Override
+    public StreamObserver<DeltaDiscoveryRequest> deltaAggregatedResources(
+            StreamObserver<DeltaDiscoveryResponse> responseObserver) {
+        final StreamState state = new StreamState(responseObserver);
+        streams.add(state);
+        return new StreamObserver<DeltaDiscoveryRequest>() {
+            @Override
+            public void onNext(DeltaDiscoveryRequest request) {
+                requests.add(request);
+                state.onRequest(request);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                streams.remove(state);
+            }
+
+            @Override
+            public void onCompleted() {
+                streams.remove(state);
+                state.complete();
+            }
+        };
+    }
+
+    private final class StreamState {
+
+        private final StreamObserver<DeltaDiscoveryResponse> responseObserver;
+        private final Map<String, Set<String>> subscriptions = new HashMap<>();
+
+        StreamState(StreamObserver<DeltaDiscoveryResponse> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        synchronized void onRequest(DeltaDiscoveryRequest request) {
+            final String typeUrl = request.getTypeUrl();
+            final Set<String> subscribed = subscriptions.computeIfAbsent(typeUrl, unused -> new HashSet<>());
+            subscribed.removeAll(request.getResourceNamesUnsubscribeList());
+
+            final DeltaDiscoveryResponse.Builder response = DeltaDiscoveryResponse.newBuilder();
+            final Map<String, Resource> resources = DeltaTestControlPlane.this.resources.getOrDefault(
+                    typeUrl, new HashMap<>());
+            for (String name : request.getResourceNamesSubscribeList()) {
+                subscribed.add(name);
+                final Resource resource = resources.get(name);
+                if (resource == null) {
+                    // Let the client know that the resource does not exist.
+                    response.addRemovedResources(name);
+                    continue;
+                }
+                final String knownVersion = request.getInitialResourceVersionsMap().get(name);
+                if (!resource.getVersion().equals(knownVersion)) {
+                    response.addResources(resource);
+                }
+            }
+            if (response.getResourcesCount() > 0 || response.getRemovedResourcesCount() > 0) {
+                send(typeUrl, response);
+            }
+        }
+
+        synchronized void onUpdated(String typeUrl, Resource resource) {
+            if (subscriptions.getOrDefault(typeUrl, new HashSet<>()).contains(resource.getName())) {
+                send(typeUrl, DeltaDiscoveryResponse.newBuilder().addResources(resource));
+            }
+        }
+
+        synchronized void onRemoved(String typeUrl, String name) {
+            if (subscriptions.getOrDefault(typeUrl, new HashSet<>()).contains(name)) {
+                send(typeUrl, DeltaDiscoveryResponse.newBuilder().addRemovedResources(name));
+            }
+        }
+
+        synchronized void complete() {
+            responseObserver.onCompleted();
+        }
+
+        private void send(String typeUrl, DeltaDiscoveryResponse.Builder response) {
+            responseObserver.onNext(response.setTypeUrl(typeUrl)
+                                            .setSystemVersionInfo(String.valueOf(versionCounter.get()))
+                                            .setNonce(String.valueOf(nonceCounter.incrementAndGet()))
+                                            .build());
+        }
+    }
+}
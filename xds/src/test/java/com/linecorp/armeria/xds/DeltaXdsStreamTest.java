@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.xds;
+
+import static com.linecorp.armeria.xds.XdsTestResources.createCluster;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.net.URI;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.grpc.GrpcClients;
+import com.linecorp.armeria.client.retry.Backoff;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.grpc.GrpcService;
+import com.linecorp.armeria.testing.junit5.common.EventLoopExtension;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import io.envoyproxy.envoy.config.bootstrap.v3.Bootstrap;
+import io.envoyproxy.envoy.config.core.v3.ApiConfigSource.ApiType;
+import io.envoyproxy.envoy.config.core.v3.Node;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+
+class DeltaXdsStreamTest {
+
+    private static final DeltaTestControlPlane controlPlane = new DeltaTestControlPlane();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.service(GrpcService.builder()
+                                  .addService(controlPlane)
+                                  .build());
+        }
+    };
+
+    @RegisterExtension
+    static EventLoopExtension eventLoop = new EventLoopExtension();
+
+    @BeforeEach
+    void beforeEach() {
+        controlPlane.clear();
+        controlPlane.setResource(XdsType.CLUSTER, "cluster1", createCluster("cluster1", 1));
+        controlPlane.setResource(XdsType.CLUSTER, "cluster2", createCluster("cluster2", 1));
+    }
+
+    @Test
+    void onlyChangedResourcesAreNotified() throws Exception {
+        final SubscriberStorage subscriberStorage = new SubscriberStorage(eventLoop.get(), 15_000);
+        final RecordingWatcher watcher1 = new RecordingWatcher();
+        final RecordingWatcher watcher2 = new RecordingWatcher();
+        final DeltaDiscoveryStub stub = DeltaDiscoveryStub.ads(GrpcClients.builder(server.httpUri()));
+        try (DeltaXdsStream stream = new DeltaXdsStream(stub, Node.getDefaultInstance(), Backoff.ofDefault(),
+                                                        eventLoop.get(),
+                                                        new DefaultResponseHandler(subscriberStorage),
+                                                        subscriberStorage,
+                                                        new ConfigSourceLifecycleObserver() {})) {
+            eventLoop.get().submit(() -> {
+                subscriberStorage.register(XdsType.CLUSTER, "cluster1", watcher1);
+                subscriberStorage.register(XdsType.CLUSTER, "cluster2", watcher2);
+            }).get();
+            stream.start();
+
+            final DeltaDiscoveryRequest initial = nextSubscriptionRequest();
+            assertThat(initial.getResourceNamesSubscribeList())
+                    .containsExactlyInAnyOrder("cluster1", "cluster2");
+            assertThat(initial.getInitialResourceVersionsMap()).isEmpty();
+            assertThat(watcher1.takeChanged().resource()).isEqualTo(createCluster("cluster1", 1));
+            assertThat(watcher2.takeChanged().resource()).isEqualTo(createCluster("cluster2", 1));
+
+            // Only the watcher of the updated resource is notified.
+            controlPlane.setResource(XdsType.CLUSTER, "cluster1", createCluster("cluster1", 2));
+            assertThat(watcher1.takeChanged().resource()).isEqualTo(createCluster("cluster1", 2));
+            await().pollDelay(200, TimeUnit.MILLISECONDS)
+                   .untilAsserted(() -> assertThat(watcher2.events).isEmpty());
+
+            // A removed resource is notified as absent.
+            controlPlane.removeResource(XdsType.CLUSTER, "cluster2");
+            assertThat(watcher2.events.poll(10, TimeUnit.SECONDS)).isEqualTo("absent");
+
+            // Only the difference of the subscriptions is sent.
+            eventLoop.get().submit(() -> {
+                if (subscriberStorage.unregister(XdsType.CLUSTER, "cluster2", watcher2)) {
+                    stream.resourcesUpdated(XdsType.CLUSTER);
+                }
+            }).get();
+            final DeltaDiscoveryRequest unsubscribe = nextSubscriptionRequest();
+            assertThat(unsubscribe.getResourceNamesSubscribeList()).isEmpty();
+            assertThat(unsubscribe.getResourceNamesUnsubscribeList()).containsExactly("cluster2");
+        }
+    }
+
+    @Test
+    void resumeWithInitialResourceVersions() throws Exception {
+        final SubscriberStorage subscriberStorage = new SubscriberStorage(eventLoop.get(), 15_000);
+        final RecordingWatcher watcher = new RecordingWatcher();
+        final DeltaDiscoveryStub stub = DeltaDiscoveryStub.ads(GrpcClients.builder(server.httpUri()));
+        try (DeltaXdsStream stream = new DeltaXdsStream(stub, Node.getDefaultInstance(), Backoff.ofDefault(),
+                                                        eventLoop.get(),
+                                                        new DefaultResponseHandler(subscriberStorage),
+                                                        subscriberStorage,
+                                                        new ConfigSourceLifecycleObserver() {})) {
+            eventLoop.get().submit(() -> subscriberStorage.register(XdsType.CLUSTER, "cluster1", watcher))
+                     .get();
+            stream.start();
+            nextSubscriptionRequest();
+            watcher.takeChanged();
+            // Wait for the ACK.
+            await().until(() -> controlPlane.requests().stream()
+                                            .anyMatch(req -> !req.getResponseNonce().isEmpty()));
+
+            stream.stop();
+            await().until(() -> stream.actualStream == null);
+            stream.start();
+
+            // The new stream tells the version of the resource received already,
+            // so the unchanged resource is not sent again.
+            final DeltaDiscoveryRequest resumed = nextSubscriptionRequest();
+            assertThat(resumed.getResourceNamesSubscribeList()).containsExactly("cluster1");
+            assertThat(resumed.getInitialResourceVersionsMap()).containsOnlyKeys("cluster1");
+            await().pollDelay(200, TimeUnit.MILLISECONDS)
+                   .untilAsserted(() -> assertThat(watcher.events).isEmpty());
+        }
+    }
+
+    @Test
+    void bootstrapWithDeltaAdsConfigSource() {
+        controlPlane.setResource(XdsType.ENDPOINT, "cluster1",
+                                 XdsTestResources.loadAssignment("cluster1", URI.create("http://a.b")));
+        final Bootstrap bootstrap = XdsTestResources.bootstrap(
+                XdsTestResources.apiConfigSource(XdsTestResources.BOOTSTRAP_CLUSTER_NAME,
+                                                 ApiType.AGGREGATED_DELTA_GRPC),
+                XdsTestResources.adsConfigSource(),
+                XdsTestResources.bootstrapCluster(server.httpUri(), XdsTestResources.BOOTSTRAP_CLUSTER_NAME));
+        try (XdsBootstrap xdsBootstrap = XdsBootstrap.of(bootstrap)) {
+            final ClusterRoot clusterRoot = xdsBootstrap.clusterRoot("cluster1");
+            final TestResourceWatcher watcher = new TestResourceWatcher();
+            clusterRoot.addSnapshotWatcher(watcher);
+            final ClusterSnapshot snapshot = watcher.blockingChanged(ClusterSnapshot.class);
+            assertThat(snapshot.xdsResource().resource()).isEqualTo(createCluster("cluster1", 1));
+
+            controlPlane.setResource(XdsType.CLUSTER, "cluster1", createCluster("cluster1", 2));
+            final ClusterSnapshot updated = watcher.blockingChanged(ClusterSnapshot.class);
+            assertThat(updated.xdsResource().resource()).isEqualTo(createCluster("cluster1", 2));
+            clusterRoot.close();
+        }
+    }
+
+    private static DeltaDiscoveryRequest nextSubscriptionRequest() throws InterruptedException {
+        for (;;) {
+            final DeltaDiscoveryRequest request = controlPlane.requests().poll(10, TimeUnit.SECONDS);
+            assertThat(request).isNotNull();
+            if (request.getResponseNonce().isEmpty()) {
+                return request;
+            }
+        }
+    }
+
+    private static final class RecordingWatcher implements ResourceWatcher<ClusterXdsResource> {
+
+        final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onChanged(ClusterXdsResource update) {
+            events.add(update);
+        }
+
+        @Override
+        public void onResourceDoesNotExist(XdsType type, String resourceName) {
+            events.add("absent");
+        }
+
+        ClusterXdsResource takeChanged() throws InterruptedException {
+            final Object event = events.poll(10, TimeUnit.SECONDS);
+            assertThat(event).isInstanceOf(ClusterXdsResource.class);
+            return (ClusterXdsResource) event;
+        }
+    }
+}